@@ -3,6 +3,7 @@ package kinoko.database;
 import kinoko.world.user.Account;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface AccountAccessor {
     Optional<Account> getAccountById(int accountId);
@@ -16,4 +17,12 @@ public interface AccountAccessor {
     boolean newAccount(String username, String password);
 
     boolean saveAccount(Account account);
+
+    default CompletableFuture<Optional<Account>> getAccountByUsernameAsync(String username) {
+        return DatabaseManager.supplyAsync(() -> getAccountByUsername(username));
+    }
+
+    default CompletableFuture<Boolean> saveAccountAsync(Account account) {
+        return DatabaseManager.supplyAsync(() -> saveAccount(account));
+    }
 }
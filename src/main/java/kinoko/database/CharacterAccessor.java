@@ -7,6 +7,7 @@ import kinoko.world.user.CharacterData;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface CharacterAccessor {
     boolean checkCharacterNameAvailable(String name);
@@ -25,7 +26,28 @@ public interface CharacterAccessor {
 
     boolean saveCharacter(CharacterData characterData);
 
+    default boolean saveCharacter(CharacterDelta delta) {
+        // Accessors without partial writes persist the copy of the whole character
+        return delta.isEmpty() || saveCharacter(delta.getCharacterData());
+    }
+
+    /**
+     * Whether {@link #saveCharacter(CharacterDelta)} writes the delta row by row, in which case the delta only holds a
+     * copy of the changed rows.
+     */
+    default boolean isPartialSave() {
+        return false;
+    }
+
     boolean deleteCharacter(int accountId, int characterId);
 
     Map<Integer, CharacterRank> getCharacterRanks();
+
+    default CompletableFuture<Optional<CharacterData>> getCharacterByIdAsync(int characterId) {
+        return DatabaseManager.supplyAsync(() -> getCharacterById(characterId));
+    }
+
+    default CompletableFuture<List<AvatarData>> getAvatarDataByAccountIdAsync(int accountId) {
+        return DatabaseManager.supplyAsync(() -> getAvatarDataByAccountId(accountId));
+    }
 }
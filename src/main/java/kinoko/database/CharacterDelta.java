@@ -0,0 +1,110 @@
+package kinoko.database;
+
+import kinoko.world.item.InventoryEntry;
+import kinoko.world.quest.QuestRecord;
+import kinoko.world.skill.SkillRecord;
+import kinoko.world.user.CharacterData;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parts of a {@link CharacterData} that changed since it was last saved, as computed by {@link CharacterSaveState#diff}.
+ * Accessors that support partial writes only persist the rows referenced here, the remaining accessors fall back to
+ * writing the whole character. The rows are copies taken by the thread that owns the character, and are not modified
+ * after the delta is created.
+ */
+public final class CharacterDelta {
+    private final CharacterData characterData;
+    private final long saveSeq;
+    private final boolean characterChanged;
+    private final List<InventoryEntry> items;
+    private final List<Long> removedItems;
+    private final List<SkillRecord> skillRecords;
+    private final Map<Integer, Instant> skillCooltimes;
+    private final List<QuestRecord> questRecords;
+    private final boolean full;
+    private final CharacterSaveState.Snapshot snapshot;
+
+    CharacterDelta(CharacterData characterData, long saveSeq, boolean characterChanged, List<InventoryEntry> items, List<Long> removedItems, List<SkillRecord> skillRecords, Map<Integer, Instant> skillCooltimes, List<QuestRecord> questRecords, boolean full, CharacterSaveState.Snapshot snapshot) {
+        this.characterData = characterData;
+        this.saveSeq = saveSeq;
+        this.characterChanged = characterChanged;
+        this.items = items;
+        this.removedItems = removedItems;
+        this.skillRecords = skillRecords;
+        this.skillCooltimes = skillCooltimes;
+        this.questRecords = questRecords;
+        this.full = full;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Copy of the character data taken with the delta, or null if the delta is empty. For partial writes, the copy only
+     * holds the character row, and the untracked records if the delta is full.
+     */
+    public CharacterData getCharacterData() {
+        return characterData;
+    }
+
+    /**
+     * Sequence of the delta, increasing with the time the delta was computed.
+     */
+    public long getSaveSeq() {
+        return saveSeq;
+    }
+
+    /**
+     * Whether the character row, stats or extended SP changed.
+     */
+    public boolean isCharacterChanged() {
+        return characterChanged;
+    }
+
+    /**
+     * Inventory entries that were added, moved or modified.
+     */
+    public List<InventoryEntry> getItems() {
+        return items;
+    }
+
+    /**
+     * Serial numbers of items that are no longer in the character's inventories.
+     */
+    public List<Long> getRemovedItems() {
+        return removedItems;
+    }
+
+    public List<SkillRecord> getSkillRecords() {
+        return skillRecords;
+    }
+
+    /**
+     * Copy of the skill cooltimes if they changed, otherwise an empty map.
+     */
+    public Map<Integer, Instant> getSkillCooltimes() {
+        return skillCooltimes;
+    }
+
+    public List<QuestRecord> getQuestRecords() {
+        return questRecords;
+    }
+
+    /**
+     * Whether the untracked records (config, popularity, mini game, map transfer and wild hunter info) should also be
+     * written. This is only set for the final save on logout and channel transfer.
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    CharacterSaveState.Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public boolean isEmpty() {
+        return !characterChanged && items.isEmpty() && removedItems.isEmpty() && skillRecords.isEmpty() &&
+                skillCooltimes.isEmpty() && questRecords.isEmpty() && !full;
+    }
+}
@@ -0,0 +1,224 @@
+package kinoko.database;
+
+import kinoko.server.ServerConfig;
+import kinoko.world.item.InventoryEntry;
+import kinoko.world.item.Item;
+import kinoko.world.user.Account;
+import kinoko.world.user.CharacterData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind persistence for online characters. Characters are tracked from the time they are loaded, and only the
+ * parts of {@link CharacterData} that changed since the last save are written, see {@link CharacterSaveState}.
+ * <p>
+ * Writes are performed on a dedicated pool so that save latency is kept off the game and network threads. The written
+ * rows are copied by the thread that owns the character data when the save is submitted, and new items are assigned
+ * their serial numbers by that thread as well, so that the pool never reads or modifies live character data. Writes of
+ * the same character are chained and executed in order, and loading a character waits for its pending writes.
+ * Characters handed over to another channel of the same process keep being written in the same chain, and keep their
+ * save state so that a failed write before the transfer is written again by the target channel.
+ */
+public final class CharacterSaveService {
+    private static final Logger log = LogManager.getLogger(CharacterSaveService.class);
+    private static final ExecutorService executor = Executors.newFixedThreadPool(ServerConfig.CHARACTER_SAVE_THREADS);
+    private static final Map<Integer, CharacterSaveState> saveStates = new ConcurrentHashMap<>(); // character id -> save state
+    private static final Map<Integer, CompletableFuture<Boolean>> pendingSaves = new ConcurrentHashMap<>(); // character id -> last submitted save
+    private static final LongAdder saveCount = new LongAdder();
+    private static final LongAdder skippedCount = new LongAdder();
+    private static final LongAdder failedCount = new LongAdder();
+
+    /**
+     * Starts tracking a character that was just loaded from the database.
+     */
+    public static void track(CharacterData characterData) {
+        final Instant nextCheckpoint = Instant.now().plusSeconds(ServerConfig.CHARACTER_SAVE_INTERVAL);
+        saveStates.put(characterData.getCharacterId(), CharacterSaveState.from(characterData, nextCheckpoint));
+    }
+
+    /**
+     * Starts tracking a character handed over from another channel of the same process, with the save state returned
+     * by {@link #transfer}. The character is diffed against its last committed save rather than its current state, so
+     * that the changes of a failed save before the transfer are written by the next save.
+     */
+    public static void track(CharacterData characterData, CharacterSaveState saveState) {
+        if (saveState == null) {
+            track(characterData);
+            return;
+        }
+        saveState.setNextCheckpoint(Instant.now().plusSeconds(ServerConfig.CHARACTER_SAVE_INTERVAL));
+        saveStates.put(characterData.getCharacterId(), saveState);
+    }
+
+    /**
+     * Submits the changes of a tracked character if its checkpoint interval has elapsed. This should be called
+     * periodically by the thread that owns the character data.
+     */
+    public static void checkpoint(CharacterData characterData, Instant now) {
+        if (ServerConfig.CHARACTER_SAVE_INTERVAL <= 0) {
+            return;
+        }
+        final CharacterSaveState saveState = saveStates.get(characterData.getCharacterId());
+        if (saveState == null || now.isBefore(saveState.getNextCheckpoint())) {
+            return;
+        }
+        saveState.setNextCheckpoint(now.plusSeconds(ServerConfig.CHARACTER_SAVE_INTERVAL));
+        final CharacterDelta delta = diff(characterData, saveState, false);
+        if (delta.isEmpty()) {
+            skippedCount.increment();
+            return;
+        }
+        submit(characterData.getCharacterId(), () -> write(saveState, delta));
+    }
+
+    /**
+     * Submits the final save of a character on logout or channel transfer and stops tracking it.
+     *
+     * @return a future completed with the result of the save
+     */
+    public static CompletableFuture<Boolean> save(CharacterData characterData) {
+        return save(characterData, saveStates.remove(characterData.getCharacterId()));
+    }
+
+    /**
+     * Submits the final save of a character together with its account, see {@link #save(CharacterData)}. The account
+     * is written first, in the same chain as the character's writes.
+     *
+     * @return a future completed with the result of the character save
+     */
+    public static CompletableFuture<Boolean> save(CharacterData characterData, Account account) {
+        submit(characterData.getCharacterId(), () -> DatabaseManager.accountAccessor().saveAccount(account));
+        return save(characterData);
+    }
+
+    /**
+     * Submits the final save of a character that is handed over to another channel of the same process, see
+     * {@link #save(CharacterData, Account)}. The target channel does not wait for the save, and resumes tracking with
+     * {@link #track(CharacterData, CharacterSaveState)} so that its saves are chained after the pending save.
+     *
+     * @return the save state of the character, or null if the character was not tracked
+     */
+    public static CharacterSaveState transfer(CharacterData characterData, Account account) {
+        final CharacterSaveState saveState = saveStates.remove(characterData.getCharacterId());
+        submit(characterData.getCharacterId(), () -> DatabaseManager.accountAccessor().saveAccount(account));
+        save(characterData, saveState);
+        return saveState;
+    }
+
+    private static CompletableFuture<Boolean> save(CharacterData characterData, CharacterSaveState saveState) {
+        if (saveState == null) {
+            // Untracked character, write a copy of everything
+            assignItemSns(characterData);
+            final CharacterData copy = new CharacterData(characterData);
+            return submit(characterData.getCharacterId(), () -> DatabaseManager.characterAccessor().saveCharacter(copy));
+        }
+        final CharacterDelta delta = diff(characterData, saveState, true);
+        return submit(characterData.getCharacterId(), () -> write(saveState, delta));
+    }
+
+    /**
+     * Waits for the pending saves of a character, so that it is not loaded from stale data.
+     */
+    public static void awaitSave(int characterId) {
+        final CompletableFuture<Boolean> pendingSave = pendingSaves.get(characterId);
+        if (pendingSave != null) {
+            try {
+                pendingSave.get(ServerConfig.SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("Failed to wait for pending save of character ID : {}", characterId, e);
+            }
+        }
+    }
+
+    public static int getPendingCount() {
+        return pendingSaves.size();
+    }
+
+    public static long getSaveCount() {
+        return saveCount.sum();
+    }
+
+    public static long getSkippedCount() {
+        return skippedCount.sum();
+    }
+
+    public static long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public static void shutdown() {
+        // Complete pending saves before the database connection is closed
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(ServerConfig.SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                log.error("Timed out waiting for {} pending character saves", pendingSaves.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CharacterDelta diff(CharacterData characterData, CharacterSaveState saveState, boolean full) {
+        assignItemSns(characterData);
+        return saveState.diff(characterData, full, DatabaseManager.characterAccessor().isPartialSave());
+    }
+
+    private static void assignItemSns(CharacterData characterData) {
+        if (!DatabaseManager.isRelational()) {
+            // Serial numbers are assigned from the character's counter when the items are created
+            return;
+        }
+        for (InventoryEntry entry : CharacterSaveState.getInventoryEntries(characterData.getInventoryManager())) {
+            final Item item = entry.item();
+            if (item.hasNoSN()) {
+                final long itemSn = ItemSnPool.poll();
+                if (itemSn <= 0) {
+                    // Retried on the next save
+                    return;
+                }
+                item.setItemSn(itemSn);
+            }
+        }
+    }
+
+    private static boolean write(CharacterSaveState saveState, CharacterDelta delta) {
+        final boolean result = DatabaseManager.characterAccessor().saveCharacter(delta);
+        if (result) {
+            saveState.commit(delta);
+        }
+        return result;
+    }
+
+    private static CompletableFuture<Boolean> submit(int characterId, Supplier<Boolean> task) {
+        final Supplier<Boolean> wrapped = () -> {
+            try {
+                final boolean result = task.get();
+                if (result) {
+                    saveCount.increment();
+                } else {
+                    // Fingerprints are not committed, the changes are written again on the next save
+                    failedCount.increment();
+                    log.error("Failed to save character ID : {}", characterId);
+                }
+                return result;
+            } catch (Exception e) {
+                failedCount.increment();
+                log.error("Exception caught while saving character ID : {}", characterId, e);
+                return false;
+            }
+        };
+        final CompletableFuture<Boolean> future = pendingSaves.compute(characterId, (id, previous) -> previous == null ?
+                CompletableFuture.supplyAsync(wrapped, executor) :
+                previous.handleAsync((result, throwable) -> wrapped.get(), executor));
+        future.whenComplete((result, throwable) -> pendingSaves.remove(characterId, future));
+        return future;
+    }
+}
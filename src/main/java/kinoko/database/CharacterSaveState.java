@@ -0,0 +1,289 @@
+package kinoko.database;
+
+import kinoko.server.packet.OutPacket;
+import kinoko.world.item.Inventory;
+import kinoko.world.item.InventoryEntry;
+import kinoko.world.item.InventoryManager;
+import kinoko.world.item.Item;
+import kinoko.world.quest.QuestManager;
+import kinoko.world.quest.QuestRecord;
+import kinoko.world.skill.SkillManager;
+import kinoko.world.skill.SkillRecord;
+import kinoko.world.user.CharacterData;
+import kinoko.world.user.data.*;
+import kinoko.world.user.stat.CharacterStat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fingerprints of the last persisted state of a character, used to compute a {@link CharacterDelta} without tracking
+ * every mutation of {@link CharacterData}. Each inventory item, skill record and quest record is fingerprinted
+ * individually, so that only the rows that changed since the last successful save are written.
+ * <p>
+ * {@link #diff} must be called by the thread that owns the character data, and copies the changed rows so that the
+ * database thread never reads the live character data. {@link #commit} is called by the database thread once the delta
+ * has been written. A delta computed before the previous one is committed is diffed against the older fingerprints,
+ * which can only cause rows to be written twice.
+ */
+public final class CharacterSaveState {
+    private static final AtomicLong lastSaveSeq = new AtomicLong();
+    private final int characterId;
+    private volatile Snapshot snapshot;
+    private volatile Instant nextCheckpoint;
+
+    private CharacterSaveState(int characterId, Snapshot snapshot, Instant nextCheckpoint) {
+        this.characterId = characterId;
+        this.snapshot = snapshot;
+        this.nextCheckpoint = nextCheckpoint;
+    }
+
+    public int getCharacterId() {
+        return characterId;
+    }
+
+    public Instant getNextCheckpoint() {
+        return nextCheckpoint;
+    }
+
+    public void setNextCheckpoint(Instant nextCheckpoint) {
+        this.nextCheckpoint = nextCheckpoint;
+    }
+
+    /**
+     * Computes the rows that changed since the last committed save, copied from the live character data.
+     *
+     * @param characterData the character data, accessed by its owning thread
+     * @param full          whether the untracked records should also be written
+     * @param partial       whether the delta is written row by row, otherwise the delta holds a copy of the whole
+     *                      character for accessors that write the whole character
+     * @return the changes to persist, to be passed to {@link #commit} once written
+     */
+    public CharacterDelta diff(CharacterData characterData, boolean full, boolean partial) {
+        final long saveSeq = nextSaveSeq();
+        final Snapshot previous = snapshot;
+        final Snapshot current = Snapshot.from(characterData);
+        // Character row
+        final boolean characterChanged = current.characterHash != previous.characterHash;
+        // Inventory items
+        final List<InventoryEntry> items = new ArrayList<>();
+        for (InventoryEntry entry : getInventoryEntries(characterData.getInventoryManager())) {
+            final Item item = entry.item();
+            if (item.hasNoSN()) {
+                // Written once a serial number is assigned, the fingerprint is kept pending until then
+                if (!partial) {
+                    items.add(new InventoryEntry(entry.slot(), new Item(item), entry.type()));
+                }
+                continue;
+            }
+            final Long previousHash = previous.itemHashes.get(item.getItemSn());
+            if (previousHash == null || previousHash != current.getItemHash(entry)) {
+                items.add(new InventoryEntry(entry.slot(), new Item(item), entry.type()));
+            }
+        }
+        final List<Long> removedItems = new ArrayList<>();
+        for (long itemSn : previous.itemHashes.keySet()) {
+            if (!current.itemHashes.containsKey(itemSn)) {
+                removedItems.add(itemSn);
+            }
+        }
+        // Skill records
+        final List<SkillRecord> skillRecords = new ArrayList<>();
+        for (SkillRecord skillRecord : characterData.getSkillManager().getSkillRecords()) {
+            if (!Objects.equals(previous.skillHashes.get(skillRecord.getSkillId()), current.skillHashes.get(skillRecord.getSkillId()))) {
+                skillRecords.add(new SkillRecord(skillRecord));
+            }
+        }
+        final Map<Integer, Instant> skillCooltimes = current.cooltimeHash != previous.cooltimeHash ?
+                Map.copyOf(characterData.getSkillManager().getSkillCooltimes()) :
+                Map.of();
+        // Quest records
+        final List<QuestRecord> questRecords = new ArrayList<>();
+        for (QuestRecord questRecord : characterData.getQuestManager().getQuestRecords()) {
+            if (!Objects.equals(previous.questHashes.get(questRecord.getQuestId()), current.questHashes.get(questRecord.getQuestId()))) {
+                questRecords.add(new QuestRecord(questRecord));
+            }
+        }
+        final boolean changed = characterChanged || !items.isEmpty() || !removedItems.isEmpty() || !skillRecords.isEmpty() ||
+                !skillCooltimes.isEmpty() || !questRecords.isEmpty() || full;
+        final CharacterData copy;
+        if (!changed) {
+            copy = null;
+        } else if (partial) {
+            copy = copyRecords(characterData, full);
+        } else {
+            copy = new CharacterData(characterData);
+        }
+        return new CharacterDelta(copy, saveSeq, characterChanged, Collections.unmodifiableList(items), Collections.unmodifiableList(removedItems),
+                Collections.unmodifiableList(skillRecords), skillCooltimes, Collections.unmodifiableList(questRecords), full, current);
+    }
+
+    /**
+     * Records the fingerprints of a delta after it has been written successfully.
+     */
+    public void commit(CharacterDelta delta) {
+        snapshot = delta.getSnapshot();
+    }
+
+    /**
+     * Creates the save state of a character that was just loaded, so that the loaded data is not written back.
+     */
+    public static CharacterSaveState from(CharacterData characterData, Instant nextCheckpoint) {
+        return new CharacterSaveState(characterData.getCharacterId(), Snapshot.from(characterData), nextCheckpoint);
+    }
+
+    /**
+     * Copies the character row and the untracked records of a character, without its inventory items, skill records
+     * and quest records which are copied row by row.
+     */
+    private static CharacterData copyRecords(CharacterData cd, boolean full) {
+        final CharacterData copy = new CharacterData(cd.getAccountId());
+        copy.setCharacterStat(new CharacterStat(cd.getCharacterStat()));
+        final InventoryManager im = new InventoryManager();
+        im.setMoney(cd.getInventoryManager().getMoney());
+        im.setExtSlotExpire(cd.getInventoryManager().getExtSlotExpire());
+        copy.setInventoryManager(im);
+        copy.setSkillManager(new SkillManager());
+        copy.setQuestManager(new QuestManager());
+        if (full) {
+            copy.setConfigManager(cd.getConfigManager() != null ? new ConfigManager(cd.getConfigManager()) : null);
+            copy.setPopularityRecord(cd.getPopularityRecord() != null ? new PopularityRecord(cd.getPopularityRecord()) : null);
+            copy.setMiniGameRecord(cd.getMiniGameRecord() != null ? new MiniGameRecord(cd.getMiniGameRecord()) : null);
+            copy.setMapTransferInfo(cd.getMapTransferInfo() != null ? new MapTransferInfo(cd.getMapTransferInfo()) : null);
+            copy.setWildHunterInfo(cd.getWildHunterInfo() != null ? new WildHunterInfo(cd.getWildHunterInfo()) : null);
+        }
+        copy.setFriendMax(cd.getFriendMax());
+        copy.setPartyId(cd.getPartyId());
+        copy.setGuildId(cd.getGuildId());
+        copy.setCreationTime(cd.getCreationTime());
+        copy.setMaxLevelTime(cd.getMaxLevelTime());
+        return copy;
+    }
+
+    /**
+     * Returns a save sequence that is greater than the sequence of every delta computed before, in this or in an
+     * earlier run of the server. Rows written by a delta are only overwritten by deltas with a greater sequence, so that
+     * a delayed write of one character cannot take back an item that was already moved to another character.
+     */
+    private static long nextSaveSeq() {
+        final long now = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        return lastSaveSeq.updateAndGet((previous) -> Math.max(previous + 1, now));
+    }
+
+    static List<InventoryEntry> getInventoryEntries(InventoryManager im) {
+        final List<InventoryEntry> entries = new ArrayList<>();
+        for (Inventory inventory : List.of(im.getEquipped(), im.getEquipInventory(), im.getConsumeInventory(),
+                im.getInstallInventory(), im.getEtcInventory(), im.getCashInventory())) {
+            inventory.getType().ifPresent((type) -> entries.addAll(inventory.asInventoryEntries(type)));
+        }
+        return entries;
+    }
+
+    private static long fingerprint(OutPacket outPacket) {
+        // 64-bit FNV-1a
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : outPacket.getData()) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    static final class Snapshot {
+        private final long characterHash;
+        private final Map<Long, Long> itemHashes; // item sn -> hash
+        private final Map<IdentityKey, Long> pendingItemHashes; // items without sn -> hash
+        private final Map<Integer, Long> skillHashes; // skill id -> hash
+        private final long cooltimeHash;
+        private final Map<Integer, Long> questHashes; // quest id -> hash
+
+        private Snapshot(long characterHash, Map<Long, Long> itemHashes, Map<IdentityKey, Long> pendingItemHashes, Map<Integer, Long> skillHashes, long cooltimeHash, Map<Integer, Long> questHashes) {
+            this.characterHash = characterHash;
+            this.itemHashes = itemHashes;
+            this.pendingItemHashes = pendingItemHashes;
+            this.skillHashes = skillHashes;
+            this.cooltimeHash = cooltimeHash;
+            this.questHashes = questHashes;
+        }
+
+        private long getItemHash(InventoryEntry entry) {
+            final Item item = entry.item();
+            final Long hash = item.hasNoSN() || !itemHashes.containsKey(item.getItemSn()) ?
+                    pendingItemHashes.get(new IdentityKey(item)) :
+                    itemHashes.get(item.getItemSn());
+            return hash != null ? hash : 0;
+        }
+
+        private static Snapshot from(CharacterData cd) {
+            // Character row, stats and extended sp
+            final OutPacket characterPacket = OutPacket.of();
+            cd.getCharacterStat().encode(characterPacket);
+            characterPacket.encodeShort(cd.getCharacterStat().getAdminLevel().getValue());
+            for (var entry : new TreeMap<>(cd.getCharacterStat().getSp().getMap()).entrySet()) {
+                characterPacket.encodeInt(entry.getKey());
+                characterPacket.encodeInt(entry.getValue());
+            }
+            characterPacket.encodeInt(cd.getInventoryManager().getMoney());
+            characterPacket.encodeLong(toEpochMilli(cd.getInventoryManager().getExtSlotExpire()));
+            characterPacket.encodeInt(cd.getFriendMax());
+            characterPacket.encodeInt(cd.getPartyId());
+            characterPacket.encodeInt(cd.getGuildId());
+            characterPacket.encodeLong(toEpochMilli(cd.getMaxLevelTime()));
+            // Inventory items
+            final Map<Long, Long> itemHashes = new HashMap<>();
+            final Map<IdentityKey, Long> pendingItemHashes = new HashMap<>();
+            for (InventoryEntry entry : getInventoryEntries(cd.getInventoryManager())) {
+                final Item item = entry.item();
+                final OutPacket itemPacket = OutPacket.of();
+                itemPacket.encodeByte(entry.type().ordinal());
+                itemPacket.encodeShort(entry.slot());
+                itemPacket.encodeByte(item.isCash());
+                item.encode(itemPacket);
+                final long hash = fingerprint(itemPacket);
+                if (item.hasNoSN()) {
+                    pendingItemHashes.put(new IdentityKey(item), hash);
+                } else {
+                    itemHashes.put(item.getItemSn(), hash);
+                }
+            }
+            // Skill records and cooltimes
+            final Map<Integer, Long> skillHashes = new HashMap<>();
+            for (SkillRecord skillRecord : cd.getSkillManager().getSkillRecords()) {
+                skillHashes.put(skillRecord.getSkillId(), ((long) skillRecord.getSkillLevel() << 32) | (skillRecord.getMasterLevel() & 0xFFFFFFFFL));
+            }
+            final OutPacket cooltimePacket = OutPacket.of();
+            for (var entry : new TreeMap<>(cd.getSkillManager().getSkillCooltimes()).entrySet()) {
+                cooltimePacket.encodeInt(entry.getKey());
+                cooltimePacket.encodeLong(toEpochMilli(entry.getValue()));
+            }
+            // Quest records
+            final Map<Integer, Long> questHashes = new HashMap<>();
+            for (QuestRecord questRecord : cd.getQuestManager().getQuestRecords()) {
+                final OutPacket questPacket = OutPacket.of();
+                questPacket.encodeInt(questRecord.getState().getValue());
+                questPacket.encodeString(questRecord.getValue() != null ? questRecord.getValue() : "");
+                questPacket.encodeLong(toEpochMilli(questRecord.getCompletedTime()));
+                questHashes.put(questRecord.getQuestId(), fingerprint(questPacket));
+            }
+            return new Snapshot(fingerprint(characterPacket), itemHashes, pendingItemHashes, skillHashes, fingerprint(cooltimePacket), questHashes);
+        }
+
+        private static long toEpochMilli(Instant instant) {
+            return instant != null ? instant.toEpochMilli() : 0;
+        }
+    }
+
+    private record IdentityKey(Item item) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey other && other.item == item;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(item);
+        }
+    }
+}
@@ -2,16 +2,42 @@ package kinoko.database;
 
 import kinoko.database.postgresql.PostgresConnector;
 import kinoko.database.cassandra.CassandraConnector;
+import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
 import kinoko.server.guild.GuildStorage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public final class DatabaseManager {
-
+    private static final Logger log = LogManager.getLogger(DatabaseManager.class);
+    // Blocking database calls of the async accessor methods run on virtual threads, the number of concurrent queries is
+    // bounded by the connection pool of the connector
+    private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
     private static DatabaseConnector connector;
 
+    /**
+     * Runs a blocking database call on the database executor. Dependent actions of the returned future should be
+     * submitted to the executor of the caller, e.g. with {@link CompletableFuture#thenAcceptAsync}.
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    /**
+     * Runs a blocking database call without a result on the database executor, see {@link #supplyAsync(Supplier)}.
+     */
+    public static CompletableFuture<Void> runAsync(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, executor);
+    }
+
     public static IdAccessor idAccessor() {
         return connector.getIdAccessor();
     }
@@ -77,6 +103,16 @@ public final class DatabaseManager {
     }
 
     public static void shutdown() {
+        CharacterSaveService.shutdown();
+        // Complete pending async calls before the database connection is closed
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(ServerConfig.SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                log.error("Timed out waiting for pending database calls");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         if (connector != null) {
             connector.shutdown();
         }
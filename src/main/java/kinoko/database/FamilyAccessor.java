@@ -7,12 +7,28 @@ import kinoko.server.guild.GuildRanking;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface FamilyAccessor {
     default Collection<FamilyTree> getAllFamilies(){
         throw new UnsupportedOperationException("This database must implement getting families");
     };
 
+    /**
+     * Loads the FamilyTree containing the given character, used to load families on demand.
+     *
+     * The default implementation loads all families and discards the others, databases
+     * should override this with a query for the single family.
+     *
+     * @param characterId the character ID of any member of the family
+     * @return the FamilyTree containing the character, or an empty Optional if the character has no family
+     */
+    default Optional<FamilyTree> getFamilyByMemberId(int characterId){
+        return getAllFamilies().stream()
+                .filter(tree -> tree.hasMember(characterId))
+                .findFirst();
+    }
+
     default void saveFamily(FamilyTree family){
         throw new UnsupportedOperationException("This database must implement saving a singular family");
     }
@@ -37,4 +53,20 @@ public interface FamilyAccessor {
 
         saveFamilies(families);
     }
+
+    default CompletableFuture<Collection<FamilyTree>> getAllFamiliesAsync() {
+        return DatabaseManager.supplyAsync(this::getAllFamilies);
+    }
+
+    default CompletableFuture<Optional<FamilyTree>> getFamilyByMemberIdAsync(int characterId) {
+        return DatabaseManager.supplyAsync(() -> getFamilyByMemberId(characterId));
+    }
+
+    default CompletableFuture<Void> saveFamilyAsync(FamilyTree family) {
+        return DatabaseManager.runAsync(() -> saveFamily(family));
+    }
+
+    default CompletableFuture<Void> saveAllAsync(Collection<FamilyTree> families) {
+        return DatabaseManager.runAsync(() -> saveAll(families));
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package kinoko.database;
 import kinoko.world.user.friend.Friend;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface FriendAccessor {
     List<Friend> getFriendsByCharacterId(int characterId);
@@ -12,4 +13,12 @@ public interface FriendAccessor {
     boolean saveFriend(Friend friend, boolean force);
 
     boolean deleteFriend(int characterId, int friendId);
+
+    default CompletableFuture<List<Friend>> getFriendsByCharacterIdAsync(int characterId) {
+        return DatabaseManager.supplyAsync(() -> getFriendsByCharacterId(characterId));
+    }
+
+    default CompletableFuture<List<Friend>> getFriendsByFriendIdAsync(int friendId) {
+        return DatabaseManager.supplyAsync(() -> getFriendsByFriendId(friendId));
+    }
 }
@@ -4,6 +4,7 @@ import kinoko.server.cashshop.Gift;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface GiftAccessor {
     List<Gift> getGiftsByCharacterId(int characterId);
@@ -13,4 +14,8 @@ public interface GiftAccessor {
     boolean newGift(Gift gift, int receiverId);
 
     boolean deleteGift(Gift gift);
+
+    default CompletableFuture<List<Gift>> getGiftsByCharacterIdAsync(int characterId) {
+        return DatabaseManager.supplyAsync(() -> getGiftsByCharacterId(characterId));
+    }
 }
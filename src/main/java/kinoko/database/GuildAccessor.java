@@ -7,6 +7,7 @@ import kinoko.server.guild.GuildRanking;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface GuildAccessor {
     Optional<Guild> getGuildById(int guildId);
@@ -21,6 +22,14 @@ public interface GuildAccessor {
 
     List<GuildRanking> getGuildRankings();
 
+    default CompletableFuture<Optional<Guild>> getGuildByIdAsync(int guildId) {
+        return DatabaseManager.supplyAsync(() -> getGuildById(guildId));
+    }
+
+    default CompletableFuture<List<GuildRanking>> getGuildRankingsAsync() {
+        return DatabaseManager.supplyAsync(this::getGuildRankings);
+    }
+
     default void saveAll(Collection<Guild> guilds){
         if (guilds == null || guilds.isEmpty()) return;
 
@@ -2,6 +2,7 @@ package kinoko.database;
 
 import kinoko.world.item.Item;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface IdAccessor {
@@ -46,4 +47,18 @@ public interface IdAccessor {
         }
         return true;
     }
+
+    /**
+     * Reserves item serial numbers from the database, so that they can be assigned to items by the thread that owns
+     * them, see {@link ItemSnPool}.
+     *
+     * @param count the number of serial numbers to reserve
+     * @return the reserved serial numbers, or an empty list if they could not be reserved
+     */
+    default List<Long> reserveItemSns(int count){
+        if (DatabaseManager.isRelational()){
+            throw new UnsupportedOperationException("reserveItemSns() needs to be implemented for this database.");
+        }
+        return List.of();
+    }
 }
@@ -0,0 +1,61 @@
+package kinoko.database;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pool of item serial numbers reserved from a relational database. Serial numbers are assigned to new items by the
+ * thread that owns them before a save is submitted, so that database threads never modify live items.
+ * <p>
+ * The pool is refilled in the background once it runs low, a caller only waits for the database when the pool is empty.
+ */
+public final class ItemSnPool {
+    private static final Logger log = LogManager.getLogger(ItemSnPool.class);
+    private static final int BATCH_SIZE = 512;
+    private static final BlockingQueue<Long> pool = new LinkedBlockingQueue<>();
+    private static final AtomicReference<CompletableFuture<Void>> refillFuture = new AtomicReference<>(CompletableFuture.completedFuture(null));
+
+    /**
+     * Takes a reserved item serial number from the pool.
+     *
+     * @return the serial number, or -1 if none could be reserved
+     */
+    public static long poll() {
+        Long itemSn = pool.poll();
+        if (itemSn == null) {
+            refill().join();
+            itemSn = pool.poll();
+        }
+        if (pool.size() < BATCH_SIZE / 4) {
+            refill();
+        }
+        return itemSn != null ? itemSn : -1;
+    }
+
+    private static CompletableFuture<Void> refill() {
+        final CompletableFuture<Void> current = refillFuture.get();
+        if (!current.isDone()) {
+            return current;
+        }
+        final CompletableFuture<Void> next = new CompletableFuture<>();
+        if (!refillFuture.compareAndSet(current, next)) {
+            return refillFuture.get();
+        }
+        DatabaseManager.supplyAsync(() -> DatabaseManager.idAccessor().reserveItemSns(BATCH_SIZE)).whenComplete((itemSns, throwable) -> {
+            if (throwable != null) {
+                log.error("Exception caught while reserving item serial numbers", throwable);
+            } else if (itemSns.isEmpty()) {
+                log.error("Could not reserve item serial numbers");
+            } else {
+                pool.addAll(itemSns);
+            }
+            next.complete(null);
+        });
+        return next;
+    }
+}
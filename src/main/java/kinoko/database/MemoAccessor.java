@@ -3,6 +3,7 @@ package kinoko.database;
 import kinoko.server.memo.Memo;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface MemoAccessor {
     List<Memo> getMemosByCharacterId(int characterId);
@@ -12,4 +13,12 @@ public interface MemoAccessor {
     boolean newMemo(Memo memo, int receiverId);
 
     boolean deleteMemo(int memoId, int receiverId);
+
+    default CompletableFuture<List<Memo>> getMemosByCharacterIdAsync(int characterId) {
+        return DatabaseManager.supplyAsync(() -> getMemosByCharacterId(characterId));
+    }
+
+    default CompletableFuture<Boolean> newMemoAsync(Memo memo, int receiverId) {
+        return DatabaseManager.supplyAsync(() -> newMemo(memo, receiverId));
+    }
 }
@@ -1,6 +1,13 @@
 package kinoko.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class CassandraAccessor {
     private final CqlSession session;
@@ -22,4 +29,32 @@ public abstract class CassandraAccessor {
     protected final String lowerName(String name) {
         return name.toLowerCase();
     }
+
+    /**
+     * Executes a statement without blocking and collects the rows of all result pages. The returned future is completed
+     * on a driver thread, dependent actions that are not trivial should be submitted to another executor.
+     */
+    protected final CompletableFuture<List<Row>> selectAsync(Statement<?> statement) {
+        return session.executeAsync(statement).toCompletableFuture()
+                .thenCompose((resultSet) -> collectRows(resultSet, new ArrayList<>()));
+    }
+
+    /**
+     * Executes a statement without blocking, the returned future is completed with whether the statement was applied.
+     */
+    protected final CompletableFuture<Boolean> updateAsync(Statement<?> statement) {
+        return session.executeAsync(statement).toCompletableFuture()
+                .thenApply(AsyncResultSet::wasApplied);
+    }
+
+    private static CompletableFuture<List<Row>> collectRows(AsyncResultSet resultSet, List<Row> rows) {
+        for (Row row : resultSet.currentPage()) {
+            rows.add(row);
+        }
+        if (!resultSet.hasMorePages()) {
+            return CompletableFuture.completedFuture(rows);
+        }
+        return resultSet.fetchNextPage().toCompletableFuture()
+                .thenCompose((nextPage) -> collectRows(nextPage, rows));
+    }
 }
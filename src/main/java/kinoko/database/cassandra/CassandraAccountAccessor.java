@@ -3,6 +3,7 @@ package kinoko.database.cassandra;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import kinoko.database.AccountAccessor;
 import kinoko.database.DatabaseManager;
@@ -18,6 +19,7 @@ import org.mindrot.jbcrypt.BCrypt;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
@@ -88,19 +90,27 @@ public final class CassandraAccountAccessor extends CassandraAccessor implements
         return Optional.empty();
     }
 
+    private SimpleStatement selectAccountByUsername(String username) {
+        return selectFrom(getKeyspace(), AccountTable.getTableName()).all()
+                .whereColumn(AccountTable.USERNAME).isEqualTo(literal(lowerUsername(username)))
+                .build();
+    }
+
     @Override
     public Optional<Account> getAccountByUsername(String username) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), AccountTable.getTableName()).all()
-                        .whereColumn(AccountTable.USERNAME).isEqualTo(literal(lowerUsername(username)))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectAccountByUsername(username));
         for (Row row : selectResult) {
             return Optional.of(loadAccount(row));
         }
         return Optional.empty();
     }
 
+    @Override
+    public CompletableFuture<Optional<Account>> getAccountByUsernameAsync(String username) {
+        return selectAsync(selectAccountByUsername(username))
+                .thenApply((rows) -> rows.stream().findFirst().map(this::loadAccount));
+    }
+
     @Override
     public boolean checkPassword(Account account, String password, boolean secondary) {
         final String columnName = secondary ? AccountTable.SECONDARY_PASSWORD : AccountTable.PASSWORD;
@@ -176,23 +186,30 @@ public final class CassandraAccountAccessor extends CassandraAccessor implements
         return insertResult.wasApplied();
     }
 
+    private SimpleStatement updateAccount(Account account) {
+        final CodecRegistry registry = getSession().getContext().getCodecRegistry();
+        return update(getKeyspace(), AccountTable.getTableName())
+                .setColumn(AccountTable.CHARACTER_SLOTS, literal(account.getSlotCount()))
+                .setColumn(AccountTable.NX_CREDIT, literal(account.getNxCredit()))
+                .setColumn(AccountTable.NX_PREPAID, literal(account.getNxPrepaid()))
+                .setColumn(AccountTable.MAPLE_POINT, literal(account.getMaplePoint()))
+                .setColumn(AccountTable.TRUNK_ITEMS, literal(account.getTrunk().getItems(), registry))
+                .setColumn(AccountTable.TRUNK_SIZE, literal(account.getTrunk().getSize()))
+                .setColumn(AccountTable.TRUNK_MONEY, literal(account.getTrunk().getMoney()))
+                .setColumn(AccountTable.LOCKER_ITEMS, literal(account.getLocker().getCashItems(), registry))
+                .setColumn(AccountTable.WISHLIST, literal(account.getWishlist()))
+                .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(literal(account.getId()))
+                .build();
+    }
+
     @Override
     public boolean saveAccount(Account account) {
-        final CodecRegistry registry = getSession().getContext().getCodecRegistry();
-        final ResultSet updateResult = getSession().execute(
-                update(getKeyspace(), AccountTable.getTableName())
-                        .setColumn(AccountTable.CHARACTER_SLOTS, literal(account.getSlotCount()))
-                        .setColumn(AccountTable.NX_CREDIT, literal(account.getNxCredit()))
-                        .setColumn(AccountTable.NX_PREPAID, literal(account.getNxPrepaid()))
-                        .setColumn(AccountTable.MAPLE_POINT, literal(account.getMaplePoint()))
-                        .setColumn(AccountTable.TRUNK_ITEMS, literal(account.getTrunk().getItems(), registry))
-                        .setColumn(AccountTable.TRUNK_SIZE, literal(account.getTrunk().getSize()))
-                        .setColumn(AccountTable.TRUNK_MONEY, literal(account.getTrunk().getMoney()))
-                        .setColumn(AccountTable.LOCKER_ITEMS, literal(account.getLocker().getCashItems(), registry))
-                        .setColumn(AccountTable.WISHLIST, literal(account.getWishlist()))
-                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(literal(account.getId()))
-                        .build()
-        );
+        final ResultSet updateResult = getSession().execute(updateAccount(account));
         return updateResult.wasApplied();
     }
+
+    @Override
+    public CompletableFuture<Boolean> saveAccountAsync(Account account) {
+        return updateAsync(updateAccount(account));
+    }
 }
@@ -3,6 +3,7 @@ package kinoko.database.cassandra;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import kinoko.database.CharacterAccessor;
 import kinoko.database.CharacterInfo;
@@ -23,6 +24,7 @@ import kinoko.world.user.stat.CharacterStat;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
@@ -123,19 +125,27 @@ public final class CassandraCharacterAccessor extends CassandraAccessor implemen
         return true;
     }
 
+    private SimpleStatement selectCharacter(int characterId) {
+        return selectFrom(getKeyspace(), CharacterTable.getTableName()).all()
+                .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(literal(characterId))
+                .build();
+    }
+
     @Override
     public Optional<CharacterData> getCharacterById(int characterId) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName()).all()
-                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(literal(characterId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectCharacter(characterId));
         for (Row row : selectResult) {
             return Optional.of(loadCharacterData(row));
         }
         return Optional.empty();
     }
 
+    @Override
+    public CompletableFuture<Optional<CharacterData>> getCharacterByIdAsync(int characterId) {
+        return selectAsync(selectCharacter(characterId))
+                .thenApply((rows) -> rows.stream().findFirst().map(this::loadCharacterData));
+    }
+
     @Override
     public Optional<CharacterData> getCharacterByName(String name) {
         final ResultSet selectResult = getSession().execute(
@@ -189,30 +199,42 @@ public final class CassandraCharacterAccessor extends CassandraAccessor implemen
         return Optional.empty();
     }
 
+    private AvatarData loadAvatarData(Row row) {
+        final CharacterStat characterStat = row.get(CharacterTable.CHARACTER_STAT, CharacterStat.class);
+        characterStat.setId(row.getInt(CharacterTable.CHARACTER_ID));
+        characterStat.setName(row.getString(CharacterTable.CHARACTER_NAME));
+        final Inventory equipped = row.get(CharacterTable.CHARACTER_EQUIPPED, Inventory.class);
+        return AvatarData.from(characterStat, equipped);
+    }
+
+    private SimpleStatement selectAvatarData(int accountId) {
+        return selectFrom(getKeyspace(), CharacterTable.getTableName())
+                .columns(
+                        CharacterTable.CHARACTER_ID,
+                        CharacterTable.CHARACTER_NAME,
+                        CharacterTable.CHARACTER_STAT,
+                        CharacterTable.CHARACTER_EQUIPPED
+                )
+                .whereColumn(CharacterTable.ACCOUNT_ID).isEqualTo(literal(accountId))
+                .build();
+    }
+
     @Override
     public List<AvatarData> getAvatarDataByAccountId(int accountId) {
         final List<AvatarData> avatarDataList = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName())
-                        .columns(
-                                CharacterTable.CHARACTER_ID,
-                                CharacterTable.CHARACTER_NAME,
-                                CharacterTable.CHARACTER_STAT,
-                                CharacterTable.CHARACTER_EQUIPPED
-                        )
-                        .whereColumn(CharacterTable.ACCOUNT_ID).isEqualTo(literal(accountId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectAvatarData(accountId));
         for (Row row : selectResult) {
-            final CharacterStat characterStat = row.get(CharacterTable.CHARACTER_STAT, CharacterStat.class);
-            characterStat.setId(row.getInt(CharacterTable.CHARACTER_ID));
-            characterStat.setName(row.getString(CharacterTable.CHARACTER_NAME));
-            final Inventory equipped = row.get(CharacterTable.CHARACTER_EQUIPPED, Inventory.class);
-            avatarDataList.add(AvatarData.from(characterStat, equipped));
+            avatarDataList.add(loadAvatarData(row));
         }
         return avatarDataList;
     }
 
+    @Override
+    public CompletableFuture<List<AvatarData>> getAvatarDataByAccountIdAsync(int accountId) {
+        return selectAsync(selectAvatarData(accountId))
+                .thenApply((rows) -> rows.stream().map(this::loadAvatarData).toList());
+    }
+
     @Override
     public synchronized boolean newCharacter(CharacterData characterData) {
         if (!checkCharacterNameAvailable(characterData.getCharacterName())) {
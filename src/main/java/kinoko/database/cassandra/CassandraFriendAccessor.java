@@ -3,6 +3,7 @@ package kinoko.database.cassandra;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import kinoko.database.FriendAccessor;
 import kinoko.database.cassandra.table.FriendTable;
@@ -11,6 +12,7 @@ import kinoko.world.user.friend.FriendStatus;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
@@ -28,14 +30,16 @@ public final class CassandraFriendAccessor extends CassandraAccessor implements
         return new Friend(characterId, friendId, friendName, friendGroup, status);
     }
 
+    private SimpleStatement selectFriends(String column, int id) {
+        return selectFrom(getKeyspace(), FriendTable.getTableName()).all()
+                .whereColumn(column).isEqualTo(literal(id))
+                .build();
+    }
+
     @Override
     public List<Friend> getFriendsByCharacterId(int characterId) {
         final List<Friend> friends = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), FriendTable.getTableName()).all()
-                        .whereColumn(FriendTable.CHARACTER_ID).isEqualTo(literal(characterId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectFriends(FriendTable.CHARACTER_ID, characterId));
         for (Row row : selectResult) {
             friends.add(loadFriend(row));
         }
@@ -45,17 +49,25 @@ public final class CassandraFriendAccessor extends CassandraAccessor implements
     @Override
     public List<Friend> getFriendsByFriendId(int friendId) {
         final List<Friend> friends = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), FriendTable.getTableName()).all()
-                        .whereColumn(FriendTable.FRIEND_ID).isEqualTo(literal(friendId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectFriends(FriendTable.FRIEND_ID, friendId));
         for (Row row : selectResult) {
             friends.add(loadFriend(row));
         }
         return friends;
     }
 
+    @Override
+    public CompletableFuture<List<Friend>> getFriendsByCharacterIdAsync(int characterId) {
+        return selectAsync(selectFriends(FriendTable.CHARACTER_ID, characterId))
+                .thenApply((rows) -> rows.stream().map(this::loadFriend).toList());
+    }
+
+    @Override
+    public CompletableFuture<List<Friend>> getFriendsByFriendIdAsync(int friendId) {
+        return selectAsync(selectFriends(FriendTable.FRIEND_ID, friendId))
+                .thenApply((rows) -> rows.stream().map(this::loadFriend).toList());
+    }
+
     @Override
     public boolean saveFriend(Friend friend, boolean force) {
         Insert insert = insertInto(getKeyspace(), FriendTable.getTableName())
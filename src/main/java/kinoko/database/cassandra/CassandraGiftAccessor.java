@@ -3,6 +3,7 @@ package kinoko.database.cassandra;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import kinoko.database.GiftAccessor;
 import kinoko.database.cassandra.table.GiftTable;
 import kinoko.server.cashshop.Gift;
@@ -10,6 +11,7 @@ import kinoko.server.cashshop.Gift;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
@@ -30,14 +32,16 @@ public final class CassandraGiftAccessor extends CassandraAccessor implements Gi
         );
     }
 
+    private SimpleStatement selectGifts(int characterId) {
+        return selectFrom(getKeyspace(), GiftTable.getTableName()).all()
+                .whereColumn(GiftTable.RECEIVER_ID).isEqualTo(literal(characterId))
+                .build();
+    }
+
     @Override
     public List<Gift> getGiftsByCharacterId(int characterId) {
         final List<Gift> gifts = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), GiftTable.getTableName()).all()
-                        .whereColumn(GiftTable.RECEIVER_ID).isEqualTo(literal(characterId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectGifts(characterId));
         for (Row row : selectResult) {
             gifts.add(loadGift(row));
         }
@@ -83,4 +87,10 @@ public final class CassandraGiftAccessor extends CassandraAccessor implements Gi
         );
         return updateResult.wasApplied();
     }
+
+    @Override
+    public CompletableFuture<List<Gift>> getGiftsByCharacterIdAsync(int characterId) {
+        return selectAsync(selectGifts(characterId))
+                .thenApply((rows) -> rows.stream().map(this::loadGift).toList());
+    }
 }
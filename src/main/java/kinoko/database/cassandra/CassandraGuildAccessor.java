@@ -3,6 +3,7 @@ package kinoko.database.cassandra;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import kinoko.database.GuildAccessor;
 import kinoko.database.cassandra.table.GuildTable;
@@ -15,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
@@ -55,19 +57,27 @@ public final class CassandraGuildAccessor extends CassandraAccessor implements G
         return guild;
     }
 
+    private SimpleStatement selectGuild(int guildId) {
+        return selectFrom(getKeyspace(), GuildTable.getTableName()).all()
+                .whereColumn(GuildTable.GUILD_ID).isEqualTo(literal(guildId))
+                .build();
+    }
+
     @Override
     public Optional<Guild> getGuildById(int guildId) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), GuildTable.getTableName()).all()
-                        .whereColumn(GuildTable.GUILD_ID).isEqualTo(literal(guildId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectGuild(guildId));
         for (Row row : selectResult) {
             return Optional.of(loadGuild(row));
         }
         return Optional.empty();
     }
 
+    @Override
+    public CompletableFuture<Optional<Guild>> getGuildByIdAsync(int guildId) {
+        return selectAsync(selectGuild(guildId))
+                .thenApply((rows) -> rows.stream().findFirst().map(this::loadGuild));
+    }
+
     @Override
     public boolean checkGuildNameAvailable(String name) {
         final ResultSet selectResult = getSession().execute(
@@ -3,6 +3,7 @@ package kinoko.database.cassandra;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import kinoko.database.MemoAccessor;
 import kinoko.database.cassandra.table.MemoTable;
 import kinoko.server.memo.Memo;
@@ -10,6 +11,7 @@ import kinoko.server.memo.MemoType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
@@ -18,31 +20,48 @@ public final class CassandraMemoAccessor extends CassandraAccessor implements Me
         super(session, keyspace);
     }
 
+    private Memo loadMemo(Row row) {
+        final MemoType type = MemoType.getByValue(row.getInt(MemoTable.MEMO_TYPE));
+        return new Memo(
+                type != null ? type : MemoType.DEFAULT,
+                row.getInt(MemoTable.MEMO_ID),
+                row.getString(MemoTable.SENDER_NAME),
+                row.getString(MemoTable.MEMO_CONTENT),
+                row.getInstant(MemoTable.DATE_SENT)
+        );
+    }
+
+    private SimpleStatement selectMemos(int characterId) {
+        return selectFrom(getKeyspace(), MemoTable.getTableName())
+                .columns(
+                        MemoTable.MEMO_ID,
+                        MemoTable.MEMO_TYPE,
+                        MemoTable.MEMO_CONTENT,
+                        MemoTable.SENDER_NAME,
+                        MemoTable.DATE_SENT
+                )
+                .whereColumn(MemoTable.RECEIVER_ID).isEqualTo(literal(characterId))
+                .build();
+    }
+
+    private SimpleStatement insertMemo(Memo memo, int receiverId) {
+        return insertInto(getKeyspace(), MemoTable.getTableName())
+                .value(MemoTable.MEMO_ID, literal(memo.getMemoId()))
+                .value(MemoTable.RECEIVER_ID, literal(receiverId))
+                .value(MemoTable.MEMO_TYPE, literal(memo.getType().getValue()))
+                .value(MemoTable.MEMO_CONTENT, literal(memo.getContent()))
+                .value(MemoTable.SENDER_NAME, literal(memo.getSender()))
+                .value(MemoTable.DATE_SENT, literal(memo.getDateSent()))
+                .ifNotExists()
+                .build();
+    }
+
     @Override
     public List<Memo> getMemosByCharacterId(int characterId) {
         final List<Memo> memos = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), MemoTable.getTableName())
-                        .columns(
-                                MemoTable.MEMO_ID,
-                                MemoTable.MEMO_TYPE,
-                                MemoTable.MEMO_CONTENT,
-                                MemoTable.SENDER_NAME,
-                                MemoTable.DATE_SENT
-                        )
-                        .whereColumn(MemoTable.RECEIVER_ID).isEqualTo(literal(characterId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectMemos(characterId));
         for (Row row : selectResult) {
-            final MemoType type = MemoType.getByValue(row.getInt(MemoTable.MEMO_TYPE));
-            final Memo memo = new Memo(
-                    type != null ? type : MemoType.DEFAULT,
-                    row.getInt(MemoTable.MEMO_ID),
-                    row.getString(MemoTable.SENDER_NAME),
-                    row.getString(MemoTable.MEMO_CONTENT),
-                    row.getInstant(MemoTable.DATE_SENT)
-            );
-            memos.add(memo);
+            memos.add(loadMemo(row));
         }
         return memos;
     }
@@ -68,17 +87,7 @@ public final class CassandraMemoAccessor extends CassandraAccessor implements Me
 
     @Override
     public boolean newMemo(Memo memo, int receiverId) {
-        final ResultSet updateResult = getSession().execute(
-                insertInto(getKeyspace(), MemoTable.getTableName())
-                        .value(MemoTable.MEMO_ID, literal(memo.getMemoId()))
-                        .value(MemoTable.RECEIVER_ID, literal(receiverId))
-                        .value(MemoTable.MEMO_TYPE, literal(memo.getType().getValue()))
-                        .value(MemoTable.MEMO_CONTENT, literal(memo.getContent()))
-                        .value(MemoTable.SENDER_NAME, literal(memo.getSender()))
-                        .value(MemoTable.DATE_SENT, literal(memo.getDateSent()))
-                        .ifNotExists()
-                        .build()
-        );
+        final ResultSet updateResult = getSession().execute(insertMemo(memo, receiverId));
         return updateResult.wasApplied();
     }
 
@@ -91,4 +100,15 @@ public final class CassandraMemoAccessor extends CassandraAccessor implements Me
         );
         return updateResult.wasApplied();
     }
+
+    @Override
+    public CompletableFuture<List<Memo>> getMemosByCharacterIdAsync(int characterId) {
+        return selectAsync(selectMemos(characterId))
+                .thenApply((rows) -> rows.stream().map(this::loadMemo).toList());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> newMemoAsync(Memo memo, int receiverId) {
+        return updateAsync(insertMemo(memo, receiverId));
+    }
 }
@@ -2,6 +2,7 @@ package kinoko.database.postgresql;
 
 import com.zaxxer.hikari.HikariDataSource;
 import kinoko.database.CharacterAccessor;
+import kinoko.database.CharacterDelta;
 import kinoko.database.CharacterInfo;
 import kinoko.database.postgresql.type.*;
 import kinoko.server.rank.CharacterRank;
@@ -140,6 +141,29 @@ public final class PostgresCharacterAccessor extends PostgresAccessor implements
         });
     }
 
+    /**
+     * Saves the parts of an existing character's data that changed since it was last saved.
+     *
+     * Only the rows referenced by the delta are written, within a transaction.
+     *
+     * @param delta the changes since the last save
+     * @return true if the save was successful, false otherwise
+     */
+    @Override
+    public boolean saveCharacter(CharacterDelta delta) {
+        if (delta.isEmpty()) {
+            return true;
+        }
+        return withTransaction(conn -> {
+            return CharacterDataDao.saveCharacter(conn, delta);
+        });
+    }
+
+    @Override
+    public boolean isPartialSave() {
+        return true;
+    }
+
     /**
      * Deletes a character associated with the given account ID.
      *
@@ -10,6 +10,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 public final class PostgresFamilyAccessor extends PostgresAccessor implements FamilyAccessor {
 
@@ -28,6 +29,16 @@ public final class PostgresFamilyAccessor extends PostgresAccessor implements Fa
         }
     };
 
+    @Override
+    public Optional<FamilyTree> getFamilyByMemberId(int characterId){
+        try (Connection conn = getConnection()) {
+            return FamilyTreeDao.getFamilyByMemberId(conn, characterId);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void saveFamily(FamilyTree family){
         try (Connection conn = getConnection()) {
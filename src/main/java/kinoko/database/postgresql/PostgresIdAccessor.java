@@ -5,7 +5,12 @@ import kinoko.database.IdAccessor;
 import kinoko.database.postgresql.type.ItemDao;
 import kinoko.world.item.Item;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class PostgresIdAccessor extends PostgresAccessor implements IdAccessor {
 
@@ -34,4 +39,30 @@ public final class PostgresIdAccessor extends PostgresAccessor implements IdAcce
             return false;
         }
     }
+
+    /**
+     * Reserves item SNs from the item_sn sequence without creating the items. The items are inserted with the reserved
+     * SN when they are first saved.
+     *
+     * @param count the number of SNs to reserve
+     * @return the reserved SNs, or an empty list if an error occurred
+     */
+    @Override
+    public List<Long> reserveItemSns(int count) {
+        final String sql = "SELECT nextval(pg_get_serial_sequence('item.items', 'item_sn')) FROM generate_series(1, ?)";
+        try (Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, count);
+            final List<Long> itemSns = new ArrayList<>(count);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    itemSns.add(rs.getLong(1));
+                }
+            }
+            return itemSns;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return List.of();
+        }
+    }
 }
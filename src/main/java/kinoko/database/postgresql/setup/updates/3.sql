@@ -0,0 +1,11 @@
+-- 3.sql
+-- Migration: Record the sequence of the character save that last wrote each inventory row.
+-- Inventory rows are only overwritten by saves with a greater sequence, so that a delayed save
+-- of one character cannot take back an item that was already moved to another character.
+
+
+BEGIN;
+
+ALTER TABLE player.inventory ADD COLUMN save_seq BIGINT NOT NULL DEFAULT 0;
+
+COMMIT;
@@ -1,5 +1,7 @@
 package kinoko.database.postgresql.type;
 
+import kinoko.database.CharacterDelta;
+import kinoko.server.ServerConstants;
 import kinoko.world.item.InventoryManager;
 import kinoko.world.skill.SkillManager;
 import kinoko.world.quest.QuestManager;
@@ -9,8 +11,10 @@ import kinoko.world.user.stat.AdminLevel;
 import kinoko.world.user.stat.CharacterStat;
 
 import java.sql.*;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 public class CharacterDataDao {
     /**
@@ -29,6 +33,49 @@ public class CharacterDataDao {
      * @throws SQLException if a database access error occurs
      */
     public static CharacterData loadCharacterData(Connection conn, ResultSet rs) throws SQLException {
+        CharacterData cd = readCharacterData(rs);
+        int characterID = cd.getCharacterId();
+
+        cd.getCharacterStat().setSp(ExtendSpDao.loadExtendSp(conn, characterID));
+
+        setInventoryManager(cd, InventoryDao.loadInventoryManager(conn, characterID));
+
+        SkillManager sm = SkillManagerDao.loadSkillCooltimesAndRecords(conn, characterID);
+        cd.setSkillManager(sm);
+
+        QuestManager qm = QuestManagerDao.loadQuestRecords(conn, characterID);
+        cd.setQuestManager(qm);
+
+        ConfigManager cm = ConfigManagerDao.loadConfig(conn, characterID);
+        cd.setConfigManager(cm);
+
+        PopularityRecord pr = PopularityRecordDao.loadPopularityRecord(conn, characterID);
+        cd.setPopularityRecord(pr);
+
+        MiniGameRecord mgr = MiniGameRecordDao.loadMiniGameRecord(conn, characterID);
+        cd.setMiniGameRecord(mgr);
+
+        MapTransferInfo mto = MapTransferInfoDao.loadMapTransferInfo(conn, characterID);
+        cd.setMapTransferInfo(mto);
+
+        WildHunterInfo whi = WildHunterInfoDao.loadWildHunterInfo(conn, characterID);
+        cd.setWildHunterInfo(whi);
+
+        return cd;
+    }
+
+    /**
+     * Reads the character row (characters and stats) from the given ResultSet.
+     *
+     * The returned CharacterData has its CharacterStat, friend limit, party ID, guild ID and timestamps set,
+     * along with a placeholder InventoryManager holding the money and extended slot expiry. The remaining
+     * managers and records are loaded separately.
+     *
+     * @param rs the ResultSet containing the character row data
+     * @return a partially populated CharacterData object
+     * @throws SQLException if a database access error occurs
+     */
+    private static CharacterData readCharacterData(ResultSet rs) throws SQLException {
         int accountId = rs.getInt("account_id");
         CharacterData cd = new CharacterData(accountId);
         int characterID = rs.getInt("id");
@@ -63,37 +110,12 @@ public class CharacterDataDao {
         );
         cd.setCharacterStat(cs);
 
-        cs.setSp(ExtendSpDao.loadExtendSp(conn, characterID));
-
-        InventoryManager im = InventoryDao.loadInventoryManager(conn, characterID);
+        InventoryManager im = new InventoryManager();
         im.setMoney(rs.getInt("money"));
 
         Timestamp extSlotExpireTs = rs.getTimestamp("ext_slot_expire");
         im.setExtSlotExpire(extSlotExpireTs != null ? extSlotExpireTs.toInstant() : null);
-
         cd.setInventoryManager(im);
-        cd.setCoupleRecord(CoupleRecord.from(im.getEquipped(), im.getEquipInventory()));
-
-        SkillManager sm = SkillManagerDao.loadSkillCooltimesAndRecords(conn, characterID);
-        cd.setSkillManager(sm);
-
-        QuestManager qm = QuestManagerDao.loadQuestRecords(conn, characterID);
-        cd.setQuestManager(qm);
-
-        ConfigManager cm = ConfigManagerDao.loadConfig(conn, characterID);
-        cd.setConfigManager(cm);
-
-        PopularityRecord pr = PopularityRecordDao.loadPopularityRecord(conn, characterID);
-        cd.setPopularityRecord(pr);
-
-        MiniGameRecord mgr = MiniGameRecordDao.loadMiniGameRecord(conn, characterID);
-        cd.setMiniGameRecord(mgr);
-
-        MapTransferInfo mto = MapTransferInfoDao.loadMapTransferInfo(conn, characterID);
-        cd.setMapTransferInfo(mto);
-
-        WildHunterInfo whi = WildHunterInfoDao.loadWildHunterInfo(conn, characterID);
-        cd.setWildHunterInfo(whi);
 
         cd.setItemSnCounter(new AtomicInteger(-1));
 
@@ -110,6 +132,64 @@ public class CharacterDataDao {
         return cd;
     }
 
+    /**
+     * Replaces the placeholder InventoryManager created by {@link #readCharacterData(ResultSet)} with the
+     * loaded inventories, keeping the money and extended slot expiry, and derives the CoupleRecord.
+     */
+    private static void setInventoryManager(CharacterData cd, InventoryManager im) {
+        im.setMoney(cd.getInventoryManager().getMoney());
+        im.setExtSlotExpire(cd.getInventoryManager().getExtSlotExpire());
+        cd.setInventoryManager(im);
+        cd.setCoupleRecord(CoupleRecord.from(im.getEquipped(), im.getEquipInventory()));
+    }
+
+    private static final String SELECT_CHARACTER_BY_ID_SQL = """
+            SELECT c.*, s.*, m.guild_id, m.grade
+            FROM player.characters c
+            LEFT JOIN player.stats s ON c.id = s.character_id
+            LEFT JOIN guild.member m ON m.character_id = c.id
+            WHERE c.id = ?
+        """;
+
+    /**
+     * Statements executed by {@link #getCharacterByIdPipelined(Connection, int)}, in the order their results are
+     * read. Every statement takes the character ID as its only parameter.
+     */
+    private static final List<String> PIPELINED_LOAD_SQL = List.of(
+            SELECT_CHARACTER_BY_ID_SQL,
+            ExtendSpDao.LOAD_EXTEND_SP_SQL,
+            InventoryDao.LOAD_INVENTORY_SQL,
+            SkillManagerDao.LOAD_SKILL_COOLTIME_SQL,
+            SkillManagerDao.LOAD_SKILL_RECORD_SQL,
+            QuestManagerDao.LOAD_QUEST_RECORD_SQL,
+            ConfigManagerDao.LOAD_CONFIG_SQL,
+            SkillMacrosDao.LOAD_MACROS_SQL,
+            PopularityRecordDao.LOAD_POPULARITY_SQL,
+            MiniGameRecordDao.LOAD_MINIGAME_SQL,
+            MapTransferInfoDao.LOAD_MAP_TRANSFER_SQL,
+            WildHunterInfoDao.LOAD_RIDING_TYPE_SQL,
+            WildHunterInfoDao.LOAD_CAPTURED_MOBS_SQL
+    );
+
+    private static final String PIPELINED_LOAD_QUERY = PIPELINED_LOAD_SQL.stream()
+            .map(String::strip)
+            .collect(Collectors.joining(";\n"));
+
+    /**
+     * Retrieves a CharacterData object for the given character ID.
+     *
+     * Uses {@link #getCharacterByIdPipelined(Connection, int)} if {@link ServerConstants#DATABASE_PIPELINED_LOAD}
+     * is enabled, otherwise loads the character row and delegates to the DAOs one query at a time.
+     *
+     * @param conn the database connection to use
+     * @param characterId the ID of the character
+     * @return an Optional containing the CharacterData if found, otherwise empty
+     * @throws SQLException if a database access error occurs
+     */
+    public static Optional<CharacterData> getCharacterById(Connection conn, int characterId) throws SQLException {
+        return getCharacterById(conn, characterId, ServerConstants.DATABASE_PIPELINED_LOAD);
+    }
+
     /**
      * Retrieves a CharacterData object for the given character ID.
      *
@@ -119,19 +199,16 @@ public class CharacterDataDao {
      *
      * @param conn the database connection to use
      * @param characterId the ID of the character
+     * @param pipelined whether to load the whole character in a single round trip
      * @return an Optional containing the CharacterData if found, otherwise empty
      * @throws SQLException if a database access error occurs
      */
-    public static Optional<CharacterData> getCharacterById(Connection conn, int characterId) throws SQLException {
-        String sql = """
-            SELECT c.*, s.*, m.guild_id, m.grade
-            FROM player.characters c
-            LEFT JOIN player.stats s ON c.id = s.character_id
-            LEFT JOIN guild.member m ON m.character_id = c.id
-            WHERE c.id = ?
-        """;
+    public static Optional<CharacterData> getCharacterById(Connection conn, int characterId, boolean pipelined) throws SQLException {
+        if (pipelined) {
+            return getCharacterByIdPipelined(conn, characterId);
+        }
 
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_CHARACTER_BY_ID_SQL)) {
             stmt.setInt(1, characterId);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
@@ -143,6 +220,88 @@ public class CharacterDataDao {
         return Optional.empty();
     }
 
+    /**
+     * Retrieves a CharacterData object for the given character ID in a single round trip.
+     *
+     * All the statements used by the individual DAOs are sent together as one multi-statement query,
+     * which the driver pipelines before waiting for the results. The result sets are then read in order
+     * using the same row readers as the DAOs.
+     *
+     * @param conn the database connection to use
+     * @param characterId the ID of the character
+     * @return an Optional containing the CharacterData if found, otherwise empty
+     * @throws SQLException if a database access error occurs
+     */
+    public static Optional<CharacterData> getCharacterByIdPipelined(Connection conn, int characterId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(PIPELINED_LOAD_QUERY)) {
+            for (int i = 1; i <= PIPELINED_LOAD_SQL.size(); i++) {
+                stmt.setInt(i, characterId);
+            }
+            stmt.execute();
+
+            CharacterData cd;
+            try (ResultSet rs = stmt.getResultSet()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                cd = readCharacterData(rs);
+            }
+            try (ResultSet rs = nextResultSet(stmt)) {
+                cd.getCharacterStat().setSp(ExtendSpDao.readExtendSp(rs));
+            }
+            try (ResultSet rs = nextResultSet(stmt)) {
+                setInventoryManager(cd, InventoryDao.readInventoryManager(rs));
+            }
+            SkillManager sm = new SkillManager();
+            try (ResultSet rs = nextResultSet(stmt)) {
+                SkillManagerDao.readSkillCooltimes(sm, rs);
+            }
+            try (ResultSet rs = nextResultSet(stmt)) {
+                SkillManagerDao.readSkillRecords(sm, rs);
+            }
+            cd.setSkillManager(sm);
+            try (ResultSet rs = nextResultSet(stmt)) {
+                cd.setQuestManager(QuestManagerDao.readQuestRecords(rs));
+            }
+            Optional<ConfigManager> configResult;
+            try (ResultSet rs = nextResultSet(stmt)) {
+                configResult = ConfigManagerDao.readConfig(rs);
+            }
+            try (ResultSet rs = nextResultSet(stmt)) {
+                // Macros are only applied to stored configs, same as ConfigManagerDao.loadConfig
+                List<SingleMacro> macros = SkillMacrosDao.readMacros(rs);
+                configResult.ifPresent(cm -> cm.updateMacroSysData(macros));
+            }
+            cd.setConfigManager(configResult.orElseGet(ConfigManager::defaults));
+            try (ResultSet rs = nextResultSet(stmt)) {
+                cd.setPopularityRecord(PopularityRecordDao.readPopularityRecord(rs));
+            }
+            try (ResultSet rs = nextResultSet(stmt)) {
+                cd.setMiniGameRecord(MiniGameRecordDao.readMiniGameRecord(rs));
+            }
+            try (ResultSet rs = nextResultSet(stmt)) {
+                cd.setMapTransferInfo(MapTransferInfoDao.readMapTransferInfo(rs));
+            }
+            WildHunterInfo whi = new WildHunterInfo();
+            try (ResultSet rs = nextResultSet(stmt)) {
+                WildHunterInfoDao.readRidingType(whi, rs);
+            }
+            try (ResultSet rs = nextResultSet(stmt)) {
+                WildHunterInfoDao.readCapturedMobs(whi, rs);
+            }
+            cd.setWildHunterInfo(whi);
+
+            return Optional.of(cd);
+        }
+    }
+
+    private static ResultSet nextResultSet(Statement stmt) throws SQLException {
+        if (!stmt.getMoreResults()) {
+            throw new SQLException("Missing result set in pipelined character load");
+        }
+        return stmt.getResultSet();
+    }
+
     /**
      * Retrieves a CharacterData object by character name (case-insensitive).
      *
@@ -344,6 +503,82 @@ public class CharacterDataDao {
      * @throws SQLException if a database access error occurs
      */
     public static boolean saveCharacter(Connection conn, CharacterData characterData) throws SQLException {
+        if (!updateCharacter(conn, characterData)) {
+            return false;  // will rollback in a transaction.
+        }
+
+        // Save dependent tables using the same connection
+        saveCharacterStats(conn, characterData);
+        InventoryDao.saveCharacter(conn, characterData);
+        SkillManagerDao.saveCharacterSkills(conn, characterData);
+        QuestManagerDao.saveCharacterQuests(conn, characterData);
+        saveCharacterRecords(conn, characterData);
+        ExtendSpDao.upsertExtendSp(conn, characterData.getCharacterId(), characterData.getCharacterStat().getSp());
+
+        return true;
+    }
+
+    /**
+     * Saves the parts of a CharacterData object that changed since it was last saved.
+     *
+     * Only the rows referenced by the delta are written: the character row and stats if they changed,
+     * the modified inventory entries, skill records, skill cooltimes and quest records, and the removed
+     * inventory items. The remaining records are only written for a full delta. All rows are read from
+     * the copies held by the delta.
+     *
+     * @param conn  the database connection
+     * @param delta the changes since the last save
+     * @return true if the save succeeded, false if the update failed
+     * @throws SQLException if a database access error occurs
+     */
+    public static boolean saveCharacter(Connection conn, CharacterDelta delta) throws SQLException {
+        final CharacterData characterData = delta.getCharacterData();
+        final int characterId = characterData.getCharacterId();
+        if (delta.isCharacterChanged()) {
+            if (!updateCharacter(conn, characterData)) {
+                return false;  // will rollback in a transaction.
+            }
+            saveCharacterStats(conn, characterData);
+            ExtendSpDao.upsertExtendSp(conn, characterId, characterData.getCharacterStat().getSp());
+        }
+
+        InventoryDao.saveInventoryEntries(conn, characterId, delta.getItems(), delta.getSaveSeq());
+        InventoryDao.deleteItems(conn, characterId, delta.getRemovedItems());
+        SkillManagerDao.saveSkillRecords(conn, characterId, delta.getSkillRecords());
+        SkillManagerDao.saveSkillCooltimes(conn, characterId, delta.getSkillCooltimes());
+        QuestManagerDao.saveQuestRecords(conn, characterId, delta.getQuestRecords());
+        if (delta.isFull()) {
+            saveCharacterRecords(conn, characterData);
+        }
+
+        return true;
+    }
+
+    /**
+     * Saves the records that are not tracked individually (config, popularity, map transfer,
+     * mini-game and wild hunter info).
+     *
+     * @param conn          the database connection
+     * @param characterData the CharacterData to save
+     * @throws SQLException if a database access error occurs
+     */
+    private static void saveCharacterRecords(Connection conn, CharacterData characterData) throws SQLException {
+        ConfigManagerDao.saveCharacterConfig(conn, characterData);
+        PopularityRecordDao.saveCharacterPopularity(conn, characterData);
+        MapTransferInfoDao.saveMapTransferInfo(conn, characterData);
+        MiniGameRecordDao.saveMiniGameRecord(conn, characterData);
+        WildHunterInfoDao.saveWildHunterInfo(conn, characterData);
+    }
+
+    /**
+     * Updates the main character row of a CharacterData object.
+     *
+     * @param conn          the database connection
+     * @param characterData the CharacterData to save
+     * @return true if the row was updated, false if the character does not exist
+     * @throws SQLException if a database access error occurs
+     */
+    private static boolean updateCharacter(Connection conn, CharacterData characterData) throws SQLException {
         String sql = "UPDATE player.characters SET account_id=?, name=?, money=?, ext_slot_expire=?, " +
                 "friend_max=?, party_id=?, guild_id=?, creation_time=?, max_level_time=? " +
                 "WHERE id=?";
@@ -363,24 +598,7 @@ public class CharacterDataDao {
                     Timestamp.from(characterData.getMaxLevelTime()) : null);
             stmt.setInt(10, characterData.getCharacterId());
 
-            int updated = stmt.executeUpdate();
-            if (updated == 0) {
-                return false;  // will rollback in a transaction.
-            }
+            return stmt.executeUpdate() > 0;
         }
-
-        // Save dependent tables using the same connection
-        saveCharacterStats(conn, characterData);
-        InventoryDao.saveCharacter(conn, characterData);
-        SkillManagerDao.saveCharacterSkills(conn, characterData);
-        QuestManagerDao.saveCharacterQuests(conn, characterData);
-        ConfigManagerDao.saveCharacterConfig(conn, characterData);
-        PopularityRecordDao.saveCharacterPopularity(conn, characterData);
-        MapTransferInfoDao.saveMapTransferInfo(conn, characterData);
-        MiniGameRecordDao.saveMiniGameRecord(conn, characterData);
-        WildHunterInfoDao.saveWildHunterInfo(conn, characterData);
-        ExtendSpDao.upsertExtendSp(conn, characterData.getCharacterId(), characterData.getCharacterStat().getSp());
-
-        return true;
     }
 }
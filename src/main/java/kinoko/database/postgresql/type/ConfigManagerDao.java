@@ -10,6 +10,7 @@ import kinoko.world.user.data.FuncKeyType;
 import java.sql.*;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 public final class ConfigManagerDao {
 
@@ -25,63 +26,16 @@ public final class ConfigManagerDao {
      * @throws SQLException if a database access error occurs
      */
     public static ConfigManager loadConfig(Connection conn, int characterId) throws SQLException {
-        String sql = """
-            SELECT pet_consume_item, pet_consume_mp_item, pet_exception_list,
-                   func_key_types, func_key_ids, quickslot_key_map
-            FROM player.config
-            WHERE character_id = ?
-        """;
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_CONFIG_SQL)) {
             stmt.setInt(1, characterId);
 
             try (ResultSet rs = stmt.executeQuery()) {
-                if (!rs.next()) {
+                Optional<ConfigManager> configResult = readConfig(rs);
+                if (configResult.isEmpty()) {
                     return ConfigManager.defaults();
                 }
 
-                int petConsumeItem = rs.getInt("pet_consume_item");
-                int petConsumeMpItem = rs.getInt("pet_consume_mp_item");
-
-                // --- Pet exception list ---
-                List<Integer> petExceptionList;
-                Array petExArr = rs.getArray("pet_exception_list");
-                if (petExArr != null) {
-                    Integer[] arr = (Integer[]) petExArr.getArray();
-                    petExceptionList = Arrays.asList(arr);
-                } else {
-                    petExceptionList = List.of();
-                }
-
-                // --- Function key map ---
-                FuncKeyMapped[] funcKeyMap = new FuncKeyMapped[GameConstants.FUNC_KEY_MAP_SIZE];
-                Array funcTypeArr = rs.getArray("func_key_types");
-                Array funcIdArr = rs.getArray("func_key_ids");
-
-                if (funcTypeArr != null && funcIdArr != null) {
-                    Short[] typeValues = (Short[]) funcTypeArr.getArray();
-                    Integer[] idValues = (Integer[]) funcIdArr.getArray();
-
-                    for (int i = 0; i < funcKeyMap.length; i++) {
-                        FuncKeyType type = FuncKeyType.getByValue(typeValues[i].byteValue());
-                        int id = idValues[i];
-                        funcKeyMap[i] = FuncKeyMapped.of(type, id);
-                    }
-                } else {
-                    funcKeyMap = Arrays.copyOf(GameConstants.DEFAULT_FUNC_KEY_MAP, GameConstants.FUNC_KEY_MAP_SIZE);
-                }
-
-                // --- Quickslot key map ---
-                int[] quickslotKeyMap;
-                Array quickArr = rs.getArray("quickslot_key_map");
-                if (quickArr != null) {
-                    Integer[] arr = (Integer[]) quickArr.getArray();
-                    quickslotKeyMap = Arrays.stream(arr).mapToInt(Integer::intValue).toArray();
-                } else {
-                    quickslotKeyMap = Arrays.copyOf(GameConstants.DEFAULT_QUICKSLOT_KEY_MAP, GameConstants.QUICKSLOT_KEY_MAP_SIZE);
-                }
-
-                ConfigManager cm = new ConfigManager(petConsumeItem, petConsumeMpItem, petExceptionList, funcKeyMap, quickslotKeyMap);
+                ConfigManager cm = configResult.get();
 
                 // Load macros from SkillMacrosDao
                 cm.updateMacroSysData(SkillMacrosDao.loadMacros(conn, characterId));
@@ -91,6 +45,69 @@ public final class ConfigManagerDao {
         }
     }
 
+    static final String LOAD_CONFIG_SQL = """
+            SELECT pet_consume_item, pet_consume_mp_item, pet_exception_list,
+                   func_key_types, func_key_ids, quickslot_key_map
+            FROM player.config
+            WHERE character_id = ?
+        """;
+
+    /**
+     * Reads the ConfigManager from the result of {@link #LOAD_CONFIG_SQL}, without the macros.
+     *
+     * @param rs the result set to read
+     * @return the ConfigManager, or empty if the character has no config row
+     * @throws SQLException if a database access error occurs
+     */
+    static Optional<ConfigManager> readConfig(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return Optional.empty();
+        }
+
+        int petConsumeItem = rs.getInt("pet_consume_item");
+        int petConsumeMpItem = rs.getInt("pet_consume_mp_item");
+
+        // --- Pet exception list ---
+        List<Integer> petExceptionList;
+        Array petExArr = rs.getArray("pet_exception_list");
+        if (petExArr != null) {
+            Integer[] arr = (Integer[]) petExArr.getArray();
+            petExceptionList = Arrays.asList(arr);
+        } else {
+            petExceptionList = List.of();
+        }
+
+        // --- Function key map ---
+        FuncKeyMapped[] funcKeyMap = new FuncKeyMapped[GameConstants.FUNC_KEY_MAP_SIZE];
+        Array funcTypeArr = rs.getArray("func_key_types");
+        Array funcIdArr = rs.getArray("func_key_ids");
+
+        if (funcTypeArr != null && funcIdArr != null) {
+            Short[] typeValues = (Short[]) funcTypeArr.getArray();
+            Integer[] idValues = (Integer[]) funcIdArr.getArray();
+
+            for (int i = 0; i < funcKeyMap.length; i++) {
+                FuncKeyType type = FuncKeyType.getByValue(typeValues[i].byteValue());
+                int id = idValues[i];
+                funcKeyMap[i] = FuncKeyMapped.of(type, id);
+            }
+        } else {
+            funcKeyMap = Arrays.copyOf(GameConstants.DEFAULT_FUNC_KEY_MAP, GameConstants.FUNC_KEY_MAP_SIZE);
+        }
+
+        // --- Quickslot key map ---
+        int[] quickslotKeyMap;
+        Array quickArr = rs.getArray("quickslot_key_map");
+        if (quickArr != null) {
+            Integer[] arr = (Integer[]) quickArr.getArray();
+            quickslotKeyMap = Arrays.stream(arr).mapToInt(Integer::intValue).toArray();
+        } else {
+            quickslotKeyMap = Arrays.copyOf(GameConstants.DEFAULT_QUICKSLOT_KEY_MAP, GameConstants.QUICKSLOT_KEY_MAP_SIZE);
+        }
+
+        return Optional.of(new ConfigManager(petConsumeItem, petConsumeMpItem, petExceptionList, funcKeyMap, quickslotKeyMap));
+    }
+
 
     /**
      * Saves or updates a character’s configuration data, including pet settings, key mappings,
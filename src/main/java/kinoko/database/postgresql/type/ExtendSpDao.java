@@ -53,23 +53,32 @@ public final class ExtendSpDao {
      * @throws SQLException if a database access error occurs
      */
     public static ExtendSp loadExtendSp(Connection conn, int characterId) throws SQLException {
-        String sql = """
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_EXTEND_SP_SQL)) {
+            stmt.setInt(1, characterId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return readExtendSp(rs);
+            }
+        }
+    }
+
+    static final String LOAD_EXTEND_SP_SQL = """
             SELECT job_level, sp
             FROM player.extend_sp
             WHERE character_id = ?
         """;
 
+    /**
+     * Reads the extended SP data from the result of {@link #LOAD_EXTEND_SP_SQL}.
+     *
+     * @param rs the result set to read
+     * @return an ExtendSp object containing the character's job-level-to-SP mappings
+     * @throws SQLException if a database access error occurs
+     */
+    static ExtendSp readExtendSp(ResultSet rs) throws SQLException {
         Map<Integer, Integer> map = new HashMap<>();
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, characterId);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    map.put(rs.getInt("job_level"), rs.getInt("sp"));
-                }
-            }
+        while (rs.next()) {
+            map.put(rs.getInt("job_level"), rs.getInt("sp"));
         }
-
         return ExtendSp.from(map);
     }
 }
@@ -34,37 +34,78 @@ public final class FamilyMemberDao {
             JOIN player.stats s ON s.character_id = c.id
         """;
 
-        List<FamilyMember> members = new ArrayList<>();
-
         try (PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
+            return readFamilyMembers(rs);
+        }
+    }
 
-            while (rs.next()) {
-                int charId = rs.getInt("character_id");
-                Integer parentId = rs.getObject("parent_id") == null ? null : rs.getInt("parent_id");
-                int reputation = rs.getInt("reputation");
-                int totalReputation = rs.getInt("total_reputation");
-                int repsToSenior = rs.getInt("reps_to_senior");
-                String name = rs.getString("name");
-                int level = rs.getInt("level");
-                int job = rs.getInt("job");
-
-                FamilyMember member = new FamilyMember(
-                        charId,
-                        name,
-                        level,
-                        job,
-                        reputation,
-                        totalReputation,
-                        0,
-                        repsToSenior,
-                        parentId
-                );
+    /**
+     * Retrieves the members of the family containing the given character.
+     *
+     * The query walks up the parent chain to the root of the family, then walks
+     * down from the root to collect every member, so only a single family is read.
+     *
+     * @param conn the active SQL connection to use for the query
+     * @param characterId the character ID of any member of the family
+     * @return a list of the `FamilyMember` objects of the family, empty if the character has no family
+     * @throws SQLException if a database access error occurs while executing the query
+     */
+    public static List<FamilyMember> getFamilyMembersByMemberId(Connection conn, int characterId) throws SQLException {
+        String sql = """
+            WITH RECURSIVE ancestors AS (
+                SELECT character_id, parent_id FROM player.family WHERE character_id = ?
+                UNION ALL
+                SELECT f.character_id, f.parent_id FROM player.family f
+                JOIN ancestors a ON f.character_id = a.parent_id
+            ), descendants AS (
+                SELECT character_id FROM ancestors WHERE parent_id IS NULL
+                UNION ALL
+                SELECT f.character_id FROM player.family f
+                JOIN descendants d ON f.parent_id = d.character_id
+            )
+            SELECT f.character_id, f.parent_id, f.reputation, f.total_reputation, f.reps_to_senior,
+                   c.name, s.level, s.job
+            FROM descendants d
+            JOIN player.family f ON f.character_id = d.character_id
+            JOIN player.characters c ON f.character_id = c.id
+            JOIN player.stats s ON s.character_id = c.id
+        """;
 
-                members.add(member);
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, characterId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return readFamilyMembers(rs);
             }
         }
+    }
+
+    private static List<FamilyMember> readFamilyMembers(ResultSet rs) throws SQLException {
+        List<FamilyMember> members = new ArrayList<>();
+        while (rs.next()) {
+            int charId = rs.getInt("character_id");
+            Integer parentId = rs.getObject("parent_id") == null ? null : rs.getInt("parent_id");
+            int reputation = rs.getInt("reputation");
+            int totalReputation = rs.getInt("total_reputation");
+            int repsToSenior = rs.getInt("reps_to_senior");
+            String name = rs.getString("name");
+            int level = rs.getInt("level");
+            int job = rs.getInt("job");
 
+            FamilyMember member = new FamilyMember(
+                    charId,
+                    name,
+                    level,
+                    job,
+                    reputation,
+                    totalReputation,
+                    0,
+                    repsToSenior,
+                    parentId
+            );
+
+            members.add(member);
+        }
         return members;
     }
 
@@ -24,8 +24,32 @@ public final class FamilyTreeDao {
      */
     public static Collection<FamilyTree> getAllFamilies(Connection conn) throws SQLException {
         // Load all members using FamilyMemberDao
-        List<FamilyMember> members = FamilyMemberDao.getAllFamilyMembers(conn);
+        return buildFamilies(FamilyMemberDao.getAllFamilyMembers(conn));
+    }
 
+    /**
+     * Retrieves the FamilyTree containing the given character, loading only the members
+     * of that family.
+     *
+     * @param conn Active SQL connection
+     * @param characterId the character ID of any member of the family
+     * @return the FamilyTree containing the character, or an empty Optional if the character has no family
+     * @throws SQLException if a database access error occurs during retrieval
+     */
+    public static Optional<FamilyTree> getFamilyByMemberId(Connection conn, int characterId) throws SQLException {
+        return buildFamilies(FamilyMemberDao.getFamilyMembersByMemberId(conn, characterId)).stream()
+                .filter(tree -> tree.hasMember(characterId))
+                .findFirst();
+    }
+
+    /**
+     * Assembles family members into in-memory tree structures, attaching children under
+     * their respective parents regardless of the order in which they were loaded.
+     *
+     * @param members the family members to assemble
+     * @return Collection of fully built FamilyTree objects, one per root member
+     */
+    private static Collection<FamilyTree> buildFamilies(List<FamilyMember> members) {
         // Map characterId -> FamilyMember
         Map<Integer, FamilyMember> allMembersMap = new HashMap<>();
         // Map parentId -> list of children
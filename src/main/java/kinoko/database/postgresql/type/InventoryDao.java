@@ -5,8 +5,8 @@ import kinoko.world.item.*;
 import kinoko.world.user.CharacterData;
 import org.postgresql.util.PGobject;
 
-import java.util.Map;
-import java.util.EnumMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.sql.*;
 import java.util.Collection;
 import java.util.stream.Stream;
@@ -27,13 +27,6 @@ public class InventoryDao {
      * @throws SQLException if any SQL error occurs during the operation
      */
     public static void saveCharacter(Connection conn, CharacterData characterData) throws SQLException {
-        String sqlInventory = """
-        INSERT INTO player.inventory (character_id, inventory_type, slot, item_sn)
-        VALUES (?, ?, ?, ?)
-        ON CONFLICT (item_sn)
-        DO UPDATE SET slot = EXCLUDED.slot, inventory_type = EXCLUDED.inventory_type, character_id = EXCLUDED.character_id
-    """;
-
             int characterId = characterData.getCharacterId();
 
             InventoryManager inv = characterData.getInventoryManager();
@@ -55,31 +48,43 @@ public class InventoryDao {
                     .map(InventoryEntry::item)
                     .toList();
 
-            ItemDao.saveItemsBatch(conn, allItems);  // Insert or Save the Items themselves.
+            saveInventoryEntries(conn, characterId, allEntries);  // Insert or Save the Items and their slots.
             deleteUnusedItems(conn, characterId, allItems); // Remove any inventory items that the player no longer has.
+    }
 
-        Map<InventoryType, PGobject> typeObjects = new EnumMap<>(InventoryType.class);
-        for (InventoryType type : InventoryType.values()) {
-            PGobject obj = new PGobject();
-            obj.setType("inventory_type_enum");
-            obj.setValue(type.name());
-            typeObjects.put(type, obj);
-        }
+    /**
+     * Saves the given inventory entries of a character to the database.
+     *
+     * The items are saved to the items table first (creating new item_sn values if needed), then the player
+     * inventory table is updated with the slot of each entry using a batch insert/update. Unlike
+     * {@link #saveCharacter(Connection, CharacterData)}, entries that are not passed in are left untouched.
+     *
+     * @param conn        the active database connection
+     * @param characterId the ID of the character owning the entries
+     * @param entries     the inventory entries to save
+     * @throws SQLException if any SQL error occurs during the operation
+     */
+    public static void saveInventoryEntries(Connection conn, int characterId, Collection<InventoryEntry> entries) throws SQLException {
+        if (entries.isEmpty()) return;
+
+        String sqlInventory = """
+        INSERT INTO player.inventory (character_id, inventory_type, slot, item_sn)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (item_sn)
+        DO UPDATE SET slot = EXCLUDED.slot, inventory_type = EXCLUDED.inventory_type, character_id = EXCLUDED.character_id
+    """;
+
+        Collection<Item> items = entries.stream()
+                .map(InventoryEntry::item)
+                .toList();
+        ItemDao.saveItemsBatch(conn, items);  // Insert or Save the Items themselves.
 
         // Add in items to the player inventory.
         try (PreparedStatement stmtInventory = conn.prepareStatement(sqlInventory);
         ) {
             // --- Insert/update items ---
-            for (InventoryEntry entry : allEntries) {
-                Item item = entry.item();
-                InventoryType type = entry.type(); // from InventoryEntry
-                PGobject enumValue = typeObjects.get(type);
-
-                stmtInventory.setInt(1, characterId);
-                stmtInventory.setObject(2, enumValue);
-                stmtInventory.setInt(3, entry.slot());
-                // Item SN should be updated since we handled all items earlier.
-                stmtInventory.setLong(4, item.getItemSn());
+            for (InventoryEntry entry : entries) {
+                setInventoryParameters(stmtInventory, characterId, entry);
                 stmtInventory.addBatch();
             }
 
@@ -87,6 +92,88 @@ public class InventoryDao {
         }
     }
 
+    /**
+     * Saves the given inventory entries of a character to the database, unless a newer save already wrote them.
+     *
+     * Every inventory row records the sequence of the save that last wrote it. An entry is skipped if its row was
+     * written by a save with a greater sequence, which happens when an item was moved to another character and that
+     * character was saved first. The items themselves are only written for the entries that were not skipped.
+     *
+     * @param conn        the active database connection
+     * @param characterId the ID of the character owning the entries
+     * @param entries     the inventory entries to save, all items must have an item_sn
+     * @param saveSeq     the sequence of the save
+     * @throws SQLException if any SQL error occurs during the operation
+     */
+    public static void saveInventoryEntries(Connection conn, int characterId, Collection<InventoryEntry> entries, long saveSeq) throws SQLException {
+        if (entries.isEmpty()) return;
+
+        String sqlInventory = """
+        INSERT INTO player.inventory (character_id, inventory_type, slot, item_sn, save_seq)
+        VALUES (?, ?, ?, ?, ?)
+        ON CONFLICT (item_sn)
+        DO UPDATE SET slot = EXCLUDED.slot, inventory_type = EXCLUDED.inventory_type, character_id = EXCLUDED.character_id,
+            save_seq = EXCLUDED.save_seq
+        WHERE player.inventory.save_seq <= EXCLUDED.save_seq
+    """;
+
+        List<InventoryEntry> entryList = List.copyOf(entries);
+        ItemDao.insertMissingItemsBatch(conn, entryList.stream().map(InventoryEntry::item).toList());  // Required by the foreign key.
+
+        List<Item> appliedItems = new ArrayList<>(entryList.size());
+        try (PreparedStatement stmtInventory = conn.prepareStatement(sqlInventory)) {
+            for (InventoryEntry entry : entryList) {
+                setInventoryParameters(stmtInventory, characterId, entry);
+                stmtInventory.setLong(5, saveSeq);
+                stmtInventory.addBatch();
+            }
+
+            int[] results = stmtInventory.executeBatch();
+            for (int i = 0; i < results.length; i++) {
+                // A row count of 0 means that the row was written by a newer save
+                if (results[i] != 0) {
+                    appliedItems.add(entryList.get(i).item());
+                }
+            }
+        }
+        ItemDao.saveItemsBatch(conn, appliedItems);  // Save the Items themselves.
+    }
+
+    private static void setInventoryParameters(PreparedStatement stmt, int characterId, InventoryEntry entry) throws SQLException {
+        PGobject enumValue = new PGobject();
+        enumValue.setType("inventory_type_enum");
+        enumValue.setValue(entry.type().name());
+
+        stmt.setInt(1, characterId);
+        stmt.setObject(2, enumValue);
+        stmt.setInt(3, entry.slot());
+        // Item SN should be updated since we handled all items earlier.
+        stmt.setLong(4, entry.item().getItemSn());
+    }
+
+    /**
+     * Removes the given items from a character's inventory.
+     *
+     * Only rows that still belong to the character are deleted, so items that were moved to another
+     * character in the meantime are not affected.
+     *
+     * @param conn        the database connection to use
+     * @param characterId the ID of the character whose inventory should be cleaned
+     * @param itemSns     the serial numbers of the items to remove
+     * @throws SQLException if a database access error occurs
+     */
+    public static void deleteItems(Connection conn, int characterId, Collection<Long> itemSns) throws SQLException {
+        if (itemSns.isEmpty()) return;
+
+        try (PreparedStatement deleteStmt = conn.prepareStatement(
+                "DELETE FROM player.inventory WHERE character_id = ? AND item_sn = ANY (?)")) {
+            deleteStmt.setInt(1, characterId);
+            Array sqlArray = conn.createArrayOf("bigint", itemSns.toArray(Long[]::new));
+            deleteStmt.setArray(2, sqlArray);
+            deleteStmt.executeUpdate();
+        }
+    }
+
 
     /**
      * Remove inventory items that are no longer in use for a specific character.
@@ -146,33 +233,45 @@ public class InventoryDao {
      * @throws IllegalArgumentException if an unknown inventory type is encountered
      */
     public static InventoryManager loadInventoryManager(Connection conn, int characterId) throws SQLException {
-        InventoryManager im = new InventoryManager();
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_INVENTORY_SQL)) {
+            stmt.setInt(1, characterId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return readInventoryManager(rs);
+            }
+        }
+    }
 
-        String sql = """
+    static final String LOAD_INVENTORY_SQL = """
         SELECT inv.inventory_type, inv.slot, fi.*
         FROM player.inventory inv
         JOIN item.full_item fi ON inv.item_sn = fi.item_sn
         WHERE inv.character_id = ?
         ORDER BY inv.inventory_type, inv.slot
     """;
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, characterId);
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                int slot = rs.getInt("slot");
-                Item item = ItemDao.from(rs);
-
-                String invType = rs.getString("inventory_type");
-                switch (invType.toUpperCase()) {
-                    case "EQUIPPED" -> im.getEquipped().addItem(slot, item);
-                    case "EQUIP" -> im.getEquipInventory().addItem(slot, item);
-                    case "CONSUME" -> im.getConsumeInventory().addItem(slot, item);
-                    case "INSTALL" -> im.getInstallInventory().addItem(slot, item);
-                    case "ETC" -> im.getEtcInventory().addItem(slot, item);
-                    case "CASH" -> im.getCashInventory().addItem(slot, item);
-                    default -> throw new IllegalArgumentException("Unknown inventory type: " + invType);
-                }
+
+    /**
+     * Reads a character's inventory from the result of {@link #LOAD_INVENTORY_SQL}.
+     *
+     * @param rs the result set to read
+     * @return a fully populated {@link InventoryManager} containing all of the character's items
+     * @throws SQLException if a database access error occurs
+     * @throws IllegalArgumentException if an unknown inventory type is encountered
+     */
+    static InventoryManager readInventoryManager(ResultSet rs) throws SQLException {
+        InventoryManager im = new InventoryManager();
+        while (rs.next()) {
+            int slot = rs.getInt("slot");
+            Item item = ItemDao.from(rs);
+
+            String invType = rs.getString("inventory_type");
+            switch (invType.toUpperCase()) {
+                case "EQUIPPED" -> im.getEquipped().addItem(slot, item);
+                case "EQUIP" -> im.getEquipInventory().addItem(slot, item);
+                case "CONSUME" -> im.getConsumeInventory().addItem(slot, item);
+                case "INSTALL" -> im.getInstallInventory().addItem(slot, item);
+                case "ETC" -> im.getEtcInventory().addItem(slot, item);
+                case "CASH" -> im.getCashInventory().addItem(slot, item);
+                default -> throw new IllegalArgumentException("Unknown inventory type: " + invType);
             }
         }
 
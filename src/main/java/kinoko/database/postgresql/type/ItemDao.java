@@ -58,10 +58,12 @@ public class ItemDao {
      * Saves a collection of items to the database in batch.
      *
      * For each item, this method checks if it already has an item_sn:
-     * - If the item_sn is missing (<=0), a new one is generated and the item is inserted.
-     * - If the item_sn exists, the item is updated with the latest quantity, attributes, title, and expiration date.
+     * - If the item_sn is missing (<=0), a new one is generated and set on the item.
+     * - The item is then inserted, or updated with the latest quantity, attributes, title, and expiration date if a row
+     *   with its item_sn already exists.
      *
-     * This approach ensures efficient batch inserts for new items while keeping existing items up to date.
+     * This approach ensures efficient batch writes for new items while keeping existing items up to date. Items that were
+     * assigned an item_sn in advance, see {@link kinoko.database.ItemSnPool}, are inserted with that item_sn.
      *
      * @param conn  the active database connection
      * @param items the collection of items to insert or update
@@ -70,21 +72,16 @@ public class ItemDao {
     public static void saveItemsBatch(Connection conn, Collection<Item> items) throws SQLException {
         if (items.isEmpty()) return;
 
-        String sqlInsert = """
+        String sqlUpsert = """
                     INSERT INTO item.items (item_sn, item_id, cash, quantity, attribute, title, date_expire)
                     VALUES (?, ?, ?, ?, ?, ?, ?)
+                    ON CONFLICT (item_sn) DO UPDATE
+                    SET cash = EXCLUDED.cash, quantity = EXCLUDED.quantity, attribute = EXCLUDED.attribute,
+                        title = EXCLUDED.title, date_expire = EXCLUDED.date_expire
                 """;
 
-        String sqlUpdate = """
-                    UPDATE item.items
-                    SET cash = ?, quantity = ?, attribute = ?, title = ?, date_expire = ?
-                    WHERE item_sn = ?
-                """;
-
-        try (PreparedStatement stmtInsert = conn.prepareStatement(sqlInsert)) {
+        try (PreparedStatement stmtUpsert = conn.prepareStatement(sqlUpsert)) {
             for (Item item : items) {
-                long itemSn = item.getItemSn();
-
                 // Generate new item_sn if needed
                 if (item.hasNoSN()) {
                     try (PreparedStatement seqStmt = conn.prepareStatement(
@@ -93,36 +90,19 @@ public class ItemDao {
                         if (!rs.next()) {
                             throw new SQLException("Failed to generate item_sn: sequence query returned no results");
                         }
-                        itemSn = rs.getLong(1);
+                        long itemSn = rs.getLong(1);
                         if (itemSn <= 0) {
                             throw new SQLException("Generated invalid item_sn: " + itemSn);
                         }
                         item.setItemSn(itemSn);
                     }
-
-                    stmtInsert.setLong(1, itemSn);
-                    stmtInsert.setInt(2, item.getItemId());
-                    stmtInsert.setBoolean(3, item.isCash());
-                    stmtInsert.setInt(4, item.getQuantity());
-                    stmtInsert.setShort(5, item.getAttribute());
-                    stmtInsert.setString(6, item.getTitle());
-                    stmtInsert.setTimestamp(7, item.getDateExpire() != null ? Timestamp.from(item.getDateExpire()) : null);
-                    stmtInsert.addBatch();
-                } else {
-                    try (PreparedStatement stmtUpdate = conn.prepareStatement(sqlUpdate)) {
-                        stmtUpdate.setBoolean(1, item.isCash());
-                        stmtUpdate.setInt(2, item.getQuantity());
-                        stmtUpdate.setShort(3, item.getAttribute());
-                        stmtUpdate.setString(4, item.getTitle());
-                        stmtUpdate.setTimestamp(5, item.getDateExpire() != null ? Timestamp.from(item.getDateExpire()) : null);
-                        stmtUpdate.setLong(6, itemSn);
-                        stmtUpdate.executeUpdate();
-                    }
                 }
+                setItemParameters(stmtUpsert, item);
+                stmtUpsert.addBatch();
             }
 
-            // Execute all insert batches
-            stmtInsert.executeBatch();
+            // Execute all upsert batches
+            stmtUpsert.executeBatch();
             // Update all EquipData
             EquipDataDao.saveEquipDataBatch(conn, items);
             // Update all PetData
@@ -132,6 +112,44 @@ public class ItemDao {
         }
     }
 
+    /**
+     * Inserts the rows of items that do not exist yet in the `item.items` table, leaving existing rows untouched.
+     *
+     * This is used to satisfy foreign keys before the rows referencing the items are written. The items must already
+     * have an item_sn.
+     *
+     * @param conn  the active database connection
+     * @param items the collection of items to insert
+     * @throws SQLException if any SQL error occurs during insert
+     */
+    public static void insertMissingItemsBatch(Connection conn, Collection<Item> items) throws SQLException {
+        if (items.isEmpty()) return;
+
+        String sqlInsert = """
+                    INSERT INTO item.items (item_sn, item_id, cash, quantity, attribute, title, date_expire)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    ON CONFLICT (item_sn) DO NOTHING
+                """;
+
+        try (PreparedStatement stmtInsert = conn.prepareStatement(sqlInsert)) {
+            for (Item item : items) {
+                setItemParameters(stmtInsert, item);
+                stmtInsert.addBatch();
+            }
+            stmtInsert.executeBatch();
+        }
+    }
+
+    private static void setItemParameters(PreparedStatement stmt, Item item) throws SQLException {
+        stmt.setLong(1, item.getItemSn());
+        stmt.setInt(2, item.getItemId());
+        stmt.setBoolean(3, item.isCash());
+        stmt.setInt(4, item.getQuantity());
+        stmt.setShort(5, item.getAttribute());
+        stmt.setString(6, item.getTitle());
+        stmt.setTimestamp(7, item.getDateExpire() != null ? Timestamp.from(item.getDateExpire()) : null);
+    }
+
     /**
      * Constructs an Item instance from the provided ResultSet.
      * Extracts all relevant item data, including equipment, pet, and ring information if applicable.
@@ -20,28 +20,34 @@ public final class MapTransferInfoDao {
      * @throws SQLException if a database access error occurs
      */
     public static MapTransferInfo loadMapTransferInfo(Connection conn, int characterId) throws SQLException {
-        MapTransferInfo mti = new MapTransferInfo();
-
-        String sql = "SELECT map_ids, old_map_ids FROM player.map_transfer WHERE character_id = ?";
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_MAP_TRANSFER_SQL)) {
             stmt.setInt(1, characterId);
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    Array mapArray = rs.getArray("map_ids");
-                    Array oldMapArray = rs.getArray("old_map_ids");
-
-                    if (mapArray != null) {
-                        Integer[] mapIds = (Integer[]) mapArray.getArray();
-                        mti.getMapTransfer().addAll(Arrays.asList(mapIds));
-                    }
-                    if (oldMapArray != null) {
-                        Integer[] oldMapIds = (Integer[]) oldMapArray.getArray();
-                        mti.getMapTransferEx().addAll(Arrays.asList(oldMapIds));
-                    }
-                }
+                return readMapTransferInfo(rs);
             }
         }
+    }
+
+    static final String LOAD_MAP_TRANSFER_SQL = "SELECT map_ids, old_map_ids FROM player.map_transfer WHERE character_id = ?";
 
+    /**
+     * Reads the MapTransferInfo from the result of {@link #LOAD_MAP_TRANSFER_SQL}.
+     */
+    static MapTransferInfo readMapTransferInfo(ResultSet rs) throws SQLException {
+        MapTransferInfo mti = new MapTransferInfo();
+        if (rs.next()) {
+            Array mapArray = rs.getArray("map_ids");
+            Array oldMapArray = rs.getArray("old_map_ids");
+
+            if (mapArray != null) {
+                Integer[] mapIds = (Integer[]) mapArray.getArray();
+                mti.getMapTransfer().addAll(Arrays.asList(mapIds));
+            }
+            if (oldMapArray != null) {
+                Integer[] oldMapIds = (Integer[]) oldMapArray.getArray();
+                mti.getMapTransferEx().addAll(Arrays.asList(oldMapIds));
+            }
+        }
         return mti;
     }
 
@@ -21,32 +21,37 @@ public final class MiniGameRecordDao {
      * @throws SQLException if a database access error occurs
      */
     public static MiniGameRecord loadMiniGameRecord(Connection conn, int characterId) throws SQLException {
-        MiniGameRecord record = new MiniGameRecord();
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_MINIGAME_SQL)) {
+            stmt.setInt(1, characterId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return readMiniGameRecord(rs);
+            }
+        }
+    }
 
-        String sql = """
+    static final String LOAD_MINIGAME_SQL = """
             SELECT omok_wins, omok_ties, omok_losses, omok_score,
                    memory_wins, memory_ties, memory_losses, memory_score
             FROM player.minigame
             WHERE character_id = ?
         """;
 
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, characterId);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    record.setOmokGameWins(rs.getInt("omok_wins"));
-                    record.setOmokGameTies(rs.getInt("omok_ties"));
-                    record.setOmokGameLosses(rs.getInt("omok_losses"));
-                    record.setOmokGameScore(rs.getDouble("omok_score"));
+    /**
+     * Reads the MiniGameRecord from the result of {@link #LOAD_MINIGAME_SQL}.
+     */
+    static MiniGameRecord readMiniGameRecord(ResultSet rs) throws SQLException {
+        MiniGameRecord record = new MiniGameRecord();
+        if (rs.next()) {
+            record.setOmokGameWins(rs.getInt("omok_wins"));
+            record.setOmokGameTies(rs.getInt("omok_ties"));
+            record.setOmokGameLosses(rs.getInt("omok_losses"));
+            record.setOmokGameScore(rs.getDouble("omok_score"));
 
-                    record.setMemoryGameWins(rs.getInt("memory_wins"));
-                    record.setMemoryGameTies(rs.getInt("memory_ties"));
-                    record.setMemoryGameLosses(rs.getInt("memory_losses"));
-                    record.setMemoryGameScore(rs.getDouble("memory_score"));
-                }
-            }
+            record.setMemoryGameWins(rs.getInt("memory_wins"));
+            record.setMemoryGameTies(rs.getInt("memory_ties"));
+            record.setMemoryGameLosses(rs.getInt("memory_losses"));
+            record.setMemoryGameScore(rs.getDouble("memory_score"));
         }
-
         return record;
     }
 
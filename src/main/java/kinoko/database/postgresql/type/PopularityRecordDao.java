@@ -23,23 +23,28 @@ public final class PopularityRecordDao {
      * @throws SQLException if a database access error occurs
      */
     public static PopularityRecord loadPopularityRecord(Connection conn, int characterId) throws SQLException {
-        PopularityRecord pr = new PopularityRecord();
-
-        String sql = "SELECT other_character_id, timestamp FROM player.popularity WHERE character_id = ?";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_POPULARITY_SQL)) {
             stmt.setInt(1, characterId);
             try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    int otherCharId = rs.getInt("other_character_id");
-                    Timestamp ts = rs.getTimestamp("timestamp");
-                    if (ts != null) {
-                        pr.getRecords().put(otherCharId, ts.toInstant());
-                    }
-                }
+                return readPopularityRecord(rs);
             }
         }
+    }
+
+    static final String LOAD_POPULARITY_SQL = "SELECT other_character_id, timestamp FROM player.popularity WHERE character_id = ?";
 
+    /**
+     * Reads the PopularityRecord from the result of {@link #LOAD_POPULARITY_SQL}.
+     */
+    static PopularityRecord readPopularityRecord(ResultSet rs) throws SQLException {
+        PopularityRecord pr = new PopularityRecord();
+        while (rs.next()) {
+            int otherCharId = rs.getInt("other_character_id");
+            Timestamp ts = rs.getTimestamp("timestamp");
+            if (ts != null) {
+                pr.getRecords().put(otherCharId, ts.toInstant());
+            }
+        }
         return pr;
     }
 
@@ -7,6 +7,7 @@ import kinoko.world.user.CharacterData;
 
 import java.sql.*;
 import java.time.Instant;
+import java.util.Collection;
 
 public final class QuestManagerDao {
 
@@ -22,34 +23,43 @@ public final class QuestManagerDao {
      * @throws SQLException if a database access error occurs
      */
     public static QuestManager loadQuestRecords(Connection conn, int characterId) throws SQLException {
-        QuestManager qm = new QuestManager();
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_QUEST_RECORD_SQL)) {
+            stmt.setInt(1, characterId);
 
-        String sql = """
+            try (ResultSet rs = stmt.executeQuery()) {
+                return readQuestRecords(rs);
+            }
+        }
+    }
+
+    static final String LOAD_QUEST_RECORD_SQL = """
             SELECT quest_id, status, progress, completed_time
             FROM player.quest_record
             WHERE character_id = ?
         """;
 
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, characterId);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    int questId = rs.getInt("quest_id");
-                    int statusInt = rs.getInt("status");
-                    QuestState state = QuestState.getByValue(statusInt);
+    /**
+     * Reads all quest records from the result of {@link #LOAD_QUEST_RECORD_SQL}.
+     *
+     * @param rs the result set to read
+     * @return a fully populated QuestManager object
+     * @throws SQLException if a database access error occurs
+     */
+    static QuestManager readQuestRecords(ResultSet rs) throws SQLException {
+        QuestManager qm = new QuestManager();
+        while (rs.next()) {
+            int questId = rs.getInt("quest_id");
+            int statusInt = rs.getInt("status");
+            QuestState state = QuestState.getByValue(statusInt);
 
-                    String value = rs.getString("progress");
+            String value = rs.getString("progress");
 
-                    Timestamp completedTs = rs.getTimestamp("completed_time");
-                    Instant completedTime = completedTs != null ? completedTs.toInstant() : null;
+            Timestamp completedTs = rs.getTimestamp("completed_time");
+            Instant completedTime = completedTs != null ? completedTs.toInstant() : null;
 
-                    QuestRecord record = new QuestRecord(questId, state, value, completedTime);
-                    qm.addQuestRecord(record);
-                }
-            }
+            QuestRecord record = new QuestRecord(questId, state, value, completedTime);
+            qm.addQuestRecord(record);
         }
-
         return qm;
     }
 
@@ -64,6 +74,20 @@ public final class QuestManagerDao {
      * @throws SQLException if a database access error occurs
      */
     public static void saveCharacterQuests(Connection conn, CharacterData characterData) throws SQLException {
+        saveQuestRecords(conn, characterData.getCharacterId(), characterData.getQuestManager().getQuestRecords());
+    }
+
+    /**
+     * Saves or updates the given quest records of a character.
+     *
+     * @param conn the active database connection
+     * @param characterId the ID of the character owning the quest records
+     * @param questRecords the quest records to save
+     * @throws SQLException if a database access error occurs
+     */
+    public static void saveQuestRecords(Connection conn, int characterId, Collection<QuestRecord> questRecords) throws SQLException {
+        if (questRecords.isEmpty()) return;
+
         String sql = """
         INSERT INTO player.quest_record (character_id, quest_id, status, progress, completed_time)
         VALUES (?, ?, ?, ?, ?)
@@ -74,8 +98,8 @@ public final class QuestManagerDao {
         """;
 
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (QuestRecord qr : characterData.getQuestManager().getQuestRecords()) {
-                stmt.setInt(1, characterData.getCharacterId());
+            for (QuestRecord qr : questRecords) {
+                stmt.setInt(1, characterId);
                 stmt.setInt(2, qr.getQuestId());
                 stmt.setInt(3, qr.getState().getValue());
                 stmt.setString(4, qr.getValue());
@@ -45,7 +45,20 @@ public final class SkillMacrosDao {
      * Loads all macros for a character.
      */
     public static List<SingleMacro> loadMacros(Connection conn, int characterId) throws SQLException {
-        String sql = "SELECT macro_index, name, mute, skills FROM player.skill_macros WHERE character_id = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_MACROS_SQL)) {
+            stmt.setInt(1, characterId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return readMacros(rs);
+            }
+        }
+    }
+
+    static final String LOAD_MACROS_SQL = "SELECT macro_index, name, mute, skills FROM player.skill_macros WHERE character_id = ?";
+
+    /**
+     * Reads all macros from the result of {@link #LOAD_MACROS_SQL}.
+     */
+    static List<SingleMacro> readMacros(ResultSet rs) throws SQLException {
         SingleMacro[] macros = new SingleMacro[5];
 
         // Initialize all slots with default blank macros
@@ -53,19 +66,14 @@ public final class SkillMacrosDao {
             macros[i] = new SingleMacro("", false, new int[GameConstants.MACRO_SKILL_COUNT]);
         }
 
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, characterId);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    int index = rs.getInt("macro_index");
-                    if (index < 0 || index >= GameConstants.MACRO_SYS_DATA_SIZE) continue; // safety check
-                    String name = rs.getString("name");
-                    boolean mute = rs.getBoolean("mute");
-                    Integer[] skillsArray = (Integer[]) rs.getArray("skills").getArray();
-                    int[] skills = Arrays.stream(skillsArray).mapToInt(Integer::intValue).toArray();
-                    macros[index] = new SingleMacro(name, mute, skills);
-                }
-            }
+        while (rs.next()) {
+            int index = rs.getInt("macro_index");
+            if (index < 0 || index >= GameConstants.MACRO_SYS_DATA_SIZE) continue; // safety check
+            String name = rs.getString("name");
+            boolean mute = rs.getBoolean("mute");
+            Integer[] skillsArray = (Integer[]) rs.getArray("skills").getArray();
+            int[] skills = Arrays.stream(skillsArray).mapToInt(Integer::intValue).toArray();
+            macros[index] = new SingleMacro(name, mute, skills);
         }
 
         return Arrays.asList(macros);
@@ -7,6 +7,8 @@ import kinoko.world.user.CharacterData;
 
 import java.sql.*;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
 
 public final class SkillManagerDao {
 
@@ -25,38 +27,54 @@ public final class SkillManagerDao {
         SkillManager sm = new SkillManager();
 
         // Load skill cooldowns
-        String cooldownSql = "SELECT skill_id, cooldown_end FROM player.skill_cooltime WHERE character_id = ?";
-        try (PreparedStatement stmt = conn.prepareStatement(cooldownSql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_SKILL_COOLTIME_SQL)) {
             stmt.setInt(1, characterId);
             try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    int skillId = rs.getInt("skill_id");
-                    Timestamp cooldownEnd = rs.getTimestamp("cooldown_end");
-                    if (cooldownEnd != null) {
-                        sm.getSkillCooltimes().put(skillId, cooldownEnd.toInstant());
-                    }
-                }
+                readSkillCooltimes(sm, rs);
             }
         }
 
         // Load skill records
-        String recordSql = "SELECT skill_id, level, master_level FROM player.skill_record WHERE character_id = ?";
-        try (PreparedStatement stmt = conn.prepareStatement(recordSql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_SKILL_RECORD_SQL)) {
             stmt.setInt(1, characterId);
             try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    int skillId = rs.getInt("skill_id");
-                    int level = rs.getInt("level");
-                    int masterLevel = rs.getInt("master_level");
-                    SkillRecord record = new SkillRecord(skillId, level, masterLevel);
-                    sm.addSkill(record);
-                }
+                readSkillRecords(sm, rs);
             }
         }
 
         return sm;
     }
 
+    static final String LOAD_SKILL_COOLTIME_SQL = "SELECT skill_id, cooldown_end FROM player.skill_cooltime WHERE character_id = ?";
+
+    static final String LOAD_SKILL_RECORD_SQL = "SELECT skill_id, level, master_level FROM player.skill_record WHERE character_id = ?";
+
+    /**
+     * Reads skill cooldowns from the result of {@link #LOAD_SKILL_COOLTIME_SQL} into the SkillManager.
+     */
+    static void readSkillCooltimes(SkillManager sm, ResultSet rs) throws SQLException {
+        while (rs.next()) {
+            int skillId = rs.getInt("skill_id");
+            Timestamp cooldownEnd = rs.getTimestamp("cooldown_end");
+            if (cooldownEnd != null) {
+                sm.getSkillCooltimes().put(skillId, cooldownEnd.toInstant());
+            }
+        }
+    }
+
+    /**
+     * Reads skill records from the result of {@link #LOAD_SKILL_RECORD_SQL} into the SkillManager.
+     */
+    static void readSkillRecords(SkillManager sm, ResultSet rs) throws SQLException {
+        while (rs.next()) {
+            int skillId = rs.getInt("skill_id");
+            int level = rs.getInt("level");
+            int masterLevel = rs.getInt("master_level");
+            SkillRecord record = new SkillRecord(skillId, level, masterLevel);
+            sm.addSkill(record);
+        }
+    }
+
     /**
      * Saves or updates all skill-related data for the given character, including:
      * - Skill levels and master levels
@@ -68,6 +86,21 @@ public final class SkillManagerDao {
      * @throws SQLException if a database access error occurs
      */
     public static void saveCharacterSkills(Connection conn, CharacterData characterData) throws SQLException {
+        saveSkillRecords(conn, characterData.getCharacterId(), characterData.getSkillManager().getSkillRecords());
+        saveSkillCooltimes(conn, characterData.getCharacterId(), characterData.getSkillManager().getSkillCooltimes());
+    }
+
+    /**
+     * Saves or updates the given skill records (level and master level) of a character.
+     *
+     * @param conn the active database connection
+     * @param characterId the ID of the character owning the skill records
+     * @param skillRecords the skill records to save
+     * @throws SQLException if a database access error occurs
+     */
+    public static void saveSkillRecords(Connection conn, int characterId, Collection<SkillRecord> skillRecords) throws SQLException {
+        if (skillRecords.isEmpty()) return;
+
         String skillRecordSql = """
         INSERT INTO player.skill_record (character_id, skill_id, level, master_level)
         VALUES (?, ?, ?, ?)
@@ -76,8 +109,8 @@ public final class SkillManagerDao {
         """;
 
         try (PreparedStatement stmt = conn.prepareStatement(skillRecordSql)) {
-            for (SkillRecord sr : characterData.getSkillManager().getSkillRecords()) {
-                stmt.setInt(1, characterData.getCharacterId());
+            for (SkillRecord sr : skillRecords) {
+                stmt.setInt(1, characterId);
                 stmt.setInt(2, sr.getSkillId());
                 stmt.setInt(3, sr.getSkillLevel());
                 stmt.setInt(4, sr.getMasterLevel());
@@ -85,6 +118,18 @@ public final class SkillManagerDao {
             }
             stmt.executeBatch();
         }
+    }
+
+    /**
+     * Saves or updates the given skill cooltimes of a character.
+     *
+     * @param conn the active database connection
+     * @param characterId the ID of the character owning the skill cooltimes
+     * @param skillCooltimes the skill cooltimes to save, mapped by skill ID
+     * @throws SQLException if a database access error occurs
+     */
+    public static void saveSkillCooltimes(Connection conn, int characterId, Map<Integer, Instant> skillCooltimes) throws SQLException {
+        if (skillCooltimes.isEmpty()) return;
 
         // Save skill cooltimes
         String skillCooltimeSql = """
@@ -94,10 +139,10 @@ public final class SkillManagerDao {
         DO UPDATE SET cooldown_end = EXCLUDED.cooldown_end
         """;
         try (PreparedStatement stmt = conn.prepareStatement(skillCooltimeSql)) {
-            for (var entry : characterData.getSkillManager().getSkillCooltimes().entrySet()) {
+            for (var entry : skillCooltimes.entrySet()) {
                 int skillId = entry.getKey();
                 Instant endTime = entry.getValue();
-                stmt.setInt(1, characterData.getCharacterId());
+                stmt.setInt(1, characterId);
                 stmt.setInt(2, skillId);
                 stmt.setTimestamp(3, Timestamp.from(endTime));
                 stmt.addBatch();
@@ -21,32 +21,47 @@ public final class WildHunterInfoDao {
     public static WildHunterInfo loadWildHunterInfo(Connection conn, int characterId) throws SQLException {
         WildHunterInfo wh = new WildHunterInfo();
 
-        String sqlRiding = "SELECT riding_type FROM player.wild_hunter WHERE character_id = ?";
-        String sqlMobs = "SELECT mob_id FROM player.wild_hunter_mob WHERE character_id = ?";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sqlRiding)) {
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_RIDING_TYPE_SQL)) {
             stmt.setInt(1, characterId);
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    wh.setRidingType(rs.getInt("riding_type"));
-                }
+                readRidingType(wh, rs);
             }
         }
 
         // Load captured mobs
-        try (PreparedStatement stmt = conn.prepareStatement(sqlMobs)) {
+        try (PreparedStatement stmt = conn.prepareStatement(LOAD_CAPTURED_MOBS_SQL)) {
             stmt.setInt(1, characterId);
             try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    wh.getCapturedMobs().add(rs.getInt("mob_id"));
-                    if (wh.getCapturedMobs().size() >= 5) break; // enforce max 5
-                }
+                readCapturedMobs(wh, rs);
             }
         }
 
         return wh;
     }
 
+    static final String LOAD_RIDING_TYPE_SQL = "SELECT riding_type FROM player.wild_hunter WHERE character_id = ?";
+
+    static final String LOAD_CAPTURED_MOBS_SQL = "SELECT mob_id FROM player.wild_hunter_mob WHERE character_id = ?";
+
+    /**
+     * Reads the riding type from the result of {@link #LOAD_RIDING_TYPE_SQL} into the WildHunterInfo.
+     */
+    static void readRidingType(WildHunterInfo wh, ResultSet rs) throws SQLException {
+        if (rs.next()) {
+            wh.setRidingType(rs.getInt("riding_type"));
+        }
+    }
+
+    /**
+     * Reads up to 5 captured mobs from the result of {@link #LOAD_CAPTURED_MOBS_SQL} into the WildHunterInfo.
+     */
+    static void readCapturedMobs(WildHunterInfo wh, ResultSet rs) throws SQLException {
+        while (rs.next()) {
+            wh.getCapturedMobs().add(rs.getInt("mob_id"));
+            if (wh.getCapturedMobs().size() >= 5) break; // enforce max 5
+        }
+    }
+
     /**
      * Saves WildHunterInfo for the specified character.
      *
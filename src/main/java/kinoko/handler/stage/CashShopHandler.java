@@ -13,6 +13,7 @@ import kinoko.server.cashshop.*;
 import kinoko.server.header.InHeader;
 import kinoko.server.memo.Memo;
 import kinoko.server.memo.MemoType;
+import kinoko.server.node.ServerExecutor;
 import kinoko.server.packet.InPacket;
 import kinoko.util.Tuple;
 import kinoko.world.GameConstants;
@@ -185,9 +186,7 @@ public final class CashShopHandler {
                 user.write(CashShopPacket.queryCashResult(account)); // the order is important here
 
                 // Send memo
-                if (!sendGiftMemo(user, receiverCharacterId)) {
-                    user.write(CashShopPacket.fail(CashItemResultType.Gift_Failed, CashItemFailReason.Unknown)); // Due to an unknown error, the request for Cash Shop has failed.
-                }
+                sendGiftMemo(user, receiverCharacterId, CashItemResultType.Gift_Failed);
             }
             case SetWish -> {
                 // CCashShop::OnSetWish
@@ -632,9 +631,7 @@ public final class CashShopHandler {
                 user.write(CashShopPacket.coupleDone(cashItemInfo, receiverCharacterName, commodity.getItemId()));
 
                 // Send memo
-                if (!sendGiftMemo(user, receiverCharacterId)) {
-                    user.write(CashShopPacket.fail(CashItemResultType.Couple_Failed, CashItemFailReason.Unknown)); // Due to an unknown error, the request for Cash Shop has failed.
-                }
+                sendGiftMemo(user, receiverCharacterId, CashItemResultType.Couple_Failed);
             }
             case PurchaseRecord -> {
                 // CCashShop::RequestCashPurchaseRecord
@@ -786,11 +783,12 @@ public final class CashShopHandler {
         return true;
     }
 
-    private static boolean sendGiftMemo(User user, int receiverCharacterId) {
+    private static void sendGiftMemo(User user, int receiverCharacterId, CashItemResultType failType) {
         // Create memo
         final Optional<Integer> memoIdResult = DatabaseManager.idAccessor().nextMemoId();
         if (memoIdResult.isEmpty()) {
-            return false;
+            user.write(CashShopPacket.fail(failType, CashItemFailReason.Unknown)); // Due to an unknown error, the request for Cash Shop has failed.
+            return;
         }
         final Memo memo = new Memo(
                 MemoType.DEFAULT,
@@ -799,12 +797,15 @@ public final class CashShopHandler {
                 user.getCharacterName() + " has sent you a gift! Go check out the Cash Shop.",
                 Instant.now()
         );
-        // Save memo and update client
-        if (!DatabaseManager.memoAccessor().newMemo(memo, receiverCharacterId)) {
-            return false;
-        }
-        // Notify memo recipient
-        user.getConnectedServer().submitUserPacketReceive(receiverCharacterId, MemoPacket.receive());
-        return true;
+        // Save memo without blocking the user, the gift has already been recorded
+        DatabaseManager.memoAccessor().newMemoAsync(memo, receiverCharacterId).whenComplete((result, e) -> ServerExecutor.submit(user, () -> {
+            if (e != null || !result) {
+                log.error("Could not save gift memo for character ID : {}", receiverCharacterId, e);
+                user.write(CashShopPacket.fail(failType, CashItemFailReason.Unknown)); // Due to an unknown error, the request for Cash Shop has failed.
+                return;
+            }
+            // Notify memo recipient
+            user.getConnectedServer().submitUserPacketReceive(receiverCharacterId, MemoPacket.receive());
+        }));
     }
 }
@@ -15,6 +15,7 @@ import kinoko.server.migration.MigrationInfo;
 import kinoko.server.migration.TransferInfo;
 import kinoko.server.node.ChannelInfo;
 import kinoko.server.node.Client;
+import kinoko.server.node.LoginAdmission;
 import kinoko.server.node.LoginServerNode;
 import kinoko.server.packet.InPacket;
 import kinoko.world.GameConstants;
@@ -60,7 +61,12 @@ public final class LoginHandler {
         Optional<Account> accountResult = DatabaseManager.accountAccessor().getAccountByUsername(username);
         if (accountResult.isEmpty()) {
             if (ServerConfig.AUTO_CREATE_ACCOUNT) {
-                DatabaseManager.accountAccessor().newAccount(username, password);
+                // Account creation hashes the password
+                final Optional<Boolean> createResult = LoginAdmission.authenticate(() -> DatabaseManager.accountAccessor().newAccount(username, password));
+                if (createResult.isEmpty()) {
+                    c.write(LoginPacket.checkPasswordResultFail(LoginResultType.WorldTooBusy));
+                    return;
+                }
                 // allow an instant login
                 accountResult = DatabaseManager.accountAccessor().getAccountByUsername(username);
             }
@@ -85,9 +91,16 @@ public final class LoginHandler {
             }
 
             // Check password
-            if (!ServerConfig.TESPIA && !DatabaseManager.accountAccessor().checkPassword(account, password, false)) {
-                c.write(LoginPacket.checkPasswordResultFail(LoginResultType.IncorrectPassword));
-                return;
+            if (!ServerConfig.TESPIA) {
+                final Optional<Boolean> checkResult = LoginAdmission.authenticate(() -> DatabaseManager.accountAccessor().checkPassword(account, password, false));
+                if (checkResult.isEmpty()) {
+                    c.write(LoginPacket.checkPasswordResultFail(LoginResultType.WorldTooBusy));
+                    return;
+                }
+                if (!checkResult.get()) {
+                    c.write(LoginPacket.checkPasswordResultFail(LoginResultType.IncorrectPassword));
+                    return;
+                }
             }
 
             if (account.getBanInfo().isBanned()){
@@ -1,5 +1,7 @@
 package kinoko.handler.stage;
 
+import kinoko.database.CharacterSaveService;
+import kinoko.database.CharacterSaveState;
 import kinoko.database.DatabaseManager;
 import kinoko.handler.Handler;
 import kinoko.handler.user.FriendHandler;
@@ -21,8 +23,8 @@ import kinoko.server.cashshop.Gift;
 import kinoko.server.field.InstanceFieldStorage;
 import kinoko.server.guild.GuildRequest;
 import kinoko.server.header.InHeader;
-import kinoko.server.memo.Memo;
 import kinoko.server.messenger.MessengerRequest;
+import kinoko.server.migration.MigrationHandoff;
 import kinoko.server.migration.MigrationInfo;
 import kinoko.server.migration.TransferInfo;
 import kinoko.server.node.CentralServerNode;
@@ -50,6 +52,7 @@ import org.apache.logging.log4j.Logger;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReentrantLock;
 
 public final class MigrationHandler {
@@ -83,9 +86,18 @@ public final class MigrationHandler {
                 c.close();
                 return;
             }
-            // Load account
             final MigrationInfo migrationInfo = migrationResult.get();
-            final Optional<Account> accountResult = DatabaseManager.accountAccessor().getAccountById(migrationInfo.getAccountId());
+            final Optional<MigrationHandoff> handoffResult = Server.getCentralServerNode().completeMigrationHandoff(migrationInfo.getAccountId(), characterId);
+            if (handoffResult.isEmpty()) {
+                // Wait for any pending save from a previous session before loading from the database, the pending save
+                // of a handed over character is chained with the saves of this channel instead
+                CharacterSaveService.awaitSave(characterId);
+            }
+
+            // Load account
+            final Optional<Account> accountResult = handoffResult.isPresent() ?
+                    Optional.of(handoffResult.get().getAccount()) :
+                    DatabaseManager.accountAccessor().getAccountById(migrationInfo.getAccountId());
             if (accountResult.isEmpty()) {
                 log.error("Could not retrieve account with ID : {}", migrationInfo.getAccountId());
                 c.close();
@@ -101,7 +113,9 @@ public final class MigrationHandler {
             c.setAccount(account);
 
             // Load character data
-            final Optional<CharacterData> characterResult = DatabaseManager.characterAccessor().getCharacterById(characterId);
+            final Optional<CharacterData> characterResult = handoffResult.isPresent() ?
+                    Optional.of(handoffResult.get().getCharacterData()) :
+                    DatabaseManager.characterAccessor().getCharacterById(characterId);
             if (characterResult.isEmpty()) {
                 log.error("Could not retrieve character with ID : {}", characterId);
                 c.close();
@@ -113,15 +127,31 @@ public final class MigrationHandler {
                 c.close();
                 return;
             }
+            if (handoffResult.isPresent()) {
+                // Resume from the last committed save, in case the save of the source channel failed
+                CharacterSaveService.track(characterData, handoffResult.get().getSaveState());
+            } else {
+                CharacterSaveService.track(characterData);
+            }
 
             // Initialize User
             final User user = new User(c, characterData);
 
             // Set User's Family Info and broadcast initial family packet.
             CentralServerNode centralServerNode = Server.getCentralServerNode();
-            user.setFamilyInfo(centralServerNode.getFamilyInfo(user.getId()));  // under a lock
-            user.write(FamilyPacket.userFamilyInfo(user));  // no lock needed
-            user.write(FamilyPacket.loadFamilyEntitlements(!user.getFamilyInfo().hasFamily()));
+            final CompletableFuture<FamilyMember> familyFuture = centralServerNode.loadFamilyInfo(user.getId());  // under a lock
+            if (familyFuture.isDone() && !familyFuture.isCompletedExceptionally()) {
+                setFamilyInfo(user, familyFuture.join());
+            } else {
+                // Family tree is loaded from the database, the user has no family until it is loaded
+                user.setFamilyInfo(FamilyMember.EMPTY);
+                familyFuture.thenAccept((familyInfo) -> {
+                    ServerExecutor.submit(user, () -> setFamilyInfo(user, familyInfo));
+                }).exceptionally((e) -> {
+                    log.error("Exception caught while loading family for character ID : {}", user.getCharacterId(), e);
+                    return null;
+                });
+            }
 
             user.setMessengerId(migrationInfo.getMessengerId()); // this is required before user connect
             if (channelServerNode.isConnected(user)) {
@@ -219,10 +249,14 @@ public final class MigrationHandler {
                 }
 
                 // Load memos
-                final List<Memo> memos = DatabaseManager.memoAccessor().getMemosByCharacterId(user.getCharacterId());
-                if (!memos.isEmpty()) {
-                    user.write(MemoPacket.load(memos));
-                }
+                DatabaseManager.memoAccessor().getMemosByCharacterIdAsync(user.getCharacterId()).thenAccept((memos) -> {
+                    if (!memos.isEmpty()) {
+                        ServerExecutor.submit(user, () -> user.write(MemoPacket.load(memos)));
+                    }
+                }).exceptionally((e) -> {
+                    log.error("Exception caught while loading memos for character ID : {}", user.getCharacterId(), e);
+                    return null;
+                });
 
                 // Load friends
                 FriendHandler.loadFriends(user, (friendMap) -> {
@@ -475,15 +509,21 @@ public final class MigrationHandler {
                 user.write(FieldPacket.transferChannelReqIgnored(TransferChannelType.GAMESVR_DISCONNECTED)); // Cannot move to that Channel
                 return;
             }
-            // Logout user and save
+            // Logout user, hand over the live data to the target channel and save in the background
             user.logout(false);
             user.setInTransfer(true);
-            DatabaseManager.accountAccessor().saveAccount(account);
-            DatabaseManager.characterAccessor().saveCharacter(user.getCharacterData());
+            final CharacterSaveState saveState = CharacterSaveService.transfer(user.getCharacterData(), account);
+            Server.getCentralServerNode().submitMigrationHandoff(MigrationHandoff.from(account, user.getCharacterData(), saveState));
 
             // Send migrate command
             final TransferInfo transferInfo = transferResult.get();
             user.write(ClientPacket.migrateCommand(transferInfo.getChannelHost(), transferInfo.getChannelPort()));
         });
     }
+
+    private static void setFamilyInfo(User user, FamilyMember familyInfo) {
+        user.setFamilyInfo(familyInfo);
+        user.write(FamilyPacket.userFamilyInfo(user));  // no lock needed
+        user.write(FamilyPacket.loadFamilyEntitlements(!user.getFamilyInfo().hasFamily()));
+    }
 }
@@ -6,10 +6,10 @@ import kinoko.packet.world.WvsContext;
 import kinoko.server.Server;
 
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
 
 import kinoko.server.ServerConstants;
 import kinoko.server.family.FamilyEntitlement;
+import kinoko.server.family.FamilyLock;
 import kinoko.server.family.FamilyResultType;
 import kinoko.server.family.FamilyTree;
 import kinoko.server.header.InHeader;
@@ -39,7 +39,7 @@ public final class FamilyHandler {
      * Handles a client's request for their family information.
      *
      * This method sends the user's FamilyMember information back to the client
-     * by encoding it into a FamilyInfoResult packet. No global family lock is required
+     * by encoding it into a FamilyInfoResult packet. No family lock is required
      * here because the user already holds a snapshot of their FamilyMember.
      *
      * Since this snapshot is local to the user and not shared mutable state,
@@ -57,7 +57,7 @@ public final class FamilyHandler {
      * Handles a client's request for their family chart.
      *
      * This method generates a FamilyChart packet for the user by reading shared
-     * family data. The global family lock is acquired only while constructing
+     * family data. The family lock is acquired only while constructing
      * the packet to ensure thread-safe access to shared FamilyTree and FamilyMember
      * objects. Once the packet is created, the lock is released before sending
      * it to the user, since writing the packet does not require access to shared data.
@@ -71,19 +71,14 @@ public final class FamilyHandler {
     @Handler(InHeader.FamilyChartRequest)
     public static void handleFamilyChartRequest(User user, InPacket inPacket) {
         CentralServerNode centralServerNode = Server.getCentralServerNode();
-        ReentrantLock lock = centralServerNode.getGlobalFamilyLock();
-        lock.lock();
 
         OutPacket outPacket;
-        try {
+        try (FamilyLock ignored = centralServerNode.lockFamilies(user.getCharacterId())) {
             outPacket = FamilyPacket.userFamilyChart(user);
             if (outPacket == null){
                 return;
             }
         }
-        finally {
-            lock.unlock();
-        }
 
         user.write(outPacket);
     }
@@ -94,7 +89,7 @@ public final class FamilyHandler {
      *
      * This method:
      * - Validates that the inviter exists and both users are eligible.
-     * - Locks the global family structure to safely update FamilyMember objects
+     * - Locks the families of both users to safely update FamilyMember objects
      *   and FamilyTrees.
      * - Updates parent/child relationships and moves any subtrees as needed.
      * - Prepares response packets inside the lock, then sends them after unlocking.
@@ -122,9 +117,7 @@ public final class FamilyHandler {
         OutPacket outToUser;
         OutPacket outToSenior;
 
-        ReentrantLock lock = centralServerNode.getGlobalFamilyLock();
-        lock.lock();
-        try {
+        try (FamilyLock ignored = centralServerNode.lockFamilies(user.getCharacterId(), inviterID)) {
             FamilyMember userMember;
 
             if (user.getFamilyInfo().isDefault()) {
@@ -199,9 +192,6 @@ public final class FamilyHandler {
             outToSenior = FamilyPacket.createFamilyJoinRequestResult(user.getCharacterName(), accepted);
             outToUser = FamilyPacket.createFamilyJoinAccepted(inviterName);
         }
-        finally {
-            lock.unlock();
-        }
 
         // send packets outside of lock
         user.write(outToUser);
@@ -217,7 +207,7 @@ public final class FamilyHandler {
      * Handles a request to register another user as the sender's junior in the family system.
      *
      * Validates that the target exists, meets level requirements, is not already a junior,
-     * and is not in the same family. Uses a global family lock to ensure thread-safe access
+     * and is not in the same family. Uses the family lock of both users to ensure thread-safe access
      * to the family tree during validation and invite creation. If all checks pass, sends a
      * family invite to the target. Otherwise, sends an appropriate error to the sender.
      *
@@ -260,9 +250,7 @@ public final class FamilyHandler {
         OutPacket userPacket = null;
         OutPacket targetPacket = null;
 
-        ReentrantLock lock = centralServerNode.getGlobalFamilyLock();
-        lock.lock();
-        try {
+        try (FamilyLock ignored = centralServerNode.lockFamilies(user.getCharacterId(), targetUser.getCharacterId())) {
             // make sure both are not in the same family
             Optional<FamilyTree> userTreeOpt = centralServerNode.getFamilyTree(user.getCharacterId());
             Optional<FamilyTree> targetTreeOpt = centralServerNode.getFamilyTree(targetUser.getCharacterId());
@@ -273,9 +261,6 @@ public final class FamilyHandler {
                 targetPacket = FamilyPacket.createFamilyInvite(user);  // can invite
             }
         }
-        finally {
-            lock.unlock();
-        }
 
         // send outside the lock
         if (userPacket != null){
@@ -300,9 +285,7 @@ public final class FamilyHandler {
         }
 
         CentralServerNode centralServerNode = Server.getCentralServerNode();
-        ReentrantLock lock = centralServerNode.getGlobalFamilyLock();
-        lock.lock();
-        try {
+        try (FamilyLock ignored = centralServerNode.lockFamilies(user.getCharacterId())) {
             Optional<FamilyTree> userTreeOpt = centralServerNode.getFamilyTree(user.getCharacterId());
             if (userTreeOpt.isPresent()) {
                 FamilyTree userTree = userTreeOpt.get();
@@ -311,8 +294,6 @@ public final class FamilyHandler {
             } else {
                 feedbackMessage = "Failed to set your family message to: " + message;
             }
-        } finally {
-            lock.unlock();
         }
 
         user.systemMessage(feedbackMessage);
@@ -371,7 +352,7 @@ public final class FamilyHandler {
     /**
      * Handles a request to unregister a junior from the user's family.
      *
-     * The global family lock is used while validating the user and junior,
+     * The family lock of the user and junior is used while validating the user and junior,
      * and while modifying the family trees to ensure thread-safe updates.
      * Once packets are prepared, the lock is released before sending them
      * to the user and junior, as writing packets does not require locking.
@@ -391,9 +372,7 @@ public final class FamilyHandler {
         OutPacket userResultPacket;
         Optional<User> juniorUserOpt = Optional.empty();
 
-        ReentrantLock lock = centralServerNode.getGlobalFamilyLock();
-        lock.lock();
-        try {
+        try (FamilyLock ignored = centralServerNode.lockFamilies(user.getCharacterId(), juniorId)) {
             FamilyUnregisterResult result = processFamilyUnregister(
                     Objects.requireNonNull(centralServerNode.getUserByCharacterId(juniorId).orElse(null)),
                     user
@@ -407,9 +386,6 @@ public final class FamilyHandler {
                 juniorUserOpt = centralServerNode.getUserByCharacterId(juniorId);
             }
         }
-        finally {
-            lock.unlock();
-        }
 
         user.write(userResultPacket);
         // update the entitlements the user sees.
@@ -431,7 +407,7 @@ public final class FamilyHandler {
      *
      * This removes the user from their parent's family tree and creates a separate tree
      * if necessary. Costs (mesos for the junior, reputation loss for senior/grand-senior)
-     * are applied before separation. Thread safety is ensured via the global family lock.
+     * are applied before separation. Thread safety is ensured via the family lock.
      *
      * If the user has no parent, or the parent tree is invalid, an error packet is sent.
      * On success, the junior is notified, and the parent (if online) is informed.
@@ -444,12 +420,8 @@ public final class FamilyHandler {
         CentralServerNode centralServerNode = Server.getCentralServerNode();
         FamilyUnregisterResult result;
 
-        ReentrantLock lock = centralServerNode.getGlobalFamilyLock();
-        lock.lock();
-        try {
+        try (FamilyLock ignored = centralServerNode.lockFamilies(user.getCharacterId())) {
             result = processFamilyUnregister(user, user);
-        } finally {
-            lock.unlock();
         }
 
         user.write(result.resultPacket());
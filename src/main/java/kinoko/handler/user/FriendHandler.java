@@ -16,6 +16,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public final class FriendHandler {
@@ -132,12 +133,24 @@ public final class FriendHandler {
     }
 
     public static void loadFriends(User user, Consumer<Map<Integer, Friend>> consumer) {
+        // Both directions of the friend list are queried concurrently, without blocking the caller
+        final CompletableFuture<List<Friend>> friendsFuture = DatabaseManager.friendAccessor().getFriendsByCharacterIdAsync(user.getCharacterId());
+        final CompletableFuture<List<Friend>> mutualFriendsFuture = DatabaseManager.friendAccessor().getFriendsByFriendIdAsync(user.getCharacterId());
+        friendsFuture.thenAcceptBoth(mutualFriendsFuture, (friends, mutualFriends) -> {
+            loadFriends(user, friends, mutualFriends, consumer);
+        }).exceptionally((e) -> {
+            log.error("Exception caught while loading friends for character ID : {}", user.getCharacterId(), e);
+            return null;
+        });
+    }
+
+    private static void loadFriends(User user, List<Friend> friends, List<Friend> mutualFriendList, Consumer<Map<Integer, Friend>> consumer) {
         final Map<Integer, Friend> friendMap = new HashMap<>();
-        for (Friend friend : DatabaseManager.friendAccessor().getFriendsByCharacterId(user.getCharacterId())) {
+        for (Friend friend : friends) {
             friendMap.put(friend.getFriendId(), friend);
         }
         final List<String> mutualFriends = new ArrayList<>();
-        for (Friend mutualFriend : DatabaseManager.friendAccessor().getFriendsByFriendId(user.getCharacterId())) {
+        for (Friend mutualFriend : mutualFriendList) {
             if (mutualFriend.getStatus() != FriendStatus.NORMAL) {
                 continue;
             }
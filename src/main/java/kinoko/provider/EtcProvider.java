@@ -9,14 +9,18 @@ import kinoko.provider.wz.serialize.WzProperty;
 import kinoko.server.ServerConfig;
 import kinoko.server.cashshop.Commodity;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.*;
 
 public final class EtcProvider implements WzProvider {
     public static final Path ETC_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Etc.wz");
+    private static final String SNAPSHOT_NAME = "commodity";
     // Item info
     private static final List<SetItemInfo> setItemInfos = new ArrayList<>();
+    private static final Map<Integer, List<SetItemInfo>> setItemInfosByItem = new HashMap<>(); // item id -> set item infos
     private static final Map<Integer, ItemMakeInfo> itemMakeInfos = new HashMap<>();
     // CashShop info
     private static final Map<Integer, Commodity> commodities = new HashMap<>(); // commodity id -> commodity
@@ -30,7 +34,19 @@ public final class EtcProvider implements WzProvider {
         try (final WzPackage source = WzPackage.from(ETC_WZ)) {
             loadSetItemInfo(source);
             loadItemMakeInfo(source);
-            loadCashShop(source);
+            if (ServerConfig.PROVIDER_SNAPSHOT) {
+                // Commodity.img is only parsed if the snapshot is out of date
+                final long checksum = ProviderSnapshot.checksum(List.of(ETC_WZ));
+                final Optional<ByteBuffer> snapshot = ProviderSnapshot.read(SNAPSHOT_NAME, checksum);
+                if (snapshot.isPresent()) {
+                    readSnapshot(snapshot.get());
+                } else {
+                    loadCashShop(source);
+                    ProviderSnapshot.write(SNAPSHOT_NAME, checksum, EtcProvider::writeSnapshot);
+                }
+            } else {
+                loadCashShop(source);
+            }
             loadTitleQuestIds(source);
             loadForbiddenNames(source);
             loadMakeCharInfo(source);
@@ -43,6 +59,10 @@ public final class EtcProvider implements WzProvider {
         return setItemInfos;
     }
 
+    public static List<SetItemInfo> getSetItemInfos(int itemId) {
+        return setItemInfosByItem.getOrDefault(itemId, List.of());
+    }
+
     public static Optional<ItemMakeInfo> getItemMakeInfo(int itemId) {
         return Optional.of(itemMakeInfos.get(itemId));
     }
@@ -75,7 +95,11 @@ public final class EtcProvider implements WzProvider {
             if (!(entry.getValue() instanceof WzProperty setItemProp)) {
                 throw new ProviderError("Could not resolve set item info prop");
             }
-            setItemInfos.add(SetItemInfo.from(setItemProp));
+            final SetItemInfo setItemInfo = SetItemInfo.from(setItemProp);
+            setItemInfos.add(setItemInfo);
+            for (int itemId : setItemInfo.getItems()) {
+                setItemInfosByItem.computeIfAbsent(itemId, (key) -> new ArrayList<>()).add(setItemInfo);
+            }
         }
     }
 
@@ -98,6 +122,45 @@ public final class EtcProvider implements WzProvider {
         }
     }
 
+    private static void readSnapshot(ByteBuffer buffer) {
+        final int commodityCount = buffer.getInt();
+        for (int i = 0; i < commodityCount; i++) {
+            final int commodityId = buffer.getInt();
+            commodities.put(commodityId, new Commodity(commodityId, buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.get() != 0));
+        }
+        final int packageCount = buffer.getInt();
+        for (int i = 0; i < packageCount; i++) {
+            final int packageId = buffer.getInt();
+            final int size = buffer.getInt();
+            final List<Integer> commodityIds = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                commodityIds.add(buffer.getInt());
+            }
+            cashPackages.put(packageId, Collections.unmodifiableList(commodityIds));
+        }
+    }
+
+    private static void writeSnapshot(DataOutputStream out) throws IOException {
+        out.writeInt(commodities.size());
+        for (Commodity commodity : commodities.values()) {
+            out.writeInt(commodity.getCommodityId());
+            out.writeInt(commodity.getItemId());
+            out.writeInt(commodity.getCount());
+            out.writeInt(commodity.getPrice());
+            out.writeInt(commodity.getPeriod());
+            out.writeInt(commodity.getGender());
+            out.writeBoolean(commodity.isOnSale());
+        }
+        out.writeInt(cashPackages.size());
+        for (var entry : cashPackages.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (int commodityId : entry.getValue()) {
+                out.writeInt(commodityId);
+            }
+        }
+    }
+
     private static void loadCashShop(WzPackage source) throws ProviderError {
         // Load commodities
         if (!((WzImage) source.getItem("Commodity.img") instanceof WzImage commodityImage)) {
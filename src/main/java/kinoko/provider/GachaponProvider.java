@@ -1,5 +1,6 @@
 package kinoko.provider;
 
+import kinoko.provider.reward.AliasTable;
 import kinoko.provider.reward.Reward;
 import kinoko.server.ServerConfig;
 import org.snakeyaml.engine.v2.api.Load;
@@ -15,6 +16,7 @@ import java.util.stream.Stream;
 public final class GachaponProvider {
     public static final Path GACHAPON_DATA = Path.of(ServerConfig.DATA_DIRECTORY, "gachapon");
     private static final Map<String, List<Reward>> gachaponRewards = new HashMap<>(); // gachaponName -> rewards
+    private static final Map<String, AliasTable<Reward>> gachaponTables = new HashMap<>(); // gachaponName -> alias table
     private static final Map<String, Map<String, Object>> gachaponConfigs = new HashMap<>(); // gachaponName -> full config
     private static List<Reward> globalRewards = new ArrayList<>(); // global rewards list
 
@@ -56,6 +58,10 @@ public final class GachaponProvider {
         return gachaponRewards.getOrDefault(gachaponName, List.of());
     }
 
+    public static AliasTable<Reward> getGachaponTable(String gachaponName) {
+        return gachaponTables.getOrDefault(gachaponName, AliasTable.empty());
+    }
+
     @SuppressWarnings("unchecked")
     private static void loadGlobalRewards(Object yamlObject) {
         if (!(yamlObject instanceof Map<?, ?> rewardData)) {
@@ -137,6 +143,7 @@ public final class GachaponProvider {
         }
 
         gachaponRewards.put(gachaponName, Collections.unmodifiableList(finalRewards));
+        gachaponTables.put(gachaponName, AliasTable.from(finalRewards, Reward::getProb));
     }
 
     private static boolean shouldExcludeItem(int itemId, List<Map<String, Object>> exclusionRules) {
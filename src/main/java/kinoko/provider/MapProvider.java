@@ -14,15 +14,24 @@ import kinoko.world.GameConstants;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class MapProvider implements WzProvider {
     public static final Path MAP_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Map.wz");
     private static final Map<Integer, MapInfo> mapInfos = new HashMap<>();
-    private static final Map<Integer, Integer> mapLinks = new HashMap<>();
+    private static final Map<Integer, Integer> mapLinks = new ConcurrentHashMap<>();
     private static final Map<Integer, Integer> areaCodes = new HashMap<>(); // key -> category
+    private static final Map<Integer, Integer> mapOffsets = new HashMap<>(); // mapId -> image offset, in lazy mode
+    private static WzPackage lazySource;
+    private static ProviderCache<MapInfo> mapCache;
+    private static volatile MapIndex mapIndex;
     private static int crcConstant;
 
     public static void initialize() {
+        if (ServerConfig.PROVIDER_LAZY) {
+            initializeLazy();
+            return;
+        }
         try (final WzPackage source = WzPackage.from(MAP_WZ)) {
             loadPhysics(source);
             loadMapInfos(source);
@@ -32,18 +41,84 @@ public final class MapProvider implements WzProvider {
         }
     }
 
+    /**
+     * Lazy mode, only the map image offsets are read on initialization. Map infos are resolved from the memory-mapped
+     * package on first access and kept in a bounded cache, with the maps in {@link ServerConfig#PROVIDER_WARM_MAPS}
+     * resolved eagerly and pinned. The package is kept open for the lifetime of the server.
+     */
+    private static void initializeLazy() {
+        try {
+            lazySource = WzPackage.from(MAP_WZ);
+            loadPhysics(lazySource);
+            loadMapOffsets(lazySource);
+            loadAreaCodes(lazySource);
+        } catch (IOException | ProviderError e) {
+            throw new IllegalArgumentException("Exception caught while loading Map.wz", e);
+        }
+        mapCache = new ProviderCache<>(ServerConfig.PROVIDER_CACHE_SIZE, MapProvider::resolveMapInfo);
+        for (String warmMap : ServerConfig.PROVIDER_WARM_MAPS.split(",")) {
+            if (!warmMap.isBlank()) {
+                mapCache.pin(Integer.parseInt(warmMap.strip()));
+            }
+        }
+    }
+
+    /**
+     * Returns all map infos. In lazy mode every map is resolved without being cached, this should only be used by
+     * tools. Commands should use the map index, see {@link #getPortalSources} and {@link #getNpcFields}.
+     */
     public static List<MapInfo> getMapInfos() {
+        if (mapCache != null) {
+            return mapOffsets.keySet().stream()
+                    .sorted()
+                    .map(MapProvider::resolveMapInfo)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
         return mapInfos.values().stream().toList();
     }
 
+    /**
+     * Returns the IDs of the maps with a portal leading to the given map, in ascending order.
+     */
+    public static List<Integer> getPortalSources(int mapId) {
+        return getMapIndex().portalSources().getOrDefault(mapId, List.of());
+    }
+
+    /**
+     * Returns the IDs of the maps in which the given npc is placed, in ascending order.
+     */
+    public static List<Integer> getNpcFields(int npcId) {
+        return getMapIndex().npcFields().getOrDefault(npcId, List.of());
+    }
+
+    /**
+     * Whether {@link #getPortalSources} and {@link #getNpcFields} can be called without resolving every map. In lazy
+     * mode, the index is built by resolving every map once, and the first lookup should not be made on a game thread.
+     */
+    public static boolean isMapIndexReady() {
+        return mapCache == null || mapIndex != null;
+    }
+
     public static Optional<MapInfo> getMapInfo(int mapId) {
+        if (mapCache != null) {
+            return Optional.ofNullable(mapCache.get(mapId));
+        }
         return Optional.ofNullable(mapInfos.get(mapId));
     }
 
     public static Optional<Integer> getMapLink(int mapId) {
+        if (mapCache != null) {
+            // Links are recorded when the map is resolved
+            getMapInfo(mapId);
+        }
         return Optional.ofNullable(mapLinks.get(mapId));
     }
 
+    public static Optional<ProviderCache<MapInfo>> getMapCache() {
+        return Optional.ofNullable(mapCache);
+    }
+
     public static int getConstantCrc() {
         return crcConstant;
     }
@@ -63,6 +138,36 @@ public final class MapProvider implements WzProvider {
         return fromCategory.equals(areaCodes.get(toFieldId));
     }
 
+    private static MapIndex getMapIndex() {
+        final MapIndex index = mapIndex;
+        if (index != null) {
+            return index;
+        }
+        return buildMapIndex();
+    }
+
+    private static synchronized MapIndex buildMapIndex() {
+        if (mapIndex != null) {
+            return mapIndex;
+        }
+        final Map<Integer, List<Integer>> portalSources = new HashMap<>(); // destination map id -> map ids
+        final Map<Integer, List<Integer>> npcFields = new HashMap<>(); // npc id -> map ids
+        for (MapInfo mapInfo : getMapInfos().stream().sorted(Comparator.comparingInt(MapInfo::getMapId)).toList()) {
+            final int mapId = mapInfo.getMapId();
+            mapInfo.getPortalInfos().stream()
+                    .map(PortalInfo::getDestinationFieldId)
+                    .distinct()
+                    .forEach((destinationId) -> portalSources.computeIfAbsent(destinationId, (key) -> new ArrayList<>()).add(mapId));
+            mapInfo.getLifeInfos().stream()
+                    .filter((lifeInfo) -> lifeInfo.getLifeType() == LifeType.NPC)
+                    .map(LifeInfo::getTemplateId)
+                    .distinct()
+                    .forEach((npcId) -> npcFields.computeIfAbsent(npcId, (key) -> new ArrayList<>()).add(mapId));
+        }
+        mapIndex = new MapIndex(Collections.unmodifiableMap(portalSources), Collections.unmodifiableMap(npcFields));
+        return mapIndex;
+    }
+
     private static void loadPhysics(WzPackage source) throws ProviderError {
         if (!((WzImage) source.getItem("Physics.img") instanceof WzImage physicsImage)) {
             throw new ProviderError("Could not resolve Map.wz/Physics.img");
@@ -75,25 +180,17 @@ public final class MapProvider implements WzProvider {
         if (!(source.getItem("Map") instanceof WzDirectory mapDirectory)) {
             throw new ProviderError("Could not resolve Map.wz/Map");
         }
-        for (var dirEntry : mapDirectory.getDirectories().entrySet()) {
-            final String directoryName = dirEntry.getKey();
-            if (!directoryName.matches("Map[0-9]")) {
-                continue;
-            }
-            for (var mapEntry : dirEntry.getValue().getImages().entrySet()) {
-                final String imageName = mapEntry.getKey();
-                final int mapId = Integer.parseInt(imageName.replace(".img", ""));
-                if (!(mapEntry.getValue().getItem("info") instanceof WzProperty infoProp)) {
-                    throw new ProviderError("Failed to resolve info property");
-                }
-                if (infoProp.getItems().containsKey("link")) {
-                    linkedMaps.put(mapId, Tuple.of(WzProvider.getInteger(infoProp.get("link")), infoProp));
-                    continue;
-                }
-                final boolean clock = mapEntry.getValue().getProperty().getItems().containsKey("clock");
-                final MapInfo mapInfo = resolveMapInfo(mapId, mapEntry.getValue(), infoProp, clock);
-                mapInfos.put(mapId, mapInfo);
-            }
+        // Map[0-9] directories are resolved in parallel, on the fork-join pool of the caller if there is one
+        final List<WzDirectory> directories = mapDirectory.getDirectories().entrySet().stream()
+                .filter((dirEntry) -> dirEntry.getKey().matches("Map[0-9]"))
+                .map(Map.Entry::getValue)
+                .toList();
+        final List<Tuple<Map<Integer, MapInfo>, Map<Integer, Tuple<Integer, WzProperty>>>> results = directories.parallelStream()
+                .map(MapProvider::loadMapDirectory)
+                .toList();
+        for (var result : results) {
+            mapInfos.putAll(result.getLeft());
+            linkedMaps.putAll(result.getRight());
         }
         // Process linked maps
         for (var linkEntry : linkedMaps.entrySet()) {
@@ -118,6 +215,71 @@ public final class MapProvider implements WzProvider {
         }
     }
 
+    private static void loadMapOffsets(WzPackage source) throws ProviderError {
+        if (!(source.getItem("Map") instanceof WzDirectory mapDirectory)) {
+            throw new ProviderError("Could not resolve Map.wz/Map");
+        }
+        for (var dirEntry : mapDirectory.getDirectories().entrySet()) {
+            if (!dirEntry.getKey().matches("Map[0-9]")) {
+                continue;
+            }
+            for (var mapEntry : dirEntry.getValue().getImages().entrySet()) {
+                final int mapId = Integer.parseInt(mapEntry.getKey().replace(".img", ""));
+                mapOffsets.put(mapId, mapEntry.getValue().getOffset());
+            }
+        }
+    }
+
+    private static MapInfo resolveMapInfo(int mapId) {
+        final Integer offset = mapOffsets.get(mapId);
+        if (offset == null) {
+            return null;
+        }
+        // Use a detached image so that the parsed properties are not retained by the package
+        final WzImage image = new WzImage(lazySource, offset);
+        if (!(image.getItem("info") instanceof WzProperty infoProp)) {
+            throw new ProviderError("Failed to resolve info property");
+        }
+        if (infoProp.getItems().containsKey("link")) {
+            final int link = WzProvider.getInteger(infoProp.get("link"));
+            final MapInfo linkInfo = getMapInfo(link).orElseThrow(() -> new ProviderError("Failed to resolve linked map ID : %d, link : %d", mapId, link));
+            mapLinks.put(mapId, link);
+            return MapInfo.from(
+                    mapId,
+                    infoProp,
+                    linkInfo.getAreas(),
+                    linkInfo.getFootholds(),
+                    linkInfo.getLadderRopes(),
+                    linkInfo.getLifeInfos(),
+                    linkInfo.getPortalInfos(),
+                    linkInfo.getReactorInfos(),
+                    linkInfo.isClock()
+            );
+        }
+        final boolean clock = image.getProperty().getItems().containsKey("clock");
+        return resolveMapInfo(mapId, image, infoProp, clock);
+    }
+
+    private static Tuple<Map<Integer, MapInfo>, Map<Integer, Tuple<Integer, WzProperty>>> loadMapDirectory(WzDirectory directory) throws ProviderError {
+        final Map<Integer, MapInfo> directoryMapInfos = new HashMap<>();
+        final Map<Integer, Tuple<Integer, WzProperty>> linkedMaps = new HashMap<>(); // mapId -> link, info
+        for (var mapEntry : directory.getImages().entrySet()) {
+            final String imageName = mapEntry.getKey();
+            final int mapId = Integer.parseInt(imageName.replace(".img", ""));
+            if (!(mapEntry.getValue().getItem("info") instanceof WzProperty infoProp)) {
+                throw new ProviderError("Failed to resolve info property");
+            }
+            if (infoProp.getItems().containsKey("link")) {
+                linkedMaps.put(mapId, Tuple.of(WzProvider.getInteger(infoProp.get("link")), infoProp));
+                continue;
+            }
+            final boolean clock = mapEntry.getValue().getProperty().getItems().containsKey("clock");
+            final MapInfo mapInfo = resolveMapInfo(mapId, mapEntry.getValue(), infoProp, clock);
+            directoryMapInfos.put(mapId, mapInfo);
+        }
+        return Tuple.of(directoryMapInfos, linkedMaps);
+    }
+
     private static MapInfo resolveMapInfo(int mapId, WzImage image, WzProperty infoProp, boolean clock) throws ProviderError {
         final List<Rect> area = resolveArea(image.getProperty());
         final List<Foothold> foothold = resolveFoothold(image.getProperty());
@@ -255,4 +417,7 @@ public final class MapProvider implements WzProvider {
             areaCodes.put(key, category);
         }
     }
+
+    private record MapIndex(Map<Integer, List<Integer>> portalSources, Map<Integer, List<Integer>> npcFields) {
+    }
 }
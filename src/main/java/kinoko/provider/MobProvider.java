@@ -2,6 +2,7 @@ package kinoko.provider;
 
 import kinoko.provider.mob.MobTemplate;
 import kinoko.provider.wz.WzDirectory;
+import kinoko.provider.wz.WzImage;
 import kinoko.provider.wz.WzPackage;
 import kinoko.provider.wz.serialize.WzProperty;
 import kinoko.server.ServerConfig;
@@ -15,8 +16,15 @@ public final class MobProvider implements WzProvider {
     public static final Path MOB_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Mob.wz");
     private static final Map<Integer, MobTemplate> mobTemplates = new HashMap<>();
     private static final Map<Integer, Set<Integer>> questCountGroups = new HashMap<>();
+    private static final Map<Integer, Integer> mobOffsets = new HashMap<>(); // mobId -> image offset, in lazy mode
+    private static WzPackage lazySource;
+    private static ProviderCache<MobTemplate> mobCache;
 
     public static void initialize() {
+        if (ServerConfig.PROVIDER_LAZY) {
+            initializeLazy();
+            return;
+        }
         try (final WzPackage source = WzPackage.from(MOB_WZ)) {
             loadMobTemplates(source);
             loadQuestCountGroups(source);
@@ -25,10 +33,34 @@ public final class MobProvider implements WzProvider {
         }
     }
 
+    /**
+     * Lazy mode, see {@link MapProvider}. Mob templates are resolved on first access, and revive IDs are not validated.
+     */
+    private static void initializeLazy() {
+        try {
+            lazySource = WzPackage.from(MOB_WZ);
+            for (var mobEntry : lazySource.getDirectory().getImages().entrySet()) {
+                final int mobId = Integer.parseInt(mobEntry.getKey().replace(".img", ""));
+                mobOffsets.put(mobId, mobEntry.getValue().getOffset());
+            }
+            loadQuestCountGroups(lazySource);
+        } catch (IOException | ProviderError e) {
+            throw new IllegalArgumentException("Exception caught while loading Mob.wz", e);
+        }
+        mobCache = new ProviderCache<>(ServerConfig.PROVIDER_CACHE_SIZE, MobProvider::resolveMobTemplate);
+    }
+
     public static Optional<MobTemplate> getMobTemplate(int mobId) {
+        if (mobCache != null) {
+            return Optional.ofNullable(mobCache.get(mobId));
+        }
         return Optional.ofNullable(mobTemplates.get(mobId));
     }
 
+    public static Optional<ProviderCache<MobTemplate>> getMobCache() {
+        return Optional.ofNullable(mobCache);
+    }
+
     public static Set<Integer> getQuestCountGroup(int mobId) {
         return questCountGroups.getOrDefault(mobId, Set.of());
     }
@@ -74,6 +106,33 @@ public final class MobProvider implements WzProvider {
         }
     }
 
+    private static MobTemplate resolveMobTemplate(int mobId) {
+        final Integer offset = mobOffsets.get(mobId);
+        if (offset == null) {
+            return null;
+        }
+        // Use detached images so that the parsed properties are not retained by the package
+        final WzImage image = new WzImage(lazySource, offset);
+        if (!(image.getItem("info") instanceof WzProperty infoProp)) {
+            throw new ProviderError("Failed to resolve info property");
+        }
+        WzImage linkImage = image;
+        WzProperty linkInfoProp = infoProp;
+        while (linkInfoProp.getItems().containsKey("link")) {
+            final int link = WzProvider.getInteger(linkInfoProp.get("link"));
+            final Integer linkOffset = mobOffsets.get(link);
+            if (linkOffset == null) {
+                throw new ProviderError("Failed to resolve linked mob ID : %d, link : %d", mobId, link);
+            }
+            linkImage = new WzImage(lazySource, linkOffset);
+            if (!(linkImage.getItem("info") instanceof WzProperty linkInfo)) {
+                throw new ProviderError("Failed to resolve info property");
+            }
+            linkInfoProp = linkInfo;
+        }
+        return MobTemplate.from(mobId, linkImage.getProperty(), infoProp);
+    }
+
     private static void loadQuestCountGroups(WzPackage source) throws ProviderError {
         final WzDirectory directory = source.getDirectory().getDirectories().get("QuestCountGroup");
         if (directory == null) {
@@ -0,0 +1,97 @@
+package kinoko.provider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+/**
+ * Bounded cache for provider data that is resolved on first access, used by providers in lazy mode. Entries are evicted
+ * in least recently used order once the capacity is exceeded, except for pinned entries which are kept for the lifetime
+ * of the cache.
+ * <p>
+ * Entries are resolved outside the cache lock, so an entry requested by multiple threads at the same time may be
+ * resolved more than once, in which case the first resolved value is kept.
+ */
+public final class ProviderCache<V> {
+    private final Map<Integer, V> pinned = new ConcurrentHashMap<>();
+    private final Map<Integer, V> entries;
+    private final Lock lock = new ReentrantLock();
+    private final IntFunction<V> resolver;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param capacity the maximum number of entries that are not pinned
+     * @param resolver resolves the value for a key, returning null if it does not exist
+     */
+    public ProviderCache(int capacity, IntFunction<V> resolver) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, V> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.resolver = resolver;
+    }
+
+    public V get(int key) {
+        final V pinnedValue = pinned.get(key);
+        if (pinnedValue != null) {
+            hitCount.increment();
+            return pinnedValue;
+        }
+        lock.lock();
+        try {
+            final V value = entries.get(key);
+            if (value != null) {
+                hitCount.increment();
+                return value;
+            }
+        } finally {
+            lock.unlock();
+        }
+        missCount.increment();
+        final V value = resolver.apply(key);
+        if (value == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            final V existing = entries.putIfAbsent(key, value);
+            return existing != null ? existing : value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Resolves and pins an entry so that it is never evicted.
+     */
+    public void pin(int key) {
+        final V value = get(key);
+        if (value != null) {
+            pinned.put(key, value);
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return pinned.size() + entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
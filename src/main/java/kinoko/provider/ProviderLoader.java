@@ -0,0 +1,73 @@
+package kinoko.provider;
+
+import kinoko.util.Timing;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Loads providers concurrently on a fork-join pool, starting each provider once the providers it depends on have been
+ * loaded. Providers that split their own work with parallel streams are run on the same pool. The duration of each
+ * provider is logged with {@link Timing#logDuration(String, Runnable, Logger)}.
+ */
+public final class ProviderLoader {
+    private static final Logger log = LogManager.getLogger(ProviderLoader.class);
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Adds a provider to be loaded.
+     *
+     * @param name         the name of the provider, used for logging and as a dependency
+     * @param action       the action loading the provider
+     * @param dependencies the names of the previously added providers that must be loaded first
+     */
+    public ProviderLoader add(String name, Runnable action, String... dependencies) {
+        for (String dependency : dependencies) {
+            if (!entries.containsKey(dependency)) {
+                throw new IllegalArgumentException(String.format("Unknown dependency %s for provider %s", dependency, name));
+            }
+        }
+        entries.put(name, new Entry(action, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Loads all added providers and waits for their completion.
+     *
+     * @throws IllegalArgumentException if a provider failed to load
+     */
+    public void load() {
+        final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            final Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+            for (var entry : entries.entrySet()) {
+                final List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+                for (String dependency : entry.getValue().dependencies()) {
+                    dependencies.add(futures.get(dependency));
+                }
+                futures.put(entry.getKey(), CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+                        .thenRunAsync(() -> Timing.logDuration(String.format("Loading %s", entry.getKey()), entry.getValue().action(), log), pool));
+            }
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalArgumentException("Exception caught while loading providers", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private record Entry(Runnable action, List<String> dependencies) {
+    }
+}
@@ -0,0 +1,154 @@
+package kinoko.provider;
+
+import kinoko.server.ServerConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshots of resolved provider data, written on the first start after the source files change and memory-mapped
+ * on later starts instead of parsing the sources again.
+ * <p>
+ * A snapshot file consists of a header followed by the payload written by the provider :
+ * <pre>
+ * int  magic
+ * int  format version
+ * long checksum of the source files
+ * int  payload length
+ * int  checksum of the payload
+ * </pre>
+ * A snapshot is only used if all header fields match, otherwise the provider loads from its source files and replaces
+ * the snapshot. Snapshots are enabled with {@link ServerConfig#PROVIDER_SNAPSHOT}.
+ */
+public final class ProviderSnapshot {
+    public static final Path SNAPSHOT_DIRECTORY = Path.of(ServerConfig.PROVIDER_SNAPSHOT_DIRECTORY);
+    private static final Logger log = LogManager.getLogger(ProviderSnapshot.class);
+    private static final int MAGIC = 0x504E534B; // KSNP
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+
+    /**
+     * Returns the payload of a snapshot if it exists and matches the source checksum.
+     */
+    public static Optional<ByteBuffer> read(String name, long sourceChecksum) {
+        return read(SNAPSHOT_DIRECTORY, name, sourceChecksum);
+    }
+
+    /**
+     * Writes a snapshot, replacing the existing snapshot of the same name. Failures are logged and ignored, as the
+     * provider data has already been loaded.
+     */
+    public static void write(String name, long sourceChecksum, SnapshotWriter writer) {
+        write(SNAPSHOT_DIRECTORY, name, sourceChecksum, writer);
+    }
+
+    static Optional<ByteBuffer> read(Path directory, String name, long sourceChecksum) {
+        final Path path = directory.resolve(name + ".snapshot");
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION ||
+                    buffer.getLong() != sourceChecksum) {
+                log.info("Snapshot {} is out of date", name);
+                return Optional.empty();
+            }
+            final int payloadLength = buffer.getInt();
+            final int payloadChecksum = buffer.getInt();
+            if (buffer.remaining() != payloadLength) {
+                log.warn("Snapshot {} is truncated", name);
+                return Optional.empty();
+            }
+            final ByteBuffer payload = buffer.slice();
+            final CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != payloadChecksum) {
+                log.warn("Snapshot {} is corrupted", name);
+                return Optional.empty();
+            }
+            return Optional.of(payload);
+        } catch (IOException e) {
+            log.warn("Failed to read snapshot {}", name, e);
+            return Optional.empty();
+        }
+    }
+
+    static void write(Path directory, String name, long sourceChecksum, SnapshotWriter writer) {
+        try {
+            final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (final DataOutputStream out = new DataOutputStream(payload)) {
+                writer.write(out);
+            }
+            final byte[] payloadBytes = payload.toByteArray();
+            final CRC32C crc = new CRC32C();
+            crc.update(payloadBytes);
+            Files.createDirectories(directory);
+            // Write to a temporary file first, so that a partially written snapshot is never read
+            final Path tempPath = directory.resolve(name + ".snapshot.tmp");
+            try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(sourceChecksum);
+                out.writeInt(payloadBytes.length);
+                out.writeInt((int) crc.getValue());
+                out.write(payloadBytes);
+            }
+            Files.move(tempPath, directory.resolve(name + ".snapshot"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Failed to write snapshot {}", name, e);
+        }
+    }
+
+    /**
+     * Computes the checksum of the contents and names of the given source files, in file name order.
+     */
+    public static long checksum(List<Path> paths) {
+        final CRC32C nameCrc = new CRC32C();
+        final CRC32C contentCrc = new CRC32C();
+        final byte[] buffer = new byte[64 * 1024];
+        for (Path path : paths.stream().sorted(Comparator.comparing(Path::toString)).toList()) {
+            nameCrc.update(path.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+            try (final InputStream is = Files.newInputStream(path)) {
+                int read;
+                while ((read = is.read(buffer)) > 0) {
+                    contentCrc.update(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Exception caught while computing snapshot checksum", e);
+            }
+        }
+        return (nameCrc.getValue() << 32) | contentCrc.getValue();
+    }
+
+    public static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    public interface SnapshotWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -1,25 +1,27 @@
 package kinoko.provider;
 
 import kinoko.provider.quest.QuestInfo;
+import kinoko.provider.quest.QuestMobData;
+import kinoko.provider.quest.check.QuestMobCheck;
 import kinoko.provider.wz.WzImage;
 import kinoko.provider.wz.WzPackage;
 import kinoko.provider.wz.serialize.WzProperty;
 import kinoko.server.ServerConfig;
+import kinoko.util.Tuple;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 public final class QuestProvider implements WzProvider {
     public static final Path QUEST_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Quest.wz");
     private static final Map<Integer, QuestInfo> questInfos = new HashMap<>();
+    private static final Map<Integer, List<Tuple<Integer, Integer>>> mobQuests = new HashMap<>(); // mobId -> (questId, mob check slot)
 
     public static void initialize() {
         try (final WzPackage source = WzPackage.from(QUEST_WZ)) {
             loadQuestInfos(source);
+            loadMobQuests();
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Quest.wz", e);
         }
@@ -33,6 +35,14 @@ public final class QuestProvider implements WzProvider {
         return Optional.ofNullable(questInfos.get(questId));
     }
 
+    /**
+     * Returns the quests counting kills of the given mob, as pairs of quest ID and the index of the matching
+     * {@link QuestMobData} in the quest's mob check.
+     */
+    public static List<Tuple<Integer, Integer>> getMobQuests(int mobId) {
+        return mobQuests.getOrDefault(mobId, List.of());
+    }
+
     private static void loadQuestInfos(WzPackage source) throws ProviderError {
         final WzImage infoImage = (WzImage) source.getItem("QuestInfo.img");
         final WzImage actImage = (WzImage) source.getItem("Act.img");
@@ -51,4 +61,23 @@ public final class QuestProvider implements WzProvider {
             questInfos.put(questId, questInfo);
         }
     }
+
+    private static void loadMobQuests() {
+        // Requires MobProvider to resolve quest count groups
+        for (QuestInfo questInfo : questInfos.values()) {
+            final Optional<QuestMobCheck> mobCheckResult = questInfo.getMobCheck();
+            if (mobCheckResult.isEmpty()) {
+                continue;
+            }
+            final List<QuestMobData> mobs = mobCheckResult.get().getMobs();
+            for (int slot = 0; slot < mobs.size(); slot++) {
+                final QuestMobData mobData = mobs.get(slot);
+                final Set<Integer> mobIds = new HashSet<>(MobProvider.getQuestCountGroup(mobData.getMobId()));
+                mobIds.add(mobData.getMobId());
+                for (int mobId : mobIds) {
+                    mobQuests.computeIfAbsent(mobId, (key) -> new ArrayList<>()).add(new Tuple<>(questInfo.getQuestId(), slot));
+                }
+            }
+        }
+    }
 }
@@ -1,12 +1,16 @@
 package kinoko.provider;
 
+import kinoko.provider.reward.MobRewardTable;
 import kinoko.provider.reward.Reward;
 import kinoko.server.ServerConfig;
+import kinoko.util.Tuple;
 import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -14,41 +18,130 @@ import java.util.stream.Stream;
 
 public final class RewardProvider implements DataProvider {
     public static final Path REWARD_DATA = Path.of(ServerConfig.DATA_DIRECTORY, "reward");
+    private static final String SNAPSHOT_NAME = "reward";
     private static final Map<Integer, List<Reward>> mobRewards = new HashMap<>(); // mobId -> rewards
+    private static final Map<Integer, MobRewardTable> mobRewardTables = new HashMap<>(); // mobId -> reward table
+    private static final Map<Integer, List<Tuple<Integer, Reward>>> itemDroppers = new HashMap<>(); // itemId -> (mobId, reward)
 
     public static void initialize() {
-        final Load yamlLoader = new Load(LoadSettings.builder().build());
-        try (final Stream<Path> paths = Files.list(REWARD_DATA)) {
-            for (Path path : paths.toList()) {
-                final String fileName = path.getFileName().toString();
-                if (!fileName.endsWith(".yaml")) {
-                    continue;
-                }
-                final int mobId = Integer.parseInt(fileName.replace(".yaml", ""));
-                try (final InputStream is = Files.newInputStream(path)) {
-                    loadMobRewards(mobId, yamlLoader.loadFromInputStream(is));
-                }
-            }
+        final List<Path> paths;
+        try (final Stream<Path> pathStream = Files.list(REWARD_DATA)) {
+            paths = pathStream.filter((path) -> path.getFileName().toString().endsWith(".yaml")).toList();
         } catch (IOException e) {
             throw new IllegalArgumentException("Exception caught while loading Reward Data", e);
         }
+        if (ServerConfig.PROVIDER_SNAPSHOT) {
+            final long checksum = ProviderSnapshot.checksum(paths);
+            final Optional<ByteBuffer> snapshot = ProviderSnapshot.read(SNAPSHOT_NAME, checksum);
+            if (snapshot.isPresent()) {
+                readSnapshot(snapshot.get());
+            } else {
+                loadMobRewards(paths);
+                ProviderSnapshot.write(SNAPSHOT_NAME, checksum, RewardProvider::writeSnapshot);
+            }
+        } else {
+            loadMobRewards(paths);
+        }
+        loadMobRewardTables();
+        loadItemDroppers();
     }
 
     public static List<Reward> getMobRewards(int mobId) {
         return mobRewards.getOrDefault(mobId, List.of());
     }
 
+    public static MobRewardTable getMobRewardTable(int mobId) {
+        return mobRewardTables.getOrDefault(mobId, MobRewardTable.empty());
+    }
+
     public static Map<Integer, List<Reward>> getAllMobRewards() {
         return Collections.unmodifiableMap(mobRewards);
     }
 
-    private static void loadMobRewards(int mobId, Object yamlObject) throws ProviderError {
+    /**
+     * Returns the mobs dropping the given item together with the first matching reward of each mob, sorted by mob ID.
+     */
+    public static List<Tuple<Integer, Reward>> getItemDroppers(int itemId) {
+        return itemDroppers.getOrDefault(itemId, List.of());
+    }
+
+    private static void loadMobRewardTables() {
+        for (var entry : mobRewards.entrySet()) {
+            mobRewardTables.put(entry.getKey(), MobRewardTable.from(entry.getValue()));
+        }
+    }
+
+    private static void loadItemDroppers() {
+        final List<Integer> mobIds = mobRewards.keySet().stream().sorted().toList();
+        for (int mobId : mobIds) {
+            final Set<Integer> itemIds = new HashSet<>();
+            for (Reward reward : mobRewards.get(mobId)) {
+                if (itemIds.add(reward.getItemId())) {
+                    itemDroppers.computeIfAbsent(reward.getItemId(), (key) -> new ArrayList<>()).add(new Tuple<>(mobId, reward));
+                }
+            }
+        }
+    }
+
+    private static void readSnapshot(ByteBuffer buffer) {
+        final int mobCount = buffer.getInt();
+        for (int i = 0; i < mobCount; i++) {
+            final int mobId = buffer.getInt();
+            final int rewardCount = buffer.getInt();
+            final List<Reward> rewards = new ArrayList<>(rewardCount);
+            for (int j = 0; j < rewardCount; j++) {
+                rewards.add(Reward.item(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getDouble(), buffer.getInt(), buffer.getInt()));
+            }
+            mobRewards.put(mobId, Collections.unmodifiableList(rewards));
+        }
+    }
+
+    private static void writeSnapshot(DataOutputStream out) throws IOException {
+        out.writeInt(mobRewards.size());
+        for (var entry : mobRewards.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Reward reward : entry.getValue()) {
+                out.writeInt(reward.getItemId());
+                out.writeInt(reward.getMin());
+                out.writeInt(reward.getMax());
+                out.writeDouble(reward.getProb());
+                out.writeInt(reward.getQuestId());
+                out.writeInt(reward.getFieldId());
+            }
+        }
+    }
+
+    private static void loadMobRewards(List<Path> paths) {
+        // Reward files are parsed in parallel, on the fork-join pool of the caller if there is one
+        final List<Tuple<Integer, List<Reward>>> results = paths.parallelStream()
+                .map(RewardProvider::loadMobRewards)
+                .filter(Objects::nonNull)
+                .toList();
+        for (var result : results) {
+            mobRewards.put(result.getLeft(), result.getRight());
+        }
+    }
+
+    private static Tuple<Integer, List<Reward>> loadMobRewards(Path path) {
+        final int mobId = Integer.parseInt(path.getFileName().toString().replace(".yaml", ""));
+        // Load instances are not thread-safe
+        final Load yamlLoader = new Load(LoadSettings.builder().build());
+        try (final InputStream is = Files.newInputStream(path)) {
+            final List<Reward> rewards = loadMobRewards(mobId, yamlLoader.loadFromInputStream(is));
+            return rewards != null ? Tuple.of(mobId, rewards) : null;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Exception caught while loading Reward Data", e);
+        }
+    }
+
+    private static List<Reward> loadMobRewards(int mobId, Object yamlObject) throws ProviderError {
         if (!(yamlObject instanceof Map<?, ?> rewardData)) {
             throw new ProviderError("Could not resolve reward data for mob ID : %d", mobId);
         }
         if (!(rewardData.get("rewards") instanceof List<?> rewardList)) {
             // No Rewards
-            return;
+            return null;
         }
         final List<Reward> rewards = new ArrayList<>();
         for (Object rewardObject : rewardList) {
@@ -63,6 +156,6 @@ public final class RewardProvider implements DataProvider {
             final int fieldId = rewardInfo.size() > 5 ? ((Number) rewardInfo.get(5)).intValue() : 0;
             rewards.add(Reward.item(itemId, min, max, prob, questId, fieldId));
         }
-        mobRewards.put(mobId, Collections.unmodifiableList(rewards));
+        return Collections.unmodifiableList(rewards);
     }
 }
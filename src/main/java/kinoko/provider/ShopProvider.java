@@ -6,8 +6,10 @@ import kinoko.server.dialog.shop.ShopItem;
 import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -15,25 +17,34 @@ import java.util.stream.Stream;
 
 public final class ShopProvider implements DataProvider {
     public static final Path SHOP_DATA = Path.of(ServerConfig.DATA_DIRECTORY, "shop");
+    private static final String SNAPSHOT_NAME = "shop";
     private static final Map<Integer, List<ShopItem>> npcShopItems = new HashMap<>(); // npcId -> shop items
     private static final List<ShopItem> rechargeableItems = initializeRechargeableItems();
 
     public static void initialize() {
-        final Load yamlLoader = new Load(LoadSettings.builder().build());
-        try (final Stream<Path> paths = Files.list(SHOP_DATA)) {
-            for (Path path : paths.toList()) {
-                final String fileName = path.getFileName().toString();
-                if (!fileName.endsWith(".yaml")) {
-                    continue;
-                }
-                final int npcId = Integer.parseInt(fileName.replace(".yaml", ""));
-                try (final InputStream is = Files.newInputStream(path)) {
-                    loadNpcShopItems(npcId, yamlLoader.loadFromInputStream(is));
-                }
-            }
+        final List<Path> paths;
+        try (final Stream<Path> pathStream = Files.list(SHOP_DATA)) {
+            paths = pathStream.filter((path) -> path.getFileName().toString().endsWith(".yaml")).toList();
         } catch (IOException e) {
             throw new ProviderError("Exception caught while loading Shop Data", e);
         }
+        final Map<Integer, ShopData> shopDataMap = new HashMap<>(); // npcId -> shop data
+        if (ServerConfig.PROVIDER_SNAPSHOT) {
+            final long checksum = ProviderSnapshot.checksum(paths);
+            final Optional<ByteBuffer> snapshot = ProviderSnapshot.read(SNAPSHOT_NAME, checksum);
+            if (snapshot.isPresent()) {
+                readSnapshot(snapshot.get(), shopDataMap);
+            } else {
+                loadShopData(paths, shopDataMap);
+                ProviderSnapshot.write(SNAPSHOT_NAME, checksum, (out) -> writeSnapshot(out, shopDataMap));
+            }
+        } else {
+            loadShopData(paths, shopDataMap);
+        }
+        // Rechargeable items are resolved from the item data, which is not part of the snapshot
+        for (var entry : shopDataMap.entrySet()) {
+            loadNpcShopItems(entry.getKey(), entry.getValue());
+        }
     }
 
     public static boolean isShop(int templateId) {
@@ -47,14 +58,26 @@ public final class ShopProvider implements DataProvider {
         return npcShopItems.get(templateId);
     }
 
-    private static void loadNpcShopItems(int npcId, Object yamlObject) throws ProviderError {
+    private static void loadShopData(List<Path> paths, Map<Integer, ShopData> shopDataMap) {
+        final Load yamlLoader = new Load(LoadSettings.builder().build());
+        for (Path path : paths) {
+            final int npcId = Integer.parseInt(path.getFileName().toString().replace(".yaml", ""));
+            try (final InputStream is = Files.newInputStream(path)) {
+                shopDataMap.put(npcId, loadShopData(npcId, yamlLoader.loadFromInputStream(is)));
+            } catch (IOException e) {
+                throw new ProviderError("Exception caught while loading Shop Data", e);
+            }
+        }
+    }
+
+    private static ShopData loadShopData(int npcId, Object yamlObject) throws ProviderError {
         if (!(yamlObject instanceof Map<?, ?> shopData)) {
             throw new ProviderError("Could not resolve shop data for npc ID : %d", npcId);
         }
         if (!(shopData.get("items") instanceof List<?> itemList)) {
             throw new ProviderError("Could not resolve shop items for npc ID : %d", npcId);
         }
-        final List<ShopItem> shopItems = new ArrayList<>();
+        final List<ShopEntry> items = new ArrayList<>();
         for (Object itemObject : itemList) {
             if (!(itemObject instanceof List<?> itemInfo)) {
                 throw new ProviderError("Could not resolve shop item info for npc ID : %d", npcId);
@@ -63,6 +86,16 @@ public final class ShopProvider implements DataProvider {
             final int price = ((Number) itemInfo.get(1)).intValue();
             final int quantity = itemInfo.size() > 2 ? ((Number) itemInfo.get(2)).intValue() : 1;
             final int maxPerSlot = itemInfo.size() > 3 ? ((Number) itemInfo.get(3)).intValue() : 1;
+            items.add(new ShopEntry(itemId, price, quantity, maxPerSlot));
+        }
+        final boolean recharge = shopData.containsKey("recharge") && shopData.get("recharge").equals(true);
+        return new ShopData(items, recharge);
+    }
+
+    private static void loadNpcShopItems(int npcId, ShopData shopData) {
+        final List<ShopItem> shopItems = new ArrayList<>();
+        for (ShopEntry entry : shopData.items()) {
+            final int itemId = entry.itemId();
             double unitPrice = 0.0;
             for (ShopItem si : rechargeableItems) {
                 if (si.getItemId() == itemId) {
@@ -70,9 +103,9 @@ public final class ShopProvider implements DataProvider {
                     break;
                 }
             }
-            shopItems.add(new ShopItem(itemId, price, quantity, maxPerSlot, 0, 0, unitPrice));
+            shopItems.add(new ShopItem(itemId, entry.price(), entry.quantity(), entry.maxPerSlot(), 0, 0, unitPrice));
         }
-        if (shopData.containsKey("recharge") && shopData.get("recharge").equals(true)) {
+        if (shopData.recharge()) {
             for (ShopItem rechargeableItem : rechargeableItems) {
                 if (shopItems.stream().noneMatch((existingItem) -> existingItem.getItemId() == rechargeableItem.getItemId())) {
                     shopItems.add(rechargeableItem);
@@ -83,6 +116,34 @@ public final class ShopProvider implements DataProvider {
         npcShopItems.put(npcId, Collections.unmodifiableList(shopItems));
     }
 
+    private static void readSnapshot(ByteBuffer buffer, Map<Integer, ShopData> shopDataMap) {
+        final int shopCount = buffer.getInt();
+        for (int i = 0; i < shopCount; i++) {
+            final int npcId = buffer.getInt();
+            final int itemCount = buffer.getInt();
+            final List<ShopEntry> items = new ArrayList<>(itemCount);
+            for (int j = 0; j < itemCount; j++) {
+                items.add(new ShopEntry(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt()));
+            }
+            shopDataMap.put(npcId, new ShopData(items, buffer.get() != 0));
+        }
+    }
+
+    private static void writeSnapshot(DataOutputStream out, Map<Integer, ShopData> shopDataMap) throws IOException {
+        out.writeInt(shopDataMap.size());
+        for (var entry : shopDataMap.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue().items().size());
+            for (ShopEntry item : entry.getValue().items()) {
+                out.writeInt(item.itemId());
+                out.writeInt(item.price());
+                out.writeInt(item.quantity());
+                out.writeInt(item.maxPerSlot());
+            }
+            out.writeBoolean(entry.getValue().recharge());
+        }
+    }
+
     private static List<ShopItem> initializeRechargeableItems() throws ProviderError {
         final List<Integer> itemIds = Arrays.asList(
                 2070000, // Subi Throwing-Stars
@@ -123,4 +184,13 @@ public final class ShopProvider implements DataProvider {
         }
         return Collections.unmodifiableList(rechargeableItems);
     }
+
+    /**
+     * Shop data as defined in the shop files, before the rechargeable items are resolved.
+     */
+    private record ShopData(List<ShopEntry> items, boolean recharge) {
+    }
+
+    private record ShopEntry(int itemId, int price, int quantity, int maxPerSlot) {
+    }
 }
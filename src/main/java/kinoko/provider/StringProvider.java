@@ -1,36 +1,47 @@
 package kinoko.provider;
 
+import kinoko.provider.search.NameIndex;
 import kinoko.provider.skill.SkillStringInfo;
 import kinoko.provider.wz.WzImage;
 import kinoko.provider.wz.WzPackage;
 import kinoko.provider.wz.serialize.WzProperty;
 import kinoko.server.ServerConfig;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public final class StringProvider implements WzProvider {
     public static final Path STRING_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "String.wz");
     public static final List<String> EQUIP_TYPES = List.of("Accessory", "Cap", "Cape", "Coat", "Dragon", "Face", "Glove", "Hair", "Longcoat", "Mechanic", "Pants", "PetEquip", "Ring", "Shield", "Shoes", "Taming", "Weapon"); // TamingMob -> Taming compared to Item.wz
+    private static final String SNAPSHOT_NAME = "string";
     private static final Map<Integer, String> itemNames = new HashMap<>();
     private static final Map<Integer, String> mapNames = new HashMap<>();
     private static final Map<Integer, String> mobNames = new HashMap<>();
     private static final Map<Integer, String> npcNames = new HashMap<>();
     private static final Map<Integer, SkillStringInfo> skillStrings = new HashMap<>();
+    private static NameIndex itemIndex;
+    private static NameIndex mapIndex;
+    private static NameIndex mobIndex;
+    private static NameIndex npcIndex;
+    private static NameIndex skillIndex;
 
     public static void initialize() {
-        try (final WzPackage source = WzPackage.from(STRING_WZ)) {
-            loadItemNames(source);
-            loadMapNames(source);
-            loadMobNames(source);
-            loadNpcNames(source);
-            loadSkillStrings(source);
-        } catch (IOException | ProviderError e) {
-            throw new IllegalArgumentException("Exception caught while loading String.wz", e);
+        if (ServerConfig.PROVIDER_SNAPSHOT) {
+            final long checksum = ProviderSnapshot.checksum(List.of(STRING_WZ));
+            final Optional<ByteBuffer> snapshot = ProviderSnapshot.read(SNAPSHOT_NAME, checksum);
+            if (snapshot.isPresent()) {
+                readSnapshot(snapshot.get());
+            } else {
+                loadStrings();
+                ProviderSnapshot.write(SNAPSHOT_NAME, checksum, StringProvider::writeSnapshot);
+            }
+        } else {
+            loadStrings();
         }
+        loadIndexes();
     }
 
     public static Map<Integer, String> getItemNames() {
@@ -77,6 +88,98 @@ public final class StringProvider implements WzProvider {
         return skillStrings.get(skillId);
     }
 
+    /**
+     * Searches item names containing the query, ignoring case. Results are ranked, see {@link NameIndex#search(String, int)}.
+     */
+    public static List<Integer> searchItems(String query) {
+        return itemIndex.search(query);
+    }
+
+    public static List<Integer> searchMaps(String query) {
+        return mapIndex.search(query);
+    }
+
+    public static List<Integer> searchMobs(String query) {
+        return mobIndex.search(query);
+    }
+
+    public static List<Integer> searchNpcs(String query) {
+        return npcIndex.search(query);
+    }
+
+    public static List<Integer> searchSkills(String query) {
+        return skillIndex.search(query);
+    }
+
+    private static void loadStrings() {
+        try (final WzPackage source = WzPackage.from(STRING_WZ)) {
+            loadItemNames(source);
+            loadMapNames(source);
+            loadMobNames(source);
+            loadNpcNames(source);
+            loadSkillStrings(source);
+        } catch (IOException | ProviderError e) {
+            throw new IllegalArgumentException("Exception caught while loading String.wz", e);
+        }
+    }
+
+    private static void readSnapshot(ByteBuffer buffer) {
+        for (Map<Integer, String> names : List.of(itemNames, mapNames, mobNames, npcNames)) {
+            final int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                names.put(buffer.getInt(), ProviderSnapshot.readString(buffer));
+            }
+        }
+        final int skillCount = buffer.getInt();
+        for (int i = 0; i < skillCount; i++) {
+            final int skillId = buffer.getInt();
+            final String name = ProviderSnapshot.readString(buffer);
+            final String desc = ProviderSnapshot.readString(buffer);
+            final String h = ProviderSnapshot.readString(buffer);
+            final int hCount = buffer.getInt();
+            final Map<Integer, String> hMap = new HashMap<>();
+            for (int j = 0; j < hCount; j++) {
+                hMap.put(buffer.getInt(), ProviderSnapshot.readString(buffer));
+            }
+            skillStrings.put(skillId, new SkillStringInfo(name, desc, h, Collections.unmodifiableMap(hMap)));
+        }
+    }
+
+    private static void writeSnapshot(DataOutputStream out) throws IOException {
+        for (Map<Integer, String> names : List.of(itemNames, mapNames, mobNames, npcNames)) {
+            out.writeInt(names.size());
+            for (var entry : names.entrySet()) {
+                out.writeInt(entry.getKey());
+                ProviderSnapshot.writeString(out, entry.getValue());
+            }
+        }
+        out.writeInt(skillStrings.size());
+        for (var entry : skillStrings.entrySet()) {
+            final SkillStringInfo ssi = entry.getValue();
+            out.writeInt(entry.getKey());
+            ProviderSnapshot.writeString(out, ssi.getName());
+            ProviderSnapshot.writeString(out, ssi.getDesc());
+            ProviderSnapshot.writeString(out, ssi.getH());
+            out.writeInt(ssi.getHMap().size());
+            for (var hEntry : ssi.getHMap().entrySet()) {
+                out.writeInt(hEntry.getKey());
+                ProviderSnapshot.writeString(out, hEntry.getValue());
+            }
+        }
+    }
+
+    private static void loadIndexes() {
+        itemIndex = NameIndex.from(itemNames);
+        mapIndex = NameIndex.from(mapNames);
+        mobIndex = NameIndex.from(mobNames);
+        npcIndex = NameIndex.from(npcNames);
+        final Map<Integer, String> skillNames = new HashMap<>();
+        for (var entry : skillStrings.entrySet()) {
+            skillNames.put(entry.getKey(), entry.getValue().getName());
+        }
+        skillIndex = NameIndex.from(skillNames);
+    }
+
     private static void loadItemNames(WzPackage source) throws ProviderError {
         // Eqp.img
 
@@ -14,7 +14,6 @@ import kinoko.world.quest.QuestState;
 import kinoko.world.user.User;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public final class QuestInfo {
     private final int questId;
@@ -28,6 +27,7 @@ public final class QuestInfo {
     private final List<QuestAct> completeActs;
     private final List<QuestCheck> startChecks;
     private final List<QuestCheck> completeChecks;
+    private final QuestMobCheck mobCheck;
 
     public QuestInfo(int questId, String questName, String questParent, int questArea, int nextQuest, boolean autoStart, boolean autoComplete, List<QuestAct> startActs, List<QuestAct> completeActs, List<QuestCheck> startChecks, List<QuestCheck> completeChecks) {
         this.questId = questId;
@@ -41,6 +41,10 @@ public final class QuestInfo {
         this.completeActs = completeActs;
         this.startChecks = startChecks;
         this.completeChecks = completeChecks;
+        this.mobCheck = (QuestMobCheck) completeChecks.stream()
+                .filter((check) -> check instanceof QuestMobCheck)
+                .findFirst()
+                .orElse(null);
     }
 
     public int getQuestId() {
@@ -214,56 +218,43 @@ public final class QuestInfo {
         return Optional.of(qr);
     }
 
-    public Optional<QuestRecord> progressQuest(QuestRecord questRecord, int mobId) {
+    public Optional<QuestMobCheck> getMobCheck() {
+        return Optional.ofNullable(mobCheck);
+    }
+
+    /**
+     * Increments the kill count of a mob check slot, see {@link kinoko.provider.QuestProvider#getMobQuests(int)}.
+     *
+     * @return true if the quest record value was updated
+     */
+    public boolean progressQuest(QuestRecord questRecord, int slot) {
         // Check that the quest has been started
-        if (questRecord.getState() != QuestState.PERFORM) {
-            return Optional.empty();
-        }
-        // Check if the quest is relevant for the mob
-        final Optional<QuestCheck> mobCheckResult = getCompleteChecks().stream()
-                .filter((check) -> check instanceof QuestMobCheck)
-                .findFirst();
-        if (mobCheckResult.isEmpty()) {
-            return Optional.empty();
+        if (questRecord.getState() != QuestState.PERFORM || mobCheck == null) {
+            return false;
         }
-        final QuestMobCheck mobCheck = (QuestMobCheck) mobCheckResult.get();
-        if (mobCheck.getMobs().stream().noneMatch((mobData) -> mobData.isMatch(mobId))) {
-            return Optional.empty();
+        final List<QuestMobData> mobs = mobCheck.getMobs();
+        if (slot < 0 || slot >= mobs.size()) {
+            return false;
         }
-        // Get current progress
-        final int[] progress = new int[mobCheck.getMobs().size()];
-        final String qrValue = questRecord.getValue();
-        if (qrValue != null && !qrValue.isEmpty()) {
-            // Split qrValue string every 3 characters to get current mob count
-            for (int c = 0; c < qrValue.length(); c += 3) {
-                final int countIndex = c / 3;
-                if (countIndex >= progress.length) {
-                    break;
-                }
-                final String countValue = qrValue.substring(c, Math.min(c + 3, qrValue.length()));
-                if (!Util.isInteger(countValue)) {
-                    continue;
-                }
-                progress[countIndex] = Integer.parseInt(countValue);
-            }
+        // Get current progress, the quest record value is only parsed once
+        int[] progress = questRecord.getMobProgress();
+        if (progress == null || progress.length != mobs.size()) {
+            progress = parseMobProgress(questRecord.getValue(), mobs.size());
         }
         // Increment progress
-        for (int i = 0; i < mobCheck.getMobs().size(); i++) {
-            final QuestMobData mobData = mobCheck.getMobs().get(i);
-            if (mobData.isMatch(mobId)) {
-                progress[i] = Math.min(progress[i] + 1, mobData.getCount());
-            }
+        final int count = Math.min(progress[slot] + 1, mobs.get(slot).getCount());
+        if (count == progress[slot] && questRecord.getMobProgress() == progress) {
+            return false;
         }
+        progress[slot] = count;
         // Check if quest record needs to be updated
-        final String newQrValue = Arrays.stream(progress)
-                .mapToObj((count) -> String.format("%03d", Math.min(count, 999)))
-                .collect(Collectors.joining());
+        final String newQrValue = encodeMobProgress(progress);
         if (newQrValue.equals(questRecord.getValue())) {
-            return Optional.empty();
+            questRecord.setMobProgress(progress, newQrValue);
+            return false;
         }
-        // Update quest record and return
-        questRecord.setValue(newQrValue);
-        return Optional.of(questRecord);
+        questRecord.setMobProgress(progress, newQrValue);
+        return true;
     }
 
     public boolean hasRequiredItem(User user, int itemId) {
@@ -280,6 +271,37 @@ public final class QuestInfo {
         return false;
     }
 
+    private static int[] parseMobProgress(String qrValue, int size) {
+        final int[] progress = new int[size];
+        if (qrValue == null || qrValue.isEmpty()) {
+            return progress;
+        }
+        // Split qrValue string every 3 characters to get current mob count
+        for (int c = 0; c < qrValue.length(); c += 3) {
+            final int countIndex = c / 3;
+            if (countIndex >= progress.length) {
+                break;
+            }
+            final String countValue = qrValue.substring(c, Math.min(c + 3, qrValue.length()));
+            if (!Util.isInteger(countValue)) {
+                continue;
+            }
+            progress[countIndex] = Integer.parseInt(countValue);
+        }
+        return progress;
+    }
+
+    private static String encodeMobProgress(int[] progress) {
+        final char[] value = new char[progress.length * 3];
+        for (int i = 0; i < progress.length; i++) {
+            final int count = Math.clamp(progress[i], 0, 999);
+            value[i * 3] = (char) ('0' + count / 100);
+            value[i * 3 + 1] = (char) ('0' + count / 10 % 10);
+            value[i * 3 + 2] = (char) ('0' + count % 10);
+        }
+        return new String(value);
+    }
+
     public static QuestInfo from(int questId, WzProperty questInfo, WzProperty questAct, WzProperty questCheck) throws ProviderError {
         String questName = "";
         String questParent = "";
@@ -0,0 +1,93 @@
+package kinoko.provider.reward;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable alias table for weighted random selection in constant time, built with Vose's method. Entries with a weight
+ * of zero or less are never selected.
+ */
+public final class AliasTable<T> {
+    private static final AliasTable<?> EMPTY = new AliasTable<>(List.of(), new double[0], new int[0]);
+    private final List<T> entries;
+    private final double[] prob;
+    private final int[] alias;
+
+    private AliasTable(List<T> entries, double[] prob, int[] alias) {
+        this.entries = entries;
+        this.prob = prob;
+        this.alias = alias;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Selects a random entry with a probability proportional to its weight, using the random generator of the current
+     * thread.
+     */
+    public Optional<T> sample() {
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int i = random.nextInt(entries.size());
+        return Optional.of(entries.get(random.nextDouble() < prob[i] ? i : alias[i]));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> AliasTable<T> empty() {
+        return (AliasTable<T>) EMPTY;
+    }
+
+    public static <T> AliasTable<T> from(List<T> collection, ToDoubleFunction<T> weightFunction) {
+        final List<T> entries = collection.stream()
+                .filter((entry) -> weightFunction.applyAsDouble(entry) > 0)
+                .toList();
+        if (entries.isEmpty()) {
+            return empty();
+        }
+        // Scale weights so that the average weight is 1
+        final int n = entries.size();
+        final double totalWeight = entries.stream().mapToDouble(weightFunction).sum();
+        final double[] scaled = new double[n];
+        final Deque<Integer> small = new ArrayDeque<>();
+        final Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weightFunction.applyAsDouble(entries.get(i)) * n / totalWeight;
+            if (scaled[i] < 1.0) {
+                small.add(i);
+            } else {
+                large.add(i);
+            }
+        }
+        // Pair each small column with a large column that fills the remainder
+        final double[] prob = new double[n];
+        final int[] alias = new int[n];
+        while (!small.isEmpty() && !large.isEmpty()) {
+            final int s = small.poll();
+            final int l = large.poll();
+            prob[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) {
+                small.add(l);
+            } else {
+                large.add(l);
+            }
+        }
+        // Remaining columns are full, up to rounding errors
+        while (!large.isEmpty()) {
+            prob[large.poll()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            prob[small.poll()] = 1.0;
+        }
+        return new AliasTable<>(entries, prob, alias);
+    }
+}
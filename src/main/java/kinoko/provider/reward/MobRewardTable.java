@@ -0,0 +1,60 @@
+package kinoko.provider.reward;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Immutable reward table of a mob, precomputed when the reward data is loaded. Each reward is rolled independently when
+ * the mob dies, while stealing selects a single reward weighted by its probability.
+ */
+public final class MobRewardTable {
+    private static final MobRewardTable EMPTY = new MobRewardTable(List.of());
+    private final List<Reward> rewards;
+    private final double[] probs;
+    private final AliasTable<Reward> stealTable;
+
+    private MobRewardTable(List<Reward> rewards) {
+        this.rewards = rewards;
+        this.probs = rewards.stream().mapToDouble(Reward::getProb).toArray();
+        this.stealTable = AliasTable.from(rewards, Reward::getProb);
+    }
+
+    public List<Reward> getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Rolls each reward once, with its probability scaled by the drop multiplier of the kill.
+     *
+     * @param multiplier combined drop rate multiplier, applied to the probability of every reward
+     * @param consumer   called for each reward that succeeded, in reward order
+     */
+    public void rollRewards(double multiplier, Consumer<Reward> consumer) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < probs.length; i++) {
+            if (random.nextDouble() < probs[i] * multiplier) {
+                consumer.accept(rewards.get(i));
+            }
+        }
+    }
+
+    /**
+     * Selects a single reward with a probability proportional to its drop probability.
+     */
+    public Optional<Reward> sampleReward() {
+        return stealTable.sample();
+    }
+
+    public static MobRewardTable from(List<Reward> rewards) {
+        if (rewards.isEmpty()) {
+            return EMPTY;
+        }
+        return new MobRewardTable(List.copyOf(rewards));
+    }
+
+    public static MobRewardTable empty() {
+        return EMPTY;
+    }
+}
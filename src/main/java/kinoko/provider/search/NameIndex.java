@@ -0,0 +1,152 @@
+package kinoko.provider.search;
+
+import java.util.*;
+
+/**
+ * Immutable index for case-insensitive substring search over a map of names, built once when the names are loaded.
+ * <p>
+ * Every trigram of every name is mapped to the sorted list of entries containing it. Queries of three or more characters
+ * intersect the posting lists of their trigrams, starting with the shortest, and only verify the remaining candidates.
+ * Shorter queries fall back to a scan of the lowercase names. Results are ranked by how well the name matches the
+ * query, see {@link #search(String, int)}.
+ */
+public final class NameIndex {
+    private static final int GRAM_SIZE = 3;
+    private final int[] ids;
+    private final String[] names; // lowercase
+    private final Map<Long, int[]> postings; // trigram -> sorted entry indexes
+
+    private NameIndex(int[] ids, String[] names, Map<Long, int[]> postings) {
+        this.ids = ids;
+        this.names = names;
+        this.postings = postings;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public List<Integer> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the IDs of the names containing the query, ignoring case. Exact matches are ranked first, followed by names
+     * starting with the query, names with a word starting with the query, and any other names containing the query. Ties
+     * are ranked by shorter name, then by lower ID.
+     *
+     * @param query the text to search for
+     * @param limit the maximum number of results
+     * @return the ranked IDs of the matching names
+     */
+    public List<Integer> search(String query, int limit) {
+        final String normalized = query.toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        final List<Integer> matches = new ArrayList<>();
+        if (normalized.length() < GRAM_SIZE) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].contains(normalized)) {
+                    matches.add(i);
+                }
+            }
+        } else {
+            final int[] candidates = getCandidates(normalized);
+            for (int i : candidates) {
+                if (names[i].contains(normalized)) {
+                    matches.add(i);
+                }
+            }
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingInt((Integer i) -> getRank(names[i], normalized))
+                        .thenComparingInt((Integer i) -> names[i].length())
+                        .thenComparingInt((Integer i) -> ids[i]))
+                .limit(limit)
+                .map((i) -> ids[i])
+                .toList();
+    }
+
+    private int[] getCandidates(String normalized) {
+        final List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            final int[] posting = postings.get(gram(normalized, i));
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt((int[] posting) -> posting.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int getRank(String name, String query) {
+        if (name.equals(query)) {
+            return 0;
+        } else if (name.startsWith(query)) {
+            return 1;
+        }
+        int index = name.indexOf(query);
+        while (index > 0) {
+            if (!Character.isLetterOrDigit(name.charAt(index - 1))) {
+                return 2;
+            }
+            index = name.indexOf(query, index + 1);
+        }
+        return 3;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        final int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static long gram(String s, int index) {
+        return ((long) s.charAt(index) << 32) | ((long) s.charAt(index + 1) << 16) | s.charAt(index + 2);
+    }
+
+    public static NameIndex from(Map<Integer, String> names) {
+        final List<Map.Entry<Integer, String>> entries = names.entrySet().stream()
+                .filter((entry) -> entry.getValue() != null)
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        final int[] ids = new int[entries.size()];
+        final String[] normalizedNames = new String[entries.size()];
+        final Map<Long, List<Integer>> gramEntries = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ids[i] = entries.get(i).getKey();
+            normalizedNames[i] = entries.get(i).getValue().toLowerCase(Locale.ROOT);
+            final Set<Long> grams = new HashSet<>();
+            for (int j = 0; j + GRAM_SIZE <= normalizedNames[i].length(); j++) {
+                grams.add(gram(normalizedNames[i], j));
+            }
+            for (long gram : grams) {
+                gramEntries.computeIfAbsent(gram, (key) -> new ArrayList<>()).add(i);
+            }
+        }
+        final Map<Long, int[]> postings = new HashMap<>();
+        for (var entry : gramEntries.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return new NameIndex(ids, normalizedNames, postings);
+    }
+}
@@ -8,13 +8,18 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 
+/**
+ * Decrypts WZ strings with the AES mask of the configured cipher. The mask is grown on demand and shared between
+ * threads, as strings are decrypted by the parallel provider loaders and by lazily resolved providers on game threads.
+ * A grown mask is published as a new array, so readers never observe a partially computed mask.
+ */
 public final class WzCrypto {
     public static final int BATCH_SIZE = 1024;
     private static Cipher cipher = getCipher(WzConstants.WZ_GMS_IV);
-    private static byte[] cipherMask = new byte[]{};
+    private static volatile byte[] cipherMask = new byte[]{}; // read without locking by concurrent providers
 
     public static void cryptAscii(byte[] data) {
-        ensureSize(data.length);
+        final byte[] cipherMask = ensureSize(data.length);
         byte mask = (byte) 0xAA;
         for (int i = 0; i < data.length; i++) {
             data[i] = (byte) (data[i] ^ cipherMask[i] ^ mask);
@@ -23,7 +28,7 @@ public final class WzCrypto {
     }
 
     public static void cryptUnicode(byte[] data) {
-        ensureSize(data.length);
+        final byte[] cipherMask = ensureSize(data.length);
         short mask = (short) 0xAAAA;
         for (int i = 0; i < data.length; i += 2) {
             data[i] = (byte) (data[i] ^ cipherMask[i] ^ (mask & 0xFF));
@@ -32,10 +37,18 @@ public final class WzCrypto {
         }
     }
 
-    private static synchronized void ensureSize(int size) {
+    private static byte[] ensureSize(int size) {
+        final byte[] currentMask = cipherMask;
+        if (currentMask.length >= size) {
+            return currentMask;
+        }
+        return growMask(size);
+    }
+
+    private static synchronized byte[] growMask(int size) {
         final int curSize = cipherMask.length;
         if (curSize >= size) {
-            return;
+            return cipherMask;
         }
         final int newSize = ((size / BATCH_SIZE) + 1) * BATCH_SIZE;
         final byte[] newMask = new byte[newSize];
@@ -47,6 +60,7 @@ public final class WzCrypto {
             }
         }
         cipherMask = newMask;
+        return newMask;
     }
 
     public static Cipher getCipher(byte[] iv) {
@@ -80,7 +94,7 @@ public final class WzCrypto {
         }
     }
 
-    public static void setCipher(Cipher cipher) {
+    public static synchronized void setCipher(Cipher cipher) {
         WzCrypto.cipher = cipher;
         WzCrypto.cipherMask = new byte[]{};
     }
@@ -5,6 +5,7 @@ import kinoko.provider.*;
 import kinoko.script.common.ScriptDispatcher;
 import kinoko.server.cashshop.CashShop;
 import kinoko.server.command.CommandProcessor;
+import kinoko.server.netty.NettyTransport;
 import kinoko.server.node.CentralServerNode;
 import kinoko.server.node.ChannelServerNode;
 import kinoko.server.node.LoginServerNode;
@@ -27,23 +28,26 @@ public final class Server {
     private static void initialize() throws Exception {
         // Initialize providers
         logDuration("Loading providers", () -> {
-            ItemProvider.initialize();      // Character.wz + Item.wz
-            SkillProvider.initialize();     // Skill.wz + Morph.wz
-            MapProvider.initialize();       // Map.wz
-            MobProvider.initialize();       // Mob.wz
-            NpcProvider.initialize();       // Npc.wz
-            ReactorProvider.initialize();   // Reactor.wz
-            QuestProvider.initialize();     // Quest.wz
-            StringProvider.initialize();    // String.wz
-            EtcProvider.initialize();       // Etc.wz
-            ShopProvider.initialize();      // data/shop
-            RewardProvider.initialize();    // data/reward
-            CashShop.initialize();          // data/cash
+            new ProviderLoader()
+                    .add("ItemProvider", ItemProvider::initialize)          // Character.wz + Item.wz
+                    .add("SkillProvider", SkillProvider::initialize)        // Skill.wz + Morph.wz
+                    .add("MapProvider", MapProvider::initialize)            // Map.wz
+                    .add("MobProvider", MobProvider::initialize)            // Mob.wz
+                    .add("NpcProvider", NpcProvider::initialize)            // Npc.wz
+                    .add("ReactorProvider", ReactorProvider::initialize)    // Reactor.wz
+                    .add("QuestProvider", QuestProvider::initialize, "MobProvider")     // Quest.wz
+                    .add("StringProvider", StringProvider::initialize)      // String.wz
+                    .add("EtcProvider", EtcProvider::initialize, "QuestProvider")       // Etc.wz
+                    .add("ShopProvider", ShopProvider::initialize, "ItemProvider")      // data/shop
+                    .add("RewardProvider", RewardProvider::initialize)      // data/reward
+                    .add("CashShop", CashShop::initialize, "EtcProvider")   // data/cash
+                    .load();
             System.gc();
         }, log);
 
         // Initialize server classes
         MapleCrypto.initialize();
+        NettyTransport.initialize();
         ServerExecutor.initialize();
         CommandProcessor.initialize();
 
@@ -59,8 +63,10 @@ public final class Server {
         // Initialize nodes
         centralServerNode = new CentralServerNode(ServerConstants.CENTRAL_PORT);
 
-        // Initialize families
-        logDuration("Loaded families", centralServerNode::createAllFamilies, log);
+        // Initialize families, otherwise they are loaded when a member logs in
+        if (!ServerConfig.FAMILY_LAZY_LOAD) {
+            logDuration("Loaded families", centralServerNode::createAllFamilies, log);
+        }
 
         ServerExecutor.submitService(() -> {
             try {
@@ -107,6 +113,7 @@ public final class Server {
         centralServerNode.shutdown();
         ScriptDispatcher.shutdown();
         RankManager.shutdown();
+        NettyTransport.shutdown();
         ServerExecutor.shutdown();
         DatabaseManager.shutdown();
         LogManager.shutdown();
@@ -16,12 +16,33 @@ public final class ServerConfig {
     public static final int CHANNELS_PER_WORLD = Util.getEnv("CHANNEL_COUNT", 5);
     public static final int CENTRAL_REQUEST_TTL = 5;
     public static final int FIELD_TICK_INTERVAL = 100; // 100 ms tick
+    public static final boolean FIELD_ACTOR_EXECUTOR = Util.getEnv("FIELD_ACTOR_EXECUTOR", false); // per-field mailbox on a work-stealing pool
+    public static final int FIELD_UNLOAD_TIMEOUT = Util.getEnv("FIELD_UNLOAD_TIMEOUT", 600); // unload fields unused for 10 minutes, 0 to disable
+    public static final int FIELD_UNLOAD_INTERVAL = 60;
     public static final int SHUTDOWN_TIMEOUT = 30;
+    public static final String NETTY_TRANSPORT = Util.getEnv("NETTY_TRANSPORT", "auto"); // auto, io_uring, epoll, nio
+    public static final int NETTY_BOSS_THREADS = Util.getEnv("NETTY_BOSS_THREADS", 1);
+    public static final int NETTY_WORKER_THREADS = Util.getEnv("NETTY_WORKER_THREADS", 0); // 0 for 2 * available processors
+    public static final boolean WRITE_COALESCING = Util.getEnv("WRITE_COALESCING", true); // flush client writes at the end of each game task
+    public static final int WRITE_FLUSH_MAX_DELAY = Util.getEnv("WRITE_FLUSH_MAX_DELAY", 10); // 10 ms
+
+    public static final int CHARACTER_SAVE_INTERVAL = Util.getEnv("CHARACTER_SAVE_INTERVAL", 300); // 5 minutes, 0 to only save on logout
+    public static final int CHARACTER_SAVE_THREADS = Util.getEnv("CHARACTER_SAVE_THREADS", 4);
+
+    public static final int LOGIN_AUTH_CONCURRENCY = Util.getEnv("LOGIN_AUTH_CONCURRENCY", 0); // 0 for available processors
+    public static final int LOGIN_QUEUE_LIMIT = Util.getEnv("LOGIN_QUEUE_LIMIT", 500);
 
     public static final boolean AUTO_CREATE_ACCOUNT = Util.getEnv("AUTO_CREATE_ACCOUNT", true);
     public static final boolean REQUIRE_SECONDARY_PASSWORD = Util.getEnv("REQUIRE_SECONDARY_PASSWORD", true);
     public static final String WZ_DIRECTORY = Util.getEnv("WZ_DIRECTORY", "wz");
     public static final String DATA_DIRECTORY = Util.getEnv("DATA_DIRECTORY", "data");
+    public static final boolean PROVIDER_LAZY = Util.getEnv("PROVIDER_LAZY", false); // resolve maps and mobs on first access
+    public static final int PROVIDER_CACHE_SIZE = Util.getEnv("PROVIDER_CACHE_SIZE", 1000); // per provider, in lazy mode
+    public static final String PROVIDER_WARM_MAPS = Util.getEnv("PROVIDER_WARM_MAPS", "100000000,101000000,102000000,103000000,104000000,910000000"); // pinned in lazy mode
+    public static final boolean PROVIDER_SNAPSHOT = Util.getEnv("PROVIDER_SNAPSHOT", false); // load reward, string, commodity and shop data from binary snapshots
+    public static final String PROVIDER_SNAPSHOT_DIRECTORY = Util.getEnv("PROVIDER_SNAPSHOT_DIRECTORY", "snapshot");
+
+    public static final boolean FAMILY_LAZY_LOAD = Util.getEnv("FAMILY_LAZY_LOAD", true); // load family trees when a member logs in
 
     public static final int CHARACTER_BASE_SLOTS = Util.getEnv("CHARACTER_BASE_SLOTS", 3);
     public static final int INVENTORY_BASE_SLOTS = Util.getEnv("INVENTORY_BASE_SLOTS", 24);
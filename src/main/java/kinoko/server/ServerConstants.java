@@ -28,6 +28,7 @@ public final class ServerConstants {
     // Postgres Specific
     public static final String DATABASE_USER = Util.getEnv("DB_USER", "postgres");
     public static final String DATABASE_PASSWORD = Util.getEnv("DB_PASS","admin");
+    public static final boolean DATABASE_PIPELINED_LOAD = Util.getEnv("DB_PIPELINED_LOAD", true);
 
     // Cassandra Specific
     public static final String DATABASE_DATACENTER = Util.getEnv("DB_DATACENTER","datacenter1");
@@ -0,0 +1,58 @@
+package kinoko.server.command.admin;
+
+import kinoko.server.command.Command;
+import kinoko.server.node.GameExecutor;
+import kinoko.server.node.LoginAdmission;
+import kinoko.server.node.ServerExecutor;
+import kinoko.util.Timing;
+import kinoko.world.field.Field;
+import kinoko.world.user.User;
+
+import java.util.Comparator;
+import java.util.List;
+
+public final class ExecutorCommand {
+    /**
+     * Admin command to display the busiest field executors in the current channel.
+     * Usage: !executors [count]
+     */
+    @Command("executors")
+    public static void executors(User user, String[] args) {
+        int count = 10;
+        if (args.length > 1) {
+            try {
+                count = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                user.systemMessage("Usage: !executors [count]");
+                return;
+            }
+        }
+        final List<Field> loadedFields = user.getConnectedServer().getFields();
+        final List<Field> fields = loadedFields.stream()
+                .sorted(Comparator.comparingInt((Field field) -> field.getExecutor().getQueueDepth())
+                        .thenComparingLong((Field field) -> field.getExecutor().getAverageWaitTime())
+                        .reversed())
+                .limit(count)
+                .toList();
+        user.systemMessage("Field executors (%d loaded, %d ticking in world) :", loadedFields.size(), ServerExecutor.getFieldTickCount());
+        user.systemMessage("  %d fields unloaded, %d field objects released", user.getConnectedServer().getUnloadedFieldCount(), user.getConnectedServer().getUnloadedObjectCount());
+        user.systemMessage("  login queue %d / max %d, auth %d, rejected %d, latency avg %d ms / max %d ms",
+                LoginAdmission.getQueueDepth(),
+                LoginAdmission.getMaxQueueDepth(),
+                LoginAdmission.getAuthCount(),
+                LoginAdmission.getRejectedCount(),
+                LoginAdmission.getAverageAuthTime() / Timing.NANOS_IN_MILLI,
+                LoginAdmission.getMaxAuthTime() / Timing.NANOS_IN_MILLI
+        );
+        for (Field field : fields) {
+            final GameExecutor executor = field.getExecutor();
+            user.systemMessage("  %d : queue %d, tasks %d, wait avg %d ms / max %d ms",
+                    field.getFieldId(),
+                    executor.getQueueDepth(),
+                    executor.getTaskCount(),
+                    executor.getAverageWaitTime() / Timing.NANOS_IN_MILLI,
+                    executor.getMaxWaitTime() / Timing.NANOS_IN_MILLI
+            );
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package kinoko.server.command.admin;
+
+import kinoko.server.command.Command;
+import kinoko.server.netty.WriteCoalescer;
+import kinoko.server.packet.OutPacketStats;
+import kinoko.world.user.User;
+
+import java.util.Comparator;
+import java.util.List;
+
+public final class PacketCommand {
+    /**
+     * Admin command to display the most frequently created packets, with their typical size and initial capacity.
+     * Usage: !packets [count]
+     */
+    @Command("packets")
+    public static void packets(User user, String[] args) {
+        int count = 10;
+        if (args.length > 1) {
+            try {
+                count = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                user.systemMessage("Usage: !packets [count]");
+                return;
+            }
+        }
+        final long flushCount = Math.max(WriteCoalescer.getFlushCount(), 1);
+        user.systemMessage("Flushes : %.1f/s, %.1f packets and %d bytes per flush",
+                flushCount / Math.max(WriteCoalescer.getElapsedSeconds(), 1.0),
+                (double) WriteCoalescer.getPacketCount() / flushCount,
+                WriteCoalescer.getByteCount() / flushCount
+        );
+        final long bufferCount = OutPacketStats.getBufferAllocationCount();
+        user.systemMessage("Buffers : %d allocated, %.1f%% recycled",
+                bufferCount,
+                100.0 * (bufferCount - OutPacketStats.getBufferCreationCount()) / Math.max(bufferCount, 1)
+        );
+        final double elapsedSeconds = Math.max(OutPacketStats.getElapsedSeconds(), 1.0);
+        final List<OutPacketStats.Entry> entries = OutPacketStats.getEntries().values().stream()
+                .filter((entry) -> entry.getAllocationCount() > 0)
+                .sorted(Comparator.comparingLong(OutPacketStats.Entry::getAllocationCount).reversed())
+                .limit(count)
+                .toList();
+        for (OutPacketStats.Entry entry : entries) {
+            user.systemMessage("%s : %.1f/s, avg %d bytes, capacity %d",
+                    entry.getHeader(),
+                    entry.getAllocationCount() / elapsedSeconds,
+                    entry.getAverageSize(),
+                    entry.getCapacityHint()
+            );
+        }
+    }
+}
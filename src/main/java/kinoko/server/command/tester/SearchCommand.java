@@ -12,6 +12,7 @@ import kinoko.server.cashshop.CashShop;
 import kinoko.server.cashshop.Commodity;
 import kinoko.server.command.Command;
 import kinoko.server.command.Arguments;
+import kinoko.server.node.ServerExecutor;
 import kinoko.util.Util;
 import kinoko.world.user.User;
 import kinoko.provider.map.PortalInfo;
@@ -19,9 +20,7 @@ import kinoko.provider.map.PortalInfo;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import kinoko.provider.skill.SkillStringInfo;
 
 
 /**
@@ -67,18 +66,15 @@ public final class SearchCommand {
         if (isNumber) {
             itemId = Integer.parseInt(query);
         } else {
-            List<Map.Entry<Integer, String>> results = StringProvider.getItemNames().entrySet().stream()
-                    .filter(entry -> entry.getValue().toLowerCase().contains(query.toLowerCase()))
-                    .sorted(Map.Entry.comparingByKey())
-                    .toList();
+            final List<Integer> results = StringProvider.searchItems(query);
             if (results.isEmpty()) {
                 user.systemMessage("No item found for name: %s", query);
                 return;
             } else if (results.size() == 1) {
-                itemId = results.get(0).getKey();
+                itemId = results.get(0);
             } else {
                 user.systemMessage("Results for item name: \"%s\"", query);
-                results.forEach(entry -> user.systemMessage("  %d : %s", entry.getKey(), entry.getValue()));
+                results.forEach(id -> user.systemMessage("  %d : %s", id, StringProvider.getItemName(id)));
                 return;
             }
         }
@@ -106,18 +102,15 @@ public final class SearchCommand {
         if (isNumber) {
             mapId = Integer.parseInt(query);
         } else {
-            List<Map.Entry<Integer, String>> results = StringProvider.getMapNames().entrySet().stream()
-                    .filter(entry -> entry.getValue().toLowerCase().contains(query.toLowerCase()))
-                    .sorted(Map.Entry.comparingByKey())
-                    .toList();
+            final List<Integer> results = StringProvider.searchMaps(query);
             if (results.isEmpty()) {
                 user.systemMessage("No map found for name: %s", query);
                 return;
             } else if (results.size() == 1) {
-                mapId = results.get(0).getKey();
+                mapId = results.get(0);
             } else {
                 user.systemMessage("Results for map name: \"%s\"", query);
-                results.forEach(entry -> user.systemMessage("  %d : %s", entry.getKey(), entry.getValue()));
+                results.forEach(id -> user.systemMessage("  %d : %s", id, StringProvider.getMapName(id)));
                 return;
             }
         }
@@ -132,11 +125,6 @@ public final class SearchCommand {
 
         MapInfo mapInfo = mapInfoResult.get();
 
-        List<MapInfo> connectedMaps = MapProvider.getMapInfos().stream()
-                .filter(m -> m.getPortalInfos().stream().anyMatch(p -> p.getDestinationFieldId() == mapIdFinal))
-                .sorted(Comparator.comparingInt(MapInfo::getMapId))
-                .toList();
-
         user.systemMessage("Map: %s (%d)", StringProvider.getMapName(mapIdFinal), mapIdFinal);
         user.systemMessage("  type: %s", mapInfo.getFieldType());
         user.systemMessage("  returnMap: %d", mapInfo.getReturnMap());
@@ -151,28 +139,28 @@ public final class SearchCommand {
                     .forEach(p -> user.systemMessage("    %s (%d, %d)", p.getPortalName(), p.getX(), p.getY()));
         }
 
-        if (!connectedMaps.isEmpty()) {
-            user.systemMessage("  connectedMaps:");
-            connectedMaps.forEach(m -> user.systemMessage("    %s (%d)", StringProvider.getMapName(m.getMapId()), m.getMapId()));
-        }
+        withMapIndex(user, () -> {
+            List<Integer> connectedMaps = MapProvider.getPortalSources(mapIdFinal);
+            if (!connectedMaps.isEmpty()) {
+                user.systemMessage("  connectedMaps:");
+                connectedMaps.forEach(id -> user.systemMessage("    %s (%d)", StringProvider.getMapName(id), id));
+            }
+        });
     }
 
 
     private static void findMob(User user, String query, boolean isNumber) {
         int mobId = isNumber ? Integer.parseInt(query) : -1;
         if (!isNumber) {
-            List<Map.Entry<Integer, String>> results = StringProvider.getMobNames().entrySet().stream()
-                    .filter(entry -> entry.getValue().toLowerCase().contains(query.toLowerCase()))
-                    .sorted(Map.Entry.comparingByKey())
-                    .toList();
+            final List<Integer> results = StringProvider.searchMobs(query);
             if (results.isEmpty()) {
                 user.systemMessage("No mob found for name: %s", query);
                 return;
             } else if (results.size() == 1) {
-                mobId = results.get(0).getKey();
+                mobId = results.get(0);
             } else {
                 user.systemMessage("Results for mob name: \"%s\"", query);
-                results.forEach(entry -> user.systemMessage("  %d : %s", entry.getKey(), entry.getValue()));
+                results.forEach(id -> user.systemMessage("  %d : %s", id, StringProvider.getMobName(id)));
                 return;
             }
         }
@@ -191,18 +179,15 @@ public final class SearchCommand {
     private static void findNpc(User user, String query, boolean isNumber) {
         int npcId = isNumber ? Integer.parseInt(query) : -1;
         if (!isNumber) {
-            List<Map.Entry<Integer, String>> results = StringProvider.getNpcNames().entrySet().stream()
-                    .filter(entry -> entry.getValue().toLowerCase().contains(query.toLowerCase()))
-                    .sorted(Map.Entry.comparingByKey())
-                    .toList();
+            final List<Integer> results = StringProvider.searchNpcs(query);
             if (results.isEmpty()) {
                 user.systemMessage("No npc found for name: %s", query);
                 return;
             } else if (results.size() == 1) {
-                npcId = results.get(0).getKey();
+                npcId = results.get(0);
             } else {
                 user.systemMessage("Results for npc name: \"%s\"", query);
-                results.forEach(entry -> user.systemMessage("  %d : %s", entry.getKey(), entry.getValue()));
+                results.forEach(id -> user.systemMessage("  %d : %s", id, StringProvider.getNpcName(id)));
                 return;
             }
         }
@@ -214,31 +199,41 @@ public final class SearchCommand {
         }
 
         NpcTemplate npc = npcTemplateResult.get();
-        List<MapInfo> npcFields = MapProvider.getMapInfos().stream()
-                .filter(m -> m.getLifeInfos().stream().anyMatch(l -> l.getTemplateId() == npc.getId()))
-                .sorted(Comparator.comparingInt(MapInfo::getMapId))
-                .toList();
-
         user.systemMessage("Npc: %s (%d)", StringProvider.getNpcName(npcId), npcId);
         user.systemMessage("  script: %s", npc.getScript());
-        npcFields.forEach(f -> user.systemMessage("  field: %s (%d)", StringProvider.getMapName(f.getMapId()), f.getMapId()));
+        withMapIndex(user, () -> {
+            MapProvider.getNpcFields(npc.getId()).forEach(id -> user.systemMessage("  field: %s (%d)", StringProvider.getMapName(id), id));
+        });
+    }
+
+    /**
+     * Runs a lookup of the map index. In lazy provider mode, the index is built on first use by resolving every map,
+     * which is done on the service executor before the lookup is run on the user's executor.
+     */
+    private static void withMapIndex(User user, Runnable lookup) {
+        if (MapProvider.isMapIndexReady()) {
+            lookup.run();
+            return;
+        }
+        user.systemMessage("  Building map index, this may take a while...");
+        ServerExecutor.submitService(() -> {
+            MapProvider.getPortalSources(0); // builds the index
+            ServerExecutor.submit(user, lookup);
+        });
     }
 
     private static void findSkill(User user, String query, boolean isNumber) {
         int skillId = isNumber ? Integer.parseInt(query) : -1;
         if (!isNumber) {
-            List<Map.Entry<Integer, SkillStringInfo>> results = StringProvider.getSkillStrings().entrySet().stream()
-                    .filter(e -> e.getValue().getName().toLowerCase().contains(query.toLowerCase()))
-                    .sorted(Map.Entry.comparingByKey())
-                    .toList();
+            final List<Integer> results = StringProvider.searchSkills(query);
             if (results.isEmpty()) {
                 user.systemMessage("No skill found for name: %s", query);
                 return;
             } else if (results.size() == 1) {
-                skillId = results.get(0).getKey();
+                skillId = results.get(0);
             } else {
                 user.systemMessage("Results for skill name: \"%s\"", query);
-                results.forEach(e -> user.systemMessage("  %d : %s", e.getKey(), e.getValue().getName()));
+                results.forEach(id -> user.systemMessage("  %d : %s", id, StringProvider.getSkillName(id)));
                 return;
             }
         }
@@ -6,12 +6,10 @@ import kinoko.provider.StringProvider;
 import kinoko.provider.reward.Reward;
 import kinoko.server.command.Arguments;
 import kinoko.server.command.Command;
+import kinoko.util.Tuple;
 import kinoko.world.user.User;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 
 public final class WhoDropsCommand {
     /**
@@ -40,31 +38,17 @@ public final class WhoDropsCommand {
             return;
         }
 
-        // Search through all mob rewards
-        final List<Map.Entry<Integer, Double>> droppedBy = new ArrayList<>();
-        for (Map.Entry<Integer, List<Reward>> entry : RewardProvider.getAllMobRewards().entrySet()) {
-            final int mobId = entry.getKey();
-            for (Reward reward : entry.getValue()) {
-                if (reward.getItemId() == itemId) {
-                    droppedBy.add(Map.entry(mobId, reward.getProb()));
-                    break; // Only count each mob once
-                }
-            }
-        }
-
+        final List<Tuple<Integer, Reward>> droppedBy = RewardProvider.getItemDroppers(itemId);
         if (droppedBy.isEmpty()) {
             user.systemMessage("No mobs drop '%s' (ID: %d)", itemName, itemId);
             return;
         }
 
-        // Sort by mob ID
-        droppedBy.sort(Comparator.comparingInt(Map.Entry::getKey));
-
         user.systemMessage("Item: %s (ID: %d)", itemName, itemId);
         user.systemMessage("Dropped by %d mob(s):", droppedBy.size());
-        for (Map.Entry<Integer, Double> mobEntry : droppedBy) {
-            final int mobId = mobEntry.getKey();
-            final double dropChance = mobEntry.getValue();
+        for (Tuple<Integer, Reward> mobEntry : droppedBy) {
+            final int mobId = mobEntry.getLeft();
+            final double dropChance = mobEntry.getRight().getProb();
             final String mobName = StringProvider.getMobName(mobId);
             user.systemMessage("  %d - %s (%.2f%% chance)", mobId, mobName, dropChance);
         }
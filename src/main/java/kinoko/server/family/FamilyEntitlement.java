@@ -3,6 +3,10 @@ package kinoko.server.family;
 
 import kinoko.util.Timing;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Represents a Family Entitlement in the server.
  *
@@ -109,5 +113,26 @@ public enum FamilyEntitlement {
         }
         return ""; // e.g. teleport/haste/etc
     }
-}
 
+    /**
+     * Returns a new snapshot of active entitlements with the given entitlement activated,
+     * dropping the entitlements that have expired. The returned map is never modified, so
+     * it can be published through a volatile field and read without locking.
+     *
+     * @param active   the current snapshot, mapping entitlements to their expiry time in seconds
+     * @param ent      the entitlement to activate
+     * @param expireAt the expiry time of the activated entitlement in seconds
+     * @param now      the current time in seconds
+     * @return the new snapshot
+     */
+    public static Map<FamilyEntitlement, Long> activate(Map<FamilyEntitlement, Long> active, FamilyEntitlement ent, long expireAt, long now) {
+        Map<FamilyEntitlement, Long> next = new EnumMap<>(FamilyEntitlement.class);
+        for (Map.Entry<FamilyEntitlement, Long> entry : active.entrySet()) {
+            if (entry.getValue() >= now) {
+                next.put(entry.getKey(), entry.getValue());
+            }
+        }
+        next.put(ent, expireAt);
+        return Collections.unmodifiableMap(next);
+    }
+}
@@ -0,0 +1,25 @@
+package kinoko.server.family;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the lock stripes of one or more family trees, acquired with
+ * {@link FamilyStorage#lock(int...)}. Use with try-with-resources so the
+ * stripes are always released.
+ */
+public final class FamilyLock implements AutoCloseable {
+    private final List<ReentrantLock> locks;
+
+    FamilyLock(List<ReentrantLock> locks) {
+        this.locks = locks;
+    }
+
+    @Override
+    public void close() {
+        // Release in the reverse order of acquisition
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+}
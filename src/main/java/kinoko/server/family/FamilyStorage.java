@@ -2,34 +2,88 @@ package kinoko.server.family;
 
 import kinoko.world.user.FamilyMember;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Stores all FamilyTree instances in memory.
+ * Stores the FamilyTree instances in memory.
  * Keyed by leaderId (root character of the family).
+ *
+ * Locking: each character is assigned one of a fixed number of lock stripes,
+ * and a family tree is locked by acquiring the stripes of all its members, see
+ * {@link #lock(int...)}. Operations on unrelated families therefore only contend
+ * when their members share a stripe. Lookups do not lock, the maps are concurrent.
+ *
+ * Loading: trees are either all loaded at startup, or loaded on demand when the
+ * first of their members logs in and evicted once none of their members are
+ * active anymore, see {@link #markActive(int)} and {@link #markInactive(int)}.
+ * Evicted trees are saved asynchronously, and the pending save is tracked for
+ * every member so that the tree is only loaded again once it is saved.
  */
 public final class FamilyStorage {
+    private static final int LOCK_STRIPES = 256;
 
     private final ConcurrentHashMap<Integer, FamilyTree> families = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<Integer, FamilyTree> memberLookup = new ConcurrentHashMap<>();
+    private final Set<Integer> activeMembers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Integer, CompletableFuture<Void>> pendingSaves = new ConcurrentHashMap<>(); // character id -> save
 
-    private final ReentrantLock globalFamilyLock = new ReentrantLock();
+    private final ReentrantLock[] lockStripes = new ReentrantLock[LOCK_STRIPES];
+
+    public FamilyStorage() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            lockStripes[i] = new ReentrantLock();
+        }
+    }
 
     /**
-     * Returns the global lock for family storage.
+     * Locks the family trees of the given characters, or only the characters
+     * themselves if they are not part of a family.
      *
-     * Acquire this lock when performing multiple reads/writes on FamilyStorage.
-     * Keep the scope short, avoid I/O or network operations while locked, and
-     * never combine with other locks to prevent deadlocks.
+     * The stripes of all members of the resolved trees are acquired in ascending
+     * order, so that locking multiple families never deadlocks. Trees are only
+     * modified while holding the stripes of all their members, so if a tree
+     * changed while its stripes were being acquired, the stripes are released
+     * and acquired again for the new members.
      *
-     * @return the ReentrantLock protecting family storage
+     * Keep the scope short, and avoid I/O or network operations while locked.
+     *
+     * @param characterIds the character IDs whose families should be locked
+     * @return the acquired lock, to be closed by the caller
      */
-    public ReentrantLock getGlobalLock() {
-        return globalFamilyLock;
+    public FamilyLock lock(int... characterIds) {
+        while (true) {
+            final SortedSet<Integer> stripes = resolveStripes(characterIds);
+            final List<ReentrantLock> locks = new ArrayList<>(stripes.size());
+            for (int stripe : stripes) {
+                lockStripes[stripe].lock();
+                locks.add(lockStripes[stripe]);
+            }
+            if (stripes.containsAll(resolveStripes(characterIds))) {
+                return new FamilyLock(locks);
+            }
+            new FamilyLock(locks).close();
+        }
+    }
+
+    private SortedSet<Integer> resolveStripes(int... characterIds) {
+        final SortedSet<Integer> stripes = new TreeSet<>();
+        for (int characterId : characterIds) {
+            stripes.add(getStripe(characterId));
+            final FamilyTree tree = memberLookup.get(characterId);
+            if (tree != null) {
+                for (int memberId : tree.getMemberIds()) {
+                    stripes.add(getStripe(memberId));
+                }
+            }
+        }
+        return stripes;
+    }
+
+    private static int getStripe(int characterId) {
+        return Math.floorMod(characterId, LOCK_STRIPES);
     }
 
     /**
@@ -45,7 +99,7 @@ public final class FamilyStorage {
      */
     public boolean removeFamily(FamilyTree family) {
         if (!families.remove(family.getLeaderId(), family)) return false;
-        family.forEach(member -> memberLookup.remove(member.getCharacterId()));
+        family.forEach(member -> memberLookup.remove(member.getCharacterId(), family));
         return true;
     }
 
@@ -107,6 +161,70 @@ public final class FamilyStorage {
         memberLookup.remove(characterId);
     }
 
+    /**
+     * Marks a character as active, preventing their family tree from being
+     * evicted. Call while holding the character's family lock.
+     *
+     * @param characterId the character ID of the member that logged in
+     */
+    public void markActive(int characterId) {
+        activeMembers.add(characterId);
+    }
+
+    /**
+     * Marks a character as inactive. Call while holding the character's family lock.
+     *
+     * @param characterId the character ID of the member that logged out
+     * @return the character's family tree if none of its members are active
+     *         anymore and it can be evicted, or an empty Optional otherwise
+     */
+    public Optional<FamilyTree> markInactive(int characterId) {
+        activeMembers.remove(characterId);
+        final FamilyTree tree = memberLookup.get(characterId);
+        if (tree == null) {
+            return Optional.empty();
+        }
+        for (int memberId : tree.getMemberIds()) {
+            if (activeMembers.contains(memberId)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(tree);
+    }
+
+    /**
+     * Returns whether a character is marked as active.
+     */
+    public boolean isActive(int characterId) {
+        return activeMembers.contains(characterId);
+    }
+
+    /**
+     * Registers the pending save of an evicted family tree for each of its members. Call while
+     * holding the family lock of the tree, the entries are removed once the save completes.
+     *
+     * @param family     the evicted FamilyTree
+     * @param saveFuture the future of the save
+     */
+    public void addPendingSave(FamilyTree family, CompletableFuture<Void> saveFuture) {
+        for (int memberId : family.getMemberIds()) {
+            pendingSaves.put(memberId, saveFuture);
+        }
+        saveFuture.whenComplete((result, throwable) -> {
+            for (int memberId : family.getMemberIds()) {
+                pendingSaves.remove(memberId, saveFuture);
+            }
+        });
+    }
+
+    /**
+     * Returns the pending save of the evicted family tree of a character, which should complete
+     * before the tree is loaded again. Call while holding the character's family lock.
+     */
+    public Optional<CompletableFuture<Void>> getPendingSave(int characterId) {
+        return Optional.ofNullable(pendingSaves.get(characterId));
+    }
+
     /**
      * Returns all FamilyTrees stored.
      */
@@ -18,13 +18,20 @@ import java.util.function.Consumer;
  * pedigrees, performing DFS traversal, and encoding family data for client packets.
  *
  * Thread-safety: Individual FamilyTree instances do not require locks, as all
- * modifications are protected by the global family lock in FamilyStorage.
+ * modifications are protected by the family lock of its members, see
+ * {@link FamilyStorage#lock(int...)}. The member IDs and active entitlements
+ * are the exception: they are published as immutable snapshots, so the lock
+ * stripes and the EXP and drop modifiers can be resolved without the lock.
  */
 public final class FamilyTree {
     /** characterId → FamilyMember map */
     private final Map<Integer, FamilyMember> members = new HashMap<>();
 
-    private final Map<FamilyEntitlement, Long> activeEntitlements = new HashMap<>();
+    /** snapshot of the member IDs, replaced whenever a member is added or removed */
+    private volatile Set<Integer> memberIds = Set.of();
+
+    /** entitlement → expiry time in seconds, replaced on activation */
+    private volatile Map<FamilyEntitlement, Long> activeEntitlements = Map.of();
 
     private String familyMessage;
 
@@ -38,6 +45,7 @@ public final class FamilyTree {
     public FamilyTree(FamilyMember leader) {
         members.put(leader.getCharacterId(), leader);
         this.leaderId = leader.getCharacterId();
+        this.memberIds = Set.copyOf(members.keySet());
     }
 
     // -------------------------------------------------------------------------
@@ -52,6 +60,18 @@ public final class FamilyTree {
         return members.get(characterId);
     }
 
+    /**
+     * Returns the character IDs of all members in this FamilyTree.
+     *
+     * The returned set is an immutable snapshot and may be read without
+     * holding the family lock, e.g. to resolve the lock stripes of this tree.
+     *
+     * @return an immutable Set of the member character IDs
+     */
+    public Set<Integer> getMemberIds() {
+        return memberIds;
+    }
+
     /**
      * Returns an unmodifiable collection of all members in this FamilyTree.
      *
@@ -120,36 +140,30 @@ public final class FamilyTree {
      * Activates a given family entitlement for the user.
      *
      * The entitlement will be active for its defined duration in minutes, converted to seconds.
-     * The expiration time is stored in the activeEntitlements map.
+     * A new snapshot of the active entitlements is published, dropping expired entitlements.
      *
      * @param ent the FamilyEntitlement to activate
      */
     public void activateEntitlement(FamilyEntitlement ent) {
         long expiresMinutes = ent.getExpiresAfterMinutes();
-        long expireAt = Timing.nowSeconds() + expiresMinutes * Timing.SECONDS_IN_MINUTE;
+        long now = Timing.nowSeconds();
+        long expireAt = now + expiresMinutes * Timing.SECONDS_IN_MINUTE;
 
-        activeEntitlements.put(ent, expireAt);
+        activeEntitlements = FamilyEntitlement.activate(activeEntitlements, ent, expireAt, now);
     }
 
     /**
      * Checks if a given family entitlement is currently active for the user.
      *
-     * If the entitlement has expired (based on seconds), it is automatically removed from
-     * the activeEntitlements map.
+     * Reads the published snapshot and does not modify it, so this is safe to call
+     * without holding the family lock.
      *
      * @param ent the FamilyEntitlement to check
      * @return true if the entitlement is active and not expired, false otherwise
      */
     public boolean isEntitlementActive(FamilyEntitlement ent) {
         Long expireAt = activeEntitlements.get(ent);
-        if (expireAt == null) return false;
-
-        if (expireAt < Timing.nowSeconds()) {
-            activeEntitlements.remove(ent);  // expired
-            return false;
-        }
-
-        return true;
+        return expireAt != null && expireAt >= Timing.nowSeconds();
     }
 
     /**
@@ -209,6 +223,7 @@ public final class FamilyTree {
         FamilyMember parent = members.get(parentId);
         parent.addChild(junior.getCharacterId());  // duplicates ignored, may throw DumbDeveloperFound
         members.put(junior.getCharacterId(), junior);
+        memberIds = Set.copyOf(members.keySet());
 
         if (familyMessage != null){
             junior.setFamilyMessage(familyMessage);
@@ -241,6 +256,7 @@ public final class FamilyTree {
         member.setParentId(null);
 
         removeSubtree(characterId);
+        memberIds = Set.copyOf(members.keySet());
         return true;
     }
 
@@ -2,35 +2,127 @@ package kinoko.server.field;
 
 import kinoko.provider.MapProvider;
 import kinoko.provider.map.MapInfo;
+import kinoko.server.ServerConfig;
+import kinoko.server.node.FieldTicker;
+import kinoko.server.node.ServerExecutor;
 import kinoko.world.field.Field;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class ChannelFieldStorage implements FieldStorage {
+    private static final Logger log = LogManager.getLogger(ChannelFieldStorage.class);
     private final ConcurrentHashMap<Integer, Field> fieldMap = new ConcurrentHashMap<>(); // map id -> field
+    private final ConcurrentHashMap<Integer, CompletableFuture<Optional<Field>>> loadingMap = new ConcurrentHashMap<>(); // map id -> field being created
+    private final AtomicLong unloadedFieldCount = new AtomicLong(0);
+    private final AtomicLong unloadedObjectCount = new AtomicLong(0);
+    private ScheduledFuture<?> unloadSchedule;
+
+    public void initialize() {
+        if (ServerConfig.FIELD_UNLOAD_TIMEOUT > 0) {
+            unloadSchedule = ServerExecutor.scheduleServiceAtFixedRate(this::unloadFields, ServerConfig.FIELD_UNLOAD_INTERVAL, ServerConfig.FIELD_UNLOAD_INTERVAL, TimeUnit.SECONDS);
+        }
+    }
 
     @Override
-    public synchronized Optional<Field> getFieldById(int mapId) {
+    public Optional<Field> getFieldById(int mapId) {
         final Field field = fieldMap.get(mapId);
         if (field != null) {
-            return Optional.of(field);
+            if (field.markUsed()) {
+                return Optional.of(field);
+            }
+            // Field was closed by unloadFields, replace it with a new field
+            fieldMap.remove(mapId, field);
+        }
+        // Single-flight field creation, concurrent lookups of the same map id wait on the first one
+        final CompletableFuture<Optional<Field>> createFuture = new CompletableFuture<>();
+        final CompletableFuture<Optional<Field>> existingFuture = loadingMap.putIfAbsent(mapId, createFuture);
+        if (existingFuture != null) {
+            return existingFuture.join();
+        }
+        try {
+            // Field may have been created between the lookup and registering the future
+            final Field existingField = fieldMap.get(mapId);
+            final Optional<Field> fieldResult = existingField != null && existingField.markUsed() ? Optional.of(existingField) : createField(this, mapId);
+            fieldResult.ifPresent(value -> fieldMap.put(mapId, value));
+            createFuture.complete(fieldResult);
+            return fieldResult;
+        } catch (RuntimeException e) {
+            createFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingMap.remove(mapId, createFuture);
         }
-        final Optional<Field> fieldResult = createField(this, mapId);
-        fieldResult.ifPresent(value -> fieldMap.put(mapId, value));
-        return fieldResult;
+    }
+
+    public List<Field> getFields() {
+        return List.copyOf(fieldMap.values());
+    }
+
+    /**
+     * Returns the number of fields unloaded since startup. Each unloaded field releases its field tick registration.
+     */
+    public long getUnloadedFieldCount() {
+        return unloadedFieldCount.get();
+    }
+
+    /**
+     * Returns the number of field objects (mobs, npcs, reactors and drops) released by unloading fields since startup.
+     */
+    public long getUnloadedObjectCount() {
+        return unloadedObjectCount.get();
     }
 
     @Override
     public void clear() {
+        if (unloadSchedule != null) {
+            unloadSchedule.cancel(true);
+        }
         final var iter = fieldMap.values().iterator();
         while (iter.hasNext()) {
             final Field field = iter.next();
-            field.getFieldEventFuture().cancel(true);
+            field.getFieldEventFuture().cancel();
             iter.remove();
         }
     }
 
+    private void unloadFields() {
+        final long unusedSinceTick = ServerExecutor.getCurrentTick() - ServerConfig.FIELD_UNLOAD_TIMEOUT * 1000L / FieldTicker.SLOT_INTERVAL;
+        int fieldCount = 0;
+        int objectCount = 0;
+        for (Field field : fieldMap.values()) {
+            // Closed fields are no longer returned by getFieldById, even if a lookup raced with this check
+            if (!field.tryClose(unusedSinceTick)) {
+                continue;
+            }
+            // Fields are rebuilt from MapInfo on the next call to getFieldById, which may have removed the field already
+            fieldMap.remove(field.getFieldId(), field);
+            field.getFieldEventFuture().cancel();
+            fieldCount++;
+            objectCount += field.getMobPool().getCount() + field.getNpcPool().getCount() +
+                    field.getReactorPool().getCount() + field.getDropPool().getCount();
+        }
+        if (fieldCount == 0) {
+            return;
+        }
+        unloadedFieldCount.addAndGet(fieldCount);
+        unloadedObjectCount.addAndGet(objectCount);
+        log.info("Unloaded {} idle fields, released {} field tick tasks and {} field objects ({} fields loaded, {} MB heap in use)",
+                fieldCount, fieldCount, objectCount, fieldMap.size(), getUsedMemory() / (1024 * 1024));
+    }
+
+    private static long getUsedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
     private static Optional<Field> createField(FieldStorage fieldStorage, int mapId) {
         final Optional<MapInfo> mapInfoResult = MapProvider.getMapInfo(mapId);
         return mapInfoResult.map(mapInfo -> Field.from(fieldStorage, mapInfo));
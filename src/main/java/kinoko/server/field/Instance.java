@@ -2,6 +2,8 @@ package kinoko.server.field;
 
 import kinoko.packet.field.FieldPacket;
 import kinoko.server.node.ChannelServerNode;
+import kinoko.server.node.GameExecutor;
+import kinoko.server.node.ServerExecutor;
 import kinoko.world.user.User;
 
 import java.time.Instant;
@@ -17,6 +19,7 @@ public final class Instance {
     private final ConcurrentHashMap<String, String> variables;
     private final ChannelServerNode channelServerNode;
     private final Instant expireTime;
+    private final GameExecutor executor;
 
     private InstanceFieldStorage fieldStorage;
 
@@ -27,6 +30,7 @@ public final class Instance {
         this.variables = new ConcurrentHashMap<>();
         this.channelServerNode = channelServerNode;
         this.expireTime = expireTime;
+        this.executor = ServerExecutor.createExecutor(this);
     }
 
     public ChannelServerNode getChannelServerNode() {
@@ -45,6 +49,10 @@ public final class Instance {
         return expireTime;
     }
 
+    public GameExecutor getExecutor() {
+        return executor;
+    }
+
     public InstanceFieldStorage getFieldStorage() {
         return fieldStorage;
     }
@@ -29,7 +29,7 @@ public final class InstanceFieldStorage implements FieldStorage {
         final var iter = fieldMap.values().iterator();
         while (iter.hasNext()) {
             final Field field = iter.next();
-            field.getFieldEventFuture().cancel(true);
+            field.getFieldEventFuture().cancel();
             iter.remove();
         }
     }
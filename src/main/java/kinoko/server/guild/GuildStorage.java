@@ -4,6 +4,7 @@ import kinoko.database.DatabaseManager;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class GuildStorage {
@@ -40,6 +41,22 @@ public final class GuildStorage {
         return guildResult;
     }
 
+    /**
+     * Resolves a guild without blocking on the database, the returned future is completed immediately if the guild is
+     * already loaded. A guild loaded concurrently by another caller is only stored once.
+     */
+    public CompletableFuture<Optional<Guild>> getGuildByIdAsync(int guildId) {
+        if (guildId == 0) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        final Guild existing = guildMap.get(guildId);
+        if (existing != null) {
+            return CompletableFuture.completedFuture(Optional.of(existing));
+        }
+        return DatabaseManager.guildAccessor().getGuildByIdAsync(guildId)
+                .thenApply((guildResult) -> guildResult.map((guild) -> guildMap.computeIfAbsent(guildId, (key) -> guild)));
+    }
+
     /**
      * Retrieves all guilds currently stored in memory.
      *
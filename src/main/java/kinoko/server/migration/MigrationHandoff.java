@@ -0,0 +1,56 @@
+package kinoko.server.migration;
+
+import kinoko.database.CharacterSaveState;
+import kinoko.server.ServerConfig;
+import kinoko.world.user.Account;
+import kinoko.world.user.CharacterData;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Live account and character data handed from one channel to another within the same process. Unlike
+ * {@link MigrationInfo}, this is never encoded, so the target channel can skip loading the character from the database.
+ * The save state of the character is handed over as well, as the final save of the source channel may still be pending.
+ */
+public final class MigrationHandoff {
+    private final Account account;
+    private final CharacterData characterData;
+    private final CharacterSaveState saveState;
+    private final Instant expireTime;
+
+    public MigrationHandoff(Account account, CharacterData characterData, CharacterSaveState saveState, Instant expireTime) {
+        this.account = account;
+        this.characterData = characterData;
+        this.saveState = saveState;
+        this.expireTime = expireTime;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    public CharacterData getCharacterData() {
+        return characterData;
+    }
+
+    public CharacterSaveState getSaveState() {
+        return saveState;
+    }
+
+    public int getAccountId() {
+        return account.getId();
+    }
+
+    public int getCharacterId() {
+        return characterData.getCharacterId();
+    }
+
+    public boolean isExpired() {
+        return Instant.now().isAfter(expireTime);
+    }
+
+    public static MigrationHandoff from(Account account, CharacterData characterData, CharacterSaveState saveState) {
+        return new MigrationHandoff(account, characterData, saveState, Instant.now().plus(ServerConfig.CENTRAL_REQUEST_TTL, ChronoUnit.SECONDS));
+    }
+}
@@ -5,6 +5,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public final class MigrationStorage {
     private final ConcurrentHashMap<Integer, MigrationInfo> migrationInfos = new ConcurrentHashMap<>(); // account id -> migration info
+    private final ConcurrentHashMap<Integer, MigrationHandoff> migrationHandoffs = new ConcurrentHashMap<>(); // character id -> migration handoff
 
     public boolean isMigrating(int accountId) {
         final MigrationInfo existingInfo = migrationInfos.get(accountId);
@@ -28,4 +29,18 @@ public final class MigrationStorage {
         migrationInfos.remove(accountId);
         return Optional.of(existingInfo);
     }
+
+    public void submitMigrationHandoff(MigrationHandoff migrationHandoff) {
+        // Handoffs that were never completed have been persisted by the source channel
+        migrationHandoffs.values().removeIf(MigrationHandoff::isExpired);
+        migrationHandoffs.put(migrationHandoff.getCharacterId(), migrationHandoff);
+    }
+
+    public Optional<MigrationHandoff> completeMigrationHandoff(int accountId, int characterId) {
+        final MigrationHandoff existingHandoff = migrationHandoffs.remove(characterId);
+        if (existingHandoff == null || existingHandoff.isExpired() || existingHandoff.getAccountId() != accountId) {
+            return Optional.empty();
+        }
+        return Optional.of(existingHandoff);
+    }
 }
@@ -166,7 +166,7 @@ public final class CentralServerHandler extends SimpleChannelInboundHandler<InPa
         )));
     }
 
-    private void handleUserConnect(RemoteServerNode remoteServerNode, InPacket inPacket) {
+    void handleUserConnect(RemoteServerNode remoteServerNode, InPacket inPacket) {
         final RemoteUser remoteUser = RemoteUser.decode(inPacket);
         centralServerNode.addRemoteUser(remoteUser);
         updateMessengerUser(remoteUser);
@@ -182,7 +182,7 @@ public final class CentralServerHandler extends SimpleChannelInboundHandler<InPa
         updateGuildMember(remoteUser, true);
     }
 
-    private void handleUserDisconnect(RemoteServerNode remoteServerNode, InPacket inPacket) {
+    void handleUserDisconnect(RemoteServerNode remoteServerNode, InPacket inPacket) {
         final RemoteUser remoteUser = RemoteUser.decode(inPacket);
         centralServerNode.removeRemoteUser(remoteUser);
         // Check if transfer
@@ -196,6 +196,8 @@ public final class CentralServerHandler extends SimpleChannelInboundHandler<InPa
         remoteUser.setFieldId(GameConstants.UNDEFINED_FIELD_ID);
         updatePartyMember(remoteUser, false);
         updateGuildMember(remoteUser, false);
+        // Release family, saved and evicted if no other member is online
+        centralServerNode.releaseFamily(remoteUser.getCharacterId());
     }
 
     private void handleUserPacketRequest(RemoteServerNode remoteServerNode, InPacket inPacket) {
@@ -664,26 +666,30 @@ public final class CentralServerHandler extends SimpleChannelInboundHandler<InPa
             case LoadGuild -> {
                 // Load guild from storage / database
                 final int guildId = guildRequest.getGuildId() != 0 ? guildRequest.getGuildId() : remoteUser.getGuildId();
-                final Optional<Guild> guildResult = centralServerNode.getGuildById(guildId);
-                if (guildResult.isEmpty()) {
-                    remoteUser.setGuildId(0);
-                    remoteServerNode.write(CentralPacket.guildResult(remoteUser.getCharacterId(), null));
-                    remoteServerNode.write(CentralPacket.userPacketReceive(remoteUser.getCharacterId(), GuildPacket.loadGuildDone(null)));
-                    return;
-                }
-                try (var lockedGuild = guildResult.get().acquire()) {
-                    final Guild guild = lockedGuild.get();
-                    if (!guild.hasMember(remoteUser.getCharacterId())) {
+                centralServerNode.getGuildByIdAsync(guildId).thenAcceptAsync((guildResult) -> {
+                    if (guildResult.isEmpty()) {
                         remoteUser.setGuildId(0);
                         remoteServerNode.write(CentralPacket.guildResult(remoteUser.getCharacterId(), null));
                         remoteServerNode.write(CentralPacket.userPacketReceive(remoteUser.getCharacterId(), GuildPacket.loadGuildDone(null)));
                         return;
                     }
-                    guild.updateMember(remoteUser);
-                    remoteUser.setGuildId(guild.getGuildId());
-                    remoteServerNode.write(CentralPacket.guildResult(remoteUser.getCharacterId(), GuildInfo.from(guild, remoteUser.getCharacterId())));
-                    remoteServerNode.write(CentralPacket.userPacketReceive(remoteUser.getCharacterId(), GuildPacket.loadGuildDone(guild)));
-                }
+                    try (var lockedGuild = guildResult.get().acquire()) {
+                        final Guild guild = lockedGuild.get();
+                        if (!guild.hasMember(remoteUser.getCharacterId())) {
+                            remoteUser.setGuildId(0);
+                            remoteServerNode.write(CentralPacket.guildResult(remoteUser.getCharacterId(), null));
+                            remoteServerNode.write(CentralPacket.userPacketReceive(remoteUser.getCharacterId(), GuildPacket.loadGuildDone(null)));
+                            return;
+                        }
+                        guild.updateMember(remoteUser);
+                        remoteUser.setGuildId(guild.getGuildId());
+                        remoteServerNode.write(CentralPacket.guildResult(remoteUser.getCharacterId(), GuildInfo.from(guild, remoteUser.getCharacterId())));
+                        remoteServerNode.write(CentralPacket.userPacketReceive(remoteUser.getCharacterId(), GuildPacket.loadGuildDone(guild)));
+                    }
+                }, ServerExecutor::submitService).exceptionally((e) -> {
+                    log.error("Exception caught while loading guild ID : {}", guildId, e);
+                    return null;
+                });
             }
             case CreateNewGuild -> {
                 // Create new guild in storage + database
@@ -3,7 +3,7 @@ package kinoko.server.netty;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.util.AttributeKey;
 import kinoko.server.node.ServerNode;
-import kinoko.server.packet.OutPacket;
+import kinoko.server.packet.EncodedPacket;
 
 public abstract class NettyClient {
     public static final AttributeKey<NettyClient> CLIENT_KEY = AttributeKey.valueOf("C");
@@ -23,11 +23,13 @@ public abstract class NettyClient {
         return socketChannel;
     }
 
-    public final void write(OutPacket outPacket) {
-        socketChannel.writeAndFlush(outPacket);
+    public final void write(EncodedPacket outPacket) {
+        WriteCoalescer.write(socketChannel, outPacket);
     }
 
     public void close() {
+        // Send any writes deferred by the current task before closing
+        socketChannel.flush();
         socketChannel.close();
     }
 }
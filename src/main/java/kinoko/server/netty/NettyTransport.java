@@ -0,0 +1,110 @@
+package kinoko.server.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringIoHandler;
+import io.netty.channel.uring.IoUringServerSocketChannel;
+import io.netty.channel.uring.IoUringSocketChannel;
+import kinoko.server.ServerConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Process-wide Netty transport shared by every server node. The transport is selected with
+ * {@link ServerConfig#NETTY_TRANSPORT} : "auto" uses epoll when available and falls back to NIO, while "io_uring",
+ * "epoll" and "nio" request a specific transport and fall back to NIO when it is not available.
+ */
+public final class NettyTransport {
+    private static final Logger log = LogManager.getLogger(NettyTransport.class);
+    private static final TransportType transportType;
+    private static final EventLoopGroup bossGroup;
+    private static final EventLoopGroup workerGroup;
+
+    static {
+        transportType = resolveTransportType(ServerConfig.NETTY_TRANSPORT);
+        bossGroup = new MultiThreadIoEventLoopGroup(ServerConfig.NETTY_BOSS_THREADS, transportType.newFactory());
+        workerGroup = new MultiThreadIoEventLoopGroup(ServerConfig.NETTY_WORKER_THREADS, transportType.newFactory());
+        log.info("Using {} transport", transportType.name().toLowerCase());
+    }
+
+    public static void initialize() {
+        // Run static initialization block
+    }
+
+    public static void shutdown() {
+        bossGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
+    }
+
+    public static EventLoopGroup getBossGroup() {
+        return bossGroup;
+    }
+
+    public static EventLoopGroup getWorkerGroup() {
+        return workerGroup;
+    }
+
+    public static Class<? extends ServerSocketChannel> getServerChannelClass() {
+        return switch (transportType) {
+            case IO_URING -> IoUringServerSocketChannel.class;
+            case EPOLL -> EpollServerSocketChannel.class;
+            case NIO -> NioServerSocketChannel.class;
+        };
+    }
+
+    public static Class<? extends SocketChannel> getChannelClass() {
+        return switch (transportType) {
+            case IO_URING -> IoUringSocketChannel.class;
+            case EPOLL -> EpollSocketChannel.class;
+            case NIO -> NioSocketChannel.class;
+        };
+    }
+
+    private static TransportType resolveTransportType(String name) {
+        switch (name.toLowerCase()) {
+            case "io_uring" -> {
+                if (IoUring.isAvailable()) {
+                    return TransportType.IO_URING;
+                }
+                log.warn("io_uring transport is not available, falling back to NIO : {}", IoUring.unavailabilityCause().getMessage());
+            }
+            case "epoll", "auto" -> {
+                if (Epoll.isAvailable()) {
+                    return TransportType.EPOLL;
+                }
+                if (name.equalsIgnoreCase("epoll")) {
+                    log.warn("epoll transport is not available, falling back to NIO : {}", Epoll.unavailabilityCause().getMessage());
+                }
+            }
+            case "nio" -> {
+            }
+            default -> log.warn("Unknown transport type {}, falling back to NIO", name);
+        }
+        return TransportType.NIO;
+    }
+
+    private enum TransportType {
+        IO_URING,
+        EPOLL,
+        NIO;
+
+        private IoHandlerFactory newFactory() {
+            return switch (this) {
+                case IO_URING -> IoUringIoHandler.newFactory();
+                case EPOLL -> EpollIoHandler.newFactory();
+                case NIO -> NioIoHandler.newFactory();
+            };
+        }
+    }
+}
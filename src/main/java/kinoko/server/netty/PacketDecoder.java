@@ -19,6 +19,7 @@ import java.util.List;
 public final class PacketDecoder extends ByteToMessageDecoder {
     public static final short RECV_VERSION = ServerConstants.GAME_VERSION;
     private static final Logger log = LogManager.getLogger(PacketDecoder.class);
+    private final MapleCrypto mapleCrypto = new MapleCrypto();
     private final byte[] iv;
     private int length = -1;
 
@@ -53,7 +54,7 @@ public final class PacketDecoder extends ByteToMessageDecoder {
             in.readBytes(data);
             length = -1;
 
-            MapleCrypto.crypt(data, iv);
+            mapleCrypto.crypt(data, iv);
             ShandaCrypto.decrypt(data);
             IGCipher.innoHash(iv);
 
@@ -6,8 +6,8 @@ import io.netty.handler.codec.MessageToByteEncoder;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
 import kinoko.server.header.OutHeader;
-import kinoko.server.packet.OutPacket;
-import kinoko.util.Util;
+import kinoko.server.packet.EncodedPacket;
+import kinoko.server.packet.SharedPacket;
 import kinoko.util.crypto.IGCipher;
 import kinoko.util.crypto.MapleCrypto;
 import kinoko.util.crypto.ShandaCrypto;
@@ -15,9 +15,10 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public final class PacketEncoder extends MessageToByteEncoder<OutPacket> {
+public final class PacketEncoder extends MessageToByteEncoder<EncodedPacket> {
     public static final short SEND_VERSION = (short) (0xFFFF - ServerConstants.GAME_VERSION);
     private static final Logger log = LogManager.getLogger(PacketEncoder.class);
+    private final MapleCrypto mapleCrypto = new MapleCrypto();
     private final byte[] iv;
 
     public PacketEncoder(byte[] iv) {
@@ -25,27 +26,48 @@ public final class PacketEncoder extends MessageToByteEncoder<OutPacket> {
     }
 
     @Override
-    protected void encode(ChannelHandlerContext ctx, OutPacket outPacket, ByteBuf out) {
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, EncodedPacket outPacket, boolean preferDirect) {
+        // Packet header + data
+        return ctx.alloc().ioBuffer(4 + outPacket.getSize());
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, EncodedPacket outPacket, ByteBuf out) {
+        try {
+            encodePacket(ctx, outPacket, out);
+        } finally {
+            // Reference acquired by WriteCoalescer.write
+            outPacket.release();
+        }
+    }
+
+    private void encodePacket(ChannelHandlerContext ctx, EncodedPacket outPacket, ByteBuf out) {
         final NettyClient c = ctx.channel().attr(NettyClient.CLIENT_KEY).get();
         final OutHeader header = outPacket.getHeader();
-        final byte[] data = outPacket.getData();
+        final int size = outPacket.getSize();
         if (c == null) {
-            log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | Plain sending " + Util.readableByteArray(data));
-            out.writeShortLE(data.length);
-            out.writeBytes(data);
+            log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | Plain sending {}", outPacket);
+            out.writeShortLE(size);
+            outPacket.writeTo(out);
             return;
         }
         log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | {}", outPacket);
         final int rawSeq = ((iv[2] & 0xFF) | ((iv[3] << 8) & 0xFF00)) ^ SEND_VERSION;
-        final int dataLen = data.length ^ rawSeq;
+        final int dataLen = size ^ rawSeq;
 
         out.writeShortLE(rawSeq);
         out.writeShortLE(dataLen);
 
-        ShandaCrypto.encrypt(data);
-        MapleCrypto.crypt(data, iv);
+        // Write packet data and encrypt in place
+        final int index = out.writerIndex();
+        if (outPacket instanceof SharedPacket sharedPacket) {
+            out.writeBytes(sharedPacket.getShandaData());
+        } else {
+            outPacket.writeTo(out);
+            ShandaCrypto.encrypt(out, index, size);
+        }
+        mapleCrypto.crypt(out, index, size, iv);
         IGCipher.innoHash(iv);
-
-        out.writeBytes(data);
+        WriteCoalescer.recordBytes(out.readableBytes());
     }
 }
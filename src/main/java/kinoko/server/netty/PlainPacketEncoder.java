@@ -5,29 +5,37 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 import kinoko.server.ServerConfig;
 import kinoko.server.header.OutHeader;
-import kinoko.server.packet.OutPacket;
-import kinoko.util.Util;
+import kinoko.server.packet.EncodedPacket;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public final class PlainPacketEncoder extends MessageToByteEncoder<OutPacket> {
+public final class PlainPacketEncoder extends MessageToByteEncoder<EncodedPacket> {
     private static final Logger log = LogManager.getLogger(PlainPacketEncoder.class);
 
     @Override
-    protected void encode(ChannelHandlerContext ctx, OutPacket outPacket, ByteBuf out) {
+    protected void encode(ChannelHandlerContext ctx, EncodedPacket outPacket, ByteBuf out) {
+        try {
+            encodePacket(ctx, outPacket, out);
+        } finally {
+            // Reference acquired by WriteCoalescer.write
+            outPacket.release();
+        }
+    }
+
+    private void encodePacket(ChannelHandlerContext ctx, EncodedPacket outPacket, ByteBuf out) {
         final NettyClient c = ctx.channel().attr(NettyClient.CLIENT_KEY).get();
         final OutHeader header = outPacket.getHeader();
-        final byte[] data = outPacket.getData();
+        final int size = outPacket.getSize();
         if (c == null) {
-            log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | Plain sending " + Util.readableByteArray(data));
-            out.writeShortLE(data.length);
-            out.writeBytes(data);
+            log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | Plain sending {}", outPacket);
+            out.writeShortLE(size);
+            outPacket.writeTo(out);
             return;
         }
         log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | {}", outPacket);
         out.writeShortLE(0);
-        out.writeShortLE(data.length);
-        out.writeBytes(data);
+        out.writeShortLE(size);
+        outPacket.writeTo(out);
     }
 }
@@ -0,0 +1,145 @@
+package kinoko.server.netty;
+
+import io.netty.channel.Channel;
+import kinoko.server.ServerConfig;
+import kinoko.server.packet.EncodedPacket;
+import kinoko.util.Timing;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Defers flushing of client writes until the end of the current game task, so that the packets written to a client
+ * during a task are sent with a single flush. A batch is opened with {@link #begin()} and closed with {@link #end()};
+ * writes made outside a batch are flushed immediately.
+ * <p>
+ * Pending writes are flushed once the batch has been open for longer than {@link ServerConfig#WRITE_FLUSH_MAX_DELAY}
+ * milliseconds. The deadline is checked on every write, and by a watchdog thread every half of the delay for tasks that
+ * stop writing, so that buffered packets are never held for more than one and a half times the delay.
+ */
+public final class WriteCoalescer {
+    private static final ThreadLocal<WriteCoalescer> current = ThreadLocal.withInitial(WriteCoalescer::register);
+    private static final Set<WriteCoalescer> coalescers = ConcurrentHashMap.newKeySet();
+    private static final long maxDelay = ServerConfig.WRITE_FLUSH_MAX_DELAY * Timing.NANOS_IN_MILLI;
+    private static final long startTime = System.nanoTime();
+    private static final LongAdder packetCount = new LongAdder();
+    private static final LongAdder flushCount = new LongAdder();
+    private static final LongAdder byteCount = new LongAdder();
+    private final Set<Channel> pendingChannels = new HashSet<>(); // guarded by this
+    private volatile int depth;
+    private volatile long flushDeadline;
+
+    public static void begin() {
+        if (!ServerConfig.WRITE_COALESCING) {
+            return;
+        }
+        final WriteCoalescer coalescer = current.get();
+        if (coalescer.depth == 0) {
+            coalescer.flushDeadline = System.nanoTime() + maxDelay;
+        }
+        coalescer.depth++;
+    }
+
+    public static void end() {
+        if (!ServerConfig.WRITE_COALESCING) {
+            return;
+        }
+        final WriteCoalescer coalescer = current.get();
+        if (--coalescer.depth == 0) {
+            coalescer.flushPending();
+        }
+    }
+
+    public static void write(Channel channel, EncodedPacket outPacket) {
+        packetCount.increment();
+        // Released by the encoder
+        outPacket.retain();
+        if (ServerConfig.WRITE_COALESCING) {
+            final WriteCoalescer coalescer = current.get();
+            if (coalescer.depth > 0) {
+                channel.write(outPacket);
+                synchronized (coalescer) {
+                    coalescer.pendingChannels.add(channel);
+                }
+                if (System.nanoTime() - coalescer.flushDeadline > 0) {
+                    coalescer.flushPending();
+                }
+                return;
+            }
+        }
+        flushCount.increment();
+        channel.writeAndFlush(outPacket);
+    }
+
+    public static void recordBytes(int bytes) {
+        byteCount.add(bytes);
+    }
+
+    public static long getPacketCount() {
+        return packetCount.sum();
+    }
+
+    public static long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public static long getByteCount() {
+        return byteCount.sum();
+    }
+
+    public static double getElapsedSeconds() {
+        return (System.nanoTime() - startTime) / 1_000_000_000.0;
+    }
+
+    private synchronized void flushPending() {
+        flushDeadline = System.nanoTime() + maxDelay;
+        if (pendingChannels.isEmpty()) {
+            return;
+        }
+        for (Channel channel : pendingChannels) {
+            channel.flush();
+        }
+        flushCount.add(pendingChannels.size());
+        pendingChannels.clear();
+    }
+
+    private static WriteCoalescer register() {
+        final WriteCoalescer coalescer = new WriteCoalescer();
+        coalescers.add(coalescer);
+        Watchdog.start();
+        return coalescer;
+    }
+
+    /**
+     * Flushes the batches that are still open past their deadline, as their tasks may not write again until they end.
+     * Coalescers are never unregistered, as they belong to the long-lived game threads.
+     */
+    private static final class Watchdog {
+        private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("write-coalescer").daemon().factory()
+        );
+
+        static {
+            final long interval = Math.max(maxDelay / 2, Timing.NANOS_IN_MILLI);
+            scheduler.scheduleAtFixedRate(Watchdog::check, interval, interval, TimeUnit.NANOSECONDS);
+        }
+
+        private static void start() {
+            // Run static initialization block
+        }
+
+        private static void check() {
+            final long now = System.nanoTime();
+            for (WriteCoalescer coalescer : coalescers) {
+                if (coalescer.depth > 0 && now - coalescer.flushDeadline > 0) {
+                    coalescer.flushPending();
+                }
+            }
+        }
+    }
+}
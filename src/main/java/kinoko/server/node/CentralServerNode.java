@@ -6,6 +6,8 @@ import io.netty.channel.socket.SocketChannel;
 import kinoko.database.DatabaseManager;
 import kinoko.packet.CentralPacket;
 import kinoko.server.Server;
+import kinoko.server.ServerConfig;
+import kinoko.server.family.FamilyLock;
 import kinoko.server.family.FamilyStorage;
 import kinoko.server.family.FamilyTree;
 import kinoko.server.guild.Guild;
@@ -15,6 +17,7 @@ import kinoko.server.guild.GuildStorage;
 import kinoko.server.messenger.Messenger;
 import kinoko.server.messenger.MessengerStorage;
 import kinoko.server.messenger.MessengerUser;
+import kinoko.server.migration.MigrationHandoff;
 import kinoko.server.migration.MigrationInfo;
 import kinoko.server.migration.MigrationStorage;
 import kinoko.server.netty.CentralPacketDecoder;
@@ -25,6 +28,7 @@ import kinoko.server.party.Party;
 import kinoko.server.party.PartyStorage;
 import kinoko.server.user.RemoteUser;
 import kinoko.server.user.UserStorage;
+import kinoko.world.GameConstants;
 import kinoko.world.user.FamilyMember;
 import kinoko.world.user.User;
 import org.apache.logging.log4j.LogManager;
@@ -49,6 +53,7 @@ public final class CentralServerNode extends Node {
     private final ServerStorage serverStorage = new ServerStorage();
     private final MigrationStorage migrationStorage = new MigrationStorage();
     private final FamilyStorage familyStorage = new FamilyStorage();
+    private final ReentrantLock familyLoadLock = new ReentrantLock();
     private final UserStorage userStorage = new UserStorage();
     private final MessengerStorage messengerStorage = new MessengerStorage();
     private final PartyStorage partyStorage = new PartyStorage();
@@ -117,6 +122,14 @@ public final class CentralServerNode extends Node {
         return migrationStorage.completeMigrationRequest(channelId, accountId, characterId, machineId, clientKey);
     }
 
+    public void submitMigrationHandoff(MigrationHandoff migrationHandoff) {
+        migrationStorage.submitMigrationHandoff(migrationHandoff);
+    }
+
+    public Optional<MigrationHandoff> completeMigrationHandoff(int accountId, int characterId) {
+        return migrationStorage.completeMigrationHandoff(accountId, characterId);
+    }
+
     // USER METHODS ----------------------------------------------------------------------------------------------------
 
     /**
@@ -283,50 +296,126 @@ public final class CentralServerNode extends Node {
         return guildStorage.getGuildById(guildId);
     }
 
+    public CompletableFuture<Optional<Guild>> getGuildByIdAsync(int guildId) {
+        return guildStorage.getGuildByIdAsync(guildId);
+    }
+
 
     // FAMILY METHODS --------------------------------------------------------------------------------------------------
     // High-level thread-safe family operations for CentralServerNode.
-    // These methods acquire the global family lock to safely read or modify family data.
-    // FamilyStorage methods themselves are not thread-safe; direct calls must be synchronized.
-    // This ensures safe external access while keeping FamilyStorage fast and simple.
+    // Family data is locked per family tree with lockFamilies, see FamilyStorage#lock.
+    // Lookups do not lock, but reads and modifications of a tree should be done while holding its lock.
+    // FamilyStorage methods do not lock internally; external synchronization is required.
 
     /**
-     * Returns the global lock for FamilyStorage.
+     * Locks the family trees of the given characters.
      *
-     * Acquire this lock when reading or modifying family data. Keep the scope short,
-     * avoid I/O or network operations while locked, and never combine with other locks.
-     * FamilyStorage methods do not lock internally; external synchronization is required.
+     * Acquire this lock when reading or modifying family data, and include every character
+     * whose family is involved in the operation. Keep the scope short, avoid I/O or network
+     * operations while locked, and never combine with other locks.
      *
-     * @return the ReentrantLock protecting all family operations
+     * @param characterIds the character IDs whose families should be locked
+     * @return the FamilyLock protecting the families, to be closed by the caller
      */
-    public ReentrantLock getGlobalFamilyLock(){
-        return familyStorage.getGlobalLock();
+    public FamilyLock lockFamilies(int... characterIds) {
+        return familyStorage.lock(characterIds);
     }
 
     /**
      * Loads all family trees from the database and stores them in memory.
      *
      * This method retrieves all families via the DatabaseManager and adds each
-     * FamilyTree to the FamilyStorage, keyed by the family leader's ID.
+     * FamilyTree to the FamilyStorage, keyed by the family leader's ID. It is only
+     * called at startup when {@link ServerConfig#FAMILY_LAZY_LOAD} is disabled,
+     * before any user can access family data, so no family lock is acquired.
+     */
+    public void createAllFamilies() {
+        Collection<FamilyTree> families = DatabaseManager.familyAccessor().getAllFamilies();
+
+        for (FamilyTree tree : families) {
+            familyStorage.addFamily(tree);
+        }
+    }
+
+    /**
+     * Loads the family information of a character that is logging in, and marks them as active
+     * so that their family tree is kept in memory until they log out.
      *
-     * The operation is performed under the global family lock to ensure thread-safe
-     * access to the shared FamilyStorage. This prevents concurrent modifications
-     * that could lead to inconsistent or corrupted family data.
+     * If {@link ServerConfig#FAMILY_LAZY_LOAD} is enabled and the character's family tree is not
+     * in memory yet, it is loaded from the database without blocking, after any pending save of
+     * the tree from a previous eviction. The database is queried without holding a family lock,
+     * and the loaded tree is discarded if another member published the same tree in the meantime,
+     * or if the character logged out before the tree was loaded.
      *
-     * Usage of the global lock ensures that any other thread accessing or modifying
-     * family data will be properly synchronized during this operation.
+     * @param characterId the ID of the character logging in
+     * @return a future completed with the FamilyMember instance corresponding to the characterId,
+     *         or FamilyMember.EMPTY if not found. The future is already completed if the family
+     *         tree did not have to be loaded
      */
-    public void createAllFamilies() {
-        getGlobalFamilyLock().lock();
-        try {
-            Collection<FamilyTree> families = DatabaseManager.familyAccessor().getAllFamilies();
+    public CompletableFuture<FamilyMember> loadFamilyInfo(int characterId) {
+        final CompletableFuture<Void> pendingSave;
+        try (FamilyLock ignored = lockFamilies(characterId)) {
+            familyStorage.markActive(characterId);
+            final Optional<FamilyMember> memberResult = familyStorage.getFamilyMember(characterId);
+            if (memberResult.isPresent() || !ServerConfig.FAMILY_LAZY_LOAD) {
+                return CompletableFuture.completedFuture(memberResult.orElse(FamilyMember.EMPTY));
+            }
+            pendingSave = familyStorage.getPendingSave(characterId).orElseGet(() -> CompletableFuture.completedFuture(null));
+        }
+        return pendingSave.handle((result, throwable) -> characterId)
+                .thenCompose(DatabaseManager.familyAccessor()::getFamilyByMemberIdAsync)
+                .thenApply((treeResult) -> publishFamilyTree(characterId, treeResult));
+    }
 
-            for (FamilyTree tree : families) {
+    private FamilyMember publishFamilyTree(int characterId, Optional<FamilyTree> treeResult) {
+        if (treeResult.isEmpty()) {
+            return FamilyMember.EMPTY;
+        }
+        final FamilyTree tree = treeResult.get();
+        familyLoadLock.lock();
+        try {
+            final int[] memberIds = tree.getMemberIds().stream().mapToInt(Integer::intValue).toArray();
+            try (FamilyLock ignored = lockFamilies(memberIds)) {
+                final Optional<FamilyMember> existingResult = familyStorage.getFamilyMember(characterId);
+                if (existingResult.isPresent()) {
+                    return existingResult.get();
+                }
+                if (!familyStorage.isActive(characterId)) {
+                    // Logged out while loading, the tree would never be evicted
+                    return FamilyMember.EMPTY;
+                }
                 familyStorage.addFamily(tree);
+                return tree.getMember(characterId);
             }
+        } finally {
+            familyLoadLock.unlock();
         }
-        finally {
-            getGlobalFamilyLock().unlock();
+    }
+
+    /**
+     * Marks a character that logged out as inactive.
+     *
+     * If {@link ServerConfig#FAMILY_LAZY_LOAD} is enabled and none of the members of the
+     * character's family tree are active anymore, the tree is evicted from memory and saved
+     * without blocking. The save is registered for every member while holding the tree's lock,
+     * so that a member logging in at the same time loads the tree after it is saved.
+     *
+     * @param characterId the ID of the character that logged out
+     */
+    public void releaseFamily(int characterId) {
+        try (FamilyLock ignored = lockFamilies(characterId)) {
+            final Optional<FamilyTree> evictResult = familyStorage.markInactive(characterId);
+            if (evictResult.isEmpty() || !ServerConfig.FAMILY_LAZY_LOAD) {
+                return;
+            }
+            final FamilyTree tree = evictResult.get();
+            familyStorage.removeFamily(tree);
+            final CompletableFuture<Void> saveFuture = DatabaseManager.familyAccessor().saveFamilyAsync(tree);
+            familyStorage.addPendingSave(tree, saveFuture);
+            saveFuture.exceptionally((e) -> {
+                log.error("Exception caught while saving family with leader ID : {}", tree.getLeaderId(), e);
+                return null;
+            });
         }
     }
 
@@ -334,87 +423,85 @@ public final class CentralServerNode extends Node {
      * Retrieves the FamilyMember associated with the given character ID.
      *
      * This method returns FamilyMember.EMPTY if the character is not part of any family.
-     * Access to the underlying familyStorage is synchronized using the global family lock
-     * to ensure thread safety, preventing race conditions or inconsistent reads when
-     * other threads may be modifying the family data concurrently.
-     *
-     * Even if some callers already hold the global lock, acquiring the lock here ensures
-     * that this method is safe to call from anywhere without requiring external synchronization.
+     * The lookup itself is thread-safe, but callers reading or modifying the returned
+     * member should hold the character's family lock, see {@link #lockFamilies(int...)}.
      *
      * @param characterId the ID of the character to look up
      * @return the FamilyMember instance corresponding to the characterId, or FamilyMember.EMPTY if not found
      */
     public FamilyMember getFamilyInfo(int characterId) {
-        getGlobalFamilyLock().lock();
-        try {
-            return familyStorage.getFamilyMember(characterId).orElse(FamilyMember.EMPTY);
-        }
-        finally {
-            getGlobalFamilyLock().unlock();
-        }
+        return familyStorage.getFamilyMember(characterId).orElse(FamilyMember.EMPTY);
     }
 
     /**
      * Retrieves the FamilyTree that contains the specified character.
      *
      * This method looks up the family tree associated with the given character ID.
-     * Access to the underlying familyStorage is synchronized using the global family lock
-     * to ensure thread-safe reads, preventing race conditions if other threads
-     * are concurrently modifying the family data.
+     * The lookup itself is thread-safe, but callers reading or modifying the returned
+     * tree should hold the character's family lock, see {@link #lockFamilies(int...)}.
      *
      * @param characterId the character ID whose family tree is being requested
      * @return an Optional containing the FamilyTree if the character is part of a family,
      *         or an empty Optional if not found
      */
     public Optional<FamilyTree> getFamilyTree(int characterId) {
-        getGlobalFamilyLock().lock();
-        try {
-            return familyStorage.getTreeByMemberId(characterId);
-        }
-        finally {
-            getGlobalFamilyLock().unlock();
-        }
+        return familyStorage.getTreeByMemberId(characterId);
+    }
+
+    /**
+     * Returns the family EXP modifier of the tree containing the specified character.
+     *
+     * Unlike other family operations, this method does not acquire the family lock,
+     * as it is called for every rewarded user on every mob kill. The member lookup is a concurrent
+     * map and the tree modifiers are read from an immutable snapshot, so a concurrent family
+     * change is observed either fully before or fully after the change.
+     *
+     * @param characterId the character ID whose family modifier is being requested
+     * @return the family EXP modifier, or the default modifier if the character is not part of a family
+     */
+    public double getFamilyExpModifier(int characterId) {
+        return familyStorage.getTreeByMemberId(characterId)
+                .map(FamilyTree::getExpModifier)
+                .orElse(GameConstants.DEFAULT_FAMILY_EXP_MODIFIER);
+    }
+
+    /**
+     * Returns the family drop modifier of the tree containing the specified character, without
+     * acquiring the family lock. See {@link #getFamilyExpModifier(int)}.
+     *
+     * @param characterId the character ID whose family modifier is being requested
+     * @return the family drop modifier, or the default modifier if the character is not part of a family
+     */
+    public double getFamilyDropModifier(int characterId) {
+        return familyStorage.getTreeByMemberId(characterId)
+                .map(FamilyTree::getDropModifier)
+                .orElse(GameConstants.DEFAULT_FAMILY_DROP_MODIFIER);
     }
 
     /**
      * Registers a new FamilyTree in storage, making it available for lookups
      * and family relationship tracking.
      *
-     * This method adds the given FamilyTree to the shared familyStorage.
-     * The operation is performed under the global family lock to ensure thread-safe
-     * modification, preventing concurrent access issues when other threads are
-     * reading or modifying family data.
+     * This method adds the given FamilyTree to the shared familyStorage. Callers
+     * must hold the family lock of the tree's members, see {@link #lockFamilies(int...)}.
      *
      * @param tree the FamilyTree to add
      */
     public void addFamilyTree(FamilyTree tree) {
-        getGlobalFamilyLock().lock();
-        try {
-            familyStorage.addFamily(tree);
-        }
-        finally {
-            getGlobalFamilyLock().unlock();
-        }
+        familyStorage.addFamily(tree);
     }
 
     /**
      * Updates the shared family storage to reflect the latest state of the given FamilyTree.
      *
      * This method registers each member of the FamilyTree in the internal lookup table,
-     * allowing fast retrieval of a FamilyTree by any character ID. Access is synchronized
-     * with the global family lock to ensure thread-safe updates while other threads
-     * may be reading or modifying family data.
+     * allowing fast retrieval of a FamilyTree by any character ID. Callers must hold the
+     * family lock of the tree's members, see {@link #lockFamilies(int...)}.
      *
      * @param family the FamilyTree whose members should be registered in storage
      */
     public void updateFamilyTree(FamilyTree family) {
-        getGlobalFamilyLock().lock();
-        try {
-            familyStorage.updateFamilyTree(family); // This is recursive and likely unintended.
-        }
-        finally {
-            getGlobalFamilyLock().unlock();
-        }
+        familyStorage.updateFamilyTree(family);
     }
 
     // OVERRIDES -------------------------------------------------------------------------------------------------------
@@ -20,7 +20,9 @@ import kinoko.server.messenger.MessengerRequest;
 import kinoko.server.migration.MigrationInfo;
 import kinoko.server.migration.TransferInfo;
 import kinoko.server.netty.*;
+import kinoko.server.packet.EncodedPacket;
 import kinoko.server.packet.OutPacket;
+import kinoko.server.packet.SharedPacket;
 import kinoko.server.party.PartyRequest;
 import kinoko.server.user.RemoteUser;
 import kinoko.server.user.SpeakerManager;
@@ -200,8 +202,9 @@ public final class ChannelServerNode extends ServerNode {
     }
 
     public void submitChannelPacketBroadcast(OutPacket outPacket) {
+        final EncodedPacket broadcastPacket = SharedPacket.from(outPacket);
         for (User user : clientStorage.getConnectedUsers()) {
-            user.write(outPacket);
+            user.write(broadcastPacket);
         }
     }
 
@@ -235,6 +238,18 @@ public final class ChannelServerNode extends ServerNode {
         return fieldStorage.getFieldById(mapId);
     }
 
+    public List<Field> getFields() {
+        return fieldStorage.getFields();
+    }
+
+    public long getUnloadedFieldCount() {
+        return fieldStorage.getUnloadedFieldCount();
+    }
+
+    public long getUnloadedObjectCount() {
+        return fieldStorage.getUnloadedObjectCount();
+    }
+
 
     // INSTANCE METHODS ------------------------------------------------------------------------------------------------
 
@@ -261,6 +276,7 @@ public final class ChannelServerNode extends ServerNode {
         // Initialize channel server classes
         speakerManager.initialize(clientStorage);
         eventManager.initialize(fieldStorage);
+        fieldStorage.initialize();
 
         // Start channel server
         final ChannelServerNode self = this;
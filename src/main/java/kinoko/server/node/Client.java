@@ -1,6 +1,7 @@
 package kinoko.server.node;
 
 import io.netty.channel.socket.SocketChannel;
+import kinoko.database.CharacterSaveService;
 import kinoko.database.DatabaseManager;
 import kinoko.packet.ClientPacket;
 import kinoko.server.netty.NettyClient;
@@ -62,8 +63,7 @@ public final class Client extends NettyClient {
             }
         } else if (!user.isInTransfer()) {
             user.logout(true);
-            DatabaseManager.accountAccessor().saveAccount(account);
-            DatabaseManager.characterAccessor().saveCharacter(user.getCharacterData());
+            CharacterSaveService.save(user.getCharacterData(), account);
         }
         getServerNode().removeClient(this);
         account = null;
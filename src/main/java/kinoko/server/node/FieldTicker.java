@@ -0,0 +1,111 @@
+package kinoko.server.node;
+
+import kinoko.server.ServerConfig;
+import kinoko.world.field.Field;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timing wheel that drives {@link Field#update()} for every registered field. The field tick interval is split into
+ * {@link #WHEEL_SIZE} slots and fields are spread across the slots on registration, so that each advance of the wheel
+ * only handles a fraction of the loaded fields. Fields in a slot that share a {@link GameExecutor} are updated in a
+ * single task, and fields that report {@link Field#isIdle()} are skipped entirely.
+ */
+public final class FieldTicker {
+    private static final Logger log = LogManager.getLogger(FieldTicker.class);
+    public static final int WHEEL_SIZE = 10;
+    public static final int SLOT_INTERVAL = Math.max(ServerConfig.FIELD_TICK_INTERVAL / WHEEL_SIZE, 1);
+    private final List<Set<Registration>> wheel;
+    private final AtomicInteger slotCounter = new AtomicInteger(0);
+    private int cursor = 0; // only accessed by the scheduler thread
+    private volatile long tickCount = 0; // only written by the scheduler thread
+
+    FieldTicker() {
+        final List<Set<Registration>> slots = new ArrayList<>();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots.add(ConcurrentHashMap.newKeySet());
+        }
+        this.wheel = Collections.unmodifiableList(slots);
+    }
+
+    public Registration register(Field field) {
+        final Registration registration = new Registration(field, Math.floorMod(slotCounter.getAndIncrement(), WHEEL_SIZE));
+        wheel.get(registration.slot).add(registration);
+        return registration;
+    }
+
+    public int getRegisteredCount() {
+        int count = 0;
+        for (Set<Registration> slot : wheel) {
+            count += slot.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of times the wheel was advanced since startup, which increases every {@link #SLOT_INTERVAL}
+     * milliseconds. This is cheaper to read than the system clock on hot paths that only need a coarse timestamp.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    void advance() {
+        final Set<Registration> slot = wheel.get(cursor);
+        cursor = (cursor + 1) % WHEEL_SIZE;
+        tickCount = tickCount + 1;
+        // Batch non-idle fields by executor
+        final Map<GameExecutor, List<Registration>> batches = new HashMap<>();
+        for (Registration registration : slot) {
+            if (registration.dispatched.get() || registration.field.isIdle()) {
+                continue;
+            }
+            registration.dispatched.set(true);
+            batches.computeIfAbsent(registration.field.getExecutor(), (executor) -> new ArrayList<>()).add(registration);
+        }
+        // Dispatch a single task per executor
+        for (var entry : batches.entrySet()) {
+            final List<Registration> batch = entry.getValue();
+            entry.getKey().submit(() -> {
+                for (Registration registration : batch) {
+                    registration.dispatched.set(false);
+                    if (registration.isCancelled()) {
+                        continue;
+                    }
+                    try {
+                        registration.field.update();
+                    } catch (Exception e) {
+                        log.error("Exception caught while updating field {}", registration.field.getFieldId(), e);
+                        e.printStackTrace();
+                    }
+                }
+            });
+        }
+    }
+
+    public final class Registration {
+        private final AtomicBoolean dispatched = new AtomicBoolean(false);
+        private final Field field;
+        private final int slot;
+        private volatile boolean cancelled;
+
+        private Registration(Field field, int slot) {
+            this.field = field;
+            this.slot = slot;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            wheel.get(slot).remove(this);
+        }
+    }
+}
@@ -1,32 +1,108 @@
 package kinoko.server.node;
 
+import kinoko.server.netty.WriteCoalescer;
 import kinoko.util.Lockable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Serial mailbox for game tasks. Submitted tasks are executed one at a time and in order on the backing executor, which
+ * may be a dedicated thread or a pool shared with other mailboxes. Only one drain of the mailbox is scheduled at any
+ * time, so the one-thread-at-a-time guarantee holds regardless of the backing executor.
+ */
 public final class GameExecutor implements Lockable<GameExecutor> {
     private static final Logger log = LogManager.getLogger(GameExecutor.class);
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final int DRAIN_BATCH_SIZE = 64;
+    private final Queue<Task> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong(0);
     private final Lock lock = new ReentrantLock();
+    private final Executor executor;
+
+    public GameExecutor(Executor executor) {
+        this.executor = executor;
+    }
 
     public void submit(Runnable runnable) {
-        executor.submit(() -> {
-            try (var locked = acquire()) {
-                runnable.run();
-            } catch (Exception e) {
-                log.error("Exception caught during execution : {}", e, e);
-                e.printStackTrace();
-            }
-        });
+        mailbox.add(new Task(runnable, System.nanoTime()));
+        queueDepth.incrementAndGet();
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Returns the number of tasks waiting in the mailbox.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the number of tasks executed by this mailbox.
+     */
+    public long getTaskCount() {
+        return taskCount.sum();
     }
 
-    public void shutdown() {
-        executor.shutdown();
+    /**
+     * Returns the average time in nanoseconds that executed tasks spent waiting in the mailbox.
+     */
+    public long getAverageWaitTime() {
+        final long count = taskCount.sum();
+        return count == 0 ? 0 : totalWaitTime.sum() / count;
+    }
+
+    /**
+     * Returns the longest time in nanoseconds that an executed task spent waiting in the mailbox.
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+                final Task task = mailbox.poll();
+                if (task == null) {
+                    break;
+                }
+                queueDepth.decrementAndGet();
+                final long waitTime = System.nanoTime() - task.submitTime();
+                taskCount.increment();
+                totalWaitTime.add(waitTime);
+                maxWaitTime.accumulateAndGet(waitTime, Math::max);
+                WriteCoalescer.begin();
+                try (var locked = acquire()) {
+                    task.runnable().run();
+                } catch (Throwable e) {
+                    // Errors thrown by a task should not take down the mailbox
+                    log.error("Exception caught during execution : {}", e, e);
+                    e.printStackTrace();
+                } finally {
+                    WriteCoalescer.end();
+                }
+            }
+        } finally {
+            // Yield the thread to other mailboxes, re-scheduling if there are remaining tasks
+            scheduled.set(false);
+            if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
     }
 
     @Override
@@ -38,4 +114,7 @@ public final class GameExecutor implements Lockable<GameExecutor> {
     public void unlock() {
         lock.unlock();
     }
+
+    private record Task(Runnable runnable, long submitTime) {
+    }
 }
@@ -0,0 +1,97 @@
+package kinoko.server.node;
+
+import kinoko.server.ServerConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for password hashing in the login stage. BCrypt is CPU bound, so the number of concurrent hashes is
+ * bounded regardless of the number of virtual threads running login tasks. Logins waiting for a permit are admitted in
+ * order, and logins that would be queued beyond {@link ServerConfig#LOGIN_QUEUE_LIMIT} are turned away.
+ */
+public final class LoginAdmission {
+    private static final Logger log = LogManager.getLogger(LoginAdmission.class);
+    private static final int AUTH_CONCURRENCY = ServerConfig.LOGIN_AUTH_CONCURRENCY > 0 ?
+            ServerConfig.LOGIN_AUTH_CONCURRENCY :
+            Runtime.getRuntime().availableProcessors();
+    private static final Semaphore authPermits = new Semaphore(AUTH_CONCURRENCY, true);
+    private static final AtomicInteger queueDepth = new AtomicInteger(0);
+    private static final AtomicInteger maxQueueDepth = new AtomicInteger(0);
+    private static final LongAdder authCount = new LongAdder();
+    private static final LongAdder rejectedCount = new LongAdder();
+    private static final LongAdder totalAuthTime = new LongAdder();
+    private static final AtomicLong maxAuthTime = new AtomicLong(0);
+
+    /**
+     * Runs an authentication task once a permit is available.
+     *
+     * @param task the task performing the password hash
+     * @return the result of the task, or an empty Optional if the queue is full
+     */
+    public static <T> Optional<T> authenticate(Supplier<T> task) {
+        final long startTime = System.nanoTime();
+        final int position = queueDepth.incrementAndGet();
+        if (position > ServerConfig.LOGIN_QUEUE_LIMIT) {
+            queueDepth.decrementAndGet();
+            rejectedCount.increment();
+            return Optional.empty();
+        }
+        maxQueueDepth.accumulateAndGet(position, Math::max);
+        if (position > AUTH_CONCURRENCY) {
+            log.debug("Login queued at position {}", position - AUTH_CONCURRENCY);
+        }
+        authPermits.acquireUninterruptibly();
+        try {
+            return Optional.ofNullable(task.get());
+        } finally {
+            authPermits.release();
+            queueDepth.decrementAndGet();
+            // Latency includes the time spent waiting for a permit
+            final long authTime = System.nanoTime() - startTime;
+            authCount.increment();
+            totalAuthTime.add(authTime);
+            maxAuthTime.accumulateAndGet(authTime, Math::max);
+        }
+    }
+
+    /**
+     * Returns the number of logins waiting for or holding a permit.
+     */
+    public static int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public static int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public static long getAuthCount() {
+        return authCount.sum();
+    }
+
+    public static long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Returns the average time in nanoseconds between a login entering the queue and its authentication completing.
+     */
+    public static long getAverageAuthTime() {
+        final long count = authCount.sum();
+        return count == 0 ? 0 : totalAuthTime.sum() / count;
+    }
+
+    /**
+     * Returns the longest time in nanoseconds between a login entering the queue and its authentication completing.
+     */
+    public static long getMaxAuthTime() {
+        return maxAuthTime.get();
+    }
+}
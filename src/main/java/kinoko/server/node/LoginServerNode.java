@@ -57,7 +57,7 @@ public final class LoginServerNode extends ServerNode {
 
     public void submitOnlineRequest(Account account, Consumer<Boolean> consumer) {
         final CompletableFuture<Boolean> onlineRequestFuture = new CompletableFuture<>();
-        onlineRequestFuture.thenAccept(consumer).exceptionally((e) -> {
+        onlineRequestFuture.thenAcceptAsync(consumer, ServerExecutor::submitLogin).exceptionally((e) -> {
             log.error("Exception caught while processing online request", e);
             e.printStackTrace();
             return null;
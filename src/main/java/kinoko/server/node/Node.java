@@ -5,18 +5,13 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import kinoko.server.netty.NettyTransport;
 
 import java.net.InetAddress;
 import java.util.concurrent.CompletableFuture;
 
 public abstract class Node {
-    private final EventLoopGroup bossGroup = new NioEventLoopGroup();
-    private final EventLoopGroup workerGroup = new NioEventLoopGroup();
     private final CompletableFuture<Void> shutdownFuture = new CompletableFuture<>();
     private boolean shutdown = false;
 
@@ -38,8 +33,8 @@ public abstract class Node {
 
     protected final ChannelFuture startServer(ChannelInitializer<SocketChannel> initializer, int port) {
         final ServerBootstrap b = new ServerBootstrap();
-        b.group(bossGroup, workerGroup);
-        b.channel(NioServerSocketChannel.class);
+        b.group(NettyTransport.getBossGroup(), NettyTransport.getWorkerGroup());
+        b.channel(NettyTransport.getServerChannelClass());
         b.childHandler(initializer);
         b.childOption(ChannelOption.TCP_NODELAY, true);
         b.childOption(ChannelOption.SO_KEEPALIVE, true);
@@ -48,8 +43,8 @@ public abstract class Node {
 
     protected final ChannelFuture startClient(ChannelInitializer<SocketChannel> initializer, InetAddress host, int port) {
         final Bootstrap b = new Bootstrap();
-        b.group(workerGroup);
-        b.channel(NioSocketChannel.class);
+        b.group(NettyTransport.getWorkerGroup());
+        b.channel(NettyTransport.getChannelClass());
         b.handler(initializer);
         b.option(ChannelOption.TCP_NODELAY, true);
         b.option(ChannelOption.SO_KEEPALIVE, true);
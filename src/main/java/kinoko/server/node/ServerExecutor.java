@@ -1,5 +1,7 @@
 package kinoko.server.node;
 
+import kinoko.server.ServerConfig;
+import kinoko.server.field.Instance;
 import kinoko.server.field.InstanceFieldStorage;
 import kinoko.world.field.Field;
 import kinoko.world.user.User;
@@ -14,17 +16,33 @@ import java.util.concurrent.*;
 public final class ServerExecutor {
     private static final Logger log = LogManager.getLogger(ServerExecutor.class);
     private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private static final List<ExecutorService> gameThreads;
     private static final List<GameExecutor> gameExecutors;
+    private static final ForkJoinPool actorPool;
     private static final ExecutorService serviceExecutor;
+    private static final ExecutorService loginExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final FieldTicker fieldTicker = new FieldTicker();
 
     static {
         final int executorCount = Runtime.getRuntime().availableProcessors();
+        final List<ExecutorService> threads = new ArrayList<>();
         final List<GameExecutor> executors = new ArrayList<>();
-        for (int i = 0; i < executorCount; i++) {
-            executors.add(new GameExecutor());
+        if (ServerConfig.FIELD_ACTOR_EXECUTOR) {
+            // Each field and instance is given its own mailbox, drained by a shared work-stealing pool
+            actorPool = new ForkJoinPool(executorCount, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        } else {
+            // Fields and instances are sharded across a fixed set of single-threaded executors
+            actorPool = null;
+            for (int i = 0; i < executorCount; i++) {
+                final ExecutorService thread = Executors.newSingleThreadExecutor();
+                threads.add(thread);
+                executors.add(new GameExecutor(thread));
+            }
         }
+        gameThreads = Collections.unmodifiableList(threads);
         gameExecutors = Collections.unmodifiableList(executors);
         serviceExecutor = Executors.newFixedThreadPool(executorCount);
+        scheduler.scheduleAtFixedRate(fieldTicker::advance, FieldTicker.SLOT_INTERVAL, FieldTicker.SLOT_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
     public static void initialize() {
@@ -32,8 +50,12 @@ public final class ServerExecutor {
     }
 
     public static void shutdown() {
-        gameExecutors.forEach(GameExecutor::shutdown);
+        gameThreads.forEach(ExecutorService::shutdown);
+        if (actorPool != null) {
+            actorPool.shutdown();
+        }
         serviceExecutor.shutdown();
+        loginExecutor.shutdown();
     }
 
 
@@ -41,7 +63,7 @@ public final class ServerExecutor {
 
     public static void submit(Client client, Runnable runnable) {
         if (client.getUser() == null) {
-            submitService(runnable);
+            submitLogin(runnable);
         } else {
             submit(client.getUser(), runnable);
         }
@@ -75,6 +97,18 @@ public final class ServerExecutor {
         return scheduler.scheduleAtFixedRate(() -> submit(field, runnable), initialDelay, delay, timeUnit);
     }
 
+    public static FieldTicker.Registration registerFieldTick(Field field) {
+        return fieldTicker.register(field);
+    }
+
+    public static int getFieldTickCount() {
+        return fieldTicker.getRegisteredCount();
+    }
+
+    public static long getCurrentTick() {
+        return fieldTicker.getTickCount();
+    }
+
 
     // SERVICE EXECUTOR METHODS ----------------------------------------------------------------------------------------
 
@@ -98,16 +132,49 @@ public final class ServerExecutor {
     }
 
 
+    // LOGIN EXECUTOR METHODS ------------------------------------------------------------------------------------------
+
+    /**
+     * Submits a task to the login stage, which handles clients that are not yet in the game. Tasks run on virtual
+     * threads so that blocking database and central server requests do not hold up the service executor, CPU bound work
+     * is bounded by {@link LoginAdmission}.
+     */
+    public static void submitLogin(Runnable runnable) {
+        loginExecutor.submit(() -> {
+            try {
+                runnable.run();
+            } catch (Exception e) {
+                log.error("Exception caught during login execution : {}", e, e);
+                e.printStackTrace();
+            }
+        });
+    }
+
+
     // HELPER METHODS --------------------------------------------------------------------------------------------------
 
     public static GameExecutor getExecutor(Field field) {
+        return field.getExecutor();
+    }
+
+    public static GameExecutor createExecutor(Field field) {
         if (field.getFieldStorage() instanceof InstanceFieldStorage instanceFieldStorage) {
-            return gameExecutors.get(instanceFieldStorage.getInstance().getInstanceId() % gameExecutors.size());
+            return instanceFieldStorage.getInstance().getExecutor();
+        } else if (actorPool != null) {
+            return new GameExecutor(actorPool);
         } else {
             return gameExecutors.get(field.getExecutorIndex() % gameExecutors.size());
         }
     }
 
+    public static GameExecutor createExecutor(Instance instance) {
+        if (actorPool != null) {
+            return new GameExecutor(actorPool);
+        } else {
+            return gameExecutors.get(instance.getInstanceId() % gameExecutors.size());
+        }
+    }
+
     public static void lockExecutor(Field field) {
         getExecutor(field).lock();
     }
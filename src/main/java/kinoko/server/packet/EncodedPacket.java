@@ -0,0 +1,40 @@
+package kinoko.server.packet;
+
+import io.netty.buffer.ByteBuf;
+import kinoko.server.header.OutHeader;
+
+/**
+ * Read-only view of an encoded packet, as accepted by the client connections. Packets that are still being encoded are
+ * {@link OutPacket} instances, while packets that can no longer be modified, such as a {@link SharedPacket} broadcast to
+ * multiple clients, only implement this interface.
+ */
+public interface EncodedPacket {
+    int getSize();
+
+    OutHeader getHeader();
+
+    byte[] getData();
+
+    /**
+     * Writes the packet data into the provided buffer without modifying the packet, so that the same packet can be
+     * written to multiple buffers.
+     */
+    default void writeTo(ByteBuf out) {
+        out.writeBytes(getData());
+    }
+
+    /**
+     * Acquires a reference to the packet for a pending write, which is released by the encoder once the packet has been
+     * written. Pooled packets return their buffers when every reference has been released.
+     */
+    default EncodedPacket retain() {
+        return this;
+    }
+
+    /**
+     * Releases a reference acquired by {@link #retain()}, or the reference held by the code that created the packet once
+     * it is no longer used. The packet must not be accessed through a released reference.
+     */
+    default void release() {
+    }
+}
@@ -1,25 +1,51 @@
 package kinoko.server.packet;
 
+import io.netty.buffer.ByteBuf;
 import kinoko.server.header.OutHeader;
 import kinoko.util.Util;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * {@link OutPacket} encoded into a chain of pooled {@link PacketBuffer} segments. The packet is reference counted: the
+ * code that creates it holds the first reference, and each pending write holds another, which the encoder releases once
+ * the packet has been written to the channel. The segments are returned to the pool when the last reference is
+ * released; if the creator never releases its reference, they are left to the garbage collector instead.
+ */
 public final class NioBufferOutPacket implements OutPacket {
     private static final Logger log = LogManager.getLogger(OutPacket.class);
-    private final ByteBuffer[] buffers;
+    private static final AtomicIntegerFieldUpdater<NioBufferOutPacket> refCntUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(NioBufferOutPacket.class, "refCnt");
+    private final PacketBuffer[] buffers;
+    private final OutPacketStats.Entry stats;
     private int bufferIndex;
+    private boolean recorded;
+    private volatile int refCnt = 1;
 
     public NioBufferOutPacket() {
-        this.buffers = new ByteBuffer[16];
+        this(OutPacketStats.MIN_CAPACITY, null);
+    }
+
+    public NioBufferOutPacket(OutHeader header) {
+        this(OutPacketStats.get(header));
+    }
+
+    private NioBufferOutPacket(OutPacketStats.Entry stats) {
+        this(stats.getCapacityHint(), stats);
+        stats.recordAllocation();
+    }
+
+    private NioBufferOutPacket(int initialCapacity, OutPacketStats.Entry stats) {
+        this.buffers = new PacketBuffer[16];
+        this.stats = stats;
         this.bufferIndex = 0;
         // Initial size
-        buffers[0] = newBuffer(16);
+        buffers[0] = PacketBuffer.allocate(initialCapacity);
     }
 
     private void ensureSize(int size) {
@@ -29,11 +55,11 @@ public final class NioBufferOutPacket implements OutPacket {
         }
         // Create new ByteBuffer
         bufferIndex++;
-        buffers[bufferIndex] = newBuffer(Math.max(current.capacity() * 2, size));
+        buffers[bufferIndex] = PacketBuffer.allocate(Math.max(current.capacity() * 2, size));
     }
 
     private ByteBuffer getBuffer() {
-        return buffers[bufferIndex];
+        return buffers[bufferIndex].getBuffer();
     }
 
     @Override
@@ -103,9 +129,10 @@ public final class NioBufferOutPacket implements OutPacket {
 
     @Override
     public int getSize() {
+        ensureAccessible();
         int size = 0;
         for (int i = 0; i < bufferIndex + 1; i++) {
-            final ByteBuffer buffer = buffers[i];
+            final ByteBuffer buffer = buffers[i].getBuffer();
             size += buffer.position();
         }
         return size;
@@ -113,8 +140,9 @@ public final class NioBufferOutPacket implements OutPacket {
 
     @Override
     public OutHeader getHeader() {
+        ensureAccessible();
         for (int i = 0; i < bufferIndex + 1; i++) {
-            final ByteBuffer buffer = buffers[i];
+            final ByteBuffer buffer = buffers[i].getBuffer();
             if (buffer.position() >= 2) {
                 final short op = buffer.getShort(0);
                 return OutHeader.getByValue(op);
@@ -125,16 +153,52 @@ public final class NioBufferOutPacket implements OutPacket {
 
     @Override
     public byte[] getData() {
+        recordSize();
         final byte[] data = new byte[getSize()];
         int position = 0;
         for (int i = 0; i < bufferIndex + 1; i++) {
-            final ByteBuffer buffer = buffers[i];
+            final ByteBuffer buffer = buffers[i].getBuffer();
             buffer.get(0, data, position, buffer.position());
             position += buffer.position();
         }
         return data;
     }
 
+    @Override
+    public void writeTo(ByteBuf out) {
+        ensureAccessible();
+        recordSize();
+        for (int i = 0; i < bufferIndex + 1; i++) {
+            final ByteBuffer buffer = buffers[i].getBuffer();
+            out.writeBytes(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+    }
+
+    @Override
+    public NioBufferOutPacket retain() {
+        int current;
+        do {
+            current = refCnt;
+            if (current <= 0) {
+                throw new IllegalStateException("Retaining a packet that has already been released");
+            }
+        } while (!refCntUpdater.compareAndSet(this, current, current + 1));
+        return this;
+    }
+
+    @Override
+    public void release() {
+        final int current = refCntUpdater.decrementAndGet(this);
+        if (current == 0) {
+            for (int i = 0; i < bufferIndex + 1; i++) {
+                buffers[i].release();
+                buffers[i] = null;
+            }
+        } else if (current < 0) {
+            throw new IllegalStateException("Releasing a packet that has already been released");
+        }
+    }
+
     @Override
     public String toString() {
         final OutHeader header = getHeader();
@@ -142,9 +206,17 @@ public final class NioBufferOutPacket implements OutPacket {
                 Util.readableByteArray(Arrays.copyOfRange(getData(), 2, getSize())));
     }
 
-    private static ByteBuffer newBuffer(int capacity) {
-        final ByteBuffer buffer = ByteBuffer.allocate(capacity);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        return buffer;
+    private void recordSize() {
+        // Record encoded size once, packets are written multiple times when broadcast
+        if (stats != null && !recorded) {
+            recorded = true;
+            stats.recordSize(getSize());
+        }
+    }
+
+    private void ensureAccessible() {
+        if (refCnt <= 0) {
+            throw new IllegalStateException("Accessing a packet that has already been released");
+        }
     }
 }
@@ -6,7 +6,7 @@ import kinoko.util.FileTime;
 
 import java.time.Instant;
 
-public interface OutPacket {
+public interface OutPacket extends EncodedPacket {
     void encodeByte(byte value);
 
     default void encodeByte(boolean value) {
@@ -60,12 +60,6 @@ public interface OutPacket {
 
     void encodeString(String value);
 
-    int getSize();
-
-    OutHeader getHeader();
-
-    byte[] getData();
-
     static OutPacket of() {
         return new NioBufferOutPacket();
     }
@@ -83,7 +77,7 @@ public interface OutPacket {
     }
 
     static OutPacket of(OutHeader op) {
-        final OutPacket outPacket = OutPacket.of();
+        final OutPacket outPacket = new NioBufferOutPacket(op);
         outPacket.encodeShort(op.getValue());
         return outPacket;
     }
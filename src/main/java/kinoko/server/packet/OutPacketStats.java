@@ -0,0 +1,104 @@
+package kinoko.server.packet;
+
+import kinoko.server.header.OutHeader;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the number of {@link OutPacket} instances created and their encoded size for each {@link OutHeader}. The
+ * average size is used to pick the initial buffer capacity of new packets with the same header, so that most packets
+ * are encoded into a single buffer of the right size class. The number of buffers allocated and the number created
+ * because none could be recycled are tracked across all headers.
+ */
+public final class OutPacketStats {
+    public static final int MIN_CAPACITY = 16;
+    public static final int MAX_CAPACITY = 8192;
+    private static final Map<OutHeader, Entry> entries = new EnumMap<>(OutHeader.class);
+    private static final LongAdder bufferAllocationCount = new LongAdder();
+    private static final LongAdder bufferCreationCount = new LongAdder();
+    private static final long startTime = System.nanoTime();
+
+    static {
+        for (OutHeader header : OutHeader.values()) {
+            entries.put(header, new Entry(header));
+        }
+    }
+
+    public static Entry get(OutHeader header) {
+        return entries.get(header);
+    }
+
+    public static Map<OutHeader, Entry> getEntries() {
+        return entries;
+    }
+
+    public static long getBufferAllocationCount() {
+        return bufferAllocationCount.sum();
+    }
+
+    public static long getBufferCreationCount() {
+        return bufferCreationCount.sum();
+    }
+
+    static void recordBufferAllocation() {
+        bufferAllocationCount.increment();
+    }
+
+    static void recordBufferCreation() {
+        bufferCreationCount.increment();
+    }
+
+    public static double getElapsedSeconds() {
+        return (System.nanoTime() - startTime) / 1_000_000_000.0;
+    }
+
+    public static final class Entry {
+        private final LongAdder allocationCount = new LongAdder();
+        private final LongAdder encodeCount = new LongAdder();
+        private final LongAdder encodeSize = new LongAdder();
+        private final OutHeader header;
+        private volatile int capacityHint = MIN_CAPACITY;
+
+        private Entry(OutHeader header) {
+            this.header = header;
+        }
+
+        public OutHeader getHeader() {
+            return header;
+        }
+
+        public long getAllocationCount() {
+            return allocationCount.sum();
+        }
+
+        public long getEncodeCount() {
+            return encodeCount.sum();
+        }
+
+        public long getAverageSize() {
+            final long count = encodeCount.sum();
+            return count == 0 ? 0 : encodeSize.sum() / count;
+        }
+
+        public int getCapacityHint() {
+            return capacityHint;
+        }
+
+        void recordAllocation() {
+            allocationCount.increment();
+        }
+
+        void recordSize(int size) {
+            encodeCount.increment();
+            encodeSize.add(size);
+            // Round the average size up to the next size class
+            final long averageSize = getAverageSize();
+            final int sizeClass = Integer.highestOneBit((int) Math.clamp(averageSize, MIN_CAPACITY, MAX_CAPACITY) - 1) << 1;
+            if (sizeClass != capacityHint) {
+                capacityHint = sizeClass;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package kinoko.server.packet;
+
+import io.netty.util.Recycler;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Heap buffer used to encode a {@link NioBufferOutPacket}, recycled in power of two size classes from
+ * {@link OutPacketStats#MIN_CAPACITY} to {@link OutPacketStats#MAX_CAPACITY}. Buffers are pooled per thread by Netty's
+ * {@link Recycler}; a buffer released on another thread, such as the event loop that encoded the packet, is returned to
+ * the pool of the thread that allocated it. Buffers that are never released are reclaimed by the garbage collector.
+ */
+final class PacketBuffer {
+    private static final int MAX_BUFFERS_PER_THREAD = 1024;
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(OutPacketStats.MIN_CAPACITY);
+    private static final int MAX_SHIFT = Integer.numberOfTrailingZeros(OutPacketStats.MAX_CAPACITY);
+    private static final BufferRecycler[] recyclers = new BufferRecycler[MAX_SHIFT - MIN_SHIFT + 1];
+    private final ByteBuffer buffer;
+    private final Recycler.Handle<PacketBuffer> handle;
+
+    static {
+        for (int i = 0; i < recyclers.length; i++) {
+            recyclers[i] = new BufferRecycler(1 << (MIN_SHIFT + i));
+        }
+    }
+
+    private PacketBuffer(int capacity, Recycler.Handle<PacketBuffer> handle) {
+        this.buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        this.handle = handle;
+        OutPacketStats.recordBufferCreation();
+    }
+
+    ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    void release() {
+        if (handle != null) {
+            buffer.clear();
+            handle.recycle(this);
+        }
+    }
+
+    static PacketBuffer allocate(int capacity) {
+        OutPacketStats.recordBufferAllocation();
+        if (capacity > OutPacketStats.MAX_CAPACITY) {
+            return new PacketBuffer(capacity, null);
+        }
+        // Round up to the next size class
+        final int shift = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, OutPacketStats.MIN_CAPACITY) - 1);
+        return recyclers[shift - MIN_SHIFT].get();
+    }
+
+    private static final class BufferRecycler extends Recycler<PacketBuffer> {
+        private final int capacity;
+
+        private BufferRecycler(int capacity) {
+            // Pool every buffer instead of one in eight, the packets are short-lived and created at a high rate
+            super(MAX_BUFFERS_PER_THREAD, 0, 32);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected PacketBuffer newObject(Handle<PacketBuffer> handle) {
+            return new PacketBuffer(capacity, handle);
+        }
+    }
+}
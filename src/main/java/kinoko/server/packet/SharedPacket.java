@@ -0,0 +1,65 @@
+package kinoko.server.packet;
+
+import io.netty.buffer.ByteBuf;
+import kinoko.server.header.OutHeader;
+import kinoko.util.Util;
+import kinoko.util.crypto.ShandaCrypto;
+
+import java.util.Arrays;
+
+/**
+ * Read-only packet for broadcasting the same data to multiple clients. The packet data is materialized once, and the
+ * Shanda transform, which does not depend on the connection state, is applied once and shared by every recipient, so
+ * that each client's encoder is left with the copy and the AES transform with its own IV.
+ */
+public final class SharedPacket implements EncodedPacket {
+    private final OutHeader header;
+    private final byte[] data;
+    private volatile byte[] shandaData;
+
+    private SharedPacket(OutHeader header, byte[] data) {
+        this.header = header;
+        this.data = data;
+    }
+
+    public byte[] getShandaData() {
+        byte[] result = shandaData;
+        if (result == null) {
+            // Benign race, concurrent encoders compute identical results
+            result = data.clone();
+            ShandaCrypto.encrypt(result);
+            shandaData = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int getSize() {
+        return data.length;
+    }
+
+    @Override
+    public OutHeader getHeader() {
+        return header;
+    }
+
+    @Override
+    public byte[] getData() {
+        return data.clone();
+    }
+
+    @Override
+    public void writeTo(ByteBuf out) {
+        out.writeBytes(data);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%s) | %s", header, Util.opToString(header.getValue()),
+                Util.readableByteArray(Arrays.copyOfRange(data, 2, data.length)));
+    }
+
+    public static SharedPacket from(OutPacket outPacket) {
+        return new SharedPacket(outPacket.getHeader(), outPacket.getData());
+    }
+}
@@ -100,7 +100,10 @@ public final class Util {
         if (collection.isEmpty()) {
             return Optional.empty();
         }
-        final double totalWeight = collection.stream().mapToDouble(weightFunction).sum();
+        double totalWeight = 0.0;
+        for (T item : collection) {
+            totalWeight += weightFunction.applyAsDouble(item);
+        }
         double r = random.nextDouble() * totalWeight;
         for (T item : collection) {
             r -= weightFunction.applyAsDouble(item);
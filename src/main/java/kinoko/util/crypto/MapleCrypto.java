@@ -1,10 +1,16 @@
 package kinoko.util.crypto;
 
+import io.netty.buffer.ByteBuf;
+
 import javax.crypto.*;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 
+/**
+ * AES-OFB packet cipher used by the client. Each connection direction owns its own instance, as the underlying
+ * {@link Cipher} is not thread-safe. The AES key schedule is expanded once when the instance is created, and the key
+ * stream blocks are written to reusable buffers so that no allocation takes place per packet.
+ */
 public final class MapleCrypto {
     public static final byte[] AES_USER_KEY = new byte[]{
             0x13, 0x00, 0x00, 0x00,
@@ -17,43 +23,72 @@ public final class MapleCrypto {
             0x52, 0x00, 0x00, 0x00
     };
     public static final int BLOCK_SIZE = 16;
-    private static final Cipher cipher;
+    private static final SecretKey key = new SecretKeySpec(AES_USER_KEY, "AES");
+    private final Cipher cipher;
+    private byte[] block = new byte[BLOCK_SIZE];
+    private byte[] output = new byte[BLOCK_SIZE];
 
-    static {
-        final SecretKey key = new SecretKeySpec(AES_USER_KEY, "AES");
+    public MapleCrypto() {
         try {
             cipher = Cipher.getInstance("AES/ECB/NoPadding");
             cipher.init(Cipher.ENCRYPT_MODE, key);
-        } catch (NoSuchPaddingException |
-                 NoSuchAlgorithmException | InvalidKeyException e) {
+        } catch (GeneralSecurityException e) {
             throw new RuntimeException(e);
         }
     }
 
     public static void initialize() {
-        // Run static initialization block
+        // Verify that the cipher is available
+        new MapleCrypto();
+    }
+
+    public void crypt(byte[] data, byte[] iv) {
+        crypt(data, 0, data.length, iv);
+    }
+
+    public void crypt(byte[] data, int offset, int length, byte[] iv) {
+        int a = length;
+        int b = 0x5B0;
+        int c = offset;
+        while (a > 0) {
+            expandIv(iv);
+            if (a < b) {
+                b = a;
+            }
+            for (int i = 0; i < b; i += BLOCK_SIZE) {
+                nextBlock();
+                final int end = Math.min(BLOCK_SIZE, b - i);
+                for (int j = 0; j < end; j++) {
+                    data[c + i + j] ^= block[j];
+                }
+            }
+            c += b;
+            a -= b;
+            b = 0x5B4;
+        }
     }
 
-    public static void crypt(byte[] data, byte[] iv) {
-        final byte[] cipher = new byte[BLOCK_SIZE];
-        int a = data.length;
+    public void crypt(ByteBuf buffer, int index, int length, byte[] iv) {
+        int a = length;
         int b = 0x5B0;
-        int c = 0;
+        int c = index;
         while (a > 0) {
-            final byte[] block = expandIv(iv);
+            expandIv(iv);
             if (a < b) {
                 b = a;
             }
-            for (int i = c; i < (c + b); i++) {
-                if ((i - c) % BLOCK_SIZE == 0) {
-                    try {
-                        MapleCrypto.cipher.doFinal(block, 0, BLOCK_SIZE, cipher);
-                        System.arraycopy(cipher, 0, block, 0, BLOCK_SIZE);
-                    } catch (IllegalBlockSizeException | BadPaddingException | ShortBufferException e) {
-                        throw new RuntimeException(e);
+            for (int i = 0; i < b; i += BLOCK_SIZE) {
+                nextBlock();
+                final int position = c + i;
+                if (b - i >= BLOCK_SIZE) {
+                    // Apply the key stream eight bytes at a time
+                    buffer.setLong(position, buffer.getLong(position) ^ readLong(block, 0));
+                    buffer.setLong(position + 8, buffer.getLong(position + 8) ^ readLong(block, 8));
+                } else {
+                    for (int j = 0; j < b - i; j++) {
+                        buffer.setByte(position + j, buffer.getByte(position + j) ^ block[j]);
                     }
                 }
-                data[i] ^= block[(i - c) % BLOCK_SIZE];
             }
             c += b;
             a -= b;
@@ -61,11 +96,29 @@ public final class MapleCrypto {
         }
     }
 
-    private static byte[] expandIv(byte[] iv) {
-        final byte[] expandedIv = new byte[BLOCK_SIZE];
+    private void nextBlock() {
+        try {
+            // Encrypt into a separate buffer, as in-place updates are copied by the JCE
+            cipher.update(block, 0, BLOCK_SIZE, output, 0);
+        } catch (ShortBufferException e) {
+            throw new RuntimeException(e);
+        }
+        final byte[] next = output;
+        output = block;
+        block = next;
+    }
+
+    private static long readLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private void expandIv(byte[] iv) {
         for (int i = 0; i < BLOCK_SIZE; i += iv.length) {
-            System.arraycopy(iv, 0, expandedIv, i, iv.length);
+            System.arraycopy(iv, 0, block, i, iv.length);
         }
-        return expandedIv;
     }
 }
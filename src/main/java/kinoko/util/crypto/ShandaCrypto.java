@@ -1,5 +1,7 @@
 package kinoko.util.crypto;
 
+import io.netty.buffer.ByteBuf;
+
 public final class ShandaCrypto {
     private static byte rotateLeft(byte x, int y) {
         final int tmp = (x & 0xFF) << (y % 8);
@@ -30,6 +32,25 @@ public final class ShandaCrypto {
         }
     }
 
+    public static void encrypt(ByteBuf buffer, int index, int length) {
+        for (int i = 0; i < 3; i++) {
+            int a = length;
+            byte b = 0;
+            for (int j = 0; j < length; j++) {
+                b ^= (byte) (a + rotateLeft(buffer.getByte(index + j), 3));
+                buffer.setByte(index + j, (byte) (0x47 - rotateRight(b, a)));
+                a -= 1;
+            }
+            a = length;
+            b = 0;
+            for (int j = length - 1; j >= 0; j--) {
+                b ^= (byte) (a + rotateLeft(buffer.getByte(index + j), 4));
+                buffer.setByte(index + j, rotateRight((byte) (b ^ 0x13), 3));
+                a -= 1;
+            }
+        }
+    }
+
     public static void decrypt(byte[] data) {
         for (int i = 0; i < 3; i++) {
             int a = data.length;
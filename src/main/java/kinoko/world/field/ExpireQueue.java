@@ -0,0 +1,45 @@
+package kinoko.world.field;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Min-heap of deadlines, polled on each field tick so that only objects with an expired deadline are visited.
+ * <p>
+ * Entries are not removed when the deadline of an object changes, so an object may be polled for a deadline that is no
+ * longer relevant. The owner of the queue is responsible for checking whether a polled object is actually due.
+ */
+public final class ExpireQueue<T> {
+    private final PriorityQueue<Entry<T>> queue = new PriorityQueue<>(Comparator.comparing(Entry::expireTime));
+
+    /**
+     * Schedules an object to be polled once the expire time has passed. Deadlines of {@link Instant#MAX} are ignored.
+     */
+    public synchronized void schedule(T object, Instant expireTime) {
+        if (expireTime.equals(Instant.MAX)) {
+            return;
+        }
+        queue.add(new Entry<>(object, expireTime));
+    }
+
+    /**
+     * Removes and returns the objects with a deadline at or before the given time, each object at most once.
+     */
+    public synchronized Set<T> pollExpired(Instant now) {
+        if (queue.isEmpty() || queue.peek().expireTime().isAfter(now)) {
+            return Set.of();
+        }
+        final Set<T> expired = new LinkedHashSet<>();
+        while (!queue.isEmpty() && !queue.peek().expireTime().isAfter(now)) {
+            expired.add(queue.poll().object());
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    private record Entry<T>(T object, Instant expireTime) {
+    }
+}
@@ -11,10 +11,11 @@ import kinoko.provider.npc.NpcImitateData;
 import kinoko.provider.npc.NpcTemplate;
 import kinoko.provider.reactor.ReactorTemplate;
 import kinoko.script.common.ScriptDispatcher;
-import kinoko.server.ServerConfig;
 import kinoko.server.field.FieldStorage;
 import kinoko.server.field.Instance;
 import kinoko.server.field.InstanceFieldStorage;
+import kinoko.server.node.FieldTicker;
+import kinoko.server.node.GameExecutor;
 import kinoko.server.node.ServerExecutor;
 import kinoko.server.packet.OutPacket;
 import kinoko.util.Util;
@@ -38,22 +39,23 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 public final class Field {
     private static final Logger log = LogManager.getLogger(Field.class);
     private static final AtomicInteger fieldCounter = new AtomicInteger(1);
+    private static final long CLOSED = -1;
     private final AtomicInteger fieldObjectCounter = new AtomicInteger(1);
     private final AtomicBoolean firstEnterScript = new AtomicBoolean(false);
     private final int executorIndex = fieldCounter.getAndIncrement();
 
     private final FieldStorage fieldStorage;
     private final MapInfo mapInfo;
-    private final ScheduledFuture<?> fieldEventFuture;
+    private final GameExecutor executor;
+    private final FieldTicker.Registration fieldEventFuture;
     private final Map<Integer, Consumer<Mob>> mobSpawnModifiers;
     private final List<MapleTvMessage> mapleTvQueue;
 
@@ -69,6 +71,7 @@ public final class Field {
 
     private WeatherEffect weatherEffect;
 
+    private final AtomicLong lastUsedTick = new AtomicLong(ServerExecutor.getCurrentTick()); // CLOSED once unloaded
     private Instant nextMobRespawn = Instant.now();
     private Instant nextDropExpire = Instant.now();
     private Instant nextReactorExpire = Instant.now();
@@ -76,6 +79,7 @@ public final class Field {
     public Field(FieldStorage fieldStorage, MapInfo mapInfo) {
         this.fieldStorage = fieldStorage;
         this.mapInfo = mapInfo;
+        this.executor = ServerExecutor.createExecutor(this);
         this.mobSpawnModifiers = new ConcurrentHashMap<>();
         this.mapleTvQueue = new CopyOnWriteArrayList<>();
         // Initialize field object pools
@@ -89,13 +93,17 @@ public final class Field {
         this.townPortalPool = new TownPortalPool(this);
         this.affectedAreaPool = new AffectedAreaPool(this);
         // Initialize field updates
-        this.fieldEventFuture = ServerExecutor.scheduleAtFixedRate(this, this::update, ServerConfig.FIELD_TICK_INTERVAL, ServerConfig.FIELD_TICK_INTERVAL, TimeUnit.MILLISECONDS);
+        this.fieldEventFuture = ServerExecutor.registerFieldTick(this);
     }
 
     public int getExecutorIndex() {
         return executorIndex;
     }
 
+    public GameExecutor getExecutor() {
+        return executor;
+    }
+
     public FieldStorage getFieldStorage() {
         return fieldStorage;
     }
@@ -213,7 +221,7 @@ public final class Field {
         return mapInfo;
     }
 
-    public ScheduledFuture<?> getFieldEventFuture() {
+    public FieldTicker.Registration getFieldEventFuture() {
         return fieldEventFuture;
     }
 
@@ -225,6 +233,38 @@ public final class Field {
         return mapleTvQueue;
     }
 
+    /**
+     * Records that the field is in use at the current field tick, see {@link ServerExecutor#getCurrentTick()}.
+     *
+     * @return false if the field was closed to be unloaded, in which case it should be looked up again
+     */
+    public boolean markUsed() {
+        final long tick = ServerExecutor.getCurrentTick();
+        while (true) {
+            final long current = lastUsedTick.get();
+            if (current == CLOSED) {
+                return false;
+            }
+            if (current >= tick || lastUsedTick.compareAndSet(current, tick)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Closes the field if it was not used since the given field tick, and has no users or town portals. The check and
+     * the close are a single atomic update, so a field that is marked used concurrently is never closed.
+     *
+     * @return true if the field was closed and can be unloaded
+     */
+    public boolean tryClose(long unusedSinceTick) {
+        final long current = lastUsedTick.get();
+        if (current == CLOSED || current >= unusedSinceTick || hasUser() || !townPortalPool.isEmpty()) {
+            return false;
+        }
+        return lastUsedTick.compareAndSet(current, CLOSED);
+    }
+
     public int getNewObjectId() {
         return fieldObjectCounter.getAndIncrement();
     }
@@ -287,6 +327,22 @@ public final class Field {
         }
     }
 
+    /**
+     * Returns true if the field has nothing that can change on update, in which case the field tick can be skipped.
+     * Time based state such as mob respawns and reactor resets is caught up on the first update after the field is no
+     * longer idle.
+     */
+    public boolean isIdle() {
+        return userPool.isEmpty() &&
+                mobPool.isIdle() &&
+                dropPool.isEmpty() &&
+                affectedAreaPool.isEmpty() &&
+                !reactorPool.hasHitReactors() &&
+                mapleTvQueue.isEmpty() &&
+                weatherEffect == null &&
+                !(fieldStorage instanceof InstanceFieldStorage);
+    }
+
     public synchronized void blowWeather(int itemId, String message, int duration) {
         broadcastPacket(FieldPacket.blowWeather(itemId, message));
         weatherEffect = new WeatherEffect(itemId, message, Instant.now().plus(duration, ChronoUnit.SECONDS));
@@ -405,6 +461,7 @@ public final class Field {
 
     public void removeUser(User user) {
         userPool.removeUser(user);
+        markUsed();
         // Handle dialogs
         user.closeDialog();
         // Handle instance
@@ -19,6 +19,7 @@ public final class MobPool extends FieldObjectPool<Mob> {
     private final List<MobSpawnPoint> mobSpawnPoints;
     private final int mobCapacityMin;
     private final int mobCapacityMax;
+    private volatile boolean idle = false; // no mobs were respawned in the last respawn attempt, and none have been removed since
 
     public MobPool(Field field) {
         super(field);
@@ -27,6 +28,10 @@ public final class MobPool extends FieldObjectPool<Mob> {
         this.mobCapacityMax = mobCapacityMin * 2;
     }
 
+    public boolean isIdle() {
+        return idle;
+    }
+
     public Optional<Mob> getByTemplateId(int templateId) {
         return getBy((mob) -> mob.getTemplateId() == templateId);
     }
@@ -46,6 +51,7 @@ public final class MobPool extends FieldObjectPool<Mob> {
         if (!removeObject(mob)) {
             return false;
         }
+        idle = false;
         // Send MobLeaveField after processing attack
         ServerExecutor.submit(field, () -> {
             field.broadcastPacket(MobPacket.mobLeaveField(mob, leaveType));
@@ -111,6 +117,7 @@ public final class MobPool extends FieldObjectPool<Mob> {
         Collections.shuffle(shuffledSpawnPoints);
 
         final int userCount = field.getUserPool().getCount();
+        boolean spawned = false;
         for (MobSpawnPoint msp : shuffledSpawnPoints) {
             // Check mob capacity
             if (getCount() >= getMobCapacity(userCount)) {
@@ -128,7 +135,9 @@ public final class MobPool extends FieldObjectPool<Mob> {
             }
             // Add mob to pool
             addMob(mob);
+            spawned = true;
         }
+        idle = !spawned;
     }
 
     private int getMobCapacity(int userCount) {
@@ -31,6 +31,10 @@ public final class ReactorPool extends FieldObjectPool<Reactor> {
         field.broadcastPacket(FieldPacket.reactorEnterField(reactor));
     }
 
+    public boolean hasHitReactors() {
+        return !hitReactors.isEmpty();
+    }
+
     public synchronized void hitReactor(User user, Reactor reactor, int delay) {
         // Register reactor expiry
         if (reactor.getReactorTime() > 0) {
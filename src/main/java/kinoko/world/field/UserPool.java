@@ -1,5 +1,6 @@
 package kinoko.world.field;
 
+import kinoko.database.CharacterSaveService;
 import kinoko.packet.field.FieldPacket;
 import kinoko.packet.field.MobPacket;
 import kinoko.packet.field.NpcPacket;
@@ -10,7 +11,9 @@ import kinoko.provider.QuestProvider;
 import kinoko.provider.map.PortalInfo;
 import kinoko.provider.quest.QuestInfo;
 import kinoko.server.ServerConfig;
+import kinoko.server.packet.EncodedPacket;
 import kinoko.server.packet.OutPacket;
+import kinoko.server.packet.SharedPacket;
 import kinoko.world.field.drop.DropEnterType;
 import kinoko.world.field.summoned.Summoned;
 import kinoko.world.item.*;
@@ -31,8 +34,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public final class UserPool extends FieldObjectPool<User> {
+    private final ExpireQueue<User> expireQueue = new ExpireQueue<>();
+
     public UserPool(Field field) {
         super(field);
     }
@@ -70,6 +76,10 @@ public final class UserPool extends FieldObjectPool<User> {
         // Add user to pool
         addObject(user);
 
+        // Check timed state carried over from the previous field on the next tick
+        user.setNextExpireTime(Instant.MIN);
+        expireQueue.schedule(user, Instant.MIN);
+
         if (user.isHidden()) {
             broadcastPacketToGMs(UserPacket.userEnterField(user), user);
         }
@@ -210,65 +220,90 @@ public final class UserPool extends FieldObjectPool<User> {
         return true;
     }
 
+    public void scheduleExpire(User user, Instant expireTime) {
+        expireQueue.schedule(user, expireTime);
+    }
+
     public void updateUsers(Instant now) {
         for (User user : getObjects()) {
             // Handle CTS updates on tick
             SkillProcessor.processUpdate(user, now);
-            // Expire temporary stat
-            user.resetTemporaryStat((cts, option) -> now.isAfter(option.getExpireTime()));
-            // Expire skill cooltimes
-            for (int skillId : user.expireSkillCooltime(now)) {
-                user.write(UserLocal.skillCooltimeSet(skillId, 0));
-            }
             // Update pets
             user.updatePets(now);
-            // Expire summoned
-            user.removeSummoned((summoned) -> now.isAfter(summoned.getExpireTime()));
-            // Expire town portal
-            final TownPortal townPortal = user.getTownPortal();
-            if (townPortal != null) {
-                if (townPortal.getExpireTime().isBefore(now)) {
-                    townPortal.destroy();
-                    user.setTownPortal(null);
-                    user.write(WvsContext.resetTownPortal());
-                    user.write(MessagePacket.skillExpire(townPortal.getSkillId()));
-                    user.getConnectedServer().notifyUserUpdate(user);
-                }
+            // Checkpoint character data
+            CharacterSaveService.checkpoint(user.getCharacterData(), now);
+        }
+        // Only visit users with expired timed state
+        for (User user : expireQueue.pollExpired(now)) {
+            if (getById(user.getId()).orElse(null) != user || now.isBefore(user.getNextExpireTime())) {
+                continue; // user left the field, or the deadline was replaced
             }
-            // Expire open gate
-            final OpenGate openGate = user.getOpenGate();
-            if (openGate != null) {
-                if (openGate.getExpireTime().isBefore(now)) {
-                    openGate.destroy();
-                    user.setOpenGate(null);
-                }
+            expireUser(user, now);
+            expireQueue.schedule(user, user.updateNextExpireTime());
+        }
+    }
+
+    private void expireUser(User user, Instant now) {
+        // Expire temporary stat
+        user.resetTemporaryStat((cts, option) -> now.isAfter(option.getExpireTime()));
+        // Expire skill cooltimes
+        for (int skillId : user.expireSkillCooltime(now)) {
+            user.write(UserLocal.skillCooltimeSet(skillId, 0));
+        }
+        // Expire summoned
+        user.removeSummoned((summoned) -> now.isAfter(summoned.getExpireTime()));
+        // Expire town portal
+        final TownPortal townPortal = user.getTownPortal();
+        if (townPortal != null) {
+            if (townPortal.getExpireTime().isBefore(now)) {
+                townPortal.destroy();
+                user.setTownPortal(null);
+                user.write(WvsContext.resetTownPortal());
+                user.write(MessagePacket.skillExpire(townPortal.getSkillId()));
+                user.getConnectedServer().notifyUserUpdate(user);
             }
-            // Expire items
-            if (now.isAfter(user.getNextCheckItemExpire())) {
-                user.setNextCheckItemExpire(now.plus(ServerConfig.ITEM_EXPIRE_INTERVAL, ChronoUnit.SECONDS));
-                boolean itemExpired = false;
-                final InventoryManager im = user.getInventoryManager();
-                for (InventoryType inventoryType : List.of(InventoryType.EQUIPPED, InventoryType.EQUIP, InventoryType.CONSUME, InventoryType.INSTALL, InventoryType.ETC)) {
-                    final var iter = im.getInventoryByType(inventoryType).getItems().entrySet().iterator();
-                    while (iter.hasNext()) {
-                        final var entry = iter.next();
-                        final int position = entry.getKey();
-                        final Item item = entry.getValue();
-                        if (item.getDateExpire() == null || now.isBefore(item.getDateExpire())) {
-                            continue;
-                        }
-                        // Remove item from inventory
-                        iter.remove();
-                        user.write(WvsContext.inventoryOperation(InventoryOperation.delItem(
-                                inventoryType == InventoryType.EQUIPPED ? InventoryType.EQUIP : inventoryType,
-                                inventoryType == InventoryType.EQUIPPED ? -position : position
-                        ), false));
-                        user.write(MessagePacket.generalItemExpire(item.getItemId()));
-                        itemExpired = true;
+        }
+        // Expire open gate
+        final OpenGate openGate = user.getOpenGate();
+        if (openGate != null) {
+            if (openGate.getExpireTime().isBefore(now)) {
+                openGate.destroy();
+                user.setOpenGate(null);
+            }
+        }
+        // Expire items
+        if (now.isAfter(user.getNextCheckItemExpire())) {
+            user.setNextCheckItemExpire(now.plus(ServerConfig.ITEM_EXPIRE_INTERVAL, ChronoUnit.SECONDS));
+            boolean itemExpired = false;
+            final InventoryManager im = user.getInventoryManager();
+            for (InventoryType inventoryType : List.of(InventoryType.EQUIPPED, InventoryType.EQUIP, InventoryType.CONSUME, InventoryType.INSTALL, InventoryType.ETC)) {
+                final Inventory inventory = im.getInventoryByType(inventoryType);
+                if (now.isBefore(inventory.getNextDateExpire())) {
+                    continue; // no expired items
+                }
+                final var iter = inventory.getItems().entrySet().iterator();
+                while (iter.hasNext()) {
+                    final var entry = iter.next();
+                    final int position = entry.getKey();
+                    final Item item = entry.getValue();
+                    if (item.getDateExpire() == null || now.isBefore(item.getDateExpire())) {
+                        continue;
                     }
+                    // Remove item from inventory
+                    iter.remove();
+                    user.write(WvsContext.inventoryOperation(InventoryOperation.delItem(
+                            inventoryType == InventoryType.EQUIPPED ? InventoryType.EQUIP : inventoryType,
+                            inventoryType == InventoryType.EQUIPPED ? -position : position
+                    ), false));
+                    user.write(MessagePacket.generalItemExpire(item.getItemId()));
+                    itemExpired = true;
                 }
-                // Expire cash items and pets
-                final var iter = im.getCashInventory().getItems().entrySet().iterator();
+                inventory.updateNextDateExpire();
+            }
+            // Expire cash items and pets
+            final Inventory cashInventory = im.getCashInventory();
+            if (!now.isBefore(cashInventory.getNextDateExpire())) {
+                final var iter = cashInventory.getItems().entrySet().iterator();
                 while (iter.hasNext()) {
                     final var entry = iter.next();
                     final int position = entry.getKey();
@@ -293,10 +328,11 @@ public final class UserPool extends FieldObjectPool<User> {
                     }
                     itemExpired = true;
                 }
-                // Validate stat
-                if (itemExpired) {
-                    user.validateStat();
-                }
+                cashInventory.updateNextDateExpire();
+            }
+            // Validate stat
+            if (itemExpired) {
+                user.validateStat();
             }
         }
     }
@@ -326,13 +362,15 @@ public final class UserPool extends FieldObjectPool<User> {
         broadcastPacket(outPacket, null);
     }
 
+    /**
+     * Broadcasts a packet to all users in the field except for the specified user. The broadcast methods release the
+     * caller's reference to the packet, so the packet must not be used after it has been broadcast.
+     *
+     * @param outPacket The packet to send.
+     * @param except    The user to skip, or null.
+     */
     public void broadcastPacket(OutPacket outPacket, User except) {
-        forEach((user) -> {
-            if (except != null && user.getCharacterId() == except.getCharacterId()) {
-                return;
-            }
-            user.write(outPacket);
-        });
+        broadcastToRecipients(outPacket, (user) -> except == null || user.getCharacterId() != except.getCharacterId());
     }
 
     /**
@@ -350,15 +388,8 @@ public final class UserPool extends FieldObjectPool<User> {
      * @param outPacket The packet to send to GM users.
      */
     public void broadcastPacketToGMs(OutPacket outPacket, User except) {
-        forEach(user -> {
-            if (except != null && user.getCharacterId() == except.getCharacterId()) {
-                return;
-            }
-
-            if (user.getAdminLevel().isAtLeast(AdminLevel.JR_GM)) {
-                user.write(outPacket);
-            }
-        });
+        broadcastToRecipients(outPacket, (user) -> (except == null || user.getCharacterId() != except.getCharacterId()) &&
+                user.getAdminLevel().isAtLeast(AdminLevel.JR_GM));
     }
 
     /**
@@ -367,11 +398,29 @@ public final class UserPool extends FieldObjectPool<User> {
      * @param outPacket The packet to send to non-GM users.
      */
     public void broadcastPacketToNonGMs(OutPacket outPacket) {
-        forEach(user -> {
-            if (!user.getAdminLevel().isAtLeast(AdminLevel.JR_GM)) {
-                user.write(outPacket);
+        broadcastToRecipients(outPacket, (user) -> !user.getAdminLevel().isAtLeast(AdminLevel.JR_GM));
+    }
+
+    private void broadcastToRecipients(OutPacket outPacket, Predicate<User> recipients) {
+        // Materialize the packet once when there are multiple recipients
+        final EncodedPacket broadcastPacket = hasMultipleRecipients(recipients) ? SharedPacket.from(outPacket) : outPacket;
+        forEach((user) -> {
+            if (recipients.test(user)) {
+                user.write(broadcastPacket);
             }
         });
+        // Recycle the packet buffers once the pending writes are encoded
+        outPacket.release();
+    }
+
+    private boolean hasMultipleRecipients(Predicate<User> recipients) {
+        int count = 0;
+        for (User user : values()) {
+            if (recipients.test(user) && ++count > 1) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public Optional<User> getNearestUser(FieldObject fieldObject) {
@@ -24,6 +24,7 @@ import kinoko.server.node.ServerExecutor;
 import kinoko.server.packet.OutPacket;
 import kinoko.util.BitFlag;
 import kinoko.util.Encodable;
+import kinoko.util.Tuple;
 import kinoko.util.Util;
 import kinoko.world.GameConstants;
 import kinoko.world.field.ControlledObject;
@@ -418,12 +419,14 @@ public final class Mob extends Life implements ControlledObject, Encodable {
         if (stolenReward != null) {
             return;
         }
-        final List<Reward> possibleRewards = RewardProvider.getMobRewards(getTemplateId());
-        final Optional<Reward> stealResult = Util.getRandomFromCollection(possibleRewards, Reward::getProb);
+        final Optional<Reward> stealResult = RewardProvider.getMobRewardTable(getTemplateId()).sampleReward();
         if (stealResult.isEmpty()) {
             return;
         }
         final Reward reward = stealResult.get();
+        if (!Util.succeedDouble(reward.getProb() * getDropMultiplier(attacker, attacker.getFamilyDropModifier()))) {
+            return;
+        }
         final Optional<Drop> dropResult = createDrop(attacker, reward);
         if (dropResult.isPresent()) {
             getField().getDropPool().addDrop(dropResult.get(), DropEnterType.CREATE, getX(), getY() - GameConstants.DROP_HEIGHT, 0);
@@ -545,16 +548,22 @@ public final class Mob extends Life implements ControlledObject, Encodable {
                 user.write(MessagePacket.incExp(finalExp, finalPartyBonus, user == highestDamageDone, false));
             }
             // Process mob kill for quest
-            for (QuestRecord qr : user.getQuestManager().getStartedQuests()) {
-                final Optional<QuestInfo> questInfoResult = QuestProvider.getQuestInfo(qr.getQuestId());
-                if (questInfoResult.isEmpty()) {
+            final Set<QuestRecord> progressedQuests = new LinkedHashSet<>();
+            for (Tuple<Integer, Integer> mobQuest : QuestProvider.getMobQuests(getTemplateId())) {
+                final Optional<QuestRecord> questRecordResult = user.getQuestManager().getQuestRecord(mobQuest.getLeft());
+                if (questRecordResult.isEmpty()) {
                     continue;
                 }
-                final Optional<QuestRecord> questProgressResult = questInfoResult.get().progressQuest(qr, getTemplateId());
-                if (questProgressResult.isEmpty()) {
+                final Optional<QuestInfo> questInfoResult = QuestProvider.getQuestInfo(mobQuest.getLeft());
+                if (questInfoResult.isEmpty()) {
                     continue;
                 }
-                user.write(MessagePacket.questRecord(questProgressResult.get()));
+                if (questInfoResult.get().progressQuest(questRecordResult.get(), mobQuest.getRight())) {
+                    progressedQuests.add(questRecordResult.get());
+                }
+            }
+            for (QuestRecord qr : progressedQuests) {
+                user.write(MessagePacket.questRecord(qr));
                 user.validateStat();
             }
 
@@ -577,40 +586,38 @@ public final class Mob extends Life implements ControlledObject, Encodable {
         }
         // Create drops from possible rewards
         final List<Drop> drops = new ArrayList<>();
-        for (Reward reward : RewardProvider.getMobRewards(getTemplateId())) {
+        final User dropOwner = owner;
+        final double multiplier = getDropMultiplier(owner, owner.getFamilyDropModifier());
+        RewardProvider.getMobRewardTable(getTemplateId()).rollRewards(multiplier, (reward) -> {
             if (stolenReward == reward) {
-                continue;
+                return;
             }
-            final Optional<Drop> dropResult = createDrop(owner, reward);
+            final Optional<Drop> dropResult = createDrop(dropOwner, reward);
             dropResult.ifPresent(drops::add);
-        }
+        });
         // Add drops to field if any
         if (!drops.isEmpty()) {
             getField().getDropPool().addDrops(drops, DropEnterType.CREATE, getX(), getY() - GameConstants.DROP_HEIGHT, delay, 0);
         }
     }
 
-    private Optional<Drop> createDrop(User owner, Reward reward) {
-        // Field requirement
-        if (reward.isFieldRequirement() && reward.getFieldId() != getField().getFieldId()) {
-            return Optional.empty();
-        }
-        // Drop probability
-        double probability = reward.getProb();
+    /**
+     * Resolves the multiplier applied to the probability of every reward dropped for the owner, computed once per kill.
+     */
+    private double getDropMultiplier(User owner, double familyDropModifier) {
+        double multiplier = 1.0;
         if (owner.getSecondaryStat().hasOption(CharacterTemporaryStat.ItemUpByItem)) {
-            final double multiplier = (owner.getSecondaryStat().getOption(CharacterTemporaryStat.ItemUpByItem).nOption + 100) / 100.0;
-            probability = probability * multiplier;
+            multiplier *= (owner.getSecondaryStat().getOption(CharacterTemporaryStat.ItemUpByItem).nOption + 100) / 100.0;
         }
         if (getMobStat().hasOption(MobTemporaryStat.Showdown) && getMobStat().getOption(MobTemporaryStat.Showdown).rOption != WildHunter.STINK_BOMB_SHOT) {
-            final double multiplier = (getMobStat().getOption(MobTemporaryStat.Showdown).nOption + 100) / 100.0;
-            probability = probability * multiplier;
+            multiplier *= (getMobStat().getOption(MobTemporaryStat.Showdown).nOption + 100) / 100.0;
         }
+        return multiplier * familyDropModifier * ServerConfig.DROP_RATE;
+    }
 
-        probability *= owner.getFamilyDropModifier();
-
-        probability = Math.min(probability * ServerConfig.DROP_RATE, 1.0);
-
-        if (!Util.succeedDouble(probability)) {
+    private Optional<Drop> createDrop(User owner, Reward reward) {
+        // Field requirement
+        if (reward.isFieldRequirement() && reward.getFieldId() != getField().getFieldId()) {
             return Optional.empty();
         }
         // Create drop
@@ -43,6 +43,8 @@ public final class EquipData {
     private int exp;
     private int durability = -1;
 
+    private int statVersion; // incremented when a stat affecting the wearer changes
+
     public EquipData() {
     }
 
@@ -175,6 +177,7 @@ public final class EquipData {
 
     public void setIncStr(short incStr) {
         this.incStr = incStr;
+        this.statVersion++;
     }
 
     public short getIncDex() {
@@ -183,6 +186,7 @@ public final class EquipData {
 
     public void setIncDex(short incDex) {
         this.incDex = incDex;
+        this.statVersion++;
     }
 
     public short getIncInt() {
@@ -191,6 +195,7 @@ public final class EquipData {
 
     public void setIncInt(short incInt) {
         this.incInt = incInt;
+        this.statVersion++;
     }
 
     public short getIncLuk() {
@@ -199,6 +204,7 @@ public final class EquipData {
 
     public void setIncLuk(short incLuk) {
         this.incLuk = incLuk;
+        this.statVersion++;
     }
 
     public short getIncMaxHp() {
@@ -207,6 +213,7 @@ public final class EquipData {
 
     public void setIncMaxHp(short incMaxHp) {
         this.incMaxHp = incMaxHp;
+        this.statVersion++;
     }
 
     public short getIncMaxMp() {
@@ -215,6 +222,7 @@ public final class EquipData {
 
     public void setIncMaxMp(short incMaxMp) {
         this.incMaxMp = incMaxMp;
+        this.statVersion++;
     }
 
     public short getIncPad() {
@@ -223,6 +231,7 @@ public final class EquipData {
 
     public void setIncPad(short incPad) {
         this.incPad = incPad;
+        this.statVersion++;
     }
 
     public short getIncMad() {
@@ -231,6 +240,7 @@ public final class EquipData {
 
     public void setIncMad(short incMad) {
         this.incMad = incMad;
+        this.statVersion++;
     }
 
     public short getIncPdd() {
@@ -239,6 +249,7 @@ public final class EquipData {
 
     public void setIncPdd(short incPdd) {
         this.incPdd = incPdd;
+        this.statVersion++;
     }
 
     public short getIncMdd() {
@@ -247,6 +258,7 @@ public final class EquipData {
 
     public void setIncMdd(short incMdd) {
         this.incMdd = incMdd;
+        this.statVersion++;
     }
 
     public short getIncAcc() {
@@ -255,6 +267,7 @@ public final class EquipData {
 
     public void setIncAcc(short incAcc) {
         this.incAcc = incAcc;
+        this.statVersion++;
     }
 
     public short getIncEva() {
@@ -263,6 +276,7 @@ public final class EquipData {
 
     public void setIncEva(short incEva) {
         this.incEva = incEva;
+        this.statVersion++;
     }
 
     public short getIncCraft() {
@@ -271,6 +285,7 @@ public final class EquipData {
 
     public void setIncCraft(short incCraft) {
         this.incCraft = incCraft;
+        this.statVersion++;
     }
 
     public short getIncSpeed() {
@@ -279,6 +294,7 @@ public final class EquipData {
 
     public void setIncSpeed(short incSpeed) {
         this.incSpeed = incSpeed;
+        this.statVersion++;
     }
 
     public short getIncJump() {
@@ -287,6 +303,7 @@ public final class EquipData {
 
     public void setIncJump(short incJump) {
         this.incJump = incJump;
+        this.statVersion++;
     }
 
     public byte getRuc() {
@@ -327,6 +344,7 @@ public final class EquipData {
 
     public void setGrade(byte grade) {
         this.grade = grade;
+        this.statVersion++;
     }
 
     public short getOption1() {
@@ -335,6 +353,7 @@ public final class EquipData {
 
     public void setOption1(short option1) {
         this.option1 = option1;
+        this.statVersion++;
     }
 
     public short getOption2() {
@@ -343,6 +362,7 @@ public final class EquipData {
 
     public void setOption2(short option2) {
         this.option2 = option2;
+        this.statVersion++;
     }
 
     public short getOption3() {
@@ -351,6 +371,7 @@ public final class EquipData {
 
     public void setOption3(short option3) {
         this.option3 = option3;
+        this.statVersion++;
     }
 
     public short getSocket1() {
@@ -401,6 +422,14 @@ public final class EquipData {
         this.durability = durability;
     }
 
+    /**
+     * Returns a counter that changes whenever a stat applied to the wearer changes, used to cache the stat contribution
+     * of equipped items.
+     */
+    public int getStatVersion() {
+        return statVersion;
+    }
+
 
     // HELPER METHODS --------------------------------------------------------------------------------------------------
 
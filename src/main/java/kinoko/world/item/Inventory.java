@@ -1,5 +1,6 @@
 package kinoko.world.item;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -8,6 +9,7 @@ public final class Inventory {
     private final SortedMap<Integer, Item> items = new TreeMap<>();
     private int size;
     private InventoryType type;
+    private Instant nextDateExpire = Instant.MAX; // earliest item expire time, may be earlier than the actual expire time
 
     public Inventory(int size) {
         this.size = size;
@@ -18,6 +20,14 @@ public final class Inventory {
         this.type = type;
     }
 
+    public Inventory(Inventory inventory) {
+        this(inventory.size, inventory.type);
+        for (var entry : inventory.items.entrySet()) {
+            items.put(entry.getKey(), new Item(entry.getValue()));
+        }
+        this.nextDateExpire = inventory.nextDateExpire;
+    }
+
     public Optional<InventoryType> getType(){
         return Optional.ofNullable(type);
     }
@@ -45,6 +55,9 @@ public final class Inventory {
     public void putItem(int position, Item item) {
         if (item != null) {
             items.put(Math.abs(position), item);
+            if (item.getDateExpire() != null && item.getDateExpire().isBefore(nextDateExpire)) {
+                nextDateExpire = item.getDateExpire();
+            }
         } else {
             items.remove(Math.abs(position));
         }
@@ -62,6 +75,23 @@ public final class Inventory {
         return items.remove(Math.abs(position), item);
     }
 
+    /**
+     * Returns the earliest expire time of the items in this inventory, so that inventories without expired items do not
+     * have to be scanned. Items removed since the last call to {@link #updateNextDateExpire()} are still included.
+     */
+    public Instant getNextDateExpire() {
+        return nextDateExpire;
+    }
+
+    public void updateNextDateExpire() {
+        nextDateExpire = Instant.MAX;
+        for (Item item : items.values()) {
+            if (item.getDateExpire() != null && item.getDateExpire().isBefore(nextDateExpire)) {
+                nextDateExpire = item.getDateExpire();
+            }
+        }
+    }
+
     public Collection<InventoryEntry> asInventoryEntries(InventoryType type) {
         return items.entrySet().stream()
                 .map(entry -> new InventoryEntry(entry.getKey(), entry.getValue(), type))
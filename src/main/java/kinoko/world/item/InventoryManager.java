@@ -31,6 +31,17 @@ public final class InventoryManager {
         this.extSlotExpire = null;
     }
 
+    public InventoryManager(InventoryManager im) {
+        this.equipped = new Inventory(im.equipped);
+        this.equipInventory = new Inventory(im.equipInventory);
+        this.consumeInventory = new Inventory(im.consumeInventory);
+        this.installInventory = new Inventory(im.installInventory);
+        this.etcInventory = new Inventory(im.etcInventory);
+        this.cashInventory = new Inventory(im.cashInventory);
+        this.money = im.money;
+        this.extSlotExpire = im.extSlotExpire;
+    }
+
     public Inventory getEquipped() {
         return equipped;
     }
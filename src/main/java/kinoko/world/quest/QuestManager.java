@@ -11,6 +11,15 @@ import java.util.Optional;
 public final class QuestManager {
     private final Map<Integer, QuestRecord> questRecords = new HashMap<>();
 
+    public QuestManager() {
+    }
+
+    public QuestManager(QuestManager qm) {
+        for (QuestRecord questRecord : qm.questRecords.values()) {
+            questRecords.put(questRecord.getQuestId(), new QuestRecord(questRecord));
+        }
+    }
+
     public List<QuestRecord> getQuestRecords() {
         return questRecords.values().stream().toList();
     }
@@ -7,6 +7,7 @@ public final class QuestRecord {
     private QuestState state;
     private String value;
     private Instant completedTime;
+    private int[] mobProgress; // parsed mob kill counts, cleared when the value is set
 
     public QuestRecord(int questId) {
         this.questId = questId;
@@ -19,6 +20,9 @@ public final class QuestRecord {
         this.completedTime = completedTime;
     }
 
+    public QuestRecord(QuestRecord questRecord) {
+        this(questRecord.questId, questRecord.state, questRecord.value, questRecord.completedTime);
+    }
 
     public int getQuestId() {
         return questId;
@@ -38,6 +42,16 @@ public final class QuestRecord {
 
     public void setValue(String value) {
         this.value = value;
+        this.mobProgress = null;
+    }
+
+    public int[] getMobProgress() {
+        return mobProgress;
+    }
+
+    public void setMobProgress(int[] mobProgress, String value) {
+        this.value = value;
+        this.mobProgress = mobProgress;
     }
 
     public Instant getCompletedTime() {
@@ -16,6 +16,17 @@ public final class SkillManager {
     private final Map<Integer, Instant> skillCooltimes = new HashMap<>();
     private final Map<Integer, Instant> skillSchedules = new HashMap<>();
 
+    public SkillManager() {
+    }
+
+    public SkillManager(SkillManager sm) {
+        for (SkillRecord skillRecord : sm.skillRecords.values()) {
+            skillRecords.put(skillRecord.getSkillId(), new SkillRecord(skillRecord));
+        }
+        skillCooltimes.putAll(sm.skillCooltimes);
+        skillSchedules.putAll(sm.skillSchedules);
+    }
+
     // SKILL RECORD METHODS --------------------------------------------------------------------------------------------
 
     public List<SkillRecord> getSkillRecords() {
@@ -15,6 +15,10 @@ public final class SkillRecord {
         this.masterLevel = masterLevel;
     }
 
+    public SkillRecord(SkillRecord skillRecord) {
+        this(skillRecord.skillId, skillRecord.skillLevel, skillRecord.masterLevel);
+    }
+
     public int getSkillId() {
         return skillId;
     }
@@ -47,6 +47,30 @@ public final class CharacterData implements Encodable {
         this.accountId = accountId;
     }
 
+    /**
+     * Creates a deep copy of the character data, which can be read by another thread while the original keeps being
+     * modified by its owner.
+     */
+    public CharacterData(CharacterData cd) {
+        this.accountId = cd.accountId;
+        this.characterStat = new CharacterStat(cd.characterStat);
+        this.inventoryManager = new InventoryManager(cd.inventoryManager);
+        this.skillManager = new SkillManager(cd.skillManager);
+        this.questManager = new QuestManager(cd.questManager);
+        this.configManager = cd.configManager != null ? new ConfigManager(cd.configManager) : null;
+        this.popularityRecord = cd.popularityRecord != null ? new PopularityRecord(cd.popularityRecord) : null;
+        this.miniGameRecord = cd.miniGameRecord != null ? new MiniGameRecord(cd.miniGameRecord) : null;
+        this.coupleRecord = cd.coupleRecord != null ? CoupleRecord.from(inventoryManager.getEquipped(), inventoryManager.getEquipInventory()) : null;
+        this.mapTransferInfo = cd.mapTransferInfo != null ? new MapTransferInfo(cd.mapTransferInfo) : null;
+        this.wildHunterInfo = cd.wildHunterInfo != null ? new WildHunterInfo(cd.wildHunterInfo) : null;
+        this.itemSnCounter = cd.itemSnCounter != null ? new AtomicInteger(cd.itemSnCounter.get()) : null;
+        this.friendMax = cd.friendMax;
+        this.partyId = cd.partyId;
+        this.guildId = cd.guildId;
+        this.creationTime = cd.creationTime;
+        this.maxLevelTime = cd.maxLevelTime;
+    }
+
     public int getAccountId() {
         return accountId;
     }
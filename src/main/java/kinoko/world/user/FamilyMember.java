@@ -51,7 +51,7 @@ public final class FamilyMember implements Encodable {
     private long lastSeenUnix; // unix timestamp in seconds
     private final Map<FamilyEntitlement, Long> usedEntitlements = new ConcurrentHashMap<>();
     private final Map<FamilyEntitlement, List<Long>> entitlementUsageLog = new ConcurrentHashMap<>();
-    private final Map<FamilyEntitlement, Long> activeEntitlements = new HashMap<>();
+    private volatile Map<FamilyEntitlement, Long> activeEntitlements = Map.of(); // replaced on activation, see FamilyTree
     private String familyMessage;
     private int lastReputationDay;  // stores YYYYMMDD of last rep gain
 
@@ -359,35 +359,29 @@ public final class FamilyMember implements Encodable {
      * Activates a given family entitlement for the user.
      *
      * Calculates the expiration time based on the entitlement's duration (in minutes)
-     * and stores it in the activeEntitlements map.
+     * and publishes a new snapshot of the active entitlements.
      *
      * @param ent the FamilyEntitlement to activate
      */
     public void activateEntitlement(FamilyEntitlement ent) {
         long expiresMinutes = ent.getExpiresAfterMinutes();
-        long expireAt = Timing.nowSeconds() + expiresMinutes * 60;
+        long now = Timing.nowSeconds();
+        long expireAt = now + expiresMinutes * 60;
 
-        activeEntitlements.put(ent, expireAt);
+        activeEntitlements = FamilyEntitlement.activate(activeEntitlements, ent, expireAt, now);
     }
 
     /**
      * Checks if a given family entitlement is currently active for the user.
      *
-     * If the entitlement has expired, it is automatically removed from the activeEntitlements map.
+     * Expired entitlements are dropped on the next activation.
      *
      * @param ent the FamilyEntitlement to check
      * @return true if the entitlement is active and not expired, false otherwise
      */
     public boolean isEntitlementActive(FamilyEntitlement ent) {
         Long expireAt = activeEntitlements.get(ent);
-        if (expireAt == null) return false;
-
-        if (expireAt < Timing.nowSeconds()) {
-            activeEntitlements.remove(ent);  // expired
-            return false;
-        }
-
-        return true;
+        return expireAt != null && expireAt >= Timing.nowSeconds();
     }
 
     // ------------------------------------------------------------
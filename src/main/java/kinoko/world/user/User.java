@@ -29,7 +29,7 @@ import kinoko.server.guild.GuildRank;
 import kinoko.server.node.ChannelServerNode;
 import kinoko.server.node.Client;
 import kinoko.server.node.ServerExecutor;
-import kinoko.server.packet.OutPacket;
+import kinoko.server.packet.EncodedPacket;
 import kinoko.server.party.PartyRequest;
 import kinoko.server.user.AdminResultType;
 import kinoko.server.user.RemoteUser;
@@ -74,6 +74,7 @@ public final class User extends Life {
     private final BasicStat basicStat = new BasicStat();
     private final ForcedStat forcedStat = new ForcedStat();
     private final SecondaryStat secondaryStat = new SecondaryStat();
+    private final EquipStatCache equipStatCache = new EquipStatCache();
     private final PassiveSkillData passiveSkillData = new PassiveSkillData();
     private final CalcDamage calcDamage = new CalcDamage();
 
@@ -99,6 +100,7 @@ public final class User extends Life {
     private boolean inTransfer;
     private List<EventCoolDown> cooldowns = new ArrayList<>();
     private Instant nextCheckItemExpire;
+    private Instant nextExpireTime = Instant.MAX;
     private boolean hidden;
 
     public User(Client client, CharacterData characterData) {
@@ -337,6 +339,9 @@ public final class User extends Life {
 
     public void setTownPortal(TownPortal townPortal) {
         this.townPortal = townPortal;
+        if (townPortal != null) {
+            scheduleExpire(townPortal.getExpireTime());
+        }
     }
 
     public int getDojoEnergy() {
@@ -389,6 +394,9 @@ public final class User extends Life {
 
     public void setOpenGate(OpenGate openGate) {
         this.openGate = openGate;
+        if (openGate != null) {
+            scheduleExpire(openGate.getExpireTime());
+        }
     }
 
     public int getEffectItemId() {
@@ -431,6 +439,64 @@ public final class User extends Life {
         this.nextCheckItemExpire = nextCheckItemExpire;
     }
 
+    public Instant getNextExpireTime() {
+        return nextExpireTime;
+    }
+
+    public void setNextExpireTime(Instant nextExpireTime) {
+        this.nextExpireTime = nextExpireTime;
+    }
+
+    /**
+     * Registers the deadline of timed state (temporary stats, skill cooltimes, summons, town portal and open gate) with
+     * the user pool of the current field, so that it is expired on the first field tick after the deadline. Only the
+     * earliest deadline is registered, later deadlines are picked up by {@link #updateNextExpireTime()}.
+     */
+    public void scheduleExpire(Instant expireTime) {
+        if (!expireTime.isBefore(nextExpireTime)) {
+            return;
+        }
+        nextExpireTime = expireTime;
+        if (getField() != null) {
+            getField().getUserPool().scheduleExpire(this, expireTime);
+        }
+    }
+
+    /**
+     * Recomputes the earliest deadline of the user's timed state, called after the user's expired state was removed.
+     *
+     * @return the next deadline, or {@link Instant#MAX} if the user has no timed state
+     */
+    public Instant updateNextExpireTime() {
+        Instant next = nextCheckItemExpire;
+        for (TemporaryStatOption option : getSecondaryStat().getTemporaryStats().values()) {
+            next = min(next, option.getExpireTime());
+        }
+        for (var entry : getSkillManager().getSkillCooltimes().entrySet()) {
+            // Battleship durability is stored as cooltime
+            if (entry.getKey() != SkillConstants.BATTLESHIP_DURABILITY) {
+                next = min(next, entry.getValue());
+            }
+        }
+        for (List<Summoned> summonedList : getSummoned().values()) {
+            for (Summoned summoned : summonedList) {
+                next = min(next, summoned.getExpireTime());
+            }
+        }
+        if (townPortal != null) {
+            next = min(next, townPortal.getExpireTime());
+        }
+        if (openGate != null) {
+            next = min(next, openGate.getExpireTime());
+        }
+        nextExpireTime = next;
+        return next;
+    }
+
+    private static Instant min(Instant first, Instant second) {
+        return first.isBefore(second) ? first : second;
+    }
+
     // STAT METHODS ----------------------------------------------------------------------------------------------------
 
     public int getGender() {
@@ -585,13 +651,14 @@ public final class User extends Life {
 
     public void validateStat() {
         // get_real_equip
-        final Map<Integer, Item> realEquip = EquipStat.getRealEquip(this);
+        final Map<Integer, Item> realEquip = equipStatCache.getRealEquip(this);
+        equipStatCache.update(realEquip);
 
         // BasicStat::SetFrom
-        getBasicStat().setFrom(getCharacterStat(), getForcedStat(), getSecondaryStat(), getSkillManager(), getPassiveSkillData(), realEquip);
+        getBasicStat().setFrom(getCharacterStat(), getForcedStat(), getSecondaryStat(), getSkillManager(), getPassiveSkillData(), equipStatCache);
 
         // SecondaryStat::SetFrom
-        getSecondaryStat().setFrom(getBasicStat(), getForcedStat(), getSecondaryStat(), getSkillManager(), realEquip);
+        getSecondaryStat().setFrom(getBasicStat(), getForcedStat(), getSecondaryStat(), getSkillManager(), realEquip, equipStatCache);
 
         // CWvsContext::ValidateAdditionalItemEffect - ignore
 
@@ -617,6 +684,7 @@ public final class User extends Life {
     public void setTemporaryStat(Map<CharacterTemporaryStat, TemporaryStatOption> setStats) {
         for (var entry : setStats.entrySet()) {
             getSecondaryStat().getTemporaryStats().put(entry.getKey(), entry.getValue());
+            scheduleExpire(entry.getValue().getExpireTime());
         }
         updatePassiveSkillData();
         validateStat();
@@ -650,7 +718,9 @@ public final class User extends Life {
 
     public void setSkillCooltime(int skillId, int cooltime) {
         if (cooltime > 0) {
-            getSkillManager().setSkillCooltime(skillId, Instant.now().plus(cooltime, ChronoUnit.SECONDS));
+            final Instant nextAvailable = Instant.now().plus(cooltime, ChronoUnit.SECONDS);
+            getSkillManager().setSkillCooltime(skillId, nextAvailable);
+            scheduleExpire(nextAvailable);
         } else {
             getSkillManager().getSkillCooltimes().remove(skillId);
         }
@@ -863,6 +933,7 @@ public final class User extends Life {
         }
         summonedList.add(summoned);
         getField().getSummonedPool().addSummoned(this, summoned);
+        scheduleExpire(summoned.getExpireTime());
     }
 
     public void removeSummoned(Summoned summoned) {
@@ -970,7 +1041,7 @@ public final class User extends Life {
         getConnectedServer().notifyUserUpdate(this);
     }
 
-    public void write(OutPacket outPacket) {
+    public void write(EncodedPacket outPacket) {
         getClient().write(outPacket);
     }
 
@@ -1066,15 +1137,12 @@ public final class User extends Life {
      */
     public double getFamilyDropModifier() {
         double personalModifier = GameConstants.DEFAULT_FAMILY_PERSONAL_DROP_MODIFIER;
-        double familyModifier = GameConstants.DEFAULT_FAMILY_DROP_MODIFIER;
         if (this.familyInfo != null && this.familyInfo.hasFamily()){
             personalModifier = this.familyInfo.getDropModifier();
         }
 
-        Optional<FamilyTree> userTreeOpt = getFamilyTree();
-        if (userTreeOpt.isPresent()) {
-            familyModifier = userTreeOpt.get().getDropModifier();
-        }
+        // Read without the family lock, this is called on every mob kill
+        final double familyModifier = Server.getCentralServerNode().getFamilyDropModifier(getCharacterId());
 
         return Math.max(GameConstants.DEFAULT_FAMILY_DROP_MODIFIER, Math.max(personalModifier, familyModifier));
     }
@@ -1090,16 +1158,13 @@ public final class User extends Life {
      */
     public double getFamilyEXPModifier() {
         double personalModifier = GameConstants.DEFAULT_FAMILY_PERSONAL_EXP_MODIFIER;
-        double familyModifier = GameConstants.DEFAULT_FAMILY_EXP_MODIFIER;
 
         if (this.familyInfo != null && this.familyInfo.hasFamily()) {
             personalModifier = this.familyInfo.getExpModifier();
         }
 
-        Optional<FamilyTree> userTreeOpt = getFamilyTree();
-        if (userTreeOpt.isPresent()) {
-            familyModifier = userTreeOpt.get().getExpModifier();
-        }
+        // Read without the family lock, this is called on every mob kill
+        final double familyModifier = Server.getCentralServerNode().getFamilyExpModifier(getCharacterId());
 
         return Math.max(GameConstants.DEFAULT_FAMILY_EXP_MODIFIER, Math.max(personalModifier, familyModifier));
     }
@@ -37,6 +37,12 @@ public final class ConfigManager {
         this.quickslotKeyMap = quickslotKeyMap;
     }
 
+    public ConfigManager(ConfigManager cm) {
+        this(cm.petConsumeItem, cm.petConsumeMpItem, List.copyOf(cm.petExceptionList),
+                Arrays.copyOf(cm.funcKeyMap, cm.funcKeyMap.length), Arrays.copyOf(cm.quickslotKeyMap, cm.quickslotKeyMap.length));
+        this.macroSysData.addAll(cm.macroSysData); // SingleMacro and FuncKeyMapped are immutable
+    }
+
     public List<SingleMacro> getMacroSysData() {
         return macroSysData;
     }
@@ -10,6 +10,14 @@ public final class MapTransferInfo {
     private final List<Integer> mapTransfer = new ArrayList<>();
     private final List<Integer> mapTransferEx = new ArrayList<>();
 
+    public MapTransferInfo() {
+    }
+
+    public MapTransferInfo(MapTransferInfo mapTransferInfo) {
+        mapTransfer.addAll(mapTransferInfo.mapTransfer);
+        mapTransferEx.addAll(mapTransferInfo.mapTransferEx);
+    }
+
     public List<Integer> getMapTransfer() {
         return mapTransfer;
     }
@@ -14,6 +14,20 @@ public final class MiniGameRecord {
     private int memoryGameLosses = 0;
     private double memoryGameScore = 2000.0;
 
+    public MiniGameRecord() {
+    }
+
+    public MiniGameRecord(MiniGameRecord miniGameRecord) {
+        this.omokGameWins = miniGameRecord.omokGameWins;
+        this.omokGameTies = miniGameRecord.omokGameTies;
+        this.omokGameLosses = miniGameRecord.omokGameLosses;
+        this.omokGameScore = miniGameRecord.omokGameScore;
+        this.memoryGameWins = miniGameRecord.memoryGameWins;
+        this.memoryGameTies = miniGameRecord.memoryGameTies;
+        this.memoryGameLosses = miniGameRecord.memoryGameLosses;
+        this.memoryGameScore = miniGameRecord.memoryGameScore;
+    }
+
     public int getOmokGameWins() {
         return omokGameWins;
     }
@@ -10,6 +10,13 @@ import java.util.Map;
 public final class PopularityRecord {
     private final Map<Integer, Instant> popularityRecords = new HashMap<>();
 
+    public PopularityRecord() {
+    }
+
+    public PopularityRecord(PopularityRecord popularityRecord) {
+        popularityRecords.putAll(popularityRecord.popularityRecords);
+    }
+
     public Map<Integer, Instant> getRecords() {
         return popularityRecords;
     }
@@ -11,6 +11,14 @@ public final class WildHunterInfo implements Encodable {
     private final List<Integer> capturedMobs = new ArrayList<>();
     private int ridingType;
 
+    public WildHunterInfo() {
+    }
+
+    public WildHunterInfo(WildHunterInfo wildHunterInfo) {
+        capturedMobs.addAll(wildHunterInfo.capturedMobs);
+        this.ridingType = wildHunterInfo.ridingType;
+    }
+
     public List<Integer> getCapturedMobs() {
         return capturedMobs;
     }
@@ -46,6 +46,36 @@ public final class CharacterStat implements Encodable {
 
     }
 
+    public CharacterStat(CharacterStat cs) {
+        this.id = cs.id;
+        this.name = cs.name;
+        this.gender = cs.gender;
+        this.skin = cs.skin;
+        this.face = cs.face;
+        this.hair = cs.hair;
+        this.level = cs.level;
+        this.job = cs.job;
+        this.subJob = cs.subJob;
+        this.baseStr = cs.baseStr;
+        this.baseDex = cs.baseDex;
+        this.baseInt = cs.baseInt;
+        this.baseLuk = cs.baseLuk;
+        this.hp = cs.hp;
+        this.maxHp = cs.maxHp;
+        this.mp = cs.mp;
+        this.maxMp = cs.maxMp;
+        this.ap = cs.ap;
+        this.sp = cs.sp != null ? new ExtendSp(new HashMap<>(cs.sp.getMap())) : null;
+        this.exp = cs.exp;
+        this.pop = cs.pop;
+        this.posMap = cs.posMap;
+        this.portal = cs.portal;
+        this.petSn1 = cs.petSn1;
+        this.petSn2 = cs.petSn2;
+        this.petSn3 = cs.petSn3;
+        this.adminLevel = cs.adminLevel;
+    }
+
     public CharacterStat(int id, String name, byte gender, byte skin, int face, int hair,
                          short level, short job, short subJob,
                          short baseStr, short baseDex, short baseInt, short baseLuk,
@@ -0,0 +1,203 @@
+package kinoko.world.user.stat;
+
+import kinoko.provider.EtcProvider;
+import kinoko.provider.ItemProvider;
+import kinoko.provider.item.ItemInfo;
+import kinoko.provider.item.ItemInfoType;
+import kinoko.provider.item.ItemOptionLevelData;
+import kinoko.provider.item.SetItemInfo;
+import kinoko.world.item.EquipData;
+import kinoko.world.item.Item;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Stat contribution of equipped items, applied by {@link BasicStat#setFrom} and {@link SecondaryStat#setFrom}. The
+ * contribution of each item is computed once and cached by {@link EquipStatCache} until the item changes.
+ */
+public final class EquipContribution {
+    // BasicStat
+    int str;
+    int dex;
+    int int_;
+    int luk;
+    int maxHp;
+    int maxMp;
+    int strR;
+    int dexR;
+    int intR;
+    int lukR;
+    int maxHpR;
+    int maxMpR;
+    // SecondaryStat
+    int pad;
+    int pdd;
+    int mad;
+    int mdd;
+    int acc;
+    int eva;
+    int craft;
+    int speed;
+    int jump;
+    int padR;
+    int pddR;
+    int madR;
+    int mddR;
+    int accR;
+    int evaR;
+    int criR;
+
+    public void add(EquipContribution other) {
+        this.str += other.str;
+        this.dex += other.dex;
+        this.int_ += other.int_;
+        this.luk += other.luk;
+        this.maxHp += other.maxHp;
+        this.maxMp += other.maxMp;
+        this.strR += other.strR;
+        this.dexR += other.dexR;
+        this.intR += other.intR;
+        this.lukR += other.lukR;
+        this.maxHpR += other.maxHpR;
+        this.maxMpR += other.maxMpR;
+        this.pad += other.pad;
+        this.pdd += other.pdd;
+        this.mad += other.mad;
+        this.mdd += other.mdd;
+        this.acc += other.acc;
+        this.eva += other.eva;
+        this.craft += other.craft;
+        this.speed += other.speed;
+        this.jump += other.jump;
+        this.padR += other.padR;
+        this.pddR += other.pddR;
+        this.madR += other.madR;
+        this.mddR += other.mddR;
+        this.accR += other.accR;
+        this.evaR += other.evaR;
+        this.criR += other.criR;
+    }
+
+    private void applyItemOption(int itemOptionId, int optionLevel) {
+        final Optional<ItemOptionLevelData> itemOptionResult = ItemProvider.getItemOptionInfo(itemOptionId, optionLevel);
+        if (itemOptionResult.isEmpty()) {
+            return;
+        }
+        for (var entry : itemOptionResult.get().getStats().entrySet()) {
+            switch (entry.getKey()) {
+                case incSTR -> this.str += entry.getValue();
+                case incDEX -> this.dex += entry.getValue();
+                case incINT -> this.int_ += entry.getValue();
+                case incLUK -> this.luk += entry.getValue();
+                case incMHP -> this.maxHp += entry.getValue();
+                case incMMP -> this.maxMp += entry.getValue();
+                case incPAD -> this.pad += entry.getValue();
+                case incPDD -> this.pdd += entry.getValue();
+                case incMAD -> this.mad += entry.getValue();
+                case incMDD -> this.mdd += entry.getValue();
+                case incACC -> this.acc += entry.getValue();
+                case incEVA -> this.eva += entry.getValue();
+                case incSpeed -> this.speed += entry.getValue();
+                case incJump -> this.jump += entry.getValue();
+                case incSTRr -> this.strR += entry.getValue();
+                case incDEXr -> this.dexR += entry.getValue();
+                case incINTr -> this.intR += entry.getValue();
+                case incLUKr -> this.lukR += entry.getValue();
+                case incMHPr -> this.maxHpR += entry.getValue();
+                case incMMPr -> this.maxMpR += entry.getValue();
+                case incPADr -> this.padR += entry.getValue();
+                case incPDDr -> this.pddR += entry.getValue();
+                case incMADr -> this.madR += entry.getValue();
+                case incMDDr -> this.mddR += entry.getValue();
+                case incACCr -> this.accR += entry.getValue();
+                case incEVAr -> this.evaR += entry.getValue();
+                case incCr -> this.criR += entry.getValue();
+            }
+        }
+    }
+
+    private void applySetItemEffect(Map<ItemInfoType, Integer> effect) {
+        for (var entry : effect.entrySet()) {
+            switch (entry.getKey()) {
+                case incSTR -> this.str += entry.getValue();
+                case incDEX -> this.dex += entry.getValue();
+                case incINT -> this.int_ += entry.getValue();
+                case incLUK -> this.luk += entry.getValue();
+                case incMHP -> this.maxHp += entry.getValue();
+                case incMMP -> this.maxMp += entry.getValue();
+                case incPAD -> this.pad += entry.getValue();
+                case incPDD -> this.pdd += entry.getValue();
+                case incMAD -> this.mad += entry.getValue();
+                case incMDD -> this.mdd += entry.getValue();
+                case incACC -> this.acc += entry.getValue();
+                case incEVA -> this.eva += entry.getValue();
+                case incSpeed -> this.speed += entry.getValue();
+                case incJump -> this.jump += entry.getValue();
+            }
+        }
+    }
+
+    /**
+     * Computes the contribution of a single equipped item, including its potential options if released.
+     */
+    public static EquipContribution from(Item item, ItemInfo ii) {
+        final EquipContribution contribution = new EquipContribution();
+        final EquipData ed = item.getEquipData();
+        contribution.str = ed.getIncStr();
+        contribution.dex = ed.getIncDex();
+        contribution.int_ = ed.getIncInt();
+        contribution.luk = ed.getIncLuk();
+        contribution.maxHp = ed.getIncMaxHp();
+        contribution.maxMp = ed.getIncMaxMp();
+        contribution.maxHpR = ii.getInfo(ItemInfoType.incMHPr);
+        contribution.maxMpR = ii.getInfo(ItemInfoType.incMMPr);
+        contribution.pad = ed.getIncPad();
+        contribution.pdd = ed.getIncPdd();
+        contribution.mad = ed.getIncMad();
+        contribution.mdd = ed.getIncMdd();
+        contribution.acc = ed.getIncAcc();
+        contribution.eva = ed.getIncEva();
+        contribution.craft = ed.getIncCraft();
+        contribution.speed = ed.getIncSpeed();
+        contribution.jump = ed.getIncJump();
+        final int optionLevel = ii.getOptionLevel(); // no sockets in v95
+        if (ed.isReleased()) {
+            contribution.applyItemOption(ed.getOption1(), optionLevel);
+            contribution.applyItemOption(ed.getOption2(), optionLevel);
+            contribution.applyItemOption(ed.getOption3(), optionLevel);
+        }
+        return contribution;
+    }
+
+    /**
+     * Computes the contribution of the set item effects for the given equipped items.
+     */
+    public static EquipContribution fromSetItems(Collection<Item> items) {
+        final EquipContribution contribution = new EquipContribution();
+        forEachSetItemEffect(items, contribution::applySetItemEffect);
+        return contribution;
+    }
+
+    /**
+     * Resolves the set item effects for the given equipped items. Only the sets containing one of the items are visited,
+     * each set is counted once per distinct item ID.
+     */
+    public static void forEachSetItemEffect(Collection<Item> items, Consumer<Map<ItemInfoType, Integer>> consumer) {
+        final Map<SetItemInfo, Set<Integer>> equippedItems = new LinkedHashMap<>(); // set item info -> equipped item ids
+        for (Item item : items) {
+            for (SetItemInfo setItemInfo : EtcProvider.getSetItemInfos(item.getItemId())) {
+                equippedItems.computeIfAbsent(setItemInfo, (key) -> new HashSet<>()).add(item.getItemId());
+            }
+        }
+        for (var entry : equippedItems.entrySet()) {
+            final Map<Integer, Map<ItemInfoType, Integer>> effects = entry.getKey().getEffect();
+            for (int itemCount = 0; itemCount <= entry.getValue().size(); itemCount++) {
+                final Map<ItemInfoType, Integer> effect = effects.get(itemCount);
+                if (effect != null) {
+                    consumer.accept(effect);
+                }
+            }
+        }
+    }
+}
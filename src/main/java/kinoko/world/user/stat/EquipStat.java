@@ -1,18 +1,14 @@
 package kinoko.world.user.stat;
 
-import kinoko.provider.EtcProvider;
 import kinoko.provider.ItemProvider;
 import kinoko.provider.item.ItemInfo;
-import kinoko.provider.item.ItemInfoType;
 import kinoko.provider.item.ItemOptionLevelData;
-import kinoko.provider.item.SetItemInfo;
 import kinoko.world.item.*;
 import kinoko.world.user.Pet;
 import kinoko.world.user.User;
 
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for resolving valid equipped items for a User. This is only instantiated for computing and checking the
@@ -168,24 +164,17 @@ public final class EquipStat {
         }
 
         // Set items
-        for (SetItemInfo setItemInfo : EtcProvider.getSetItemInfos()) {
-            final Set<Integer> equippedItems = equipped.getItems().values().stream().map(Item::getItemId).collect(Collectors.toSet());
-            equippedItems.retainAll(setItemInfo.getItems());
-            for (int itemCount = 0; itemCount <= equippedItems.size(); itemCount++) {
-                final Map<ItemInfoType, Integer> effect = setItemInfo.getEffect().get(itemCount);
-                if (effect == null) {
-                    continue;
-                }
-                for (var entry : effect.entrySet()) {
-                    switch (entry.getKey()) {
-                        case incSTR -> stat.incStr += entry.getValue();
-                        case incDEX -> stat.incDex += entry.getValue();
-                        case incINT -> stat.incInt += entry.getValue();
-                        case incLUK -> stat.incLuk += entry.getValue();
-                    }
+        final EquipStat setItemStat = stat;
+        EquipContribution.forEachSetItemEffect(equipped.getItems().values(), (effect) -> {
+            for (var entry : effect.entrySet()) {
+                switch (entry.getKey()) {
+                    case incSTR -> setItemStat.incStr += entry.getValue();
+                    case incDEX -> setItemStat.incDex += entry.getValue();
+                    case incINT -> setItemStat.incInt += entry.getValue();
+                    case incLUK -> setItemStat.incLuk += entry.getValue();
                 }
             }
-        }
+        });
 
         // Build real equip list
         final Map<Integer, Item> realEquip = new HashMap<>();
@@ -0,0 +1,138 @@
+package kinoko.world.user.stat;
+
+import kinoko.provider.ItemProvider;
+import kinoko.provider.item.ItemInfo;
+import kinoko.world.item.Item;
+import kinoko.world.item.ItemType;
+import kinoko.world.user.Pet;
+import kinoko.world.user.User;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Caches the stat contribution of each equipped slot for a User, so that validating stats after a buff is set or reset
+ * does not resolve item infos, potential options and set items again. A slot is recomputed when the item in the slot is
+ * replaced or its {@link kinoko.world.item.EquipData#getStatVersion()} changes, and the totals are only aggregated again
+ * when a slot changed.
+ * <p>
+ * The real equip itself is also cached, and only resolved again when the equipped items or the character stats checked
+ * by the equip requirements changed.
+ */
+public final class EquipStatCache {
+    private final Map<Integer, Slot> slots = new HashMap<>(); // position -> slot
+    private EquipContribution itemTotal = new EquipContribution();
+    private EquipContribution setItemTotal = new EquipContribution();
+    private RealEquipKey realEquipKey;
+    private Map<Integer, Item> realEquip;
+    private Map<Integer, Item> updatedRealEquip;
+
+    /**
+     * Returns the equipped items that can be equipped, see {@link EquipStat#getRealEquip}. The previous result is
+     * returned if none of its inputs changed since it was resolved.
+     */
+    public Map<Integer, Item> getRealEquip(User user) {
+        final RealEquipKey key = RealEquipKey.from(user);
+        if (!key.equals(realEquipKey)) {
+            realEquip = EquipStat.getRealEquip(user);
+            realEquipKey = key;
+        }
+        return realEquip;
+    }
+
+    /**
+     * Updates the cached slots for the real equip of the user.
+     *
+     * @param realEquip the equipped items that can be equipped, resolved by {@link EquipStat#getRealEquip}
+     */
+    public void update(Map<Integer, Item> realEquip) {
+        if (realEquip == updatedRealEquip) {
+            // Real equip was served from the cache, so no slot changed since the last update
+            return;
+        }
+        updatedRealEquip = realEquip;
+        boolean changed = slots.keySet().retainAll(realEquip.keySet());
+        for (var entry : realEquip.entrySet()) {
+            final Item item = entry.getValue();
+            final Slot slot = slots.get(entry.getKey());
+            if (slot != null && slot.item == item && slot.statVersion == item.getEquipData().getStatVersion()) {
+                continue;
+            }
+            final Optional<ItemInfo> itemInfoResult = ItemProvider.getItemInfo(item.getItemId());
+            final EquipContribution contribution = itemInfoResult.isPresent() ? EquipContribution.from(item, itemInfoResult.get()) : new EquipContribution();
+            slots.put(entry.getKey(), new Slot(item, item.getEquipData().getStatVersion(), contribution));
+            changed = true;
+        }
+        if (!changed) {
+            return;
+        }
+        final EquipContribution total = new EquipContribution();
+        for (Slot slot : slots.values()) {
+            total.add(slot.contribution);
+        }
+        this.itemTotal = total;
+        this.setItemTotal = EquipContribution.fromSetItems(realEquip.values());
+    }
+
+    public EquipContribution getItemTotal() {
+        return itemTotal;
+    }
+
+    public EquipContribution getSetItemTotal() {
+        return setItemTotal;
+    }
+
+    private record Slot(Item item, int statVersion, EquipContribution contribution) {
+    }
+
+    /**
+     * Inputs of {@link EquipStat#getRealEquip}: the equipped items with their stats, and the character stats and pets
+     * checked by the equip requirements. Items are compared by identity.
+     */
+    private static final class RealEquipKey {
+        private final List<Object> values = new ArrayList<>();
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof RealEquipKey other) || values.size() != other.values.size()) {
+                return false;
+            }
+            for (int i = 0; i < values.size(); i++) {
+                final Object value = values.get(i);
+                final Object otherValue = other.values.get(i);
+                if (value instanceof Item ? value != otherValue : !value.equals(otherValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return values.size();
+        }
+
+        private static RealEquipKey from(User user) {
+            final RealEquipKey key = new RealEquipKey();
+            final CharacterStat cs = user.getCharacterStat();
+            Collections.addAll(key.values, cs.getGender(), cs.getLevel(), cs.getJob(), cs.getSubJob(), cs.getPop(),
+                    cs.getBaseStr(), cs.getBaseDex(), cs.getBaseInt(), cs.getBaseLuk(),
+                    user.getSecondaryStat().getOption(CharacterTemporaryStat.BasicStatUp).nOption);
+            final Instant extSlotExpire = user.getInventoryManager().getExtSlotExpire();
+            key.values.add(extSlotExpire == null || extSlotExpire.isBefore(Instant.now()));
+            for (Pet pet : user.getPets()) {
+                key.values.add(pet.getTemplateId());
+            }
+            for (var entry : user.getInventoryManager().getEquipped().getItems().entrySet()) {
+                final Item item = entry.getValue();
+                key.values.add(entry.getKey());
+                key.values.add(item);
+                if (item.getItemType() == ItemType.EQUIP) {
+                    key.values.add(item.getEquipData().getStatVersion());
+                    key.values.add(item.getEquipData().getDurability());
+                }
+            }
+            return key;
+        }
+    }
+}
@@ -1,19 +1,12 @@
 package kinoko.world.user.stat;
 
-import kinoko.provider.EtcProvider;
-import kinoko.provider.ItemProvider;
 import kinoko.provider.SkillProvider;
-import kinoko.provider.item.ItemInfo;
-import kinoko.provider.item.ItemInfoType;
-import kinoko.provider.item.ItemOptionLevelData;
-import kinoko.provider.item.SetItemInfo;
 import kinoko.provider.skill.SkillInfo;
 import kinoko.provider.skill.SkillStat;
 import kinoko.server.packet.OutPacket;
 import kinoko.util.BitFlag;
 import kinoko.world.GameConstants;
 import kinoko.world.item.BodyPart;
-import kinoko.world.item.EquipData;
 import kinoko.world.item.Item;
 import kinoko.world.item.WeaponType;
 import kinoko.world.job.JobConstants;
@@ -30,7 +23,6 @@ import kinoko.world.skill.SkillManager;
 
 import java.util.*;
 import java.util.function.BiPredicate;
-import java.util.stream.Collectors;
 
 public final class SecondaryStat {
     private final Map<CharacterTemporaryStat, TemporaryStatOption> temporaryStats = new EnumMap<>(CharacterTemporaryStat.class);
@@ -239,7 +231,7 @@ public final class SecondaryStat {
 
     // VALIDATE STAT METHODS -------------------------------------------------------------------------------------------
 
-    public void setFrom(BasicStat bs, ForcedStat fs, SecondaryStat ss, SkillManager sm, Map<Integer, Item> realEquip) {
+    public void setFrom(BasicStat bs, ForcedStat fs, SecondaryStat ss, SkillManager sm, Map<Integer, Item> realEquip, EquipStatCache equipStatCache) {
         this.pad = 0;
         this.pdd = 0;
         this.mad = 0;
@@ -258,28 +250,15 @@ public final class SecondaryStat {
         this.jump = 100;
 
         // Set items
-        for (SetItemInfo setItemInfo : EtcProvider.getSetItemInfos()) {
-            final Set<Integer> equippedItems = realEquip.values().stream().map(Item::getItemId).collect(Collectors.toSet());
-            equippedItems.retainAll(setItemInfo.getItems());
-            for (int itemCount = 0; itemCount <= equippedItems.size(); itemCount++) {
-                final Map<ItemInfoType, Integer> effect = setItemInfo.getEffect().get(itemCount);
-                if (effect == null) {
-                    continue;
-                }
-                for (var entry : effect.entrySet()) {
-                    switch (entry.getKey()) {
-                        case incPAD -> this.pad += entry.getValue();
-                        case incPDD -> this.pdd += entry.getValue();
-                        case incMAD -> this.mad += entry.getValue();
-                        case incMDD -> this.mdd += entry.getValue();
-                        case incACC -> this.acc += entry.getValue();
-                        case incEVA -> this.eva += entry.getValue();
-                        case incSpeed -> this.speed += entry.getValue();
-                        case incJump -> this.jump += entry.getValue();
-                    }
-                }
-            }
-        }
+        final EquipContribution setItem = equipStatCache.getSetItemTotal();
+        this.pad += setItem.pad;
+        this.pdd += setItem.pdd;
+        this.mad += setItem.mad;
+        this.mdd += setItem.mdd;
+        this.acc += setItem.acc;
+        this.eva += setItem.eva;
+        this.speed += setItem.speed;
+        this.jump += setItem.jump;
 
         // Bare hands for pirates
         final Item weapon = realEquip.get(BodyPart.WEAPON.getValue());
@@ -292,37 +271,16 @@ public final class SecondaryStat {
         }
 
         // Equip stats
-        final SecondaryStatRateOption option = new SecondaryStatRateOption();
-        for (var item : realEquip.values()) {
-            // Resolve item and item info
-            final Optional<ItemInfo> itemInfoResult = ItemProvider.getItemInfo(item.getItemId());
-            if (itemInfoResult.isEmpty()) {
-                continue;
-            }
-            final ItemInfo ii = itemInfoResult.get();
-
-            // Apply stats
-            final EquipData ed = item.getEquipData();
-            this.pad += ed.getIncPad();
-            this.pdd += ed.getIncPdd();
-            this.mad += ed.getIncMad();
-            this.mdd += ed.getIncMdd();
-            this.acc += ed.getIncAcc();
-            this.eva += ed.getIncEva();
-            this.craft += ed.getIncCraft();
-            this.speed += ed.getIncSpeed();
-            this.jump += ed.getIncJump();
-
-            final int optionLevel = ii.getOptionLevel();
-            if (ed.isReleased()) {
-                this.applyItemOption(ed.getOption1(), optionLevel);
-                this.applyItemOption(ed.getOption2(), optionLevel);
-                this.applyItemOption(ed.getOption3(), optionLevel);
-                option.applyItemOptionR(ed.getOption1(), optionLevel);
-                option.applyItemOptionR(ed.getOption2(), optionLevel);
-                option.applyItemOptionR(ed.getOption3(), optionLevel);
-            }
-        }
+        final EquipContribution equip = equipStatCache.getItemTotal();
+        this.pad += equip.pad;
+        this.pdd += equip.pdd;
+        this.mad += equip.mad;
+        this.mdd += equip.mdd;
+        this.acc += equip.acc;
+        this.eva += equip.eva;
+        this.craft += equip.craft;
+        this.speed += equip.speed;
+        this.jump += equip.jump;
 
         // Passive skills
         for (int skillId : SkillConstants.SECONDARY_STAT_SKILLS) {
@@ -510,13 +468,13 @@ public final class SecondaryStat {
             this.jump = fs.getJump();
         }
 
-        this.itemPadR += option.padR;
-        this.itemPddR += option.pddR;
-        this.itemMadR += option.madR;
-        this.itemMddR += option.mddR;
-        this.itemAccR += option.accR;
-        this.itemEvaR += option.evaR;
-        this.itemCriR += option.criR;
+        this.itemPadR += equip.padR;
+        this.itemPddR += equip.pddR;
+        this.itemMadR += equip.madR;
+        this.itemMddR += equip.mddR;
+        this.itemAccR += equip.accR;
+        this.itemEvaR += equip.evaR;
+        this.itemCriR += equip.criR;
 
         // Clamp values
         this.pad = Math.clamp(this.pad, 0, GameConstants.PAD_MAX);
@@ -529,25 +487,6 @@ public final class SecondaryStat {
         this.jump = Math.clamp(this.jump, GameConstants.JUMP_MIN, GameConstants.JUMP_MAX);
     }
 
-    private void applyItemOption(int itemOptionId, int optionLevel) {
-        final Optional<ItemOptionLevelData> itemOptionResult = ItemProvider.getItemOptionInfo(itemOptionId, optionLevel);
-        if (itemOptionResult.isEmpty()) {
-            return;
-        }
-        for (var entry : itemOptionResult.get().getStats().entrySet()) {
-            switch (entry.getKey()) {
-                case incPAD -> this.pad += entry.getValue();
-                case incPDD -> this.pdd += entry.getValue();
-                case incMAD -> this.mad += entry.getValue();
-                case incMDD -> this.mdd += entry.getValue();
-                case incACC -> this.acc += entry.getValue();
-                case incEVA -> this.eva += entry.getValue();
-                case incSpeed -> this.speed += entry.getValue();
-                case incJump -> this.jump += entry.getValue();
-            }
-        }
-    }
-
     private void getStatFromSkill(SecondaryStat ss, SkillManager sm, int... skillIds) {
         for (int skillId : skillIds) {
             final Optional<SkillInfo> skillInfoResult = SkillProvider.getSkillInfoById(skillId);
@@ -583,33 +522,4 @@ public final class SecondaryStat {
             break;
         }
     }
-
-
-    private static class SecondaryStatRateOption {
-        private int padR;
-        private int pddR;
-        private int madR;
-        private int mddR;
-        private int accR;
-        private int evaR;
-        private int criR;
-
-        private void applyItemOptionR(short itemOptionId, int optionLevel) {
-            final Optional<ItemOptionLevelData> itemOptionResult = ItemProvider.getItemOptionInfo(itemOptionId, optionLevel);
-            if (itemOptionResult.isEmpty()) {
-                return;
-            }
-            for (var entry : itemOptionResult.get().getStats().entrySet()) {
-                switch (entry.getKey()) {
-                    case incPADr -> this.padR += entry.getValue();
-                    case incPDDr -> this.pddR += entry.getValue();
-                    case incMADr -> this.madR += entry.getValue();
-                    case incMDDr -> this.mddR += entry.getValue();
-                    case incACCr -> this.accR += entry.getValue();
-                    case incEVAr -> this.evaR += entry.getValue();
-                    case incCr -> this.criR += entry.getValue();
-                }
-            }
-        }
-    }
 }
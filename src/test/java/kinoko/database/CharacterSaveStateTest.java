@@ -0,0 +1,134 @@
+package kinoko.database;
+
+import kinoko.world.item.InventoryManager;
+import kinoko.world.item.Item;
+import kinoko.world.quest.QuestManager;
+import kinoko.world.quest.QuestRecord;
+import kinoko.world.quest.QuestState;
+import kinoko.world.skill.SkillManager;
+import kinoko.world.skill.SkillRecord;
+import kinoko.world.user.CharacterData;
+import kinoko.world.user.stat.AdminLevel;
+import kinoko.world.user.stat.CharacterStat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Unit tests for CharacterSaveState, validating that only the changed parts of a character are included in a delta.
+ */
+public class CharacterSaveStateTest {
+    private static final int POTION = 2000000;
+    private static final int ORE = 4010000;
+
+    private static CharacterData createCharacterData() {
+        final CharacterData cd = new CharacterData(1);
+        cd.setCharacterStat(new CharacterStat(1, "test", (byte) 0, (byte) 0, 20000, 30000, (short) 10, (short) 100, (short) 0,
+                (short) 4, (short) 4, (short) 4, (short) 4, 50, 50, 50, 50, (short) 0, 0, (short) 0, 100000000, (byte) 0,
+                0, 0, 0, AdminLevel.PLAYER));
+        final InventoryManager im = new InventoryManager();
+        im.getConsumeInventory().putItem(1, createItem(POTION, 100, 1L));
+        im.getEtcInventory().putItem(1, createItem(ORE, 10, 2L));
+        cd.setInventoryManager(im);
+        final SkillManager sm = new SkillManager();
+        sm.addSkill(new SkillRecord(1000000, 1, 0));
+        cd.setSkillManager(sm);
+        final QuestManager qm = new QuestManager();
+        qm.addQuestRecord(new QuestRecord(1000, QuestState.PERFORM, "", null));
+        cd.setQuestManager(qm);
+        return cd;
+    }
+
+    private static Item createItem(int itemId, int quantity, long itemSn) {
+        return new Item(itemId, (short) quantity, itemSn, false, (short) 0, "", null, null, null, null);
+    }
+
+    /**
+     * Tests that a freshly loaded character produces an empty delta.
+     */
+    @Test
+    public void testUnchanged() {
+        final CharacterData cd = createCharacterData();
+        final CharacterSaveState saveState = CharacterSaveState.from(cd, Instant.now());
+        Assertions.assertTrue(saveState.diff(cd, false, true).isEmpty());
+        Assertions.assertFalse(saveState.diff(cd, true, true).isEmpty(), "Expected final save to write untracked records.");
+    }
+
+    /**
+     * Tests that modified, added and removed rows are reported, and that committed changes are not reported again.
+     */
+    @Test
+    public void testChanged() {
+        final CharacterData cd = createCharacterData();
+        final CharacterSaveState saveState = CharacterSaveState.from(cd, Instant.now());
+
+        cd.getInventoryManager().getConsumeInventory().getItem(1).setQuantity((short) 99);
+        cd.getInventoryManager().getEtcInventory().removeItem(1);
+        final Item newItem = createItem(ORE, 1, 3L); // assigned before the diff
+        cd.getInventoryManager().getEtcInventory().putItem(2, newItem);
+        cd.getSkillManager().getSkill(1000000).orElseThrow().setSkillLevel(2);
+        cd.getQuestManager().addQuestRecord(new QuestRecord(1001, QuestState.PERFORM, "", null));
+        cd.getInventoryManager().setMoney(1000);
+
+        final CharacterDelta delta = saveState.diff(cd, false, true);
+        Assertions.assertTrue(delta.isCharacterChanged());
+        Assertions.assertEquals(1000, delta.getCharacterData().getInventoryManager().getMoney());
+        Assertions.assertEquals(2, delta.getItems().size());
+        Assertions.assertEquals(List.of(2L), delta.getRemovedItems());
+        Assertions.assertEquals(1, delta.getSkillRecords().size());
+        Assertions.assertEquals(1, delta.getQuestRecords().size());
+        Assertions.assertEquals(1001, delta.getQuestRecords().get(0).getQuestId());
+
+        saveState.commit(delta);
+        Assertions.assertTrue(saveState.diff(cd, false, true).isEmpty(), "Expected no changes after commit.");
+
+        // Moving an item to another slot changes its row
+        cd.getInventoryManager().getEtcInventory().removeItem(2);
+        cd.getInventoryManager().getEtcInventory().putItem(5, newItem);
+        Assertions.assertEquals(1, saveState.diff(cd, false, true).getItems().size());
+    }
+
+    /**
+     * Tests that a delta holds copies of the changed rows, which are not affected by later changes to the character.
+     */
+    @Test
+    public void testDetached() {
+        final CharacterData cd = createCharacterData();
+        final CharacterSaveState saveState = CharacterSaveState.from(cd, Instant.now());
+
+        final Item potion = cd.getInventoryManager().getConsumeInventory().getItem(1);
+        potion.setQuantity((short) 99);
+        cd.getSkillManager().getSkill(1000000).orElseThrow().setSkillLevel(2);
+        final CharacterDelta delta = saveState.diff(cd, false, true);
+        potion.setQuantity((short) 1);
+        cd.getSkillManager().getSkill(1000000).orElseThrow().setSkillLevel(3);
+        cd.getCharacterStat().setLevel((short) 11);
+
+        Assertions.assertNotSame(potion, delta.getItems().get(0).item());
+        Assertions.assertEquals(99, delta.getItems().get(0).item().getQuantity());
+        Assertions.assertEquals(2, delta.getSkillRecords().get(0).getSkillLevel());
+        Assertions.assertEquals(10, delta.getCharacterData().getCharacterStat().getLevel());
+        Assertions.assertTrue(delta.getSaveSeq() < saveState.diff(cd, false, true).getSaveSeq(), "Expected save sequence to increase.");
+    }
+
+    /**
+     * Tests that partial deltas skip items without a serial number until one is assigned.
+     */
+    @Test
+    public void testPendingItem() {
+        final CharacterData cd = createCharacterData();
+        final CharacterSaveState saveState = CharacterSaveState.from(cd, Instant.now());
+
+        final Item newItem = createItem(ORE, 1, -1L);
+        cd.getInventoryManager().getEtcInventory().putItem(2, newItem);
+        Assertions.assertEquals(1, saveState.diff(cd, false, false).getItems().size(), "Expected whole character writes to include the item.");
+        final CharacterDelta delta = saveState.diff(cd, false, true);
+        Assertions.assertTrue(delta.getItems().isEmpty());
+        saveState.commit(delta);
+
+        newItem.setItemSn(3L);
+        Assertions.assertEquals(1, saveState.diff(cd, false, true).getItems().size());
+    }
+}
@@ -0,0 +1,119 @@
+package kinoko.database.postgresql.type;
+
+import kinoko.server.ServerConstants;
+import kinoko.world.item.EquipData;
+import kinoko.world.item.InventoryManager;
+import kinoko.world.item.Item;
+import kinoko.world.quest.QuestManager;
+import kinoko.world.quest.QuestRecord;
+import kinoko.world.quest.QuestState;
+import kinoko.world.skill.SkillManager;
+import kinoko.world.skill.SkillRecord;
+import kinoko.world.user.CharacterData;
+import kinoko.world.user.data.*;
+import kinoko.world.user.stat.AdminLevel;
+import kinoko.world.user.stat.CharacterStat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Instant;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of loading a character with full inventories through the DAO chain, which issues one query per
+ * table, against the pipelined load, which sends every query in a single round trip. Requires a running Postgres
+ * database configured through {@link ServerConstants}. Run {@link #main(String[])} after {@code mvn test-compile}; the
+ * p0.50 and p0.99 percentiles are reported in microseconds per load.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharacterLoadBenchmark {
+    private static final String USERNAME = "benchload";
+    private static final String CHARACTER_NAME = "BenchLoad";
+    private Connection conn;
+    private int accountId;
+    private int characterId;
+
+    @Setup
+    public void setup() throws Exception {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        conn = DriverManager.getConnection(
+                String.format("jdbc:postgresql://%s:%s/%s", ServerConstants.DATABASE_HOST, ServerConstants.DATABASE_PORT, ServerConstants.DATABASE_NAME),
+                ServerConstants.DATABASE_USER,
+                ServerConstants.DATABASE_PASSWORD
+        );
+        if (AccountDao.getAccountByUsername(conn, USERNAME).isEmpty()) {
+            AccountDao.createAccount(conn, USERNAME, USERNAME);
+        }
+        accountId = AccountDao.getAccountByUsername(conn, USERNAME).orElseThrow().getId();
+        final CharacterData cd = createCharacterData(accountId);
+        if (!CharacterDataDao.newCharacter(conn, cd)) {
+            throw new IllegalStateException("Could not create benchmark character, delete character " + CHARACTER_NAME);
+        }
+        characterId = cd.getCharacterId();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        UserDao.deleteCharacter(conn, accountId, characterId);
+        conn.close();
+    }
+
+    @Benchmark
+    public CharacterData daoChain() throws Exception {
+        return CharacterDataDao.getCharacterById(conn, characterId, false).orElseThrow();
+    }
+
+    @Benchmark
+    public CharacterData pipelined() throws Exception {
+        return CharacterDataDao.getCharacterById(conn, characterId, true).orElseThrow();
+    }
+
+    private static CharacterData createCharacterData(int accountId) {
+        final CharacterData cd = new CharacterData(accountId);
+        cd.setCharacterStat(new CharacterStat(0, CHARACTER_NAME, (byte) 0, (byte) 0, 20000, 30000, (short) 120, (short) 112, (short) 0,
+                (short) 4, (short) 4, (short) 4, (short) 4, 50, 50, 50, 50, (short) 0, 0, (short) 0, 100000000, (byte) 0,
+                0, 0, 0, AdminLevel.PLAYER));
+        final InventoryManager im = new InventoryManager();
+        for (int slot = 1; slot <= im.getEquipInventory().getSize(); slot++) {
+            final Item item = new Item(1302000, (short) 1);
+            item.setEquipData(new EquipData());
+            im.getEquipInventory().putItem(slot, item);
+        }
+        for (int slot = 1; slot <= im.getConsumeInventory().getSize(); slot++) {
+            im.getConsumeInventory().putItem(slot, new Item(2000000, (short) 100));
+            im.getInstallInventory().putItem(slot, new Item(3010000, (short) 1));
+            im.getEtcInventory().putItem(slot, new Item(4000000, (short) 100));
+        }
+        cd.setInventoryManager(im);
+        final SkillManager sm = new SkillManager();
+        for (int skillId = 1100000; skillId < 1100010; skillId++) {
+            sm.addSkill(new SkillRecord(skillId, 10, 20));
+        }
+        cd.setSkillManager(sm);
+        final QuestManager qm = new QuestManager();
+        for (int questId = 1000; questId < 1100; questId++) {
+            qm.addQuestRecord(new QuestRecord(questId, QuestState.COMPLETE, "", Instant.now()));
+        }
+        cd.setQuestManager(qm);
+        cd.setConfigManager(ConfigManager.defaults());
+        cd.setPopularityRecord(new PopularityRecord());
+        cd.setMiniGameRecord(new MiniGameRecord());
+        cd.setMapTransferInfo(new MapTransferInfo());
+        cd.setWildHunterInfo(new WildHunterInfo());
+        return cd;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CharacterLoadBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,38 @@
+package kinoko.provider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for ProviderCache, validating eviction and pinned entries.
+ */
+public class ProviderCacheTest {
+    /**
+     * Tests that the least recently used entry is evicted, and that pinned entries are never evicted.
+     */
+    @Test
+    public void testEviction() {
+        final AtomicInteger resolveCount = new AtomicInteger(0);
+        final ProviderCache<String> cache = new ProviderCache<>(2, (key) -> {
+            resolveCount.incrementAndGet();
+            return key < 100 ? String.valueOf(key) : null;
+        });
+        cache.pin(0);
+        Assertions.assertEquals("1", cache.get(1));
+        Assertions.assertEquals("2", cache.get(2));
+        Assertions.assertEquals("1", cache.get(1));
+        Assertions.assertEquals("3", cache.get(3)); // evicts 2
+        Assertions.assertEquals(4, resolveCount.get());
+
+        Assertions.assertEquals("0", cache.get(0));
+        Assertions.assertEquals("1", cache.get(1));
+        Assertions.assertEquals(4, resolveCount.get(), "Expected pinned and recently used entries to be cached.");
+        Assertions.assertEquals("2", cache.get(2));
+        Assertions.assertEquals(5, resolveCount.get());
+        Assertions.assertEquals(3, cache.size());
+
+        Assertions.assertNull(cache.get(100));
+    }
+}
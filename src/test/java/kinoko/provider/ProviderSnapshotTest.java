@@ -0,0 +1,56 @@
+package kinoko.provider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Unit tests for ProviderSnapshot, validating that snapshots are only read back if they match the source files.
+ */
+public class ProviderSnapshotTest {
+    /**
+     * Tests that a written snapshot is read back, and rejected once the source checksum changes.
+     */
+    @Test
+    public void testRoundTrip(@TempDir Path directory) throws IOException {
+        final Path source = Files.writeString(directory.resolve("source.yaml"), "rewards: []");
+        final long checksum = ProviderSnapshot.checksum(List.of(source));
+        ProviderSnapshot.write(directory, "test", checksum, (out) -> {
+            out.writeInt(100100);
+            ProviderSnapshot.writeString(out, "Snail");
+        });
+
+        final Optional<ByteBuffer> snapshot = ProviderSnapshot.read(directory, "test", checksum);
+        Assertions.assertTrue(snapshot.isPresent());
+        Assertions.assertEquals(100100, snapshot.get().getInt());
+        Assertions.assertEquals("Snail", ProviderSnapshot.readString(snapshot.get()));
+        Assertions.assertFalse(snapshot.get().hasRemaining());
+
+        Files.writeString(source, "rewards: [[0, 1, 5, 0.6]]");
+        final long changedChecksum = ProviderSnapshot.checksum(List.of(source));
+        Assertions.assertNotEquals(checksum, changedChecksum);
+        Assertions.assertTrue(ProviderSnapshot.read(directory, "test", changedChecksum).isEmpty());
+        Assertions.assertTrue(ProviderSnapshot.read(directory, "missing", checksum).isEmpty());
+    }
+
+    /**
+     * Tests that a snapshot with a corrupted payload is rejected.
+     */
+    @Test
+    public void testCorruption(@TempDir Path directory) throws IOException {
+        ProviderSnapshot.write(directory, "test", 1L, (out) -> out.writeLong(Long.MAX_VALUE));
+        final Path path = directory.resolve("test.snapshot");
+        final byte[] data = Files.readAllBytes(path);
+        data[data.length - 1] ^= 1;
+        Files.write(path, data, StandardOpenOption.TRUNCATE_EXISTING);
+        Assertions.assertTrue(ProviderSnapshot.read(directory, "test", 1L).isEmpty());
+    }
+}
@@ -0,0 +1,56 @@
+package kinoko.provider.quest;
+
+import kinoko.provider.quest.check.QuestMobCheck;
+import kinoko.world.quest.QuestRecord;
+import kinoko.world.quest.QuestState;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for QuestInfo, validating mob kill progress of quest records.
+ */
+public class QuestInfoTest {
+    private static final int QUEST_ID = 1000;
+
+    private static QuestInfo createQuestInfo() {
+        final QuestMobCheck mobCheck = new QuestMobCheck(QUEST_ID, List.of(
+                new QuestMobData(0, 100100, 2),
+                new QuestMobData(1, 100101, 10)
+        ));
+        return new QuestInfo(QUEST_ID, "", "", 0, 0, false, false, List.of(), List.of(), List.of(), List.of(mobCheck));
+    }
+
+    /**
+     * Tests that kills are counted per slot and capped at the required count.
+     */
+    @Test
+    public void testProgressQuest() {
+        final QuestInfo questInfo = createQuestInfo();
+        final QuestRecord qr = new QuestRecord(QUEST_ID, QuestState.PERFORM, "001005", null);
+
+        Assertions.assertTrue(questInfo.progressQuest(qr, 1));
+        Assertions.assertEquals("001006", qr.getValue());
+        Assertions.assertTrue(questInfo.progressQuest(qr, 0));
+        Assertions.assertEquals("002006", qr.getValue());
+        Assertions.assertFalse(questInfo.progressQuest(qr, 0), "Expected no update for a completed slot.");
+        Assertions.assertEquals("002006", qr.getValue());
+
+        // Values set elsewhere are parsed again
+        qr.setValue("000009");
+        Assertions.assertTrue(questInfo.progressQuest(qr, 1));
+        Assertions.assertEquals("000010", qr.getValue());
+    }
+
+    /**
+     * Tests that quests that are not started are not progressed.
+     */
+    @Test
+    public void testNotStarted() {
+        final QuestInfo questInfo = createQuestInfo();
+        final QuestRecord qr = new QuestRecord(QUEST_ID, QuestState.COMPLETE, "", null);
+        Assertions.assertFalse(questInfo.progressQuest(qr, 0));
+        Assertions.assertEquals("", qr.getValue());
+    }
+}
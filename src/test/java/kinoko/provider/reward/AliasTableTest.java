@@ -0,0 +1,47 @@
+package kinoko.provider.reward;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for AliasTable, validating the sampled distribution and entries without weight.
+ */
+public class AliasTableTest {
+    /**
+     * Tests that entries are sampled in proportion to their weights, and entries without weight are never sampled.
+     */
+    @Test
+    public void testSample() {
+        final List<Reward> rewards = List.of(
+                Reward.item(1, 1, 1, 0.5),
+                Reward.item(2, 1, 1, 0.3),
+                Reward.item(3, 1, 1, 0.15),
+                Reward.item(4, 1, 1, 0.05),
+                Reward.item(5, 1, 1, 0.0)
+        );
+        final AliasTable<Reward> table = AliasTable.from(rewards, Reward::getProb);
+        final int samples = 200_000;
+        final Map<Integer, Integer> counts = new HashMap<>(); // itemId -> count
+        for (int i = 0; i < samples; i++) {
+            counts.merge(table.sample().orElseThrow().getItemId(), 1, Integer::sum);
+        }
+        for (Reward reward : rewards) {
+            final double frequency = counts.getOrDefault(reward.getItemId(), 0) / (double) samples;
+            Assertions.assertEquals(reward.getProb(), frequency, 0.01, "Unexpected frequency for item " + reward.getItemId());
+        }
+        Assertions.assertFalse(counts.containsKey(5), "Expected entries without weight to never be sampled.");
+    }
+
+    /**
+     * Tests that a table without weighted entries is empty.
+     */
+    @Test
+    public void testEmpty() {
+        Assertions.assertTrue(AliasTable.from(List.<Reward>of(), Reward::getProb).sample().isEmpty());
+        Assertions.assertTrue(AliasTable.from(List.of(Reward.item(1, 1, 1, 0.0)), Reward::getProb).isEmpty());
+    }
+}
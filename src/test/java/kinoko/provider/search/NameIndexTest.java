@@ -0,0 +1,42 @@
+package kinoko.provider.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for NameIndex, validating substring matches and result ranking.
+ */
+public class NameIndexTest {
+    private static final NameIndex INDEX = NameIndex.from(Map.of(
+            1, "Red Snail",
+            2, "Snail",
+            3, "Blue Snail",
+            4, "Snail Shell",
+            5, "Orange Mushroom",
+            6, "Snailing Stump"
+    ));
+
+    /**
+     * Tests that results are ranked by exact, prefix, word and substring matches.
+     */
+    @Test
+    public void testRanking() {
+        Assertions.assertEquals(List.of(2, 4, 6, 1, 3), INDEX.search("snail"));
+        Assertions.assertEquals(List.of(2, 4), INDEX.search("SNAIL", 2));
+        Assertions.assertEquals(List.of(5), INDEX.search("ange mush"));
+    }
+
+    /**
+     * Tests queries without matches and queries shorter than a trigram.
+     */
+    @Test
+    public void testEdgeCases() {
+        Assertions.assertEquals(List.of(), INDEX.search("slime"));
+        Assertions.assertEquals(List.of(), INDEX.search(""));
+        Assertions.assertEquals(List.of(3), INDEX.search("e s"));
+        Assertions.assertEquals(List.of(5), INDEX.search("or"));
+    }
+}
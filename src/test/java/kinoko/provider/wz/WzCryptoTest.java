@@ -0,0 +1,66 @@
+package kinoko.provider.wz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Unit tests for WzCrypto, validating that the cipher mask can be grown while other threads are decrypting.
+ */
+public final class WzCryptoTest {
+    private static final int THREADS = 8;
+    private static final int MAX_LENGTH = 16 * WzCrypto.BATCH_SIZE;
+
+    /**
+     * Tests that concurrent decryption of strings of increasing length yields the same result as sequential decryption.
+     */
+    @Test
+    public void testConcurrentGrowth() throws Exception {
+        // Expected results, computed with a fully grown mask
+        WzCrypto.setCipher(WzCrypto.getCipher(WzConstants.WZ_GMS_IV));
+        final List<byte[]> expected = new ArrayList<>();
+        for (int length = 2; length <= MAX_LENGTH; length += 2 * 97) {
+            final byte[] data = createData(length);
+            WzCrypto.cryptUnicode(data);
+            expected.add(data);
+        }
+
+        // Reset the mask, and grow it from several threads at once
+        WzCrypto.setCipher(WzCrypto.getCipher(WzConstants.WZ_GMS_IV));
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    for (byte[] expectedData : expected) {
+                        final byte[] data = createData(expectedData.length);
+                        WzCrypto.cryptUnicode(data);
+                        if (!Arrays.equals(expectedData, data)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                Assertions.assertTrue(future.get(30, TimeUnit.SECONDS), "Expected concurrent decryption to match sequential decryption.");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static byte[] createData(int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        return data;
+    }
+}
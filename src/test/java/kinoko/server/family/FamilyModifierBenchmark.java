@@ -0,0 +1,91 @@
+package kinoko.server.family;
+
+import kinoko.world.user.FamilyMember;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Compares family modifier lookups on the mob kill path with many channels farming at once. The locked variant takes
+ * a single global lock for every lookup, the striped variant takes the family lock of the looked up member with
+ * {@link FamilyStorage#lock(int...)}, while the lock-free variant reads the member lookup and the published entitlement
+ * snapshot directly. Run {@link #main(String[])} after
+ * {@code mvn test-compile}; the score is lookups per microsecond across all threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class FamilyModifierBenchmark {
+    private static final int FAMILY_COUNT = 100;
+    private static final int FAMILY_SIZE = 15;
+    private final ReentrantLock globalLock = new ReentrantLock();
+    private FamilyStorage familyStorage;
+
+    @Setup
+    public void setup() {
+        familyStorage = new FamilyStorage();
+        int characterId = 1;
+        for (int i = 0; i < FAMILY_COUNT; i++) {
+            final FamilyTree tree = new FamilyTree(createMember(characterId++, null));
+            for (int j = 1; j < FAMILY_SIZE; j++) {
+                // Binary tree, each member has at most two juniors
+                final int parentId = tree.getLeaderId() + (j - 1) / 2;
+                tree.addMember(createMember(characterId++, parentId), parentId);
+            }
+            if (i % 2 == 0) {
+                tree.activateEntitlement(FamilyEntitlement.FAMILY_DROP);
+            }
+            familyStorage.addFamily(tree);
+        }
+    }
+
+    @Benchmark
+    public double locked() {
+        globalLock.lock();
+        try {
+            return familyStorage.getTreeByMemberId(randomCharacterId())
+                    .map(FamilyTree::getDropModifier)
+                    .orElse(1.0);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    @Benchmark
+    public double striped() {
+        final int characterId = randomCharacterId();
+        try (FamilyLock ignored = familyStorage.lock(characterId)) {
+            return familyStorage.getTreeByMemberId(characterId)
+                    .map(FamilyTree::getDropModifier)
+                    .orElse(1.0);
+        }
+    }
+
+    @Benchmark
+    public double lockFree() {
+        return familyStorage.getTreeByMemberId(randomCharacterId())
+                .map(FamilyTree::getDropModifier)
+                .orElse(1.0);
+    }
+
+    private static int randomCharacterId() {
+        return ThreadLocalRandom.current().nextInt(1, FAMILY_COUNT * FAMILY_SIZE + 1);
+    }
+
+    private static FamilyMember createMember(int characterId, Integer parentId) {
+        return new FamilyMember(characterId, String.valueOf(characterId), 100, 0, 0, 0, 0, 0, parentId);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FamilyModifierBenchmark.class.getSimpleName()).build()).run();
+    }
+}
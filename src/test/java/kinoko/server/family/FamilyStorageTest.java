@@ -0,0 +1,78 @@
+package kinoko.server.family;
+
+import kinoko.world.user.FamilyMember;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for FamilyStorage, validating family locks, eviction of inactive families and their pending saves.
+ */
+public class FamilyStorageTest {
+    /**
+     * Tests that a family is only evictable once none of its members are active.
+     */
+    @Test
+    public void testMarkInactive() {
+        final FamilyStorage familyStorage = new FamilyStorage();
+        final FamilyTree tree = new FamilyTree(createMember(1, null));
+        tree.addMember(createMember(2, 1), 1);
+        familyStorage.addFamily(tree);
+
+        familyStorage.markActive(1);
+        familyStorage.markActive(2);
+        Assertions.assertTrue(familyStorage.markInactive(1).isEmpty());
+        Assertions.assertEquals(tree, familyStorage.markInactive(2).orElseThrow());
+        Assertions.assertTrue(familyStorage.markInactive(3).isEmpty(), "Expected no family for a character without a family.");
+
+        Assertions.assertTrue(familyStorage.removeFamily(tree));
+        Assertions.assertTrue(familyStorage.getTreeByMemberId(2).isEmpty());
+    }
+
+    /**
+     * Tests that locking a member locks the whole family tree, but not unrelated families.
+     */
+    @Test
+    public void testLock() throws Exception {
+        final FamilyStorage familyStorage = new FamilyStorage();
+        final FamilyTree tree = new FamilyTree(createMember(1, null));
+        tree.addMember(createMember(2, 1), 1);
+        familyStorage.addFamily(tree);
+        familyStorage.addFamily(new FamilyTree(createMember(3, null)));
+
+        try (FamilyLock ignored = familyStorage.lock(1)) {
+            final CompletableFuture<Void> unrelated = CompletableFuture.runAsync(() -> familyStorage.lock(3).close());
+            unrelated.get(1, TimeUnit.SECONDS);
+
+            final CompletableFuture<Void> sameFamily = CompletableFuture.runAsync(() -> familyStorage.lock(2).close());
+            Assertions.assertThrows(Exception.class, () -> sameFamily.get(100, TimeUnit.MILLISECONDS));
+            sameFamily.cancel(true);
+        }
+    }
+
+    /**
+     * Tests that the pending save of an evicted family is tracked for every member until it completes.
+     */
+    @Test
+    public void testPendingSave() {
+        final FamilyStorage familyStorage = new FamilyStorage();
+        final FamilyTree tree = new FamilyTree(createMember(1, null));
+        tree.addMember(createMember(2, 1), 1);
+
+        final CompletableFuture<Void> saveFuture = new CompletableFuture<>();
+        familyStorage.addPendingSave(tree, saveFuture);
+        Assertions.assertEquals(saveFuture, familyStorage.getPendingSave(1).orElseThrow());
+        Assertions.assertEquals(saveFuture, familyStorage.getPendingSave(2).orElseThrow());
+        Assertions.assertTrue(familyStorage.getPendingSave(3).isEmpty());
+
+        saveFuture.complete(null);
+        Assertions.assertTrue(familyStorage.getPendingSave(1).isEmpty(), "Expected pending save to be removed once completed.");
+        Assertions.assertTrue(familyStorage.getPendingSave(2).isEmpty());
+    }
+
+    private static FamilyMember createMember(int characterId, Integer parentId) {
+        return new FamilyMember(characterId, String.valueOf(characterId), 100, 0, 0, 0, 0, 0, parentId);
+    }
+}
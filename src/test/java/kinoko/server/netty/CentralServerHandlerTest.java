@@ -0,0 +1,61 @@
+package kinoko.server.netty;
+
+import kinoko.packet.CentralPacket;
+import kinoko.server.family.FamilyTree;
+import kinoko.server.migration.MigrationInfo;
+import kinoko.server.node.CentralServerNode;
+import kinoko.server.packet.InPacket;
+import kinoko.server.packet.NioBufferInPacket;
+import kinoko.server.packet.OutPacket;
+import kinoko.server.user.RemoteUser;
+import kinoko.world.user.FamilyMember;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CentralServerHandler, validating the family lifecycle of connecting and disconnecting users.
+ */
+public class CentralServerHandlerTest {
+    /**
+     * Tests that a family loaded on login stays loaded after the user connects, and while a member is online.
+     */
+    @Test
+    public void testFamilyConnectDisconnect() {
+        final CentralServerNode centralServerNode = new CentralServerNode(0);
+        final CentralServerHandler handler = new CentralServerHandler(centralServerNode);
+        final FamilyTree tree = new FamilyTree(createMember(1, null));
+        tree.addMember(createMember(2, 1), 1);
+        centralServerNode.addFamilyTree(tree);
+
+        // Login and connect
+        Assertions.assertEquals(1, centralServerNode.loadFamilyInfo(1).join().getCharacterId());
+        handler.handleUserConnect(null, toInPacket(CentralPacket.userConnect(createUser(1))));
+        Assertions.assertTrue(centralServerNode.getFamilyTree(1).isPresent(), "Expected family to stay loaded after connecting.");
+
+        Assertions.assertEquals(2, centralServerNode.loadFamilyInfo(2).join().getCharacterId());
+        handler.handleUserConnect(null, toInPacket(CentralPacket.userConnect(createUser(2))));
+
+        // Disconnect with another member online
+        handler.handleUserDisconnect(null, toInPacket(CentralPacket.userDisconnect(createUser(1))));
+        Assertions.assertTrue(centralServerNode.getFamilyTree(2).isPresent(), "Expected family to stay loaded while a member is online.");
+
+        // Disconnect for channel transfer
+        centralServerNode.submitMigrationRequest(MigrationInfo.from(1, 2, 2, new byte[16], new byte[8]));
+        handler.handleUserDisconnect(null, toInPacket(CentralPacket.userDisconnect(createUser(2))));
+        Assertions.assertTrue(centralServerNode.getFamilyTree(2).isPresent(), "Expected family to stay loaded while migrating.");
+    }
+
+    private static InPacket toInPacket(OutPacket outPacket) {
+        final InPacket inPacket = new NioBufferInPacket(outPacket.getData());
+        inPacket.decodeShort(); // header
+        return inPacket;
+    }
+
+    private static RemoteUser createUser(int characterId) {
+        return new RemoteUser(characterId, characterId, String.valueOf(characterId), 100, 0, 0, 100000000, 0, 0, 0, null);
+    }
+
+    private static FamilyMember createMember(int characterId, Integer parentId) {
+        return new FamilyMember(characterId, String.valueOf(characterId), 100, 0, 0, 0, 0, 0, parentId);
+    }
+}
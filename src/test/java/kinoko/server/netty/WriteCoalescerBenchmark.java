@@ -0,0 +1,132 @@
+package kinoko.server.netty;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.util.ReferenceCountUtil;
+import kinoko.server.packet.EncodedPacket;
+import kinoko.server.packet.OutPacket;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the write system calls of a field broadcast with and without {@link WriteCoalescer} batches, over loopback
+ * connections with the NIO transport. Each round is one game task that writes a number of packets to every client of a
+ * field, the immediate mode flushes every write while the coalesced mode wraps the task in a batch. Write system calls
+ * are read from {@code /proc/self/io}, so this only runs on Linux, and include the wakeups of the event loops. Run
+ * {@link #main(String[])} after {@code mvn test-compile}.
+ */
+public final class WriteCoalescerBenchmark {
+    private static final int CLIENTS = 20;
+    private static final int PACKETS_PER_CLIENT = 8;
+    private static final int WARMUP_ROUNDS = 1_000;
+    private static final int ROUNDS = 2_000;
+    private static final int PACKET_SIZE = 64;
+    private static final AtomicLong receivedBytes = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        final EventLoopGroup group = new MultiThreadIoEventLoopGroup(4, NioIoHandler.newFactory());
+        try {
+            final Channel serverChannel = new ServerBootstrap()
+                    .group(group)
+                    .channel(NioServerSocketChannel.class)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel ch) {
+                            ch.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                                @Override
+                                public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                    receivedBytes.addAndGet(((ByteBuf) msg).readableBytes());
+                                    ReferenceCountUtil.release(msg);
+                                }
+                            });
+                        }
+                    })
+                    .bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+            final Bootstrap bootstrap = new Bootstrap()
+                    .group(group)
+                    .channel(NioSocketChannel.class)
+                    .option(ChannelOption.TCP_NODELAY, true) // as for the client connections of the server
+                    .handler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel ch) {
+                            ch.pipeline().addLast(new MessageToByteEncoder<EncodedPacket>() {
+                                @Override
+                                protected void encode(ChannelHandlerContext ctx, EncodedPacket packet, ByteBuf out) {
+                                    packet.writeTo(out);
+                                    packet.release();
+                                }
+                            });
+                        }
+                    });
+            final List<Channel> clients = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(bootstrap.connect(serverChannel.localAddress()).sync().channel());
+            }
+            for (boolean coalesced : new boolean[]{ false, true, false, true }) {
+                run(clients, coalesced, WARMUP_ROUNDS);
+                final long syscalls = getWriteSyscalls();
+                final long flushes = WriteCoalescer.getFlushCount();
+                final long start = System.nanoTime();
+                run(clients, coalesced, ROUNDS);
+                final long elapsed = System.nanoTime() - start;
+                final long syscallDelta = getWriteSyscalls() - syscalls;
+                final long flushDelta = WriteCoalescer.getFlushCount() - flushes;
+                System.out.printf("%-9s : %.1f write syscalls/round, %.1f flushes/round, %.1f us/round%n",
+                        coalesced ? "coalesced" : "immediate", (double) syscallDelta / ROUNDS, (double) flushDelta / ROUNDS,
+                        elapsed / 1000.0 / ROUNDS);
+            }
+            for (Channel client : clients) {
+                client.close().sync();
+            }
+            serverChannel.close().sync();
+        } finally {
+            group.shutdownGracefully().sync();
+        }
+    }
+
+    private static void run(List<Channel> clients, boolean coalesced, int rounds) {
+        final OutPacket outPacket = OutPacket.of();
+        outPacket.encodeArray(new byte[PACKET_SIZE]);
+        long expectedBytes = receivedBytes.get();
+        for (int i = 0; i < rounds; i++) {
+            if (coalesced) {
+                WriteCoalescer.begin();
+            }
+            for (int j = 0; j < PACKETS_PER_CLIENT; j++) {
+                for (Channel client : clients) {
+                    WriteCoalescer.write(client, outPacket);
+                }
+            }
+            if (coalesced) {
+                WriteCoalescer.end();
+            }
+            // Wait for the round to be received without waking up the event loops, as game tasks are spread over the tick
+            expectedBytes += (long) clients.size() * PACKETS_PER_CLIENT * PACKET_SIZE;
+            while (receivedBytes.get() < expectedBytes) {
+                Thread.yield();
+            }
+        }
+    }
+
+    private static long getWriteSyscalls() throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc/self/io"))) {
+            if (line.startsWith("syscw:")) {
+                return Long.parseLong(line.substring(6).trim());
+            }
+        }
+        throw new IOException("Could not resolve write syscalls");
+    }
+}
@@ -0,0 +1,65 @@
+package kinoko.server.netty;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import kinoko.server.ServerConfig;
+import kinoko.server.packet.OutPacket;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for WriteCoalescer, validating that writes of a batch are flushed once per channel, and that a batch that
+ * stops writing is still flushed after the maximum delay.
+ */
+public class WriteCoalescerTest {
+    /**
+     * Tests that the writes of a batch are only flushed when the batch ends.
+     */
+    @Test
+    public void testBatch() {
+        Assumptions.assumeTrue(ServerConfig.WRITE_COALESCING);
+        final List<EmbeddedChannel> channels = List.of(new EmbeddedChannel(), new EmbeddedChannel(), new EmbeddedChannel());
+        // Warm up the write path, so that the batch does not reach its deadline
+        WriteCoalescer.write(new EmbeddedChannel(), OutPacket.of());
+        final long flushCount = WriteCoalescer.getFlushCount();
+        WriteCoalescer.begin();
+        try {
+            for (int i = 0; i < 10; i++) {
+                for (EmbeddedChannel channel : channels) {
+                    WriteCoalescer.write(channel, OutPacket.of());
+                }
+            }
+            for (EmbeddedChannel channel : channels) {
+                Assertions.assertTrue(channel.outboundMessages().isEmpty(), "Expected writes to be buffered until the batch ends.");
+            }
+        } finally {
+            WriteCoalescer.end();
+        }
+        for (EmbeddedChannel channel : channels) {
+            Assertions.assertEquals(10, channel.outboundMessages().size());
+        }
+        Assertions.assertEquals(channels.size(), WriteCoalescer.getFlushCount() - flushCount, "Expected a single flush per channel.");
+    }
+
+    /**
+     * Tests that the writes of a batch that stays open are flushed after the maximum delay, without further writes.
+     */
+    @Test
+    public void testFlushDeadline() throws InterruptedException {
+        Assumptions.assumeTrue(ServerConfig.WRITE_COALESCING);
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        WriteCoalescer.begin();
+        try {
+            WriteCoalescer.write(channel, OutPacket.of());
+            final long timeout = System.currentTimeMillis() + ServerConfig.WRITE_FLUSH_MAX_DELAY * 2L + 1000;
+            while (channel.outboundMessages().isEmpty() && System.currentTimeMillis() < timeout) {
+                Thread.sleep(1);
+            }
+            Assertions.assertEquals(1, channel.outboundMessages().size(), "Expected write to be flushed by the deadline.");
+        } finally {
+            WriteCoalescer.end();
+        }
+    }
+}
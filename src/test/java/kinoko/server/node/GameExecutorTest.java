@@ -0,0 +1,42 @@
+package kinoko.server.node;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for GameExecutor, validating that the mailbox keeps executing tasks after a task fails.
+ */
+public class GameExecutorTest {
+    /**
+     * Tests that a task throwing an error does not prevent the following tasks from being executed.
+     */
+    @Test
+    public void testTaskError() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final GameExecutor gameExecutor = new GameExecutor(executor);
+            final CountDownLatch first = new CountDownLatch(1);
+            gameExecutor.submit(() -> {
+                throw new AssertionError("Expected error");
+            });
+            gameExecutor.submit(first::countDown);
+            Assertions.assertTrue(first.await(5, TimeUnit.SECONDS), "Expected task after error to run.");
+
+            // Submitted once the drain that caught the error has returned
+            final CountDownLatch second = new CountDownLatch(1);
+            gameExecutor.submit(() -> {
+                throw new StackOverflowError();
+            });
+            gameExecutor.submit(second::countDown);
+            Assertions.assertTrue(second.await(5, TimeUnit.SECONDS), "Expected mailbox to accept tasks after an error.");
+            Assertions.assertEquals(0, gameExecutor.getQueueDepth());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package kinoko.server.packet;
+
+import com.sun.management.ThreadMXBean;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import kinoko.server.header.OutHeader;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Measures the heap allocated per {@link NioBufferOutPacket}, with the packets built on one thread and encoded on
+ * another, as for a game thread writing to a client whose event loop encodes the packet. In the pooled mode the
+ * creator releases its reference as the field broadcasts do, so that the buffers are recycled once encoded; in the
+ * unreleased mode the creator keeps its reference, which leaves every buffer to the garbage collector as before
+ * pooling. Allocations are read from {@link ThreadMXBean#getThreadAllocatedBytes(long)} for both threads. Run
+ * {@link #main(String[])} after {@code mvn test-compile}.
+ */
+public final class NioBufferOutPacketBenchmark {
+    private static final int[] PACKET_SIZES = { 24, 80, 600 };
+    private static final int WARMUP_PACKETS = 200_000;
+    private static final int PACKETS = 1_000_000;
+    private static final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        for (int packetSize : PACKET_SIZES) {
+            for (boolean pooled : new boolean[]{ false, true }) {
+                run(packetSize, pooled, WARMUP_PACKETS);
+                final long[] allocated = run(packetSize, pooled, PACKETS);
+                System.out.printf("%4d bytes, %-10s : %.1f bytes/packet created, %.1f bytes/packet encoded%n",
+                        packetSize, pooled ? "pooled" : "unreleased",
+                        (double) allocated[0] / PACKETS, (double) allocated[1] / PACKETS);
+            }
+        }
+    }
+
+    private static long[] run(int packetSize, boolean pooled, int packets) throws InterruptedException {
+        final BlockingQueue<OutPacket> queue = new ArrayBlockingQueue<>(1024);
+        final long[] encoderAllocated = new long[1];
+        final Thread encoder = Thread.ofPlatform().start(() -> {
+            final long threadId = Thread.currentThread().threadId();
+            final ByteBuf out = Unpooled.buffer(packetSize + 2);
+            final long start = threadBean.getThreadAllocatedBytes(threadId);
+            try {
+                for (int i = 0; i < packets; i++) {
+                    final OutPacket outPacket = queue.take();
+                    out.clear();
+                    outPacket.writeTo(out);
+                    outPacket.release();
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            encoderAllocated[0] = threadBean.getThreadAllocatedBytes(threadId) - start;
+        });
+        final long threadId = Thread.currentThread().threadId();
+        final long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < packets; i++) {
+            final OutPacket outPacket = OutPacket.of(OutHeader.MobMove);
+            for (int j = 2; j < packetSize; j += 2) {
+                outPacket.encodeShort(j);
+            }
+            outPacket.retain();
+            queue.put(outPacket);
+            if (pooled) {
+                outPacket.release();
+            }
+        }
+        final long creatorAllocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+        encoder.join();
+        return new long[]{ creatorAllocated, encoderAllocated[0] };
+    }
+}
@@ -0,0 +1,50 @@
+package kinoko.server.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import kinoko.server.header.OutHeader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for NioBufferOutPacket, validating that the packet stays readable until every reference is released, and
+ * that the buffers of released packets are recycled.
+ */
+public class NioBufferOutPacketTest {
+    /**
+     * Tests that the packet data is kept until both the creator and the pending write have released their references.
+     */
+    @Test
+    public void testRelease() {
+        final OutPacket outPacket = OutPacket.of(OutHeader.MobMove);
+        outPacket.encodeInt(1234);
+        outPacket.retain();
+        outPacket.release();
+        final ByteBuf out = Unpooled.buffer();
+        outPacket.writeTo(out);
+        Assertions.assertEquals(6, out.readableBytes());
+        Assertions.assertEquals(OutHeader.MobMove.getValue(), out.readShortLE());
+        Assertions.assertEquals(1234, out.readIntLE());
+        outPacket.release();
+        Assertions.assertThrows(IllegalStateException.class, () -> outPacket.writeTo(out));
+        Assertions.assertThrows(IllegalStateException.class, outPacket::retain);
+        Assertions.assertThrows(IllegalStateException.class, outPacket::release);
+    }
+
+    /**
+     * Tests that packets created after others have been released reuse their buffers.
+     */
+    @Test
+    public void testRecycle() {
+        for (int i = 0; i < 100; i++) {
+            OutPacket.of(OutHeader.MobMove).release();
+        }
+        final long creationCount = OutPacketStats.getBufferCreationCount();
+        for (int i = 0; i < 100; i++) {
+            final OutPacket outPacket = OutPacket.of(OutHeader.MobMove);
+            outPacket.encodeInt(i);
+            outPacket.release();
+        }
+        Assertions.assertEquals(creationCount, OutPacketStats.getBufferCreationCount(), "Expected buffers to be recycled.");
+    }
+}
@@ -0,0 +1,81 @@
+package kinoko.util.crypto;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares packet throughput of {@link MapleCrypto} against the previous implementation, which allocated a new IV
+ * block per chunk and called {@link Cipher#doFinal} for every 16-byte block. Run {@link #main(String[])} after
+ * {@code mvn test-compile}; the score is packets per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapleCryptoBenchmark {
+    @Param({ "64", "512", "4096" })
+    private int size;
+    private byte[] data;
+    private byte[] iv;
+    private MapleCrypto mapleCrypto;
+    private Cipher cipher;
+
+    @Setup
+    public void setup() throws Exception {
+        final Random random = new Random(0);
+        data = new byte[size];
+        random.nextBytes(data);
+        iv = new byte[4];
+        random.nextBytes(iv);
+        mapleCrypto = new MapleCrypto();
+        cipher = Cipher.getInstance("AES/ECB/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(MapleCrypto.AES_USER_KEY, "AES"));
+    }
+
+    @Benchmark
+    public byte[] crypt() {
+        mapleCrypto.crypt(data, iv);
+        return data;
+    }
+
+    @Benchmark
+    public byte[] cryptLegacy() throws Exception {
+        final byte[] output = new byte[MapleCrypto.BLOCK_SIZE];
+        int a = data.length;
+        int b = 0x5B0;
+        int c = 0;
+        while (a > 0) {
+            final byte[] block = new byte[MapleCrypto.BLOCK_SIZE];
+            for (int i = 0; i < MapleCrypto.BLOCK_SIZE; i += iv.length) {
+                System.arraycopy(iv, 0, block, i, iv.length);
+            }
+            if (a < b) {
+                b = a;
+            }
+            for (int i = c; i < (c + b); i++) {
+                if ((i - c) % MapleCrypto.BLOCK_SIZE == 0) {
+                    cipher.doFinal(block, 0, MapleCrypto.BLOCK_SIZE, output);
+                    System.arraycopy(output, 0, block, 0, MapleCrypto.BLOCK_SIZE);
+                }
+                data[i] ^= block[(i - c) % MapleCrypto.BLOCK_SIZE];
+            }
+            c += b;
+            a -= b;
+            b = 0x5B4;
+        }
+        return data;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapleCryptoBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package kinoko.util.crypto;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Random;
+
+public final class MapleCryptoTest {
+    @Test
+    public void testReferenceCipher() throws Exception {
+        final Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(MapleCrypto.AES_USER_KEY, "AES"));
+        final MapleCrypto mapleCrypto = new MapleCrypto();
+        final Random random = new Random(0);
+        for (int length : new int[]{ 0, 1, 15, 16, 17, 64, 512, 0x5B0, 0x5B1, 4096, 10000 }) {
+            final byte[] iv = new byte[4];
+            random.nextBytes(iv);
+            final byte[] data = new byte[length];
+            random.nextBytes(data);
+            final byte[] expected = data.clone();
+            referenceCrypt(cipher, expected, iv);
+            mapleCrypto.crypt(data, iv);
+            Assertions.assertArrayEquals(expected, data, "length " + length);
+        }
+    }
+
+    @Test
+    public void testByteBuf() {
+        final MapleCrypto mapleCrypto = new MapleCrypto();
+        final Random random = new Random(0);
+        for (int length : new int[]{ 0, 1, 15, 16, 17, 64, 512, 0x5B0, 0x5B1, 4096, 10000 }) {
+            final byte[] iv = new byte[4];
+            random.nextBytes(iv);
+            final byte[] data = new byte[length];
+            random.nextBytes(data);
+            final ByteBuf buffer = Unpooled.directBuffer(length + 4);
+            buffer.writeInt(0);
+            buffer.writeBytes(data);
+            mapleCrypto.crypt(data, iv);
+            mapleCrypto.crypt(buffer, 4, length, iv);
+            final byte[] result = new byte[length];
+            buffer.getBytes(4, result);
+            buffer.release();
+            Assertions.assertArrayEquals(data, result, "length " + length);
+        }
+    }
+
+    @Test
+    public void testEnDecrypt() {
+        final MapleCrypto mapleCrypto = new MapleCrypto();
+        final byte[] iv = new byte[]{ 0x46, 0x72, 0x7A, 0x52 };
+        final byte[] data = new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 };
+        mapleCrypto.crypt(data, iv);
+        mapleCrypto.crypt(data, iv);
+        Assertions.assertArrayEquals(new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 }, data);
+    }
+
+    private static void referenceCrypt(Cipher cipher, byte[] data, byte[] iv) throws Exception {
+        int a = data.length;
+        int b = 0x5B0;
+        int c = 0;
+        while (a > 0) {
+            final byte[] block = new byte[MapleCrypto.BLOCK_SIZE];
+            for (int i = 0; i < MapleCrypto.BLOCK_SIZE; i += iv.length) {
+                System.arraycopy(iv, 0, block, i, iv.length);
+            }
+            if (a < b) {
+                b = a;
+            }
+            for (int i = c; i < (c + b); i++) {
+                if ((i - c) % MapleCrypto.BLOCK_SIZE == 0) {
+                    System.arraycopy(cipher.doFinal(block), 0, block, 0, MapleCrypto.BLOCK_SIZE);
+                }
+                data[i] ^= block[(i - c) % MapleCrypto.BLOCK_SIZE];
+            }
+            c += b;
+            a -= b;
+            b = 0x5B4;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package kinoko.util.crypto;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -11,4 +13,18 @@ public final class ShandaCryptoTest {
         ShandaCrypto.decrypt(data);
         Assertions.assertArrayEquals(new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }, data);
     }
+
+    @Test
+    public void testByteBuf() {
+        final byte[] data = new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+        final ByteBuf buffer = Unpooled.directBuffer();
+        buffer.writeShort(0);
+        buffer.writeBytes(data);
+        ShandaCrypto.encrypt(data);
+        ShandaCrypto.encrypt(buffer, 2, data.length);
+        final byte[] result = new byte[data.length];
+        buffer.getBytes(2, result);
+        buffer.release();
+        Assertions.assertArrayEquals(data, result);
+    }
 }
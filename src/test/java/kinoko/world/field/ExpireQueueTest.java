@@ -0,0 +1,33 @@
+package kinoko.world.field;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit tests for ExpireQueue, validating deadline order and duplicate entries.
+ */
+public class ExpireQueueTest {
+    /**
+     * Tests that only objects with an expired deadline are polled, in deadline order and at most once per poll.
+     */
+    @Test
+    public void testPollExpired() {
+        final Instant now = Instant.ofEpochSecond(1000);
+        final ExpireQueue<String> queue = new ExpireQueue<>();
+        queue.schedule("b", now.minusSeconds(1));
+        queue.schedule("a", now.minusSeconds(2));
+        queue.schedule("b", now);
+        queue.schedule("c", now.plusSeconds(1));
+        queue.schedule("d", Instant.MAX);
+        Assertions.assertEquals(4, queue.size(), "Expected deadlines of Instant.MAX to be ignored.");
+
+        Assertions.assertEquals(List.of("a", "b"), List.copyOf(queue.pollExpired(now)));
+        Assertions.assertEquals(Set.of(), queue.pollExpired(now));
+        Assertions.assertEquals(Set.of("c"), queue.pollExpired(now.plusSeconds(1)));
+        Assertions.assertEquals(0, queue.size());
+    }
+}
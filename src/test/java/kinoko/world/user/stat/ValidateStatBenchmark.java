@@ -0,0 +1,158 @@
+package kinoko.world.user.stat;
+
+import kinoko.provider.EtcProvider;
+import kinoko.provider.ItemProvider;
+import kinoko.provider.SkillProvider;
+import kinoko.provider.item.ItemInfo;
+import kinoko.provider.item.SetItemInfo;
+import kinoko.server.node.Client;
+import kinoko.world.item.*;
+import kinoko.world.skill.SkillManager;
+import kinoko.world.skill.SkillRecord;
+import kinoko.world.user.CharacterData;
+import kinoko.world.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link User#validateStat()} for a level 200 Hero in endgame gear while a buff rotation is applied. The gear
+ * is selected from the loaded providers: the set with the most items the Hero can equip, and the equip with the highest
+ * level requirement for every remaining slot. The {@code buffRotation} benchmark only toggles buffs, so the real equip
+ * and the equipped item contributions are served from the {@link EquipStatCache}. The {@code equipChange} benchmark also
+ * touches the stats of every equipped item, which forces the real equip and every slot to be recomputed as before the
+ * cache was introduced, and serves as the baseline. Requires the WZ files to load the item, skill and etc providers. Run
+ * {@link #main(String[])} after {@code mvn test-compile}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidateStatBenchmark {
+    private static final int JOB = 112; // Hero
+    private static final int LEVEL = 200;
+    private static final List<BodyPart> SLOTS = List.of(
+            BodyPart.CAP, BodyPart.FACEACC, BodyPart.EYEACC, BodyPart.EARACC, BodyPart.CLOTHES, BodyPart.PANTS,
+            BodyPart.SHOES, BodyPart.GLOVES, BodyPart.CAPE, BodyPart.WEAPON, BodyPart.RING1, BodyPart.RING2,
+            BodyPart.PENDANT, BodyPart.BELT, BodyPart.MEDAL, BodyPart.SHOULDER
+    );
+    private static final List<CharacterTemporaryStat> BUFFS = List.of(
+            CharacterTemporaryStat.PAD,
+            CharacterTemporaryStat.PDD,
+            CharacterTemporaryStat.ACC,
+            CharacterTemporaryStat.Speed,
+            CharacterTemporaryStat.MaxHP,
+            CharacterTemporaryStat.SharpEyes
+    );
+    private User user;
+    private int tick;
+
+    @Setup
+    public void setup() throws Exception {
+        ItemProvider.initialize();
+        SkillProvider.initialize();
+        EtcProvider.initialize();
+        user = new User(new Client(null, null), createCharacterData());
+        user.updatePassiveSkillData();
+        user.validateStat();
+    }
+
+    @Benchmark
+    public int buffRotation() {
+        rotateBuff();
+        user.validateStat();
+        return user.getMaxHp();
+    }
+
+    @Benchmark
+    public int equipChange() {
+        rotateBuff();
+        for (Item item : user.getInventoryManager().getEquipped().getItems().values()) {
+            final EquipData ed = item.getEquipData();
+            ed.setIncStr(ed.getIncStr());
+        }
+        user.validateStat();
+        return user.getMaxHp();
+    }
+
+    private void rotateBuff() {
+        final CharacterTemporaryStat cts = BUFFS.get(tick++ % BUFFS.size());
+        final Map<CharacterTemporaryStat, TemporaryStatOption> temporaryStats = user.getSecondaryStat().getTemporaryStats();
+        if (temporaryStats.remove(cts) == null) {
+            temporaryStats.put(cts, TemporaryStatOption.of(20, 0, 0));
+        }
+    }
+
+    private static CharacterData createCharacterData() {
+        final CharacterData cd = new CharacterData(0);
+        cd.setCharacterStat(new CharacterStat(0, "BenchStat", (byte) 0, (byte) 0, 20000, 30000, (short) LEVEL, (short) JOB, (short) 0,
+                (short) 900, (short) 60, (short) 4, (short) 4, 20000, 20000, 5000, 5000, (short) 0, 0, (short) 0, 100000000, (byte) 0,
+                0, 0, 0, AdminLevel.PLAYER));
+        final InventoryManager im = new InventoryManager();
+        long itemSn = 1;
+        for (var entry : selectEquips().entrySet()) {
+            final Item item = entry.getValue().createItem(itemSn++);
+            final EquipData ed = item.getEquipData();
+            ed.setGrade((byte) (ItemGrade.UNIQUE.getValue() | ItemGrade.RELEASED.getValue()));
+            ed.setOption1((short) 30041);
+            ed.setOption2((short) 30051);
+            ed.setOption3((short) 20051);
+            im.getEquipped().putItem(entry.getKey().getValue(), item);
+        }
+        cd.setInventoryManager(im);
+        final SkillManager sm = new SkillManager();
+        for (int skillId : List.of(1000001, 1100000, 1100001, 1120003, 1120004, 1120005)) {
+            sm.addSkill(new SkillRecord(skillId, 30, 30));
+        }
+        cd.setSkillManager(sm);
+        return cd;
+    }
+
+    private static Map<BodyPart, ItemInfo> selectEquips() {
+        final List<ItemInfo> equips = ItemProvider.getItemInfos().stream()
+                .filter((ii) -> ItemConstants.isEquip(ii.getItemId()) && isEquippable(ii))
+                .toList();
+        final Set<Integer> equipIds = new HashSet<>();
+        equips.forEach((ii) -> equipIds.add(ii.getItemId()));
+        // Set with the most equippable items, preferring higher level sets
+        final SetItemInfo setItemInfo = EtcProvider.getSetItemInfos().stream()
+                .max(Comparator.comparingLong((SetItemInfo info) -> info.getItems().stream().filter(equipIds::contains).count())
+                        .thenComparingInt((info) -> info.getItems().stream().mapToInt((itemId) -> ItemProvider.getItemInfo(itemId).map(ItemInfo::getReqLevel).orElse(0)).sum()))
+                .orElseThrow();
+        final Map<BodyPart, ItemInfo> selected = new EnumMap<>(BodyPart.class);
+        for (int itemId : setItemInfo.getItems()) {
+            if (equipIds.contains(itemId)) {
+                addEquip(selected, ItemProvider.getItemInfo(itemId).orElseThrow());
+            }
+        }
+        // Fill the remaining slots with the highest level equips
+        equips.stream()
+                .sorted(Comparator.comparingInt(ItemInfo::getReqLevel).reversed())
+                .forEach((ii) -> addEquip(selected, ii));
+        return selected;
+    }
+
+    private static void addEquip(Map<BodyPart, ItemInfo> selected, ItemInfo ii) {
+        for (BodyPart bodyPart : SLOTS) {
+            if (!selected.containsKey(bodyPart) && BodyPart.getByItemId(ii.getItemId()).contains(bodyPart)) {
+                selected.put(bodyPart, ii);
+                return;
+            }
+        }
+    }
+
+    private static boolean isEquippable(ItemInfo ii) {
+        return !ii.isCash() && ii.getReqLevel() <= LEVEL &&
+                ii.isAbleToEquip(0, LEVEL, JOB, 0, 999, 999, 999, 999, 1000, 100, 0, 0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValidateStatBenchmark.class.getSimpleName()).build()).run();
+    }
+}